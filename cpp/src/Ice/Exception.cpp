@@ -523,6 +523,13 @@ Ice::InvocationCanceledException::ice_print(ostream& out) const
     out << ":\ninvocation canceled";
 }
 
+void
+Ice::ConcurrencyLimitException::ice_print(ostream& out) const
+{
+    Exception::ice_print(out);
+    out << ":\nconcurrency limit of the connection reached";
+}
+
 void
 Ice::ProtocolException::ice_print(ostream& out) const
 {
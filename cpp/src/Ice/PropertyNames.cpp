@@ -6,7 +6,7 @@
 // ICE_LICENSE file included in this distribution.
 //
 // **********************************************************************
-// Generated by makeprops.py from file ./config/PropertyNames.xml, Wed Sep 12 19:11:29 2018
+// Generated by makeprops.py from file ./config/PropertyNames.xml, Mon Oct 19 16:48:23 2026
 
 // IMPORTANT: Do not edit this file -- any edits made here will be lost!
 
@@ -32,6 +32,7 @@ const IceInternal::Property IcePropsData[] =
     IceInternal::Property("Ice.Admin.ACM.Heartbeat", false, 0),
     IceInternal::Property("Ice.Admin.ACM.Close", false, 0),
     IceInternal::Property("Ice.Admin.ACM", false, 0),
+    IceInternal::Property("Ice.Admin.Acceptors", false, 0),
     IceInternal::Property("Ice.Admin.AdapterId", false, 0),
     IceInternal::Property("Ice.Admin.Endpoints", false, 0),
     IceInternal::Property("Ice.Admin.Locator.EndpointSelection", false, 0),
@@ -65,10 +66,25 @@ const IceInternal::Property IcePropsData[] =
     IceInternal::Property("Ice.Admin.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("Ice.Admin.ThreadPool.ThreadPriority", false, 0),
     IceInternal::Property("Ice.Admin.MessageSizeMax", false, 0),
+    IceInternal::Property("Ice.Admin.AdmissionControl.MaxQueued", false, 0),
+    IceInternal::Property("Ice.Admin.AdmissionControl.MaxQueueWait", false, 0),
+    IceInternal::Property("Ice.Admin.AdmissionControl.CoDelTarget", false, 0),
+    IceInternal::Property("Ice.Admin.AdmissionControl.CoDelInterval", false, 0),
+    IceInternal::Property("Ice.Admin.Lanes.High.Operations", false, 0),
+    IceInternal::Property("Ice.Admin.Lanes.High.Categories", false, 0),
+    IceInternal::Property("Ice.Admin.Lanes.High.Weight", false, 0),
+    IceInternal::Property("Ice.Admin.Lanes.Normal.Weight", false, 0),
+    IceInternal::Property("Ice.Admin.Lanes.Low.Operations", false, 0),
+    IceInternal::Property("Ice.Admin.Lanes.Low.Categories", false, 0),
+    IceInternal::Property("Ice.Admin.Lanes.Low.Weight", false, 0),
+    IceInternal::Property("Ice.Admin.Lanes.Context", false, 0),
+    IceInternal::Property("Ice.Admin.Lanes.QueueSize", false, 0),
+    IceInternal::Property("Ice.Admin.WarmUp", false, 0),
     IceInternal::Property("Ice.Admin.DelayCreation", false, 0),
     IceInternal::Property("Ice.Admin.Enabled", false, 0),
     IceInternal::Property("Ice.Admin.Facets", false, 0),
     IceInternal::Property("Ice.Admin.InstanceName", false, 0),
+    IceInternal::Property("Ice.Admin.Logger.FlushInterval", false, 0),
     IceInternal::Property("Ice.Admin.Logger.KeepLogs", false, 0),
     IceInternal::Property("Ice.Admin.Logger.KeepTraces", false, 0),
     IceInternal::Property("Ice.Admin.Logger.Properties", false, 0),
@@ -77,12 +93,21 @@ const IceInternal::Property IcePropsData[] =
     IceInternal::Property("Ice.BatchAutoFlush", true, 0),
     IceInternal::Property("Ice.BatchAutoFlushSize", false, 0),
     IceInternal::Property("Ice.ChangeUser", false, 0),
+    IceInternal::Property("Ice.CircuitBreaker.Failures", false, 0),
+    IceInternal::Property("Ice.CircuitBreaker.OpenTime", false, 0),
     IceInternal::Property("Ice.ClassGraphDepthMax", false, 0),
     IceInternal::Property("Ice.ClientAccessPolicyProtocol", false, 0),
     IceInternal::Property("Ice.Compression.Level", false, 0),
     IceInternal::Property("Ice.CollectObjects", false, 0),
+    IceInternal::Property("Ice.ConcurrencyLimit.Initial", false, 0),
+    IceInternal::Property("Ice.ConcurrencyLimit.Max", false, 0),
+    IceInternal::Property("Ice.ConcurrencyLimit.Min", false, 0),
+    IceInternal::Property("Ice.ConcurrencyLimit.QueueTimeout", false, 0),
+    IceInternal::Property("Ice.ConcurrencyLimit.Tolerance", false, 0),
     IceInternal::Property("Ice.Config", false, 0),
+    IceInternal::Property("Ice.ConnectAttemptDelay", false, 0),
     IceInternal::Property("Ice.ConsoleListener", false, 0),
+    IceInternal::Property("Ice.Deadline.Propagate", false, 0),
     IceInternal::Property("Ice.Default.CollocationOptimized", false, 0),
     IceInternal::Property("Ice.Default.EncodingVersion", false, 0),
     IceInternal::Property("Ice.Default.EndpointSelection", false, 0),
@@ -119,11 +144,21 @@ const IceInternal::Property IcePropsData[] =
     IceInternal::Property("Ice.FactoryAssemblies", false, 0),
     IceInternal::Property("Ice.HTTPProxyHost", false, 0),
     IceInternal::Property("Ice.HTTPProxyPort", false, 0),
+    IceInternal::Property("Ice.Hedge.Delay", false, 0),
+    IceInternal::Property("Ice.Hedge.MaxPercent", false, 0),
+    IceInternal::Property("Ice.Hedge.Percentile", false, 0),
     IceInternal::Property("Ice.ImplicitContext", false, 0),
     IceInternal::Property("Ice.InitPlugins", false, 0),
     IceInternal::Property("Ice.IPv4", false, 0),
     IceInternal::Property("Ice.IPv6", false, 0),
+    IceInternal::Property("Ice.LocatorCache.File", false, 0),
+    IceInternal::Property("Ice.LocatorCache.NegativeTTL", false, 0),
+    IceInternal::Property("Ice.LocatorCache.Size", false, 0),
+    IceInternal::Property("Ice.LocatorCache.SnapshotInterval", false, 0),
     IceInternal::Property("Ice.LogFile", false, 0),
+    IceInternal::Property("Ice.LogFile.Async", false, 0),
+    IceInternal::Property("Ice.LogFile.Overflow", false, 0),
+    IceInternal::Property("Ice.LogFile.QueueSize", false, 0),
     IceInternal::Property("Ice.LogFile.SizeMax", false, 0),
     IceInternal::Property("Ice.LogStdErr.Convert", false, 0),
     IceInternal::Property("Ice.MessageSizeMax", false, 0),
@@ -143,7 +178,14 @@ const IceInternal::Property IcePropsData[] =
     IceInternal::Property("Ice.PrintProcessId", false, 0),
     IceInternal::Property("Ice.PrintStackTraces", false, 0),
     IceInternal::Property("Ice.ProgramName", false, 0),
+    IceInternal::Property("Ice.RetryBackoff.Initial", false, 0),
+    IceInternal::Property("Ice.RetryBackoff.Max", false, 0),
+    IceInternal::Property("Ice.RetryBackoff.Retries", false, 0),
+    IceInternal::Property("Ice.RetryBudget.Max", false, 0),
+    IceInternal::Property("Ice.RetryBudget.Percent", false, 0),
     IceInternal::Property("Ice.RetryIntervals", false, 0),
+    IceInternal::Property("Ice.RetryJitter", false, 0),
+    IceInternal::Property("Ice.RouterAddProxiesDelay", false, 0),
     IceInternal::Property("Ice.ServerIdleTime", false, 0),
     IceInternal::Property("Ice.SOCKSProxyHost", false, 0),
     IceInternal::Property("Ice.SOCKSProxyPort", false, 0),
@@ -205,6 +247,8 @@ const IceInternal::Property IceMXPropsData[] =
     IceInternal::Property("IceMX.Metrics.*.Accept", false, 0),
     IceInternal::Property("IceMX.Metrics.*.Reject", false, 0),
     IceInternal::Property("IceMX.Metrics.*", false, 0),
+    IceInternal::Property("IceMX.OpenMetrics.Host", false, 0),
+    IceInternal::Property("IceMX.OpenMetrics.Port", false, 0),
 };
 
 const IceInternal::PropertyArray
@@ -217,6 +261,7 @@ const IceInternal::Property IceDiscoveryPropsData[] =
     IceInternal::Property("IceDiscovery.Multicast.ACM.Heartbeat", false, 0),
     IceInternal::Property("IceDiscovery.Multicast.ACM.Close", false, 0),
     IceInternal::Property("IceDiscovery.Multicast.ACM", false, 0),
+    IceInternal::Property("IceDiscovery.Multicast.Acceptors", false, 0),
     IceInternal::Property("IceDiscovery.Multicast.AdapterId", false, 0),
     IceInternal::Property("IceDiscovery.Multicast.Endpoints", false, 0),
     IceInternal::Property("IceDiscovery.Multicast.Locator.EndpointSelection", false, 0),
@@ -250,10 +295,25 @@ const IceInternal::Property IceDiscoveryPropsData[] =
     IceInternal::Property("IceDiscovery.Multicast.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceDiscovery.Multicast.ThreadPool.ThreadPriority", false, 0),
     IceInternal::Property("IceDiscovery.Multicast.MessageSizeMax", false, 0),
+    IceInternal::Property("IceDiscovery.Multicast.AdmissionControl.MaxQueued", false, 0),
+    IceInternal::Property("IceDiscovery.Multicast.AdmissionControl.MaxQueueWait", false, 0),
+    IceInternal::Property("IceDiscovery.Multicast.AdmissionControl.CoDelTarget", false, 0),
+    IceInternal::Property("IceDiscovery.Multicast.AdmissionControl.CoDelInterval", false, 0),
+    IceInternal::Property("IceDiscovery.Multicast.Lanes.High.Operations", false, 0),
+    IceInternal::Property("IceDiscovery.Multicast.Lanes.High.Categories", false, 0),
+    IceInternal::Property("IceDiscovery.Multicast.Lanes.High.Weight", false, 0),
+    IceInternal::Property("IceDiscovery.Multicast.Lanes.Normal.Weight", false, 0),
+    IceInternal::Property("IceDiscovery.Multicast.Lanes.Low.Operations", false, 0),
+    IceInternal::Property("IceDiscovery.Multicast.Lanes.Low.Categories", false, 0),
+    IceInternal::Property("IceDiscovery.Multicast.Lanes.Low.Weight", false, 0),
+    IceInternal::Property("IceDiscovery.Multicast.Lanes.Context", false, 0),
+    IceInternal::Property("IceDiscovery.Multicast.Lanes.QueueSize", false, 0),
+    IceInternal::Property("IceDiscovery.Multicast.WarmUp", false, 0),
     IceInternal::Property("IceDiscovery.Reply.ACM.Timeout", false, 0),
     IceInternal::Property("IceDiscovery.Reply.ACM.Heartbeat", false, 0),
     IceInternal::Property("IceDiscovery.Reply.ACM.Close", false, 0),
     IceInternal::Property("IceDiscovery.Reply.ACM", false, 0),
+    IceInternal::Property("IceDiscovery.Reply.Acceptors", false, 0),
     IceInternal::Property("IceDiscovery.Reply.AdapterId", false, 0),
     IceInternal::Property("IceDiscovery.Reply.Endpoints", false, 0),
     IceInternal::Property("IceDiscovery.Reply.Locator.EndpointSelection", false, 0),
@@ -287,10 +347,25 @@ const IceInternal::Property IceDiscoveryPropsData[] =
     IceInternal::Property("IceDiscovery.Reply.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceDiscovery.Reply.ThreadPool.ThreadPriority", false, 0),
     IceInternal::Property("IceDiscovery.Reply.MessageSizeMax", false, 0),
+    IceInternal::Property("IceDiscovery.Reply.AdmissionControl.MaxQueued", false, 0),
+    IceInternal::Property("IceDiscovery.Reply.AdmissionControl.MaxQueueWait", false, 0),
+    IceInternal::Property("IceDiscovery.Reply.AdmissionControl.CoDelTarget", false, 0),
+    IceInternal::Property("IceDiscovery.Reply.AdmissionControl.CoDelInterval", false, 0),
+    IceInternal::Property("IceDiscovery.Reply.Lanes.High.Operations", false, 0),
+    IceInternal::Property("IceDiscovery.Reply.Lanes.High.Categories", false, 0),
+    IceInternal::Property("IceDiscovery.Reply.Lanes.High.Weight", false, 0),
+    IceInternal::Property("IceDiscovery.Reply.Lanes.Normal.Weight", false, 0),
+    IceInternal::Property("IceDiscovery.Reply.Lanes.Low.Operations", false, 0),
+    IceInternal::Property("IceDiscovery.Reply.Lanes.Low.Categories", false, 0),
+    IceInternal::Property("IceDiscovery.Reply.Lanes.Low.Weight", false, 0),
+    IceInternal::Property("IceDiscovery.Reply.Lanes.Context", false, 0),
+    IceInternal::Property("IceDiscovery.Reply.Lanes.QueueSize", false, 0),
+    IceInternal::Property("IceDiscovery.Reply.WarmUp", false, 0),
     IceInternal::Property("IceDiscovery.Locator.ACM.Timeout", false, 0),
     IceInternal::Property("IceDiscovery.Locator.ACM.Heartbeat", false, 0),
     IceInternal::Property("IceDiscovery.Locator.ACM.Close", false, 0),
     IceInternal::Property("IceDiscovery.Locator.ACM", false, 0),
+    IceInternal::Property("IceDiscovery.Locator.Acceptors", false, 0),
     IceInternal::Property("IceDiscovery.Locator.AdapterId", false, 0),
     IceInternal::Property("IceDiscovery.Locator.Endpoints", false, 0),
     IceInternal::Property("IceDiscovery.Locator.Locator.EndpointSelection", false, 0),
@@ -324,10 +399,26 @@ const IceInternal::Property IceDiscoveryPropsData[] =
     IceInternal::Property("IceDiscovery.Locator.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceDiscovery.Locator.ThreadPool.ThreadPriority", false, 0),
     IceInternal::Property("IceDiscovery.Locator.MessageSizeMax", false, 0),
+    IceInternal::Property("IceDiscovery.Locator.AdmissionControl.MaxQueued", false, 0),
+    IceInternal::Property("IceDiscovery.Locator.AdmissionControl.MaxQueueWait", false, 0),
+    IceInternal::Property("IceDiscovery.Locator.AdmissionControl.CoDelTarget", false, 0),
+    IceInternal::Property("IceDiscovery.Locator.AdmissionControl.CoDelInterval", false, 0),
+    IceInternal::Property("IceDiscovery.Locator.Lanes.High.Operations", false, 0),
+    IceInternal::Property("IceDiscovery.Locator.Lanes.High.Categories", false, 0),
+    IceInternal::Property("IceDiscovery.Locator.Lanes.High.Weight", false, 0),
+    IceInternal::Property("IceDiscovery.Locator.Lanes.Normal.Weight", false, 0),
+    IceInternal::Property("IceDiscovery.Locator.Lanes.Low.Operations", false, 0),
+    IceInternal::Property("IceDiscovery.Locator.Lanes.Low.Categories", false, 0),
+    IceInternal::Property("IceDiscovery.Locator.Lanes.Low.Weight", false, 0),
+    IceInternal::Property("IceDiscovery.Locator.Lanes.Context", false, 0),
+    IceInternal::Property("IceDiscovery.Locator.Lanes.QueueSize", false, 0),
+    IceInternal::Property("IceDiscovery.Locator.WarmUp", false, 0),
     IceInternal::Property("IceDiscovery.Lookup", false, 0),
     IceInternal::Property("IceDiscovery.Timeout", false, 0),
     IceInternal::Property("IceDiscovery.RetryCount", false, 0),
     IceInternal::Property("IceDiscovery.LatencyMultiplier", false, 0),
+    IceInternal::Property("IceDiscovery.AdaptiveTimeout", false, 0),
+    IceInternal::Property("IceDiscovery.CacheTimeout", false, 0),
     IceInternal::Property("IceDiscovery.Address", false, 0),
     IceInternal::Property("IceDiscovery.Port", false, 0),
     IceInternal::Property("IceDiscovery.Interface", false, 0),
@@ -344,6 +435,7 @@ const IceInternal::Property IceLocatorDiscoveryPropsData[] =
     IceInternal::Property("IceLocatorDiscovery.Reply.ACM.Heartbeat", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Reply.ACM.Close", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Reply.ACM", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Reply.Acceptors", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Reply.AdapterId", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Reply.Endpoints", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Reply.Locator.EndpointSelection", false, 0),
@@ -377,10 +469,25 @@ const IceInternal::Property IceLocatorDiscoveryPropsData[] =
     IceInternal::Property("IceLocatorDiscovery.Reply.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Reply.ThreadPool.ThreadPriority", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Reply.MessageSizeMax", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Reply.AdmissionControl.MaxQueued", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Reply.AdmissionControl.MaxQueueWait", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Reply.AdmissionControl.CoDelTarget", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Reply.AdmissionControl.CoDelInterval", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Reply.Lanes.High.Operations", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Reply.Lanes.High.Categories", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Reply.Lanes.High.Weight", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Reply.Lanes.Normal.Weight", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Reply.Lanes.Low.Operations", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Reply.Lanes.Low.Categories", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Reply.Lanes.Low.Weight", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Reply.Lanes.Context", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Reply.Lanes.QueueSize", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Reply.WarmUp", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.ACM.Timeout", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.ACM.Heartbeat", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.ACM.Close", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.ACM", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Locator.Acceptors", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.AdapterId", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.Endpoints", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.Locator.EndpointSelection", false, 0),
@@ -414,10 +521,26 @@ const IceInternal::Property IceLocatorDiscoveryPropsData[] =
     IceInternal::Property("IceLocatorDiscovery.Locator.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.ThreadPool.ThreadPriority", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.MessageSizeMax", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Locator.AdmissionControl.MaxQueued", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Locator.AdmissionControl.MaxQueueWait", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Locator.AdmissionControl.CoDelTarget", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Locator.AdmissionControl.CoDelInterval", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Locator.Lanes.High.Operations", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Locator.Lanes.High.Categories", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Locator.Lanes.High.Weight", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Locator.Lanes.Normal.Weight", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Locator.Lanes.Low.Operations", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Locator.Lanes.Low.Categories", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Locator.Lanes.Low.Weight", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Locator.Lanes.Context", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Locator.Lanes.QueueSize", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Locator.WarmUp", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Lookup", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Timeout", false, 0),
     IceInternal::Property("IceLocatorDiscovery.RetryCount", false, 0),
     IceInternal::Property("IceLocatorDiscovery.RetryDelay", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.HedgeDelay", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.RefreshInterval", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Address", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Port", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Interface", false, 0),
@@ -431,6 +554,7 @@ const IceInternal::PropertyArray
 
 const IceInternal::Property IceBoxPropsData[] =
 {
+    IceInternal::Property("IceBox.DependsOn.*", false, 0),
     IceInternal::Property("IceBox.InheritProperties", false, 0),
     IceInternal::Property("IceBox.InstanceName", true, 0),
     IceInternal::Property("IceBox.LoadOrder", false, 0),
@@ -446,6 +570,8 @@ const IceInternal::Property IceBoxPropsData[] =
     IceInternal::Property("IceBox.ServiceManager.ThreadPool.SizeMax", true, 0),
     IceInternal::Property("IceBox.ServiceManager.ThreadPool.SizeWarn", true, 0),
     IceInternal::Property("IceBox.ServiceManager.ThreadPool.StackSize", true, 0),
+    IceInternal::Property("IceBox.ShareThreads", false, 0),
+    IceInternal::Property("IceBox.StartThreads", false, 0),
     IceInternal::Property("IceBox.Trace.ServiceObserver", false, 0),
     IceInternal::Property("IceBox.UseSharedCommunicator.*", false, 0),
 };
@@ -478,6 +604,7 @@ const IceInternal::Property IceBridgePropsData[] =
     IceInternal::Property("IceBridge.Source.ACM.Heartbeat", false, 0),
     IceInternal::Property("IceBridge.Source.ACM.Close", false, 0),
     IceInternal::Property("IceBridge.Source.ACM", false, 0),
+    IceInternal::Property("IceBridge.Source.Acceptors", false, 0),
     IceInternal::Property("IceBridge.Source.AdapterId", false, 0),
     IceInternal::Property("IceBridge.Source.Endpoints", false, 0),
     IceInternal::Property("IceBridge.Source.Locator.EndpointSelection", false, 0),
@@ -511,6 +638,20 @@ const IceInternal::Property IceBridgePropsData[] =
     IceInternal::Property("IceBridge.Source.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceBridge.Source.ThreadPool.ThreadPriority", false, 0),
     IceInternal::Property("IceBridge.Source.MessageSizeMax", false, 0),
+    IceInternal::Property("IceBridge.Source.AdmissionControl.MaxQueued", false, 0),
+    IceInternal::Property("IceBridge.Source.AdmissionControl.MaxQueueWait", false, 0),
+    IceInternal::Property("IceBridge.Source.AdmissionControl.CoDelTarget", false, 0),
+    IceInternal::Property("IceBridge.Source.AdmissionControl.CoDelInterval", false, 0),
+    IceInternal::Property("IceBridge.Source.Lanes.High.Operations", false, 0),
+    IceInternal::Property("IceBridge.Source.Lanes.High.Categories", false, 0),
+    IceInternal::Property("IceBridge.Source.Lanes.High.Weight", false, 0),
+    IceInternal::Property("IceBridge.Source.Lanes.Normal.Weight", false, 0),
+    IceInternal::Property("IceBridge.Source.Lanes.Low.Operations", false, 0),
+    IceInternal::Property("IceBridge.Source.Lanes.Low.Categories", false, 0),
+    IceInternal::Property("IceBridge.Source.Lanes.Low.Weight", false, 0),
+    IceInternal::Property("IceBridge.Source.Lanes.Context", false, 0),
+    IceInternal::Property("IceBridge.Source.Lanes.QueueSize", false, 0),
+    IceInternal::Property("IceBridge.Source.WarmUp", false, 0),
     IceInternal::Property("IceBridge.Target.Endpoints", false, 0),
     IceInternal::Property("IceBridge.InstanceName", false, 0),
 };
@@ -533,6 +674,7 @@ const IceInternal::Property IceGridAdminPropsData[] =
     IceInternal::Property("IceGridAdmin.Server.ACM.Heartbeat", false, 0),
     IceInternal::Property("IceGridAdmin.Server.ACM.Close", false, 0),
     IceInternal::Property("IceGridAdmin.Server.ACM", false, 0),
+    IceInternal::Property("IceGridAdmin.Server.Acceptors", false, 0),
     IceInternal::Property("IceGridAdmin.Server.AdapterId", false, 0),
     IceInternal::Property("IceGridAdmin.Server.Endpoints", false, 0),
     IceInternal::Property("IceGridAdmin.Server.Locator.EndpointSelection", false, 0),
@@ -566,6 +708,20 @@ const IceInternal::Property IceGridAdminPropsData[] =
     IceInternal::Property("IceGridAdmin.Server.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceGridAdmin.Server.ThreadPool.ThreadPriority", false, 0),
     IceInternal::Property("IceGridAdmin.Server.MessageSizeMax", false, 0),
+    IceInternal::Property("IceGridAdmin.Server.AdmissionControl.MaxQueued", false, 0),
+    IceInternal::Property("IceGridAdmin.Server.AdmissionControl.MaxQueueWait", false, 0),
+    IceInternal::Property("IceGridAdmin.Server.AdmissionControl.CoDelTarget", false, 0),
+    IceInternal::Property("IceGridAdmin.Server.AdmissionControl.CoDelInterval", false, 0),
+    IceInternal::Property("IceGridAdmin.Server.Lanes.High.Operations", false, 0),
+    IceInternal::Property("IceGridAdmin.Server.Lanes.High.Categories", false, 0),
+    IceInternal::Property("IceGridAdmin.Server.Lanes.High.Weight", false, 0),
+    IceInternal::Property("IceGridAdmin.Server.Lanes.Normal.Weight", false, 0),
+    IceInternal::Property("IceGridAdmin.Server.Lanes.Low.Operations", false, 0),
+    IceInternal::Property("IceGridAdmin.Server.Lanes.Low.Categories", false, 0),
+    IceInternal::Property("IceGridAdmin.Server.Lanes.Low.Weight", false, 0),
+    IceInternal::Property("IceGridAdmin.Server.Lanes.Context", false, 0),
+    IceInternal::Property("IceGridAdmin.Server.Lanes.QueueSize", false, 0),
+    IceInternal::Property("IceGridAdmin.Server.WarmUp", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Address", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Interface", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Lookup", false, 0),
@@ -573,6 +729,7 @@ const IceInternal::Property IceGridAdminPropsData[] =
     IceInternal::Property("IceGridAdmin.Discovery.Reply.ACM.Heartbeat", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Reply.ACM.Close", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Reply.ACM", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Reply.Acceptors", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Reply.AdapterId", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Reply.Endpoints", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Reply.Locator.EndpointSelection", false, 0),
@@ -606,10 +763,25 @@ const IceInternal::Property IceGridAdminPropsData[] =
     IceInternal::Property("IceGridAdmin.Discovery.Reply.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Reply.ThreadPool.ThreadPriority", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Reply.MessageSizeMax", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Reply.AdmissionControl.MaxQueued", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Reply.AdmissionControl.MaxQueueWait", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Reply.AdmissionControl.CoDelTarget", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Reply.AdmissionControl.CoDelInterval", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Reply.Lanes.High.Operations", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Reply.Lanes.High.Categories", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Reply.Lanes.High.Weight", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Reply.Lanes.Normal.Weight", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Reply.Lanes.Low.Operations", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Reply.Lanes.Low.Categories", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Reply.Lanes.Low.Weight", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Reply.Lanes.Context", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Reply.Lanes.QueueSize", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Reply.WarmUp", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.ACM.Timeout", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.ACM.Heartbeat", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.ACM.Close", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.ACM", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Locator.Acceptors", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.AdapterId", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.Endpoints", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.Locator.EndpointSelection", false, 0),
@@ -643,6 +815,20 @@ const IceInternal::Property IceGridAdminPropsData[] =
     IceInternal::Property("IceGridAdmin.Discovery.Locator.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.ThreadPool.ThreadPriority", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.MessageSizeMax", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Locator.AdmissionControl.MaxQueued", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Locator.AdmissionControl.MaxQueueWait", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Locator.AdmissionControl.CoDelTarget", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Locator.AdmissionControl.CoDelInterval", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Locator.Lanes.High.Operations", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Locator.Lanes.High.Categories", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Locator.Lanes.High.Weight", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Locator.Lanes.Normal.Weight", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Locator.Lanes.Low.Operations", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Locator.Lanes.Low.Categories", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Locator.Lanes.Low.Weight", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Locator.Lanes.Context", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Locator.Lanes.QueueSize", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Locator.WarmUp", false, 0),
     IceInternal::Property("IceGridAdmin.Trace.Observers", false, 0),
     IceInternal::Property("IceGridAdmin.Trace.SaveToRegistry", false, 0),
 };
@@ -657,6 +843,7 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.AdminRouter.ACM.Heartbeat", false, 0),
     IceInternal::Property("IceGrid.AdminRouter.ACM.Close", false, 0),
     IceInternal::Property("IceGrid.AdminRouter.ACM", false, 0),
+    IceInternal::Property("IceGrid.AdminRouter.Acceptors", false, 0),
     IceInternal::Property("IceGrid.AdminRouter.AdapterId", false, 0),
     IceInternal::Property("IceGrid.AdminRouter.Endpoints", false, 0),
     IceInternal::Property("IceGrid.AdminRouter.Locator.EndpointSelection", false, 0),
@@ -690,11 +877,26 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.AdminRouter.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceGrid.AdminRouter.ThreadPool.ThreadPriority", false, 0),
     IceInternal::Property("IceGrid.AdminRouter.MessageSizeMax", false, 0),
+    IceInternal::Property("IceGrid.AdminRouter.AdmissionControl.MaxQueued", false, 0),
+    IceInternal::Property("IceGrid.AdminRouter.AdmissionControl.MaxQueueWait", false, 0),
+    IceInternal::Property("IceGrid.AdminRouter.AdmissionControl.CoDelTarget", false, 0),
+    IceInternal::Property("IceGrid.AdminRouter.AdmissionControl.CoDelInterval", false, 0),
+    IceInternal::Property("IceGrid.AdminRouter.Lanes.High.Operations", false, 0),
+    IceInternal::Property("IceGrid.AdminRouter.Lanes.High.Categories", false, 0),
+    IceInternal::Property("IceGrid.AdminRouter.Lanes.High.Weight", false, 0),
+    IceInternal::Property("IceGrid.AdminRouter.Lanes.Normal.Weight", false, 0),
+    IceInternal::Property("IceGrid.AdminRouter.Lanes.Low.Operations", false, 0),
+    IceInternal::Property("IceGrid.AdminRouter.Lanes.Low.Categories", false, 0),
+    IceInternal::Property("IceGrid.AdminRouter.Lanes.Low.Weight", false, 0),
+    IceInternal::Property("IceGrid.AdminRouter.Lanes.Context", false, 0),
+    IceInternal::Property("IceGrid.AdminRouter.Lanes.QueueSize", false, 0),
+    IceInternal::Property("IceGrid.AdminRouter.WarmUp", false, 0),
     IceInternal::Property("IceGrid.InstanceName", false, 0),
     IceInternal::Property("IceGrid.Node.ACM.Timeout", false, 0),
     IceInternal::Property("IceGrid.Node.ACM.Heartbeat", false, 0),
     IceInternal::Property("IceGrid.Node.ACM.Close", false, 0),
     IceInternal::Property("IceGrid.Node.ACM", false, 0),
+    IceInternal::Property("IceGrid.Node.Acceptors", false, 0),
     IceInternal::Property("IceGrid.Node.AdapterId", false, 0),
     IceInternal::Property("IceGrid.Node.Endpoints", false, 0),
     IceInternal::Property("IceGrid.Node.Locator.EndpointSelection", false, 0),
@@ -728,6 +930,20 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Node.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceGrid.Node.ThreadPool.ThreadPriority", false, 0),
     IceInternal::Property("IceGrid.Node.MessageSizeMax", false, 0),
+    IceInternal::Property("IceGrid.Node.AdmissionControl.MaxQueued", false, 0),
+    IceInternal::Property("IceGrid.Node.AdmissionControl.MaxQueueWait", false, 0),
+    IceInternal::Property("IceGrid.Node.AdmissionControl.CoDelTarget", false, 0),
+    IceInternal::Property("IceGrid.Node.AdmissionControl.CoDelInterval", false, 0),
+    IceInternal::Property("IceGrid.Node.Lanes.High.Operations", false, 0),
+    IceInternal::Property("IceGrid.Node.Lanes.High.Categories", false, 0),
+    IceInternal::Property("IceGrid.Node.Lanes.High.Weight", false, 0),
+    IceInternal::Property("IceGrid.Node.Lanes.Normal.Weight", false, 0),
+    IceInternal::Property("IceGrid.Node.Lanes.Low.Operations", false, 0),
+    IceInternal::Property("IceGrid.Node.Lanes.Low.Categories", false, 0),
+    IceInternal::Property("IceGrid.Node.Lanes.Low.Weight", false, 0),
+    IceInternal::Property("IceGrid.Node.Lanes.Context", false, 0),
+    IceInternal::Property("IceGrid.Node.Lanes.QueueSize", false, 0),
+    IceInternal::Property("IceGrid.Node.WarmUp", false, 0),
     IceInternal::Property("IceGrid.Node.AllowRunningServersAsRoot", false, 0),
     IceInternal::Property("IceGrid.Node.AllowEndpointsOverride", false, 0),
     IceInternal::Property("IceGrid.Node.CollocateRegistry", false, 0),
@@ -773,6 +989,7 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.ACM.Heartbeat", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.ACM.Close", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.ACM", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminSessionManager.Acceptors", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.AdapterId", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.Endpoints", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.Locator.EndpointSelection", false, 0),
@@ -806,6 +1023,20 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.ThreadPool.ThreadPriority", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.MessageSizeMax", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminSessionManager.AdmissionControl.MaxQueued", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminSessionManager.AdmissionControl.MaxQueueWait", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminSessionManager.AdmissionControl.CoDelTarget", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminSessionManager.AdmissionControl.CoDelInterval", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminSessionManager.Lanes.High.Operations", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminSessionManager.Lanes.High.Categories", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminSessionManager.Lanes.High.Weight", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminSessionManager.Lanes.Normal.Weight", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminSessionManager.Lanes.Low.Operations", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminSessionManager.Lanes.Low.Categories", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminSessionManager.Lanes.Low.Weight", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminSessionManager.Lanes.Context", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminSessionManager.Lanes.QueueSize", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminSessionManager.WarmUp", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSSLPermissionsVerifier.EndpointSelection", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSSLPermissionsVerifier.ConnectionCached", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSSLPermissionsVerifier.PreferSecure", false, 0),
@@ -820,6 +1051,7 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.Client.ACM.Heartbeat", false, 0),
     IceInternal::Property("IceGrid.Registry.Client.ACM.Close", false, 0),
     IceInternal::Property("IceGrid.Registry.Client.ACM", false, 0),
+    IceInternal::Property("IceGrid.Registry.Client.Acceptors", false, 0),
     IceInternal::Property("IceGrid.Registry.Client.AdapterId", false, 0),
     IceInternal::Property("IceGrid.Registry.Client.Endpoints", false, 0),
     IceInternal::Property("IceGrid.Registry.Client.Locator.EndpointSelection", false, 0),
@@ -853,12 +1085,27 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.Client.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceGrid.Registry.Client.ThreadPool.ThreadPriority", false, 0),
     IceInternal::Property("IceGrid.Registry.Client.MessageSizeMax", false, 0),
+    IceInternal::Property("IceGrid.Registry.Client.AdmissionControl.MaxQueued", false, 0),
+    IceInternal::Property("IceGrid.Registry.Client.AdmissionControl.MaxQueueWait", false, 0),
+    IceInternal::Property("IceGrid.Registry.Client.AdmissionControl.CoDelTarget", false, 0),
+    IceInternal::Property("IceGrid.Registry.Client.AdmissionControl.CoDelInterval", false, 0),
+    IceInternal::Property("IceGrid.Registry.Client.Lanes.High.Operations", false, 0),
+    IceInternal::Property("IceGrid.Registry.Client.Lanes.High.Categories", false, 0),
+    IceInternal::Property("IceGrid.Registry.Client.Lanes.High.Weight", false, 0),
+    IceInternal::Property("IceGrid.Registry.Client.Lanes.Normal.Weight", false, 0),
+    IceInternal::Property("IceGrid.Registry.Client.Lanes.Low.Operations", false, 0),
+    IceInternal::Property("IceGrid.Registry.Client.Lanes.Low.Categories", false, 0),
+    IceInternal::Property("IceGrid.Registry.Client.Lanes.Low.Weight", false, 0),
+    IceInternal::Property("IceGrid.Registry.Client.Lanes.Context", false, 0),
+    IceInternal::Property("IceGrid.Registry.Client.Lanes.QueueSize", false, 0),
+    IceInternal::Property("IceGrid.Registry.Client.WarmUp", false, 0),
     IceInternal::Property("IceGrid.Registry.CryptPasswords", false, 0),
     IceInternal::Property("IceGrid.Registry.DefaultTemplates", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.ACM.Timeout", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.ACM.Heartbeat", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.ACM.Close", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.ACM", false, 0),
+    IceInternal::Property("IceGrid.Registry.Discovery.Acceptors", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.AdapterId", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.Endpoints", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.Locator.EndpointSelection", false, 0),
@@ -892,6 +1139,20 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.Discovery.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.ThreadPool.ThreadPriority", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.MessageSizeMax", false, 0),
+    IceInternal::Property("IceGrid.Registry.Discovery.AdmissionControl.MaxQueued", false, 0),
+    IceInternal::Property("IceGrid.Registry.Discovery.AdmissionControl.MaxQueueWait", false, 0),
+    IceInternal::Property("IceGrid.Registry.Discovery.AdmissionControl.CoDelTarget", false, 0),
+    IceInternal::Property("IceGrid.Registry.Discovery.AdmissionControl.CoDelInterval", false, 0),
+    IceInternal::Property("IceGrid.Registry.Discovery.Lanes.High.Operations", false, 0),
+    IceInternal::Property("IceGrid.Registry.Discovery.Lanes.High.Categories", false, 0),
+    IceInternal::Property("IceGrid.Registry.Discovery.Lanes.High.Weight", false, 0),
+    IceInternal::Property("IceGrid.Registry.Discovery.Lanes.Normal.Weight", false, 0),
+    IceInternal::Property("IceGrid.Registry.Discovery.Lanes.Low.Operations", false, 0),
+    IceInternal::Property("IceGrid.Registry.Discovery.Lanes.Low.Categories", false, 0),
+    IceInternal::Property("IceGrid.Registry.Discovery.Lanes.Low.Weight", false, 0),
+    IceInternal::Property("IceGrid.Registry.Discovery.Lanes.Context", false, 0),
+    IceInternal::Property("IceGrid.Registry.Discovery.Lanes.QueueSize", false, 0),
+    IceInternal::Property("IceGrid.Registry.Discovery.WarmUp", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.Enabled", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.Address", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.Port", false, 0),
@@ -901,6 +1162,7 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.Internal.ACM.Heartbeat", false, 0),
     IceInternal::Property("IceGrid.Registry.Internal.ACM.Close", false, 0),
     IceInternal::Property("IceGrid.Registry.Internal.ACM", false, 0),
+    IceInternal::Property("IceGrid.Registry.Internal.Acceptors", false, 0),
     IceInternal::Property("IceGrid.Registry.Internal.AdapterId", false, 0),
     IceInternal::Property("IceGrid.Registry.Internal.Endpoints", false, 0),
     IceInternal::Property("IceGrid.Registry.Internal.Locator.EndpointSelection", false, 0),
@@ -934,6 +1196,20 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.Internal.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceGrid.Registry.Internal.ThreadPool.ThreadPriority", false, 0),
     IceInternal::Property("IceGrid.Registry.Internal.MessageSizeMax", false, 0),
+    IceInternal::Property("IceGrid.Registry.Internal.AdmissionControl.MaxQueued", false, 0),
+    IceInternal::Property("IceGrid.Registry.Internal.AdmissionControl.MaxQueueWait", false, 0),
+    IceInternal::Property("IceGrid.Registry.Internal.AdmissionControl.CoDelTarget", false, 0),
+    IceInternal::Property("IceGrid.Registry.Internal.AdmissionControl.CoDelInterval", false, 0),
+    IceInternal::Property("IceGrid.Registry.Internal.Lanes.High.Operations", false, 0),
+    IceInternal::Property("IceGrid.Registry.Internal.Lanes.High.Categories", false, 0),
+    IceInternal::Property("IceGrid.Registry.Internal.Lanes.High.Weight", false, 0),
+    IceInternal::Property("IceGrid.Registry.Internal.Lanes.Normal.Weight", false, 0),
+    IceInternal::Property("IceGrid.Registry.Internal.Lanes.Low.Operations", false, 0),
+    IceInternal::Property("IceGrid.Registry.Internal.Lanes.Low.Categories", false, 0),
+    IceInternal::Property("IceGrid.Registry.Internal.Lanes.Low.Weight", false, 0),
+    IceInternal::Property("IceGrid.Registry.Internal.Lanes.Context", false, 0),
+    IceInternal::Property("IceGrid.Registry.Internal.Lanes.QueueSize", false, 0),
+    IceInternal::Property("IceGrid.Registry.Internal.WarmUp", false, 0),
     IceInternal::Property("IceGrid.Registry.LMDB.MapSize", false, 0),
     IceInternal::Property("IceGrid.Registry.LMDB.Path", false, 0),
     IceInternal::Property("IceGrid.Registry.NodeSessionTimeout", false, 0),
@@ -955,6 +1231,7 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.Server.ACM.Heartbeat", false, 0),
     IceInternal::Property("IceGrid.Registry.Server.ACM.Close", false, 0),
     IceInternal::Property("IceGrid.Registry.Server.ACM", false, 0),
+    IceInternal::Property("IceGrid.Registry.Server.Acceptors", false, 0),
     IceInternal::Property("IceGrid.Registry.Server.AdapterId", false, 0),
     IceInternal::Property("IceGrid.Registry.Server.Endpoints", false, 0),
     IceInternal::Property("IceGrid.Registry.Server.Locator.EndpointSelection", false, 0),
@@ -988,11 +1265,26 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.Server.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceGrid.Registry.Server.ThreadPool.ThreadPriority", false, 0),
     IceInternal::Property("IceGrid.Registry.Server.MessageSizeMax", false, 0),
+    IceInternal::Property("IceGrid.Registry.Server.AdmissionControl.MaxQueued", false, 0),
+    IceInternal::Property("IceGrid.Registry.Server.AdmissionControl.MaxQueueWait", false, 0),
+    IceInternal::Property("IceGrid.Registry.Server.AdmissionControl.CoDelTarget", false, 0),
+    IceInternal::Property("IceGrid.Registry.Server.AdmissionControl.CoDelInterval", false, 0),
+    IceInternal::Property("IceGrid.Registry.Server.Lanes.High.Operations", false, 0),
+    IceInternal::Property("IceGrid.Registry.Server.Lanes.High.Categories", false, 0),
+    IceInternal::Property("IceGrid.Registry.Server.Lanes.High.Weight", false, 0),
+    IceInternal::Property("IceGrid.Registry.Server.Lanes.Normal.Weight", false, 0),
+    IceInternal::Property("IceGrid.Registry.Server.Lanes.Low.Operations", false, 0),
+    IceInternal::Property("IceGrid.Registry.Server.Lanes.Low.Categories", false, 0),
+    IceInternal::Property("IceGrid.Registry.Server.Lanes.Low.Weight", false, 0),
+    IceInternal::Property("IceGrid.Registry.Server.Lanes.Context", false, 0),
+    IceInternal::Property("IceGrid.Registry.Server.Lanes.QueueSize", false, 0),
+    IceInternal::Property("IceGrid.Registry.Server.WarmUp", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionFilters", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionManager.ACM.Timeout", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionManager.ACM.Heartbeat", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionManager.ACM.Close", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionManager.ACM", false, 0),
+    IceInternal::Property("IceGrid.Registry.SessionManager.Acceptors", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionManager.AdapterId", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionManager.Endpoints", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionManager.Locator.EndpointSelection", false, 0),
@@ -1026,6 +1318,20 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.SessionManager.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionManager.ThreadPool.ThreadPriority", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionManager.MessageSizeMax", false, 0),
+    IceInternal::Property("IceGrid.Registry.SessionManager.AdmissionControl.MaxQueued", false, 0),
+    IceInternal::Property("IceGrid.Registry.SessionManager.AdmissionControl.MaxQueueWait", false, 0),
+    IceInternal::Property("IceGrid.Registry.SessionManager.AdmissionControl.CoDelTarget", false, 0),
+    IceInternal::Property("IceGrid.Registry.SessionManager.AdmissionControl.CoDelInterval", false, 0),
+    IceInternal::Property("IceGrid.Registry.SessionManager.Lanes.High.Operations", false, 0),
+    IceInternal::Property("IceGrid.Registry.SessionManager.Lanes.High.Categories", false, 0),
+    IceInternal::Property("IceGrid.Registry.SessionManager.Lanes.High.Weight", false, 0),
+    IceInternal::Property("IceGrid.Registry.SessionManager.Lanes.Normal.Weight", false, 0),
+    IceInternal::Property("IceGrid.Registry.SessionManager.Lanes.Low.Operations", false, 0),
+    IceInternal::Property("IceGrid.Registry.SessionManager.Lanes.Low.Categories", false, 0),
+    IceInternal::Property("IceGrid.Registry.SessionManager.Lanes.Low.Weight", false, 0),
+    IceInternal::Property("IceGrid.Registry.SessionManager.Lanes.Context", false, 0),
+    IceInternal::Property("IceGrid.Registry.SessionManager.Lanes.QueueSize", false, 0),
+    IceInternal::Property("IceGrid.Registry.SessionManager.WarmUp", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionTimeout", false, 0),
     IceInternal::Property("IceGrid.Registry.SSLPermissionsVerifier.EndpointSelection", false, 0),
     IceInternal::Property("IceGrid.Registry.SSLPermissionsVerifier.ConnectionCached", false, 0),
@@ -1064,6 +1370,7 @@ const IceInternal::Property IcePatch2PropsData[] =
     IceInternal::Property("IcePatch2.ACM.Heartbeat", false, 0),
     IceInternal::Property("IcePatch2.ACM.Close", false, 0),
     IceInternal::Property("IcePatch2.ACM", false, 0),
+    IceInternal::Property("IcePatch2.Acceptors", false, 0),
     IceInternal::Property("IcePatch2.AdapterId", false, 0),
     IceInternal::Property("IcePatch2.Endpoints", false, 0),
     IceInternal::Property("IcePatch2.Locator.EndpointSelection", false, 0),
@@ -1097,6 +1404,20 @@ const IceInternal::Property IcePatch2PropsData[] =
     IceInternal::Property("IcePatch2.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IcePatch2.ThreadPool.ThreadPriority", false, 0),
     IceInternal::Property("IcePatch2.MessageSizeMax", false, 0),
+    IceInternal::Property("IcePatch2.AdmissionControl.MaxQueued", false, 0),
+    IceInternal::Property("IcePatch2.AdmissionControl.MaxQueueWait", false, 0),
+    IceInternal::Property("IcePatch2.AdmissionControl.CoDelTarget", false, 0),
+    IceInternal::Property("IcePatch2.AdmissionControl.CoDelInterval", false, 0),
+    IceInternal::Property("IcePatch2.Lanes.High.Operations", false, 0),
+    IceInternal::Property("IcePatch2.Lanes.High.Categories", false, 0),
+    IceInternal::Property("IcePatch2.Lanes.High.Weight", false, 0),
+    IceInternal::Property("IcePatch2.Lanes.Normal.Weight", false, 0),
+    IceInternal::Property("IcePatch2.Lanes.Low.Operations", false, 0),
+    IceInternal::Property("IcePatch2.Lanes.Low.Categories", false, 0),
+    IceInternal::Property("IcePatch2.Lanes.Low.Weight", false, 0),
+    IceInternal::Property("IcePatch2.Lanes.Context", false, 0),
+    IceInternal::Property("IcePatch2.Lanes.QueueSize", false, 0),
+    IceInternal::Property("IcePatch2.WarmUp", false, 0),
     IceInternal::Property("IcePatch2.Directory", false, 0),
     IceInternal::Property("IcePatch2.InstanceName", false, 0),
 };
@@ -1197,6 +1518,7 @@ const IceInternal::Property Glacier2PropsData[] =
     IceInternal::Property("Glacier2.Client.ACM.Heartbeat", false, 0),
     IceInternal::Property("Glacier2.Client.ACM.Close", false, 0),
     IceInternal::Property("Glacier2.Client.ACM", false, 0),
+    IceInternal::Property("Glacier2.Client.Acceptors", false, 0),
     IceInternal::Property("Glacier2.Client.AdapterId", false, 0),
     IceInternal::Property("Glacier2.Client.Endpoints", false, 0),
     IceInternal::Property("Glacier2.Client.Locator.EndpointSelection", false, 0),
@@ -1230,6 +1552,20 @@ const IceInternal::Property Glacier2PropsData[] =
     IceInternal::Property("Glacier2.Client.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("Glacier2.Client.ThreadPool.ThreadPriority", false, 0),
     IceInternal::Property("Glacier2.Client.MessageSizeMax", false, 0),
+    IceInternal::Property("Glacier2.Client.AdmissionControl.MaxQueued", false, 0),
+    IceInternal::Property("Glacier2.Client.AdmissionControl.MaxQueueWait", false, 0),
+    IceInternal::Property("Glacier2.Client.AdmissionControl.CoDelTarget", false, 0),
+    IceInternal::Property("Glacier2.Client.AdmissionControl.CoDelInterval", false, 0),
+    IceInternal::Property("Glacier2.Client.Lanes.High.Operations", false, 0),
+    IceInternal::Property("Glacier2.Client.Lanes.High.Categories", false, 0),
+    IceInternal::Property("Glacier2.Client.Lanes.High.Weight", false, 0),
+    IceInternal::Property("Glacier2.Client.Lanes.Normal.Weight", false, 0),
+    IceInternal::Property("Glacier2.Client.Lanes.Low.Operations", false, 0),
+    IceInternal::Property("Glacier2.Client.Lanes.Low.Categories", false, 0),
+    IceInternal::Property("Glacier2.Client.Lanes.Low.Weight", false, 0),
+    IceInternal::Property("Glacier2.Client.Lanes.Context", false, 0),
+    IceInternal::Property("Glacier2.Client.Lanes.QueueSize", false, 0),
+    IceInternal::Property("Glacier2.Client.WarmUp", false, 0),
     IceInternal::Property("Glacier2.Client.AlwaysBatch", false, 0),
     IceInternal::Property("Glacier2.Client.Buffered", false, 0),
     IceInternal::Property("Glacier2.Client.ForwardContext", false, 0),
@@ -1272,6 +1608,7 @@ const IceInternal::Property Glacier2PropsData[] =
     IceInternal::Property("Glacier2.Server.ACM.Heartbeat", false, 0),
     IceInternal::Property("Glacier2.Server.ACM.Close", false, 0),
     IceInternal::Property("Glacier2.Server.ACM", false, 0),
+    IceInternal::Property("Glacier2.Server.Acceptors", false, 0),
     IceInternal::Property("Glacier2.Server.AdapterId", false, 0),
     IceInternal::Property("Glacier2.Server.Endpoints", false, 0),
     IceInternal::Property("Glacier2.Server.Locator.EndpointSelection", false, 0),
@@ -1305,6 +1642,20 @@ const IceInternal::Property Glacier2PropsData[] =
     IceInternal::Property("Glacier2.Server.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("Glacier2.Server.ThreadPool.ThreadPriority", false, 0),
     IceInternal::Property("Glacier2.Server.MessageSizeMax", false, 0),
+    IceInternal::Property("Glacier2.Server.AdmissionControl.MaxQueued", false, 0),
+    IceInternal::Property("Glacier2.Server.AdmissionControl.MaxQueueWait", false, 0),
+    IceInternal::Property("Glacier2.Server.AdmissionControl.CoDelTarget", false, 0),
+    IceInternal::Property("Glacier2.Server.AdmissionControl.CoDelInterval", false, 0),
+    IceInternal::Property("Glacier2.Server.Lanes.High.Operations", false, 0),
+    IceInternal::Property("Glacier2.Server.Lanes.High.Categories", false, 0),
+    IceInternal::Property("Glacier2.Server.Lanes.High.Weight", false, 0),
+    IceInternal::Property("Glacier2.Server.Lanes.Normal.Weight", false, 0),
+    IceInternal::Property("Glacier2.Server.Lanes.Low.Operations", false, 0),
+    IceInternal::Property("Glacier2.Server.Lanes.Low.Categories", false, 0),
+    IceInternal::Property("Glacier2.Server.Lanes.Low.Weight", false, 0),
+    IceInternal::Property("Glacier2.Server.Lanes.Context", false, 0),
+    IceInternal::Property("Glacier2.Server.Lanes.QueueSize", false, 0),
+    IceInternal::Property("Glacier2.Server.WarmUp", false, 0),
     IceInternal::Property("Glacier2.Server.AlwaysBatch", false, 0),
     IceInternal::Property("Glacier2.Server.Buffered", false, 0),
     IceInternal::Property("Glacier2.Server.ForwardContext", false, 0),
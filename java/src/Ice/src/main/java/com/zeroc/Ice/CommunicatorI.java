@@ -267,6 +267,18 @@ public final class CommunicatorI implements Communicator
         return f;
     }
 
+    @Override
+    public void warmUpConnections(ObjectPrx[] proxies)
+    {
+        new com.zeroc.IceInternal.ConnectionWarmUp(proxies).waitForResponse();
+    }
+
+    @Override
+    public java.util.concurrent.CompletableFuture<Void> warmUpConnectionsAsync(ObjectPrx[] proxies)
+    {
+        return new com.zeroc.IceInternal.ConnectionWarmUp(proxies);
+    }
+
     @Override
     public ObjectPrx
     createAdmin(ObjectAdapter adminAdapter, Identity adminId)
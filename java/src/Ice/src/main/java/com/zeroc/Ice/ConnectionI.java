@@ -13,6 +13,7 @@ import java.util.concurrent.Callable;
 
 import com.zeroc.IceInternal.AsyncStatus;
 import com.zeroc.IceInternal.Buffer;
+import com.zeroc.IceInternal.FlightRecorder;
 import com.zeroc.IceInternal.Incoming;
 import com.zeroc.IceInternal.OutgoingAsyncBase;
 import com.zeroc.IceInternal.Protocol;
@@ -395,6 +396,36 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
         //
         out.cancelable(this);
 
+        if(response && _limiter != null && !_limiter.tryAcquire())
+        {
+            //
+            // The concurrency limit of the connection is reached, the request
+            // waits for a reply to free a slot or it's rejected if it can't
+            // wait. The request isn't sent, it can be retried.
+            //
+            int timeout = _instance.concurrencyLimits().queueTimeout();
+            if(timeout == 0)
+            {
+                _limiter.rejected();
+                throw new ConcurrencyLimitException();
+            }
+
+            final LimitedRequest request = new LimitedRequest(out, compress);
+            request.timeoutFuture = _timer.schedule(() -> { limitedRequestTimedOut(request); }, timeout,
+                                                    java.util.concurrent.TimeUnit.MILLISECONDS);
+            _limitedRequests.add(request);
+            _limiter.queued(_limitedRequests.size());
+            return AsyncStatus.Queued;
+        }
+
+        return sendRequest(out, compress, response, batchRequestNum);
+    }
+
+    private int
+    sendRequest(OutgoingAsyncBase out, boolean compress, boolean response, int batchRequestNum)
+    {
+        final OutputStream os = out.getOs();
+
         int requestId = 0;
         if(response)
         {
@@ -440,6 +471,10 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
             // Add to the async requests map.
             //
             _asyncRequests.put(requestId, out);
+            if(_limiter != null)
+            {
+                _requestTimes.put(requestId, System.nanoTime());
+            }
         }
         return status;
     }
@@ -651,6 +686,26 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
             return; // The request has already been or will be shortly notified of the failure.
         }
 
+        if(_limiter != null)
+        {
+            java.util.Iterator<LimitedRequest> p = _limitedRequests.iterator();
+            while(p.hasNext())
+            {
+                LimitedRequest request = p.next();
+                if(request.outAsync == outAsync)
+                {
+                    p.remove();
+                    request.timeoutFuture.cancel(false);
+                    _limiter.queued(_limitedRequests.size());
+                    if(outAsync.completed(ex))
+                    {
+                        outAsync.invokeCompletedAsync();
+                    }
+                    return;
+                }
+            }
+        }
+
         java.util.Iterator<OutgoingMessage> it = _sendStreams.iterator();
         while(it.hasNext())
         {
@@ -660,6 +715,7 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
                 if(o.requestId > 0)
                 {
                     _asyncRequests.remove(o.requestId);
+                    requestDropped(o.requestId);
                 }
 
                 if(ex instanceof ConnectionTimeoutException)
@@ -692,10 +748,12 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
 
         if(outAsync instanceof com.zeroc.IceInternal.OutgoingAsync)
         {
-            java.util.Iterator<OutgoingAsyncBase> it2 = _asyncRequests.values().iterator();
+            java.util.Iterator<java.util.Map.Entry<Integer, OutgoingAsyncBase>> it2 =
+                _asyncRequests.entrySet().iterator();
             while(it2.hasNext())
             {
-                if(it2.next() == outAsync)
+                java.util.Map.Entry<Integer, OutgoingAsyncBase> e = it2.next();
+                if(e.getValue() == outAsync)
                 {
                     if(ex instanceof ConnectionTimeoutException)
                     {
@@ -704,6 +762,7 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
                     else
                     {
                         it2.remove();
+                        requestDropped(e.getKey());
                         if(outAsync.completed(ex))
                         {
                             outAsync.invokeCompletedAsync();
@@ -984,93 +1043,9 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
                     }
                 }
 
-                while((readyOp & SocketOperation.Read) != 0)
+                if((readyOp & SocketOperation.Read) != 0)
                 {
-                    final Buffer buf = _readStream.getBuffer();
-                    if(_observer != null && !_readHeader)
-                    {
-                        observerStartRead(buf);
-                    }
-
-                    readOp = read(buf);
-                    if((readOp & SocketOperation.Read) != 0)
-                    {
-                        break;
-                    }
-                    if(_observer != null && !_readHeader)
-                    {
-                        assert (!buf.b.hasRemaining());
-                        observerFinishRead(buf);
-                    }
-
-                    if(_readHeader) // Read header if necessary.
-                    {
-                        _readHeader = false;
-
-                        if(_observer != null)
-                        {
-                            _observer.receivedBytes(Protocol.headerSize);
-                        }
-
-                        int pos = _readStream.pos();
-                        if(pos < Protocol.headerSize)
-                        {
-                            //
-                            // This situation is possible for small UDP packets.
-                            //
-                            throw new IllegalMessageSizeException();
-                        }
-
-                        _readStream.pos(0);
-                        byte[] m = new byte[4];
-                        m[0] = _readStream.readByte();
-                        m[1] = _readStream.readByte();
-                        m[2] = _readStream.readByte();
-                        m[3] = _readStream.readByte();
-                        if(m[0] != Protocol.magic[0] ||
-                           m[1] != Protocol.magic[1] ||
-                           m[2] != Protocol.magic[2] ||
-                           m[3] != Protocol.magic[3])
-                        {
-                            BadMagicException ex = new BadMagicException();
-                            ex.badMagic = m;
-                            throw ex;
-                        }
-
-                        _readProtocol.ice_readMembers(_readStream);
-                        Protocol.checkSupportedProtocol(_readProtocol);
-
-                        _readProtocolEncoding.ice_readMembers(_readStream);
-                        Protocol.checkSupportedProtocolEncoding(_readProtocolEncoding);
-
-                        _readStream.readByte(); // messageType
-                        _readStream.readByte(); // compress
-                        int size = _readStream.readInt();
-                        if(size < Protocol.headerSize)
-                        {
-                            throw new IllegalMessageSizeException();
-                        }
-                        if(size > _messageSizeMax)
-                        {
-                            com.zeroc.IceInternal.Ex.throwMemoryLimitException(size, _messageSizeMax);
-                        }
-                        if(size > _readStream.size())
-                        {
-                            _readStream.resize(size);
-                        }
-                        _readStream.pos(pos);
-                    }
-
-                    if(_readStream.pos() != _readStream.size())
-                    {
-                        if(_endpoint.datagram())
-                        {
-                            // The message was truncated.
-                            throw new DatagramLimitException();
-                        }
-                        continue;
-                    }
-                    break;
+                    readOp = readMessage();
                 }
 
                 int newOp = readOp | writeOp;
@@ -1126,10 +1101,26 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
                     //
                     if((readyOp & SocketOperation.Read) != 0)
                     {
-                        // Optimization: use the thread's stream.
-                        info = new MessageInfo(current.stream);
+                        //
+                        // Optimization: use the thread's stream, unless the thread pool
+                        // is shared with another communicator.
+                        //
+                        if(current.stream.instance() == _instance)
+                        {
+                            info = new MessageInfo(current.stream);
+                        }
+                        else
+                        {
+                            info = new MessageInfo(new InputStream(_instance, Protocol.currentProtocolEncoding));
+                        }
+                        info.readyTime = current.readyTime();
                         newOp |= parseMessage(info);
                         dispatchCount += info.messageDispatchCount;
+
+                        if(_endpoint.datagram())
+                        {
+                            dispatchCount += readDatagrams(info);
+                        }
                     }
 
                     if((readyOp & SocketOperation.Write) != 0)
@@ -1203,20 +1194,35 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
             }
         }
 
-        if(!_dispatcher) // Optimization, call dispatch() directly if there's no dispatcher.
+        //
+        // The datagrams read after the first one are dispatched by the
+        // thread pool, concurrently with the dispatch of the first one.
+        //
+        if(info != null && info.next != null)
+        {
+            dispatchDatagrams(info.next);
+            info.next = null;
+        }
+
+        com.zeroc.IceInternal.DispatchLanes lanes = null;
+        if(!_dispatcher && info != null && info.invokeNum > 0 && info.adapter != null)
+        {
+            lanes = ((ObjectAdapterI)info.adapter).getDispatchLanes();
+        }
+
+        if(!_dispatcher && lanes == null) // Optimization, call dispatch() directly if there's no dispatcher.
         {
             dispatch(startCB, sentCBs, info);
         }
         else
         {
             // No need for the stream if heartbeat callback
-            if(info != null && info.heartbeatCallback == null)
+            if(info != null && info.heartbeatCallback == null && info.stream == current.stream)
             {
                 //
                 // Create a new stream for the dispatch instead of using the
                 // thread pool's thread stream.
                 //
-                assert (info.stream == current.stream);
                 InputStream stream = info.stream;
                 info.stream = new InputStream(_instance, Protocol.currentProtocolEncoding);
                 info.stream.swap(stream);
@@ -1225,14 +1231,24 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
             final StartCallback finalStartCB = startCB;
             final java.util.List<OutgoingMessage> finalSentCBs = sentCBs;
             final MessageInfo finalInfo = info;
-            _threadPool.dispatchFromThisThread(new com.zeroc.IceInternal.DispatchWorkItem(this)
+            if(lanes != null)
             {
-                @Override
-                public void run()
+                //
+                // Queue the dispatch with the priority lane of the request.
+                //
+                lanes.dispatch(current, info.stream, () -> dispatch(finalStartCB, finalSentCBs, finalInfo));
+            }
+            else
+            {
+                _threadPool.dispatchFromThisThread(new com.zeroc.IceInternal.DispatchWorkItem(this)
                 {
-                    dispatch(finalStartCB, finalSentCBs, finalInfo);
-                }
-            });
+                    @Override
+                    public void run()
+                    {
+                        dispatch(finalStartCB, finalSentCBs, finalInfo);
+                    }
+                });
+            }
         }
     }
 
@@ -1295,13 +1311,18 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
             if(info.invokeNum > 0)
             {
                 invokeAll(info.stream, info.invokeNum, info.requestId, info.compress, info.servantManager,
-                          info.adapter);
+                          info.adapter, info.readyTime);
 
                 //
                 // Don't increase dispatchedCount, the dispatch count is
                 // decreased when the incoming reply is sent.
                 //
             }
+
+            if(info.pooled)
+            {
+                releaseDatagramStream(info.stream);
+            }
         }
 
         //
@@ -1518,6 +1539,21 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
         }
         _asyncRequests.clear();
 
+        if(_limiter != null)
+        {
+            for(LimitedRequest p : _limitedRequests)
+            {
+                p.timeoutFuture.cancel(false);
+                if(p.outAsync.completed(_exception))
+                {
+                    p.outAsync.invokeCompleted();
+                }
+            }
+            _limitedRequests.clear();
+            _requestTimes.clear();
+            _limiter.destroy();
+        }
+
         //
         // Don't wait to be reaped to reclaim memory allocated by read/write streams.
         //
@@ -1677,6 +1713,18 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
             _acmLastActivity = -1;
         }
         _nextRequestId = 1;
+        if(connector != null && !endpoint.datagram() && instance.concurrencyLimits() != null)
+        {
+            _limiter = instance.concurrencyLimits().create(endpoint.toString());
+            _limitedRequests = new java.util.ArrayDeque<>();
+            _requestTimes = new java.util.HashMap<>();
+        }
+        else
+        {
+            _limiter = null;
+            _limitedRequests = null;
+            _requestTimes = null;
+        }
         _messageSizeMax = adapter != null ? adapter.messageSizeMax() : instance.messageSizeMax();
         _batchRequestQueue = new com.zeroc.IceInternal.BatchRequestQueue(instance, _endpoint.datagram());
         _readStream = new InputStream(instance, Protocol.currentProtocolEncoding);
@@ -1759,6 +1807,8 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
     private static final int StateClosed = 6;
     private static final int StateFinished = 7;
 
+    private static final int DatagramBatchMax = 64;
+
     private void setState(int state, LocalException ex)
     {
         //
@@ -1799,6 +1849,17 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
                     warning("connection exception", _exception);
                 }
             }
+
+            //
+            // The loss or timeout of an established outgoing connection counts
+            // as a failure of its connector for the circuit breaker.
+            //
+            com.zeroc.IceInternal.CircuitBreaker circuitBreaker = _instance.circuitBreaker();
+            if(circuitBreaker != null && _connector != null && _validated && _state < StateClosing &&
+               (_exception instanceof ConnectionLostException || _exception.getClass() == TimeoutException.class))
+            {
+                circuitBreaker.failure(_connector, _exception);
+            }
         }
 
         //
@@ -2513,6 +2574,225 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
         OutgoingAsyncBase outAsync;
         HeartbeatCallback heartbeatCallback;
         int messageDispatchCount;
+        long readyTime;
+        MessageInfo next; // The next datagram read with the same readiness event.
+        boolean pooled; // True if the stream is returned to the datagram stream pool once dispatched.
+    }
+
+    //
+    // Reads the next message into _readStream. Returns the socket operation
+    // to wait for if the message isn't complete, for datagrams the
+    // operation is only returned if no datagram is pending.
+    //
+    private int readMessage()
+    {
+        while(true)
+        {
+            final Buffer buf = _readStream.getBuffer();
+            if(_observer != null && !_readHeader)
+            {
+                observerStartRead(buf);
+            }
+
+            int readOp = read(buf);
+            if((readOp & SocketOperation.Read) != 0)
+            {
+                return readOp;
+            }
+            if(_observer != null && !_readHeader)
+            {
+                assert (!buf.b.hasRemaining());
+                observerFinishRead(buf);
+            }
+
+            if(_readHeader) // Read header if necessary.
+            {
+                readHeader();
+            }
+
+            if(_readStream.pos() != _readStream.size())
+            {
+                if(_endpoint.datagram())
+                {
+                    // The message was truncated.
+                    throw new DatagramLimitException();
+                }
+                continue;
+            }
+            return readOp;
+        }
+    }
+
+    //
+    // Reads and parses the datagrams which are already pending after the
+    // datagram of the given message, up to DatagramBatchMax datagrams per
+    // readiness event, instead of waiting for the thread pool to report the
+    // connection as readable again for each of them. The messages are
+    // linked to the given message and dispatched by the thread pool, their
+    // streams are taken from a pool. Returns the dispatch count of the
+    // messages.
+    //
+    private int readDatagrams(MessageInfo info)
+    {
+        //
+        // The messages dispatched with priority lanes or by a thread pool
+        // which serializes the dispatches are read one at a time.
+        //
+        if(_state != StateActive || _threadPool.serialize() ||
+           (_adapter != null && ((ObjectAdapterI)_adapter).getDispatchLanes() != null))
+        {
+            return 0;
+        }
+
+        int dispatchCount = 0;
+        MessageInfo last = info;
+        for(int i = 1; i < DatagramBatchMax && _state == StateActive; ++i)
+        {
+            try
+            {
+                if((readMessage() & SocketOperation.Read) != 0)
+                {
+                    break; // No more pending datagrams.
+                }
+            }
+            catch(DatagramLimitException ex)
+            {
+                if(_warnUdp)
+                {
+                    _logger.warning("maximum datagram size of " + _readStream.pos() + " exceeded");
+                }
+                _readStream.resize(Protocol.headerSize);
+                _readStream.pos(0);
+                _readHeader = true;
+                continue;
+            }
+            catch(LocalException ex)
+            {
+                if(_warn)
+                {
+                    _logger.warning("datagram connection exception:\n" + ex + '\n' + _desc);
+                }
+                _readStream.resize(Protocol.headerSize);
+                _readStream.pos(0);
+                _readHeader = true;
+                break;
+            }
+
+            last.next = new MessageInfo(takeDatagramStream());
+            last = last.next;
+            last.pooled = true;
+            last.readyTime = info.readyTime;
+            parseMessage(last);
+            dispatchCount += last.messageDispatchCount;
+        }
+        return dispatchCount;
+    }
+
+    //
+    // Queues the dispatch of the given datagram messages with the thread
+    // pool, one work item per message.
+    //
+    private void dispatchDatagrams(MessageInfo info)
+    {
+        while(info != null)
+        {
+            final MessageInfo message = info;
+            info = info.next;
+            message.next = null;
+            try
+            {
+                _threadPool.dispatch(new com.zeroc.IceInternal.DispatchWorkItem(this)
+                {
+                    @Override
+                    public void run()
+                    {
+                        dispatch(null, null, message);
+                    }
+                });
+            }
+            catch(CommunicatorDestroyedException ex)
+            {
+                dispatch(null, null, message); // The dispatch count must still be decreased.
+            }
+        }
+    }
+
+    private InputStream takeDatagramStream()
+    {
+        synchronized(_datagramStreams)
+        {
+            InputStream stream = _datagramStreams.pollFirst();
+            return stream != null ? stream : new InputStream(_instance, Protocol.currentProtocolEncoding);
+        }
+    }
+
+    private void releaseDatagramStream(InputStream stream)
+    {
+        synchronized(_datagramStreams)
+        {
+            if(_datagramStreams.size() < DatagramBatchMax)
+            {
+                _datagramStreams.addFirst(stream);
+            }
+        }
+    }
+
+    private void readHeader()
+    {
+        _readHeader = false;
+
+        if(_observer != null)
+        {
+            _observer.receivedBytes(Protocol.headerSize);
+        }
+
+        int pos = _readStream.pos();
+        if(pos < Protocol.headerSize)
+        {
+            //
+            // This situation is possible for small UDP packets.
+            //
+            throw new IllegalMessageSizeException();
+        }
+
+        _readStream.pos(0);
+        byte[] m = new byte[4];
+        m[0] = _readStream.readByte();
+        m[1] = _readStream.readByte();
+        m[2] = _readStream.readByte();
+        m[3] = _readStream.readByte();
+        if(m[0] != Protocol.magic[0] ||
+           m[1] != Protocol.magic[1] ||
+           m[2] != Protocol.magic[2] ||
+           m[3] != Protocol.magic[3])
+        {
+            BadMagicException ex = new BadMagicException();
+            ex.badMagic = m;
+            throw ex;
+        }
+
+        _readProtocol.ice_readMembers(_readStream);
+        Protocol.checkSupportedProtocol(_readProtocol);
+
+        _readProtocolEncoding.ice_readMembers(_readStream);
+        Protocol.checkSupportedProtocolEncoding(_readProtocolEncoding);
+
+        _readStream.readByte(); // messageType
+        _readStream.readByte(); // compress
+        int size = _readStream.readInt();
+        if(size < Protocol.headerSize)
+        {
+            throw new IllegalMessageSizeException();
+        }
+        if(size > _messageSizeMax)
+        {
+            com.zeroc.IceInternal.Ex.throwMemoryLimitException(size, _messageSizeMax);
+        }
+        if(size > _readStream.size())
+        {
+            _readStream.resize(size);
+        }
+        _readStream.pos(pos);
     }
 
     private int parseMessage(MessageInfo info)
@@ -2639,6 +2919,15 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
                     info.requestId = info.stream.readInt();
 
                     OutgoingAsyncBase outAsync = _asyncRequests.remove(info.requestId);
+                    if(_limiter != null)
+                    {
+                        Long time = _requestTimes.remove(info.requestId);
+                        if(time != null)
+                        {
+                            _limiter.release(System.nanoTime() - time);
+                            sendLimitedRequests();
+                        }
+                    }
                     if(outAsync != null && outAsync.completed(info.stream))
                     {
                         info.outAsync = outAsync;
@@ -2686,7 +2975,7 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
     }
 
     private void invokeAll(InputStream stream, int invokeNum, int requestId, byte compress,
-                           com.zeroc.IceInternal.ServantManager servantManager, ObjectAdapter adapter)
+                           com.zeroc.IceInternal.ServantManager servantManager, ObjectAdapter adapter, long readyTime)
     {
         //
         // Note: In contrast to other private or protected methods, this
@@ -2708,7 +2997,7 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
                 //
                 // Dispatch the invocation.
                 //
-                in.invoke(servantManager, stream);
+                in.invoke(servantManager, stream, readyTime);
 
                 --invokeNum;
 
@@ -2997,7 +3286,12 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
     private int read(Buffer buf)
     {
         int start = buf.b.position();
+        java.lang.Object event = FlightRecorder.connectionRead ? FlightRecorder.beginConnectionIO(true) : null;
         int op = _transceiver.read(buf);
+        if(event != null)
+        {
+            FlightRecorder.endConnectionIO(event, this, _endpoint.protocol(), buf.b.position() - start);
+        }
         if(_instance.traceLevels().network >= 3 && buf.b.position() != start)
         {
             StringBuffer s = new StringBuffer("received ");
@@ -3024,7 +3318,12 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
     private int write(Buffer buf)
     {
         int start = buf.b.position();
+        java.lang.Object event = FlightRecorder.connectionWrite ? FlightRecorder.beginConnectionIO(false) : null;
         int op = _transceiver.write(buf);
+        if(event != null)
+        {
+            FlightRecorder.endConnectionIO(event, this, _endpoint.protocol(), buf.b.position() - start);
+        }
         if(_instance.traceLevels().network >= 3 && buf.b.position() != start)
         {
             StringBuffer s = new StringBuffer("sent ");
@@ -3043,6 +3342,97 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
         return op;
     }
 
+    private void
+    requestDropped(int requestId)
+    {
+        if(_limiter != null && _requestTimes.remove(requestId) != null)
+        {
+            _limiter.drop();
+            sendLimitedRequests();
+        }
+    }
+
+    private void
+    sendLimitedRequests()
+    {
+        while(!_limitedRequests.isEmpty())
+        {
+            LimitedRequest request = _limitedRequests.peek();
+            if(_exception != null)
+            {
+                //
+                // The connection is closing, the requests that are still waiting
+                // are completed with the exception and eventually retried.
+                //
+                _limitedRequests.poll();
+                request.timeoutFuture.cancel(false);
+                if(request.outAsync.completed(_exception))
+                {
+                    request.outAsync.invokeCompletedAsync();
+                }
+                continue;
+            }
+            else if(!_limiter.tryAcquire())
+            {
+                break;
+            }
+
+            _limitedRequests.poll();
+            request.timeoutFuture.cancel(false);
+            try
+            {
+                int status = sendRequest(request.outAsync, request.compress, true, 0);
+                if((status & AsyncStatus.InvokeSentCallback) > 0)
+                {
+                    request.outAsync.invokeSentAsync();
+                }
+            }
+            catch(LocalException ex)
+            {
+                if(request.outAsync.completed(ex))
+                {
+                    request.outAsync.invokeCompletedAsync();
+                }
+            }
+        }
+        _limiter.queued(_limitedRequests.size());
+    }
+
+    synchronized private void
+    limitedRequestTimedOut(LimitedRequest request)
+    {
+        if(_state >= StateClosed)
+        {
+            return; // The request has already been or will be shortly notified of the failure.
+        }
+
+        if(_limitedRequests.remove(request))
+        {
+            _limiter.rejected();
+            _limiter.queued(_limitedRequests.size());
+            if(request.outAsync.completed(new ConcurrencyLimitException()))
+            {
+                request.outAsync.invokeCompletedAsync();
+            }
+        }
+    }
+
+    //
+    // A request waiting for the concurrency limiter.
+    //
+    private static class LimitedRequest
+    {
+        LimitedRequest(OutgoingAsyncBase outAsync, boolean compress)
+        {
+            this.outAsync = outAsync;
+            this.compress = compress;
+        }
+
+        final OutgoingAsyncBase outAsync;
+        final boolean compress;
+        java.util.concurrent.Future<?> timeoutFuture;
+    }
+
     private static class OutgoingMessage
     {
         OutgoingMessage(OutputStream stream, boolean compress, boolean adopt)
@@ -3140,6 +3530,14 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
 
     private java.util.Map<Integer, OutgoingAsyncBase> _asyncRequests = new java.util.HashMap<>();
 
+    //
+    // The concurrency limiter of outgoing connections, the requests waiting
+    // for the limiter and the time when the requests were sent.
+    //
+    private final com.zeroc.IceInternal.ConcurrencyLimiter _limiter;
+    private final java.util.ArrayDeque<LimitedRequest> _limitedRequests;
+    private final java.util.Map<Integer, Long> _requestTimes;
+
     private LocalException _exception;
 
     private final int _messageSizeMax;
@@ -3148,6 +3546,7 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
     private java.util.LinkedList<OutgoingMessage> _sendStreams = new java.util.LinkedList<>();
 
     private InputStream _readStream;
+    private final java.util.ArrayDeque<InputStream> _datagramStreams = new java.util.ArrayDeque<>();
     private boolean _readHeader;
     private OutputStream _writeStream;
 
@@ -0,0 +1,188 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package com.zeroc.Ice;
+
+//
+// An identity map from objects to positive integers used by the stream
+// encoders to assign IDs to class instances. The keys are compared with ==
+// and stored in an open-addressing table with linear probing, the values
+// are stored unboxed. The map is meant to be cleared and reused, clear()
+// releases the table if it grew large.
+//
+final class IdentityIntMap
+{
+    IdentityIntMap()
+    {
+        allocate(DefaultCapacity);
+    }
+
+    //
+    // Returns the value of the given key, or 0 if the key isn't in the map.
+    //
+    int
+    get(java.lang.Object key)
+    {
+        int i = index(key);
+        while(true)
+        {
+            java.lang.Object k = _keys[i];
+            if(k == key)
+            {
+                return _values[i];
+            }
+            else if(k == null)
+            {
+                return 0;
+            }
+            i = (i + 1) & _mask;
+        }
+    }
+
+    //
+    // Adds or replaces the value of the given key, the value must be positive.
+    //
+    void
+    put(java.lang.Object key, int value)
+    {
+        assert(key != null && value > 0);
+        int i = index(key);
+        while(true)
+        {
+            java.lang.Object k = _keys[i];
+            if(k == key)
+            {
+                _values[i] = value;
+                return;
+            }
+            else if(k == null)
+            {
+                _keys[i] = key;
+                _values[i] = value;
+                if(++_size * 2 > _keys.length)
+                {
+                    resize(_keys.length * 2);
+                }
+                return;
+            }
+            i = (i + 1) & _mask;
+        }
+    }
+
+    void
+    putAll(IdentityIntMap map)
+    {
+        for(int i = 0; i < map._keys.length; ++i)
+        {
+            if(map._keys[i] != null)
+            {
+                put(map._keys[i], map._values[i]);
+            }
+        }
+    }
+
+    int
+    size()
+    {
+        return _size;
+    }
+
+    boolean
+    isEmpty()
+    {
+        return _size == 0;
+    }
+
+    void
+    clear()
+    {
+        if(_size == 0)
+        {
+            return;
+        }
+
+        if(_keys.length > MaxRetainedCapacity)
+        {
+            allocate(DefaultCapacity);
+        }
+        else
+        {
+            java.util.Arrays.fill(_keys, null);
+        }
+        _size = 0;
+    }
+
+    //
+    // The slots of the table, used to iterate over the map. A slot is
+    // empty if its key is null.
+    //
+    int
+    capacity()
+    {
+        return _keys.length;
+    }
+
+    java.lang.Object
+    keyAt(int slot)
+    {
+        return _keys[slot];
+    }
+
+    int
+    valueAt(int slot)
+    {
+        return _values[slot];
+    }
+
+    private int
+    index(java.lang.Object key)
+    {
+        return (System.identityHashCode(key) * 0x9E3779B9) >>> _shift;
+    }
+
+    private void
+    allocate(int capacity)
+    {
+        _keys = new java.lang.Object[capacity];
+        _values = new int[capacity];
+        _mask = capacity - 1;
+        _shift = Integer.numberOfLeadingZeros(capacity) + 1;
+    }
+
+    private void
+    resize(int capacity)
+    {
+        java.lang.Object[] keys = _keys;
+        int[] values = _values;
+        allocate(capacity);
+        for(int i = 0; i < keys.length; ++i)
+        {
+            java.lang.Object key = keys[i];
+            if(key != null)
+            {
+                int j = index(key);
+                while(_keys[j] != null)
+                {
+                    j = (j + 1) & _mask;
+                }
+                _keys[j] = key;
+                _values[j] = values[i];
+            }
+        }
+    }
+
+    private static final int DefaultCapacity = 16;
+    private static final int MaxRetainedCapacity = 4096;
+
+    private java.lang.Object[] _keys;
+    private int[] _values;
+    private int _mask;
+    private int _shift;
+    private int _size;
+}
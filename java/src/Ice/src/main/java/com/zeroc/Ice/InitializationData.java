@@ -115,4 +115,13 @@ public final class InitializationData implements Cloneable
      * The value factory manager.
      **/
     public ValueFactoryManager valueFactoryManager;
+
+    /**
+     * The parent communicator. If set, the new communicator uses the client
+     * thread pool and the timer of the parent communicator instead of creating
+     * its own threads. These threads run with the configuration, dispatcher and
+     * thread hooks of the parent communicator, which must not be destroyed before
+     * the new communicator.
+     **/
+    public Communicator parent;
 }
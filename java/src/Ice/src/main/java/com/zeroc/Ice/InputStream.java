@@ -14,6 +14,7 @@ import java.io.IOException;
 import com.zeroc.IceInternal.Buffer;
 import com.zeroc.IceInternal.Instance;
 import com.zeroc.IceInternal.Protocol;
+import com.zeroc.IceInternal.TypeIdRegistry;
 
 /**
  * Interface for input streams used to extract Slice types from a sequence
@@ -2266,7 +2267,44 @@ public class InputStream
             _valueFactoryManager = f;
             _classResolver = cr;
             _typeIdIndex = 0;
-            _unmarshaledMap = new java.util.TreeMap<>();
+            _unmarshaled = new Value[16];
+        }
+
+        //
+        // Called when the encapsulation is reset, clears the unmarshaling state so
+        // that the decoder can be reused for another encapsulation.
+        //
+        void reset()
+        {
+            _stream = null;
+            _valueFactoryManager = null;
+            _classResolver = null;
+            if(_patchMap != null)
+            {
+                _patchMap.clear();
+            }
+            if(_unmarshaled.length > 4096)
+            {
+                _unmarshaled = new Value[16];
+            }
+            else
+            {
+                java.util.Arrays.fill(_unmarshaled, null);
+            }
+            _unmarshaledMap = null;
+            if(_typeIds != null)
+            {
+                java.util.Arrays.fill(_typeIds, null);
+            }
+            _typeIdIndex = 0;
+            if(_valueList != null)
+            {
+                _valueList.clear();
+            }
+            if(_typeIdCache != null)
+            {
+                _typeIdCache.clear();
+            }
         }
 
         abstract void readValue(java.util.function.Consumer<Value> cb);
@@ -2290,25 +2328,31 @@ public class InputStream
 
         protected String readTypeId(boolean isIndex)
         {
-            if(_typeIdMap == null) // Lazy initialization
+            if(_typeIds == null) // Lazy initialization
             {
-                _typeIdMap = new java.util.TreeMap<>();
+                _typeIds = new String[16];
             }
 
             if(isIndex)
             {
+                //
+                // The type IDs are indexed from 1 in the order they are read.
+                //
                 int index = _stream.readSize();
-                String typeId = _typeIdMap.get(index);
-                if(typeId == null)
+                if(index < 1 || index > _typeIdIndex)
                 {
                     throw new UnmarshalOutOfBoundsException();
                 }
-                return typeId;
+                return _typeIds[index - 1];
             }
             else
             {
                 String typeId = _stream.readString();
-                _typeIdMap.put(++_typeIdIndex, typeId);
+                if(_typeIdIndex == _typeIds.length)
+                {
+                    _typeIds = java.util.Arrays.copyOf(_typeIds, _typeIds.length * 2);
+                }
+                _typeIds[_typeIdIndex++] = typeId;
                 return typeId;
             }
         }
@@ -2374,23 +2418,30 @@ public class InputStream
             }
 
             //
-            // Last chance: try to instantiate the class dynamically.
+            // Last chance: try to instantiate the class dynamically. The classes
+            // resolved by the communicator are cached by its type ID registry.
             //
             if(v == null)
             {
-                Class<?> cls = resolveClass(typeId);
-
-                if(cls != null)
+                TypeIdRegistry.ValueConstructor c = null;
+                Instance instance = _stream.instance();
+                if(instance != null && _classResolver == instance)
                 {
-                    try
-                    {
-                        v = (Value)cls.getDeclaredConstructor().newInstance();
-                    }
-                    catch(java.lang.Exception ex)
+                    c = instance.typeIdRegistry().find(typeId);
+                }
+                else
+                {
+                    Class<?> cls = resolveClass(typeId);
+                    if(cls != null)
                     {
-                        throw new NoValueFactoryException("no value factory", typeId, ex);
+                        c = TypeIdRegistry.constructor(cls);
                     }
                 }
+
+                if(c != null)
+                {
+                    v = c.newInstance(typeId);
+                }
             }
 
             return v;
@@ -2404,7 +2455,7 @@ public class InputStream
             // Check if we have already unmarshalled the instance. If that's the case,
             // just invoke the callback and we're done.
             //
-            Value obj = _unmarshaledMap.get(index);
+            Value obj = getUnmarshaled(index);
             if(obj != null)
             {
                 cb.accept(obj);
@@ -2444,7 +2495,7 @@ public class InputStream
             // Add the instance to the map of unmarshaled instances, this must
             // be done before reading the instances (for circular references).
             //
-            _unmarshaledMap.put(index, v);
+            putUnmarshaled(index, v);
 
             //
             // Read the instance.
@@ -2477,7 +2528,7 @@ public class InputStream
                 }
             }
 
-            if((_patchMap == null || _patchMap.isEmpty()) && _valueList == null)
+            if((_patchMap == null || _patchMap.isEmpty()) && (_valueList == null || _valueList.isEmpty()))
             {
                 try
                 {
@@ -2523,8 +2574,43 @@ public class InputStream
             }
         }
 
-        protected final InputStream _stream;
-        protected final boolean _sliceValues;
+        private Value getUnmarshaled(int index)
+        {
+            if(index < _unmarshaled.length)
+            {
+                return _unmarshaled[index];
+            }
+            return _unmarshaledMap != null ? _unmarshaledMap.get(index) : null;
+        }
+
+        private void putUnmarshaled(int index, Value v)
+        {
+            //
+            // The instance IDs are allocated sequentially by the 1.1 decoder and by
+            // the sender with the 1.0 encoding. The array is only grown for IDs close
+            // to the IDs already used, the other IDs are kept in a map.
+            //
+            if(index >= _unmarshaled.length && index < _unmarshaled.length * 2)
+            {
+                _unmarshaled = java.util.Arrays.copyOf(_unmarshaled, _unmarshaled.length * 2);
+            }
+
+            if(index < _unmarshaled.length)
+            {
+                _unmarshaled[index] = v;
+            }
+            else
+            {
+                if(_unmarshaledMap == null) // Lazy initialization
+                {
+                    _unmarshaledMap = new java.util.HashMap<>();
+                }
+                _unmarshaledMap.put(index, v);
+            }
+        }
+
+        protected InputStream _stream;
+        protected boolean _sliceValues;
         protected ValueFactoryManager _valueFactoryManager;
         protected java.util.function.Function<String, Class<?>> _classResolver;
 
@@ -2532,8 +2618,9 @@ public class InputStream
         // Encapsulation attributes for value unmarshaling.
         //
         protected java.util.TreeMap<Integer, java.util.LinkedList<java.util.function.Consumer<Value>> > _patchMap;
-        private java.util.TreeMap<Integer, Value> _unmarshaledMap;
-        private java.util.TreeMap<Integer, String> _typeIdMap;
+        private Value[] _unmarshaled; // The unmarshaled instances indexed by ID.
+        private java.util.HashMap<Integer, Value> _unmarshaledMap; // The instances with an ID out of the array.
+        private String[] _typeIds;
         private int _typeIdIndex;
         private java.util.List<Value> _valueList;
         private java.util.HashMap<String, Class<?> > _typeIdCache;
@@ -2832,6 +2919,28 @@ public class InputStream
 
     private static class EncapsDecoder11 extends EncapsDecoder
     {
+        //
+        // Returns the decoder cached by the calling thread if there's one, the
+        // decoder is put back in the cache once the encapsulation is reset.
+        //
+        static EncapsDecoder11 create(InputStream stream, boolean sliceValues, ValueFactoryManager f,
+                                      java.util.function.Function<String, Class<?>> cr,
+                                      java.util.function.IntFunction<String> r)
+        {
+            EncapsDecoder11 decoder = _cache.get();
+            if(decoder == null)
+            {
+                return new EncapsDecoder11(stream, sliceValues, f, cr, r);
+            }
+            _cache.set(null);
+            decoder._stream = stream;
+            decoder._sliceValues = sliceValues;
+            decoder._valueFactoryManager = f;
+            decoder._classResolver = cr;
+            decoder._compactIdResolver = r;
+            return decoder;
+        }
+
         EncapsDecoder11(InputStream stream, boolean sliceValues, ValueFactoryManager f, java.util.function.Function<String, Class<?>> cr,
                         java.util.function.IntFunction<String> r)
         {
@@ -2841,6 +2950,33 @@ public class InputStream
             _valueIdIndex = 1;
         }
 
+        @Override
+        void reset()
+        {
+            super.reset();
+            for(InstanceData d = _root; d != null; d = d.next)
+            {
+                if(d.slices != null)
+                {
+                    d.slices.clear();
+                    d.indirectionTables.clear();
+                }
+                if(d.indirectPatchList != null)
+                {
+                    d.indirectPatchList.clear();
+                }
+                d.typeId = null;
+            }
+            if(_compactIdCache != null)
+            {
+                _compactIdCache.clear();
+            }
+            _compactIdResolver = null;
+            _current = null;
+            _valueIdIndex = 1;
+            _cache.set(this);
+        }
+
         @Override
         void readValue(java.util.function.Consumer<Value> cb)
         {
@@ -3257,19 +3393,11 @@ public class InputStream
                         //
                         // Check the cache to see if we've already translated the compact type ID into a class.
                         //
-                        Class<?> cls = _compactIdCache.get(_current.compactId);
-                        if(cls != null)
+                        TypeIdRegistry.ValueConstructor c = _compactIdCache.get(_current.compactId);
+                        if(c != null)
                         {
-                            try
-                            {
-                                v = (Value)cls.getDeclaredConstructor().newInstance();
-                                updateCache = false;
-                            }
-                            catch(java.lang.Exception ex)
-                            {
-                                throw new NoValueFactoryException("no value factory", "compact ID " +
-                                                                  _current.compactId, ex);
-                            }
+                            v = c.newInstance("compact ID " + _current.compactId);
+                            updateCache = false;
                         }
                     }
 
@@ -3299,7 +3427,8 @@ public class InputStream
 
                         if(_current.typeId.isEmpty())
                         {
-                            _current.typeId = _stream.instance().resolveCompactId(_current.compactId);
+                            _current.typeId = _stream.instance().typeIdRegistry().resolveCompactId(
+                                _current.compactId);
                         }
                     }
                 }
@@ -3314,7 +3443,7 @@ public class InputStream
                     if(updateCache)
                     {
                         assert(_current.compactId >= 0);
-                        _compactIdCache.put(_current.compactId, v.getClass());
+                        _compactIdCache.put(_current.compactId, TypeIdRegistry.constructor(v.getClass()));
                     }
 
                     //
@@ -3421,7 +3550,11 @@ public class InputStream
         {
             if(_current == null)
             {
-                _current = new InstanceData(null);
+                if(_root == null)
+                {
+                    _root = new InstanceData(null);
+                }
+                _current = _root;
             }
             else
             {
@@ -3467,16 +3600,24 @@ public class InputStream
         }
 
         private java.util.function.IntFunction<String> _compactIdResolver;
+        private InstanceData _root;
         private InstanceData _current;
         private int _valueIdIndex; // The ID of the next instance to unmarshal.
-        private java.util.TreeMap<Integer, Class<?> > _compactIdCache; // Cache of compact type IDs.
+        // Cache of compact type IDs.
+        private java.util.TreeMap<Integer, TypeIdRegistry.ValueConstructor> _compactIdCache;
+
+        private static final ThreadLocal<EncapsDecoder11> _cache = new ThreadLocal<>();
     }
 
     private static final class Encaps
     {
         void reset()
         {
-            decoder = null;
+            if(decoder != null)
+            {
+                decoder.reset();
+                decoder = null;
+            }
         }
 
         void setEncoding(EncodingVersion encoding)
@@ -3534,8 +3675,8 @@ public class InputStream
             }
             else
             {
-                _encapsStack.decoder = new EncapsDecoder11(this, _sliceValues, _valueFactoryManager, _classResolver,
-                                                           _compactIdResolver);
+                _encapsStack.decoder = EncapsDecoder11.create(this, _sliceValues, _valueFactoryManager, _classResolver,
+                                                              _compactIdResolver);
             }
         }
     }
@@ -0,0 +1,560 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package com.zeroc.Ice;
+
+//
+// Writes the messages of a file logger and its clones.
+//
+// In asynchronous mode, the logging threads only publish the formatted
+// message in a bounded multi-producer single-consumer ring buffer. A
+// single background thread drains the ring buffer, encodes the messages
+// in a reusable buffer and writes them to the file in batches. The file
+// is archived by the background thread when its size reaches the
+// configured maximum size. When the ring buffer is full, the logging
+// thread either waits for the writer to catch up (Block), discards the
+// message (Drop), or discards the message and counts it, the number of
+// discarded messages is logged once the writer catches up (Count).
+//
+// In synchronous mode, the messages are written by the logging thread.
+//
+// The writer is shared by the logger and its clones, it's destroyed once
+// all of them are destroyed. In asynchronous mode, a shutdown hook writes
+// the pending messages when the JVM exits.
+//
+final class LogFileWriter
+{
+    enum Overflow { Block, Drop, Count }
+
+    LogFileWriter(LoggerI logger, String file, Properties properties)
+    {
+        _logger = logger;
+        _file = file;
+
+        int sizeMax = 0;
+        int queueSize = 1024;
+        boolean async = true;
+        Overflow overflow = Overflow.Block;
+        String threadName = "Ice.LogFile";
+        if(properties != null)
+        {
+            sizeMax = properties.getPropertyAsIntWithDefault("Ice.LogFile.SizeMax", 0);
+            queueSize = properties.getPropertyAsIntWithDefault("Ice.LogFile.QueueSize", queueSize);
+            async = properties.getPropertyAsIntWithDefault("Ice.LogFile.Async", 1) > 0;
+            String s = properties.getPropertyWithDefault("Ice.LogFile.Overflow", "Block");
+            try
+            {
+                overflow = Overflow.valueOf(s);
+            }
+            catch(IllegalArgumentException ex)
+            {
+                throw new InitializationException("FileLogger: invalid value `" + s + "' for Ice.LogFile.Overflow");
+            }
+            String programName = properties.getProperty("Ice.ProgramName");
+            if(programName.length() > 0)
+            {
+                threadName = programName + "-" + threadName;
+            }
+        }
+        _sizeMax = sizeMax > 0 ? sizeMax : 0;
+        _overflow = overflow;
+
+        open();
+
+        if(async)
+        {
+            int capacity = 1;
+            while(capacity < queueSize && capacity < (1 << 20))
+            {
+                capacity <<= 1;
+            }
+            _ring = new java.util.concurrent.atomic.AtomicReferenceArray<>(capacity);
+            _mask = capacity - 1;
+            _thread = new Thread(this::run, threadName);
+            _thread.setDaemon(true);
+            _thread.start();
+
+            Thread shutdownHook = new Thread(this::drain, threadName + ".ShutdownHook");
+            try
+            {
+                Runtime.getRuntime().addShutdownHook(shutdownHook);
+            }
+            catch(IllegalStateException ex)
+            {
+                shutdownHook = null; // The JVM is already exiting.
+            }
+            _shutdownHook = shutdownHook;
+        }
+        else
+        {
+            _ring = null;
+            _mask = 0;
+            _thread = null;
+            _shutdownHook = null;
+        }
+        _useCount = 1;
+    }
+
+    //
+    // Called when a clone of the logger starts using this writer, returns
+    // false if the writer is already destroyed.
+    //
+    synchronized boolean
+    retain()
+    {
+        if(_useCount == 0)
+        {
+            return false;
+        }
+        ++_useCount;
+        return true;
+    }
+
+    void
+    write(String message)
+    {
+        if(_thread == null)
+        {
+            synchronized(this)
+            {
+                if(_channel != null)
+                {
+                    append(message);
+                    flush();
+                }
+            }
+            return;
+        }
+
+        if(offer(message))
+        {
+            return;
+        }
+
+        switch(_overflow)
+        {
+            case Block:
+            {
+                boolean interrupted = false;
+                synchronized(_blockedMutex)
+                {
+                    ++_blocked;
+                    try
+                    {
+                        while(!offer(message) && !_destroyed)
+                        {
+                            try
+                            {
+                                _blockedMutex.wait(100);
+                            }
+                            catch(InterruptedException ex)
+                            {
+                                interrupted = true;
+                            }
+                        }
+                    }
+                    finally
+                    {
+                        --_blocked;
+                    }
+                }
+                if(interrupted)
+                {
+                    Thread.currentThread().interrupt();
+                }
+                break;
+            }
+            case Drop:
+            {
+                break;
+            }
+            case Count:
+            {
+                _discarded.incrementAndGet();
+                break;
+            }
+        }
+    }
+
+    //
+    // Called when the logger or one of its clones is destroyed, the file is
+    // closed once the last one is destroyed. Otherwise, the messages logged
+    // so far are written before returning.
+    //
+    void
+    release()
+    {
+        int useCount;
+        synchronized(this)
+        {
+            assert(_useCount > 0);
+            useCount = --_useCount;
+        }
+        if(useCount > 0)
+        {
+            if(_thread != null)
+            {
+                drain();
+            }
+            return;
+        }
+
+        if(_shutdownHook != null)
+        {
+            try
+            {
+                Runtime.getRuntime().removeShutdownHook(_shutdownHook);
+            }
+            catch(IllegalStateException ex)
+            {
+                // The JVM is exiting.
+            }
+        }
+
+        if(_thread == null)
+        {
+            synchronized(this)
+            {
+                close();
+            }
+            return;
+        }
+
+        _destroyed = true;
+        java.util.concurrent.locks.LockSupport.unpark(_thread);
+        boolean interrupted = false;
+        while(true)
+        {
+            try
+            {
+                _thread.join();
+                break;
+            }
+            catch(InterruptedException ex)
+            {
+                interrupted = true;
+            }
+        }
+        if(interrupted)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean
+    offer(String message)
+    {
+        while(true)
+        {
+            if(_destroyed)
+            {
+                return true; // Messages logged after destruction are discarded.
+            }
+
+            long tail = _tail.get();
+            if(tail - _head > _mask)
+            {
+                return false; // Full
+            }
+            if(_tail.compareAndSet(tail, tail + 1))
+            {
+                _ring.set((int)(tail & _mask), message);
+                if(_waiting)
+                {
+                    java.util.concurrent.locks.LockSupport.unpark(_thread);
+                }
+                return true;
+            }
+        }
+    }
+
+    private void
+    run()
+    {
+        while(true)
+        {
+            long head = _head;
+            int count = 0;
+            while(head < _tail.get())
+            {
+                int index = (int)(head & _mask);
+                String message = _ring.get(index);
+                if(message == null)
+                {
+                    //
+                    // The slot was claimed but the message isn't published yet.
+                    //
+                    Thread.yield();
+                    continue;
+                }
+                _ring.set(index, null);
+                _head = ++head;
+                append(message);
+                if(++count == _mask + 1)
+                {
+                    break; // Don't starve the blocked loggers.
+                }
+            }
+
+            if(count > 0)
+            {
+                long discarded = _discarded.getAndSet(0);
+                if(discarded > 0)
+                {
+                    append(_logger.format(_logger.format("-! ", "warning: ", discarded +
+                                          " log messages were discarded, the log queue is full"), true));
+                }
+                flush();
+                _written = head;
+
+                if(_blocked > 0)
+                {
+                    synchronized(_blockedMutex)
+                    {
+                        _blockedMutex.notifyAll();
+                    }
+                }
+                continue;
+            }
+
+            if(_destroyed && _head == _tail.get())
+            {
+                flush();
+                close();
+                return;
+            }
+
+            _waiting = true;
+            if(_head == _tail.get() && !_destroyed)
+            {
+                java.util.concurrent.locks.LockSupport.park(this);
+            }
+            _waiting = false;
+        }
+    }
+
+    //
+    // Waits for the messages logged so far to be written. This is also called
+    // by the shutdown hook when the JVM exits, the writer thread is a daemon
+    // thread and wouldn't otherwise write the messages still queued.
+    //
+    private void
+    drain()
+    {
+        long tail = _tail.get();
+        long deadline = System.currentTimeMillis() + DrainTimeout;
+        synchronized(_blockedMutex)
+        {
+            ++_blocked;
+            try
+            {
+                while(_written < tail && _thread.isAlive())
+                {
+                    long delay = deadline - System.currentTimeMillis();
+                    if(delay <= 0)
+                    {
+                        break;
+                    }
+                    java.util.concurrent.locks.LockSupport.unpark(_thread);
+                    _blockedMutex.wait(Math.min(delay, 100));
+                }
+            }
+            catch(InterruptedException ex)
+            {
+            }
+            finally
+            {
+                --_blocked;
+            }
+        }
+    }
+
+    //
+    // Encodes the message into the buffer, the buffer is written to the file when full.
+    //
+    private void
+    append(String message)
+    {
+        if(_channel == null)
+        {
+            System.err.print(message);
+            return;
+        }
+
+        if(_sizeMax > 0 && _size + _buffer.position() > 0 &&
+           _size + _buffer.position() + message.length() >= _sizeMax &&
+           System.currentTimeMillis() >= _nextRetry)
+        {
+            flush();
+            rotate();
+        }
+
+        if(_channel == null)
+        {
+            System.err.print(message); // The log file couldn't be re-opened after archiving it.
+            return;
+        }
+
+        java.nio.CharBuffer chars = java.nio.CharBuffer.wrap(message);
+        _encoder.reset();
+        while(_encoder.encode(chars, _buffer, true).isOverflow())
+        {
+            flush();
+        }
+        while(_encoder.flush(_buffer).isOverflow())
+        {
+            flush();
+        }
+    }
+
+    private void
+    flush()
+    {
+        _buffer.flip();
+        try
+        {
+            while(_buffer.hasRemaining() && _channel != null)
+            {
+                _size += _channel.write(_buffer);
+            }
+        }
+        catch(java.io.IOException ex)
+        {
+        }
+        _buffer.clear();
+    }
+
+    private void
+    rotate()
+    {
+        String basename = _file;
+        String ext = "";
+        int i = basename.lastIndexOf('.');
+        if(i != -1 && i + 1 < basename.length() && basename.indexOf(java.io.File.separatorChar, i) == -1)
+        {
+            ext = basename.substring(i + 1);
+            basename = basename.substring(0, i);
+        }
+
+        close();
+
+        String date = new java.text.SimpleDateFormat("yyyyMMdd-HHmmss").format(new java.util.Date());
+        java.io.File archive;
+        int id = 0;
+        while(true)
+        {
+            StringBuilder s = new StringBuilder(basename);
+            s.append('-').append(date);
+            if(id > 0)
+            {
+                s.append('-').append(id);
+            }
+            if(!ext.isEmpty())
+            {
+                s.append('.').append(ext);
+            }
+            archive = new java.io.File(s.toString());
+            if(!archive.exists())
+            {
+                break;
+            }
+            ++id;
+        }
+
+        boolean renamed = new java.io.File(_file).renameTo(archive);
+
+        try
+        {
+            open();
+        }
+        catch(InitializationException ex)
+        {
+            System.err.println("FileLogger: cannot open `" + _file + "':\nlog messages will be sent to stderr");
+            return;
+        }
+
+        if(renamed)
+        {
+            _nextRetry = 0;
+        }
+        else
+        {
+            _nextRetry = System.currentTimeMillis() + 5 * 60 * 1000;
+            append(_logger.format(_logger.format("!! ", "error: ", "FileLogger: cannot rename `" + _file + "'"), true));
+        }
+    }
+
+    private void
+    open()
+    {
+        try
+        {
+            _channel = new java.io.FileOutputStream(new java.io.File(_file), true).getChannel();
+            _size = _channel.size();
+        }
+        catch(java.io.IOException ex)
+        {
+            _channel = null;
+            throw new InitializationException("FileLogger: cannot open " + _file);
+        }
+    }
+
+    private void
+    close()
+    {
+        if(_channel != null)
+        {
+            try
+            {
+                _channel.close();
+            }
+            catch(java.io.IOException ex)
+            {
+            }
+            _channel = null;
+        }
+    }
+
+    private static final int DrainTimeout = 10000; // Milliseconds
+
+    final private LoggerI _logger;
+    final private String _file;
+    final private int _sizeMax;
+    final private Overflow _overflow;
+
+    //
+    // The ring buffer, _tail is the number of claimed slots and _head the
+    // number of consumed slots, _head is only updated by the writer thread.
+    //
+    final private java.util.concurrent.atomic.AtomicReferenceArray<String> _ring;
+    final private int _mask;
+    final private java.util.concurrent.atomic.AtomicLong _tail = new java.util.concurrent.atomic.AtomicLong();
+    private volatile long _head;
+    private volatile long _written; // The number of consumed slots written to the file.
+
+    final private Thread _thread;
+    final private Thread _shutdownHook;
+    private int _useCount;
+    private volatile boolean _waiting;
+    private volatile boolean _destroyed;
+    final private java.lang.Object _blockedMutex = new java.lang.Object();
+    private volatile int _blocked;
+    final private java.util.concurrent.atomic.AtomicLong _discarded = new java.util.concurrent.atomic.AtomicLong();
+
+    //
+    // Only used by the writer thread, or with the writer locked in synchronous mode.
+    //
+    private java.nio.channels.FileChannel _channel;
+    private long _size;
+    private long _nextRetry;
+    final private java.nio.ByteBuffer _buffer = java.nio.ByteBuffer.allocate(64 * 1024);
+    final private java.nio.charset.CharsetEncoder _encoder = java.nio.charset.Charset.defaultCharset().newEncoder()
+        .onMalformedInput(java.nio.charset.CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(java.nio.charset.CodingErrorAction.REPLACE);
+}
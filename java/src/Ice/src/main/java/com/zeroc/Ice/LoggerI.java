@@ -13,6 +13,29 @@ public class LoggerI implements Logger
 {
     public
     LoggerI(String prefix, String file)
+    {
+        this(prefix, file, null);
+    }
+
+    //
+    // The Ice.LogFile.* properties configure the writer of the log file, the
+    // messages are written asynchronously unless Ice.LogFile.Async is set to 0.
+    //
+    public
+    LoggerI(String prefix, String file, Properties properties)
+    {
+        this(prefix);
+
+        if(file.length() != 0)
+        {
+            _file = file;
+            _properties = properties;
+            _writer = new LogFileWriter(this, file, properties);
+        }
+    }
+
+    private
+    LoggerI(String prefix)
     {
         _prefix = prefix;
 
@@ -24,19 +47,6 @@ public class LoggerI implements Logger
         _lineSeparator = System.getProperty("line.separator");
         _date = java.text.DateFormat.getDateInstance(java.text.DateFormat.SHORT);
         _time = new java.text.SimpleDateFormat(" HH:mm:ss:SSS");
-
-        if(file.length() != 0)
-        {
-            _file = file;
-            try
-            {
-                _out = new java.io.FileOutputStream(new java.io.File(_file), true);
-            }
-            catch(java.io.FileNotFoundException ex)
-            {
-                throw new InitializationException("FileLogger: cannot open " + _file);
-            }
-        }
     }
 
     @Override
@@ -72,40 +82,14 @@ public class LoggerI implements Logger
     public void
     warning(String message)
     {
-        StringBuilder s = new StringBuilder(256);
-        s.append("-! ");
-        synchronized(this)
-        {
-            s.append(_date.format(new java.util.Date()));
-            s.append(_time.format(new java.util.Date()));
-        }
-        s.append(' ');
-        s.append(_formattedPrefix);
-        s.append("warning: ");
-        s.append(Thread.currentThread().getName());
-        s.append(": ");
-        s.append(message);
-        write(s, true);
+        write(format("-! ", "warning: ", message), true);
     }
 
     @Override
     public void
     error(String message)
     {
-        StringBuilder s = new StringBuilder(256);
-        s.append("!! ");
-        synchronized(this)
-        {
-            s.append(_date.format(new java.util.Date()));
-            s.append(_time.format(new java.util.Date()));
-        }
-        s.append(' ');
-        s.append(_formattedPrefix);
-        s.append("error: ");
-        s.append(Thread.currentThread().getName());
-        s.append(": ");
-        s.append(message);
-        write(s, true);
+        write(format("!! ", "error: ", message), true);
     }
 
     @Override
@@ -119,11 +103,50 @@ public class LoggerI implements Logger
     public Logger
     cloneWithPrefix(String prefix)
     {
-        return new LoggerI(prefix, _file);
+        //
+        // The clone shares the writer of the log file, the file remains open
+        // until this logger and all its clones are destroyed. A new writer is
+        // created if the clone outlives them.
+        //
+        LoggerI logger = new LoggerI(prefix);
+        if(_writer != null)
+        {
+            logger._file = _file;
+            logger._properties = _properties;
+            if(_writer.retain())
+            {
+                logger._writer = _writer;
+            }
+            else
+            {
+                logger._writer = new LogFileWriter(logger, _file, _properties);
+            }
+        }
+        return logger;
     }
 
-    private void
-    write(StringBuilder message, boolean indent)
+    StringBuilder
+    format(String marker, String type, String message)
+    {
+        StringBuilder s = new StringBuilder(256);
+        s.append(marker);
+        synchronized(this)
+        {
+            java.util.Date date = new java.util.Date();
+            s.append(_date.format(date));
+            s.append(_time.format(date));
+        }
+        s.append(' ');
+        s.append(_formattedPrefix);
+        s.append(type);
+        s.append(Thread.currentThread().getName());
+        s.append(": ");
+        s.append(message);
+        return s;
+    }
+
+    String
+    format(StringBuilder message, boolean indent)
     {
         if(indent)
         {
@@ -135,36 +158,36 @@ public class LoggerI implements Logger
             }
         }
         message.append(_lineSeparator);
+        return message.toString();
+    }
 
-        if(_out == null)
+    private void
+    write(StringBuilder message, boolean indent)
+    {
+        if(_writer == null)
         {
-            System.err.print(message.toString());
+            System.err.print(format(message, indent));
         }
         else
         {
-            try
-            {
-                _out.write(message.toString().getBytes());
-            }
-            catch(java.io.IOException ex)
-            {
-            }
+            _writer.write(format(message, indent));
         }
     }
 
     public void
     destroy()
     {
-        if(_file.length() > 0)
+        LogFileWriter writer;
+        synchronized(this)
         {
-            try
-            {
-                _out.close();
-            }
-            catch(java.io.IOException ex)
+            writer = _writer;
+            if(writer == null || _destroyed)
             {
+                return;
             }
+            _destroyed = true;
         }
+        writer.release();
     }
 
     String _prefix = "";
@@ -173,5 +196,7 @@ public class LoggerI implements Logger
     String _lineSeparator;
     java.text.DateFormat _date;
     java.text.SimpleDateFormat _time;
-    java.io.FileOutputStream _out = null;
+    Properties _properties;
+    LogFileWriter _writer = null;
+    boolean _destroyed;
 }
@@ -41,6 +41,7 @@ public final class ObjectAdapterI implements ObjectAdapter
     {
         com.zeroc.IceInternal.LocatorInfo locatorInfo = null;
         boolean printAdapterReady = false;
+        String[] warmUp = null;
 
         synchronized(this)
         {
@@ -73,11 +74,22 @@ public final class ObjectAdapterI implements ObjectAdapter
             {
                 final Properties properties = _instance.initializationData().properties;
                 printAdapterReady = properties.getPropertyAsInt("Ice.PrintAdapterReady") > 0;
+                warmUp = properties.getPropertyAsList(_name + ".WarmUp");
             }
         }
 
         try
         {
+            //
+            // Establish the connections of the proxies listed in <adapter>.WarmUp
+            // before the adapter is registered with the locator and reported as
+            // ready.
+            //
+            if(warmUp != null && warmUp.length > 0)
+            {
+                warmUpConnections(warmUp);
+            }
+
             Identity dummy = new Identity();
             dummy.name = "dummy";
             updateLocatorRegistry(locatorInfo, createDirectProxy(dummy));
@@ -606,7 +618,13 @@ public final class ObjectAdapterI implements ObjectAdapter
         List<Endpoint> endpoints = new ArrayList<>();
         for(IncomingConnectionFactory factory : _incomingConnectionFactories)
         {
-            endpoints.add(factory.endpoint());
+            //
+            // With <adapter>.Acceptors, several factories have the same endpoint.
+            //
+            if(!endpoints.contains(factory.endpoint()))
+            {
+                endpoints.add(factory.endpoint());
+            }
         }
         return endpoints.toArray(new Endpoint[0]);
     }
@@ -873,6 +891,20 @@ public final class ObjectAdapterI implements ObjectAdapter
         return _messageSizeMax;
     }
 
+    public com.zeroc.IceInternal.AdmissionControl
+    getAdmissionControl()
+    {
+        // No mutex lock, immutable.
+        return _admissionControl;
+    }
+
+    public com.zeroc.IceInternal.DispatchLanes
+    getDispatchLanes()
+    {
+        // No mutex lock, immutable.
+        return _dispatchLanes;
+    }
+
     //
     // Only for use by com.zeroc.IceInternal.ObjectAdapterFactory
     //
@@ -896,6 +928,8 @@ public final class ObjectAdapterI implements ObjectAdapter
             _reference = _instance.referenceFactory().create("dummy -t", "");
             _acm = _instance.serverACM();
             _messageSizeMax = _instance.messageSizeMax();
+            _admissionControl = null;
+            _dispatchLanes = null;
             return;
         }
 
@@ -971,6 +1005,9 @@ public final class ObjectAdapterI implements ObjectAdapter
             }
         }
 
+        _admissionControl = com.zeroc.IceInternal.AdmissionControl.create(properties, _name);
+        _dispatchLanes = com.zeroc.IceInternal.DispatchLanes.create(properties, _name);
+
         try
         {
             int threadPoolSize = properties.getPropertyAsInt(_name + ".ThreadPool.Size");
@@ -1023,6 +1060,7 @@ public final class ObjectAdapterI implements ObjectAdapter
                 // factory might change it, for example, to fill in the real port number.
                 //
                 List<EndpointI> endpoints = parseEndpoints(properties.getProperty(_name + ".Endpoints"), true);
+                int acceptors = properties.getPropertyAsIntWithDefault(_name + ".Acceptors", 1);
                 for(EndpointI endp : endpoints)
                 {
                     EndpointI.ExpandHostResult result = endp.expandHost();
@@ -1034,6 +1072,28 @@ public final class ObjectAdapterI implements ObjectAdapter
                                                                                           result.publish,
                                                                                           this);
                         _incomingConnectionFactories.add(factory);
+
+                        //
+                        // With <adapter>.Acceptors, bind additional acceptors to the
+                        // endpoint with SO_REUSEPORT: the connections are spread over
+                        // the acceptors and accepted by different threads.
+                        //
+                        EndpointI acceptorEndpoint = factory.acceptorEndpoint();
+                        for(int i = 1; i < acceptors && acceptorEndpoint != null; ++i)
+                        {
+                            try
+                            {
+                                _incomingConnectionFactories.add(
+                                    new IncomingConnectionFactory(instance, acceptorEndpoint, result.publish, this));
+                            }
+                            catch(LocalException ex)
+                            {
+                                _instance.initializationData().logger.warning(
+                                    "object adapter `" + _name + "': couldn't bind additional acceptor to `" +
+                                    acceptorEndpoint + "', SO_REUSEPORT might not be supported:\n" + ex);
+                                break;
+                            }
+                        }
                     }
                 }
                 if(endpoints.isEmpty())
@@ -1457,14 +1517,57 @@ public final class ObjectAdapterI implements ObjectAdapter
         }
     }
 
+    private void
+    warmUpConnections(String[] properties)
+    {
+        ObjectPrx[] proxies = new ObjectPrx[properties.length];
+        for(int i = 0; i < properties.length; ++i)
+        {
+            proxies[i] = _communicator.propertyToProxy(properties[i]);
+            if(proxies[i] == null)
+            {
+                _instance.initializationData().logger.warning("object adapter `" + _name + "': property `" +
+                                                              properties[i] + "' is not set, no proxy to warm up");
+            }
+        }
+
+        try
+        {
+            new com.zeroc.IceInternal.ConnectionWarmUp(proxies).waitForResponse();
+        }
+        catch(CommunicatorDestroyedException ex)
+        {
+            throw ex;
+        }
+        catch(LocalException ex)
+        {
+            _instance.initializationData().logger.warning("object adapter `" + _name +
+                                                          "': couldn't warm up connections:\n" + ex);
+        }
+    }
+
     static private String[] _suffixes =
     {
         "ACM",
         "ACM.Timeout",
         "ACM.Heartbeat",
         "ACM.Close",
+        "Acceptors",
         "AdapterId",
+        "AdmissionControl.CoDelInterval",
+        "AdmissionControl.CoDelTarget",
+        "AdmissionControl.MaxQueued",
+        "AdmissionControl.MaxQueueWait",
         "Endpoints",
+        "Lanes.Context",
+        "Lanes.High.Categories",
+        "Lanes.High.Operations",
+        "Lanes.High.Weight",
+        "Lanes.Low.Categories",
+        "Lanes.Low.Operations",
+        "Lanes.Low.Weight",
+        "Lanes.Normal.Weight",
+        "Lanes.QueueSize",
         "Locator",
         "Locator.EncodingVersion",
         "Locator.EndpointSelection",
@@ -1495,7 +1598,8 @@ public final class ObjectAdapterI implements ObjectAdapter
         "ThreadPool.SizeMax",
         "ThreadPool.SizeWarn",
         "ThreadPool.StackSize",
-        "ThreadPool.Serialize"
+        "ThreadPool.Serialize",
+        "WarmUp"
     };
 
     boolean
@@ -1566,4 +1670,6 @@ public final class ObjectAdapterI implements ObjectAdapter
     private int _directCount; // The number of direct proxies dispatching on this object adapter.
     private boolean _noConfig;
     private final int _messageSizeMax;
+    private final com.zeroc.IceInternal.AdmissionControl _admissionControl;
+    private final com.zeroc.IceInternal.DispatchLanes _dispatchLanes;
 }
@@ -1811,7 +1811,23 @@ public class OutputStream
             _stream = stream;
             _encaps = encaps;
             _typeIdIndex = 0;
-            _marshaledMap = new java.util.IdentityHashMap<>();
+            _marshaledMap = new IdentityIntMap();
+        }
+
+        //
+        // Called when the encapsulation is reset, clears the marshaling state so
+        // that the encoder can be reused for another encapsulation.
+        //
+        void reset()
+        {
+            _stream = null;
+            _encaps = null;
+            _marshaledMap.clear();
+            if(_typeIdMap != null)
+            {
+                _typeIdMap.clear();
+            }
+            _typeIdIndex = 0;
         }
 
         abstract void writeValue(Value v);
@@ -1835,7 +1851,7 @@ public class OutputStream
         {
             if(_typeIdMap == null) // Lazy initialization
             {
-                _typeIdMap = new java.util.TreeMap<>();
+                _typeIdMap = new java.util.HashMap<>();
             }
 
             Integer p = _typeIdMap.get(typeId);
@@ -1850,12 +1866,12 @@ public class OutputStream
             }
         }
 
-        final protected OutputStream _stream;
-        final protected Encaps _encaps;
+        protected OutputStream _stream;
+        protected Encaps _encaps;
 
         // Encapsulation attributes for instance marshaling.
-        final protected java.util.IdentityHashMap<Value, Integer> _marshaledMap;
-        private java.util.TreeMap<String, Integer> _typeIdMap;
+        final protected IdentityIntMap _marshaledMap;
+        private java.util.HashMap<String, Integer> _typeIdMap;
         private int _typeIdIndex;
     }
 
@@ -1866,7 +1882,7 @@ public class OutputStream
             super(stream, encaps);
             _sliceType = SliceType.NoSlice;
             _valueIdIndex = 0;
-            _toBeMarshaledMap = new java.util.IdentityHashMap<>();
+            _toBeMarshaledMap = new IdentityIntMap();
         }
 
         @Override
@@ -1981,21 +1997,28 @@ public class OutputStream
                 //
                 _marshaledMap.putAll(_toBeMarshaledMap);
 
-                java.util.IdentityHashMap<Value, Integer> savedMap = _toBeMarshaledMap;
-                _toBeMarshaledMap = new java.util.IdentityHashMap<>();
+                IdentityIntMap savedMap = _toBeMarshaledMap;
+                _toBeMarshaledMap = _savedMap;
+                _savedMap = savedMap;
                 _stream.writeSize(savedMap.size());
-                for(java.util.Map.Entry<Value, Integer> p : savedMap.entrySet())
+                for(int i = 0; i < savedMap.capacity(); ++i)
                 {
+                    Value v = (Value)savedMap.keyAt(i);
+                    if(v == null)
+                    {
+                        continue;
+                    }
+
                     //
                     // Ask the instance to marshal itself. Any new class
                     // instances that are triggered by the classes marshaled
                     // are added to toBeMarshaledMap.
                     //
-                    _stream.writeInt(p.getValue().intValue());
+                    _stream.writeInt(savedMap.valueAt(i));
 
                     try
                     {
-                        p.getKey().ice_preMarshal();
+                        v.ice_preMarshal();
                     }
                     catch(java.lang.Exception ex)
                     {
@@ -2003,8 +2026,9 @@ public class OutputStream
                         _stream.instance().initializationData().logger.warning(s);
                     }
 
-                    p.getKey()._iceWrite(_stream);
+                    v._iceWrite(_stream);
                 }
+                savedMap.clear();
             }
             _stream.writeSize(0); // Zero marker indicates end of sequence of sequences of instances.
         }
@@ -2016,19 +2040,19 @@ public class OutputStream
             //
             // Look for this instance in the to-be-marshaled map.
             //
-            Integer p = _toBeMarshaledMap.get(v);
-            if(p != null)
+            int p = _toBeMarshaledMap.get(v);
+            if(p > 0)
             {
-                return p.intValue();
+                return p;
             }
 
             //
             // Didn't find it, try the marshaled map next.
             //
             p = _marshaledMap.get(v);
-            if(p != null)
+            if(p > 0)
             {
-                return p.intValue();
+                return p;
             }
 
             //
@@ -2047,11 +2071,29 @@ public class OutputStream
 
         // Encapsulation attributes for instance marshaling.
         private int _valueIdIndex;
-        private java.util.IdentityHashMap<Value, Integer> _toBeMarshaledMap;
+        private IdentityIntMap _toBeMarshaledMap;
+        private IdentityIntMap _savedMap = new IdentityIntMap(); // The instances being marshaled.
     }
 
     private static final class EncapsEncoder11 extends EncapsEncoder
     {
+        //
+        // Returns the encoder cached by the calling thread if there's one, the
+        // encoder is put back in the cache once the encapsulation is reset.
+        //
+        static EncapsEncoder11 create(OutputStream stream, Encaps encaps)
+        {
+            EncapsEncoder11 encoder = _cache.get();
+            if(encoder == null)
+            {
+                return new EncapsEncoder11(stream, encaps);
+            }
+            _cache.set(null);
+            encoder._stream = stream;
+            encoder._encaps = encaps;
+            return encoder;
+        }
+
         EncapsEncoder11(OutputStream stream, Encaps encaps)
         {
             super(stream, encaps);
@@ -2059,6 +2101,23 @@ public class OutputStream
             _valueIdIndex = 1;
         }
 
+        @Override
+        void reset()
+        {
+            super.reset();
+            for(InstanceData d = _root; d != null; d = d.next)
+            {
+                if(d.indirectionTable != null)
+                {
+                    d.indirectionTable.clear();
+                    d.indirectionMap.clear();
+                }
+            }
+            _current = null;
+            _valueIdIndex = 1;
+            _cache.set(this);
+        }
+
         @Override
         void writeValue(Value v)
         {
@@ -2071,7 +2130,7 @@ public class OutputStream
                 if(_current.indirectionTable == null) // Lazy initialization
                 {
                     _current.indirectionTable = new java.util.ArrayList<>();
-                    _current.indirectionMap = new java.util.IdentityHashMap<>();
+                    _current.indirectionMap = new IdentityIntMap();
                 }
 
                 //
@@ -2081,8 +2140,8 @@ public class OutputStream
                 // each slice and is always read (even if the Slice is
                 // unknown).
                 //
-                Integer index = _current.indirectionMap.get(v);
-                if(index == null)
+                int index = _current.indirectionMap.get(v);
+                if(index == 0)
                 {
                     _current.indirectionTable.add(v);
                     final int idx = _current.indirectionTable.size(); // Position + 1 (0 is reserved for nil)
@@ -2091,7 +2150,7 @@ public class OutputStream
                 }
                 else
                 {
-                    _stream.writeSize(index.intValue());
+                    _stream.writeSize(index);
                 }
             }
             else
@@ -2111,7 +2170,11 @@ public class OutputStream
         {
             if(_current == null)
             {
-                _current = new InstanceData(null);
+                if(_root == null)
+                {
+                    _root = new InstanceData(null);
+                }
+                _current = _root;
             }
             else
             {
@@ -2307,7 +2370,7 @@ public class OutputStream
                     if(_current.indirectionTable == null) // Lazy initialization
                     {
                         _current.indirectionTable = new java.util.ArrayList<>();
-                        _current.indirectionMap = new java.util.IdentityHashMap<>();
+                        _current.indirectionMap = new IdentityIntMap();
                     }
                     for(Value o : info.instances)
                     {
@@ -2326,8 +2389,8 @@ public class OutputStream
             //
             // If the instance was already marshaled, just write it's ID.
             //
-            Integer p = _marshaledMap.get(v);
-            if(p != null)
+            int p = _marshaledMap.get(v);
+            if(p > 0)
             {
                 _stream.writeSize(p);
                 return;
@@ -2374,22 +2437,29 @@ public class OutputStream
             int writeSlice;    // Position of the slice data members
             int sliceFlagsPos; // Position of the slice flags
             java.util.List<Value> indirectionTable;
-            java.util.IdentityHashMap<Value, Integer> indirectionMap;
+            IdentityIntMap indirectionMap;
 
             final InstanceData previous;
             InstanceData next;
         }
 
+        private InstanceData _root;
         private InstanceData _current;
 
         private int _valueIdIndex; // The ID of the next instance to marhsal
+
+        private static final ThreadLocal<EncapsEncoder11> _cache = new ThreadLocal<>();
     }
 
     private static final class Encaps
     {
         void reset()
         {
-            encoder = null;
+            if(encoder != null)
+            {
+                encoder.reset();
+                encoder = null;
+            }
         }
 
         void setEncoding(EncodingVersion encoding)
@@ -2453,7 +2523,7 @@ public class OutputStream
             }
             else
             {
-                _encapsStack.encoder = new EncapsEncoder11(this, _encapsStack);
+                _encapsStack.encoder = EncapsEncoder11.create(this, _encapsStack);
             }
         }
     }
@@ -11,6 +11,10 @@ package com.zeroc.Ice;
 
 public final class PropertiesI implements Properties
 {
+    //
+    // The property values are immutable except for the used flag, setting
+    // a property replaces its value.
+    //
     static class PropertyValue
     {
         public PropertyValue(PropertyValue v)
@@ -25,18 +29,27 @@ public final class PropertiesI implements Properties
             used = u;
         }
 
-        public String value;
-        public boolean used;
+        void
+        markUsed()
+        {
+            if(!used)
+            {
+                used = true;
+            }
+        }
+
+        public final String value;
+        public volatile boolean used;
     }
 
     @Override
-    public synchronized String
+    public String
     getProperty(String key)
     {
-        PropertyValue pv = _properties.get(key);
+        PropertyValue pv = snapshot().get(key);
         if(pv != null)
         {
-            pv.used = true;
+            pv.markUsed();
             return pv.value;
         }
         else
@@ -46,13 +59,13 @@ public final class PropertiesI implements Properties
     }
 
     @Override
-    public synchronized String
+    public String
     getPropertyWithDefault(String key, String value)
     {
-        PropertyValue pv = _properties.get(key);
+        PropertyValue pv = snapshot().get(key);
         if(pv != null)
         {
-            pv.used = true;
+            pv.markUsed();
             return pv.value;
         }
         else
@@ -69,13 +82,13 @@ public final class PropertiesI implements Properties
     }
 
     @Override
-    public synchronized int
+    public int
     getPropertyAsIntWithDefault(String key, int value)
     {
-        PropertyValue pv = _properties.get(key);
+        PropertyValue pv = snapshot().get(key);
         if(pv != null)
         {
-            pv.used = true;
+            pv.markUsed();
 
             try
             {
@@ -99,7 +112,7 @@ public final class PropertiesI implements Properties
     }
 
     @Override
-    public synchronized String[]
+    public String[]
     getPropertyAsListWithDefault(String key, String[] value)
     {
         if(value == null)
@@ -107,10 +120,10 @@ public final class PropertiesI implements Properties
             value = new String[0];
         }
 
-        PropertyValue pv = _properties.get(key);
+        PropertyValue pv = snapshot().get(key);
         if(pv != null)
         {
-            pv.used = true;
+            pv.markUsed();
 
             String[] result = com.zeroc.IceUtilInternal.StringUtil.splitString(pv.value, ", \t\r\n");
             if(result == null)
@@ -132,17 +145,17 @@ public final class PropertiesI implements Properties
     }
 
     @Override
-    public synchronized java.util.Map<String, String>
+    public java.util.Map<String, String>
     getPropertiesForPrefix(String prefix)
     {
         java.util.HashMap<String, String> result = new java.util.HashMap<>();
-        for(java.util.Map.Entry<String, PropertyValue> p : _properties.entrySet())
+        for(java.util.Map.Entry<String, PropertyValue> p : snapshot().entrySet())
         {
             String key = p.getKey();
             if(prefix.length() == 0 || key.startsWith(prefix))
             {
                 PropertyValue pv = p.getValue();
-                pv.used = true;
+                pv.markUsed();
                 result.put(key, pv.value);
             }
         }
@@ -173,61 +186,33 @@ public final class PropertiesI implements Properties
         int dotPos = key.indexOf('.');
         if(dotPos != -1)
         {
-            String prefix = key.substring(0, dotPos);
-            for(int i = 0; com.zeroc.IceInternal.PropertyNames.validProps[i] != null; ++i)
+            com.zeroc.IceInternal.PropertyNamesMatcher matcher =
+                com.zeroc.IceInternal.PropertyNamesMatcher.find(key.substring(0, dotPos));
+            if(matcher != null)
             {
-                String pattern = com.zeroc.IceInternal.PropertyNames.validProps[i][0].pattern();
-                dotPos = pattern.indexOf('.');
-                //
-                // Each top level prefix describes a non-empty namespace. Having a string without a
-                // prefix followed by a dot is an error.
-                //
-                assert(dotPos != -1);
-                String propPrefix = pattern.substring(0, dotPos - 1);
-                boolean mismatchCase = false;
-                String otherKey = "";
-                if(!propPrefix.toUpperCase().equals(prefix.toUpperCase()))
+                com.zeroc.IceInternal.Property property = matcher.match(key);
+                if(property != null)
                 {
-                    continue;
-                }
-
-                boolean found = false;
-                for(int j = 0; com.zeroc.IceInternal.PropertyNames.validProps[i][j] != null && !found; ++j)
-                {
-                    pattern = com.zeroc.IceInternal.PropertyNames.validProps[i][j].pattern();
-                    java.util.regex.Pattern pComp = java.util.regex.Pattern.compile(pattern);
-                    java.util.regex.Matcher m = pComp.matcher(key);
-                    found = m.matches();
-
-                    if(found && com.zeroc.IceInternal.PropertyNames.validProps[i][j].deprecated())
+                    if(property.deprecated())
                     {
                         logger.warning("deprecated property: " + key);
-                        if(com.zeroc.IceInternal.PropertyNames.validProps[i][j].deprecatedBy() != null)
-                        {
-                            key = com.zeroc.IceInternal.PropertyNames.validProps[i][j].deprecatedBy();
-                        }
-                    }
-
-                    if(!found)
-                    {
-                        pComp = java.util.regex.Pattern.compile(pattern.toUpperCase());
-                        m = pComp.matcher(key.toUpperCase());
-                        if(m.matches())
+                        if(property.deprecatedBy() != null)
                         {
-                            found = true;
-                            mismatchCase = true;
-                            otherKey = pattern.replaceAll("\\\\", "");
-                            break;
+                            key = property.deprecatedBy();
                         }
                     }
                 }
-                if(!found)
-                {
-                    logger.warning("unknown property: " + key);
-                }
-                else if(mismatchCase)
+                else
                 {
-                    logger.warning("unknown property: `" + key + "'; did you mean `" + otherKey + "'");
+                    String otherKey = matcher.matchIgnoreCase(key);
+                    if(otherKey == null)
+                    {
+                        logger.warning("unknown property: " + key);
+                    }
+                    else
+                    {
+                        logger.warning("unknown property: `" + key + "'; did you mean `" + otherKey + "'");
+                    }
                 }
             }
         }
@@ -240,30 +225,24 @@ public final class PropertiesI implements Properties
             if(value != null && value.length() > 0)
             {
                 PropertyValue pv = _properties.get(key);
-                if(pv != null)
-                {
-                    pv.value = value;
-                }
-                else
-                {
-                    pv = new PropertyValue(value, false);
-                }
-                _properties.put(key, pv);
+                _properties.put(key, new PropertyValue(value, pv != null && pv.used));
             }
             else
             {
                 _properties.remove(key);
             }
+            _snapshot = null;
         }
     }
 
     @Override
-    public synchronized String[]
+    public String[]
     getCommandLineOptions()
     {
-        String[] result = new String[_properties.size()];
+        java.util.Map<String, PropertyValue> properties = snapshot();
+        String[] result = new String[properties.size()];
         int i = 0;
-        for(java.util.Map.Entry<String, PropertyValue> p : _properties.entrySet())
+        for(java.util.Map.Entry<String, PropertyValue> p : properties.entrySet())
         {
             result[i++] = "--" + p.getKey() + "=" + p.getValue().value;
         }
@@ -454,11 +433,11 @@ public final class PropertiesI implements Properties
         return new PropertiesI(this);
     }
 
-    public synchronized java.util.List<String>
+    public java.util.List<String>
     getUnusedProperties()
     {
         java.util.List<String> unused = new java.util.ArrayList<>();
-        for(java.util.Map.Entry<String, PropertyValue> p : _properties.entrySet())
+        for(java.util.Map.Entry<String, PropertyValue> p : snapshot().entrySet())
         {
             PropertyValue pv = p.getValue();
             if(!pv.used)
@@ -765,9 +744,37 @@ public final class PropertiesI implements Properties
                 load(file.trim());
             }
 
-            _properties.put("Ice.Config", new PropertyValue(value, true));
+            synchronized(this)
+            {
+                _properties.put("Ice.Config", new PropertyValue(value, true));
+                _snapshot = null;
+            }
+        }
+    }
+
+    //
+    // Returns an immutable copy of the properties. The properties are read from this
+    // copy without locking, the copy is re-created on the first read after an update.
+    //
+    private java.util.Map<String, PropertyValue>
+    snapshot()
+    {
+        java.util.Map<String, PropertyValue> snapshot = _snapshot;
+        if(snapshot == null)
+        {
+            synchronized(this)
+            {
+                snapshot = _snapshot;
+                if(snapshot == null)
+                {
+                    snapshot = new java.util.HashMap<>(_properties);
+                    _snapshot = snapshot;
+                }
+            }
         }
+        return snapshot;
     }
 
-    private java.util.HashMap<String, PropertyValue> _properties = new java.util.HashMap<>();
+    private final java.util.HashMap<String, PropertyValue> _properties = new java.util.HashMap<>();
+    private volatile java.util.Map<String, PropertyValue> _snapshot;
 }
@@ -518,13 +518,17 @@ public class _ObjectPrxI implements ObjectPrx, java.io.Serializable
         // "at-most-once" (see the implementation of the checkRetryAfterException method
         //  of the ProxyFactory class for the reasons why it can be useful).
         //
+        // A ConcurrencyLimitException is raised for requests that weren't sent or that
+        // the server rejected before their dispatch, they can always be retried.
+        //
         // If the request didn't get sent or if it's non-mutating or idempotent it can
         // also always be retried if the retry count isn't reached.
         //
         if(ex instanceof LocalException && (!sent ||
                                             mode == OperationMode.Nonmutating || mode == OperationMode.Idempotent ||
                                             ex instanceof CloseConnectionException ||
-                                            ex instanceof ObjectNotExistException))
+                                            ex instanceof ObjectNotExistException ||
+                                            ex instanceof ConcurrencyLimitException))
         {
             try
             {
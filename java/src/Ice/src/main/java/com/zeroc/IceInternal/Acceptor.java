@@ -15,7 +15,7 @@ public interface Acceptor
     void setReadyCallback(ReadyCallback callback);
     void close();
     EndpointI listen();
-    Transceiver accept();
+    Transceiver accept(); // Returns null if no connection is pending.
     String protocol();
     @Override
     String toString();
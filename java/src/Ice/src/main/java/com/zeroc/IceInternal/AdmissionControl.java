@@ -0,0 +1,167 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package com.zeroc.IceInternal;
+
+//
+// The admission control of an object adapter, it rejects requests before
+// their parameters are unmarshaled when the adapter is overloaded.
+//
+// A request is rejected if:
+//
+// - the adapter already dispatches <adapter>.AdmissionControl.MaxQueued
+//   requests (including asynchronous dispatches not completed yet),
+//
+// - the request waited more than <adapter>.AdmissionControl.MaxQueueWait
+//   milliseconds to be dispatched since its connection was reported ready
+//   by the thread pool selector,
+//
+// - or with <adapter>.AdmissionControl.CoDelTarget, if the wait of the
+//   requests didn't drop below the target during the last
+//   <adapter>.AdmissionControl.CoDelInterval milliseconds (100 by default)
+//   and the request waited more than the target. Otherwise, requests are
+//   only rejected if they waited more than the interval. This lets bursts
+//   through but sheds the standing queue once the adapter can't keep up.
+//
+// The rejected requests receive an UnknownLocalException reply which is
+// built from a preallocated reason. The reason starts with RejectedPrefix,
+// the Slice type ID of ConcurrencyLimitException, which clients use to
+// raise a ConcurrencyLimitException instead: the request wasn't
+// dispatched and it can be retried. Clients that don't check the reason
+// get the UnknownLocalException.
+//
+public final class AdmissionControl
+{
+    public static AdmissionControl
+    create(com.zeroc.Ice.Properties properties, String name)
+    {
+        String prefix = name + ".AdmissionControl.";
+        int maxQueued = properties.getPropertyAsInt(prefix + "MaxQueued");
+        int maxQueueWait = properties.getPropertyAsInt(prefix + "MaxQueueWait");
+        int target = properties.getPropertyAsInt(prefix + "CoDelTarget");
+        if(maxQueued <= 0 && maxQueueWait <= 0 && target <= 0)
+        {
+            return null; // Admission control is disabled.
+        }
+        int interval = properties.getPropertyAsIntWithDefault(prefix + "CoDelInterval", 100);
+        return new AdmissionControl(name, maxQueued, maxQueueWait, target, Math.max(interval, target));
+    }
+
+    //
+    // Called before dispatching a request, readyTime is the System.nanoTime()
+    // at which the request was ready to be read or 0 if it's unknown. Returns
+    // false if the request must be rejected, otherwise finished() must be
+    // called once the dispatch completes.
+    //
+    public boolean
+    admit(long readyTime)
+    {
+        if(readyTime != 0 && (_maxQueueWait > 0 || _target > 0))
+        {
+            long now = System.nanoTime();
+            long wait = now - readyTime;
+            if(_maxQueueWait > 0 && wait > _maxQueueWait)
+            {
+                _queueWaitRejected.increment();
+                return false;
+            }
+            if(_target > 0 && wait > coDelMaxWait(now, wait))
+            {
+                _coDelRejected.increment();
+                return false;
+            }
+        }
+
+        int dispatching = _dispatching.incrementAndGet();
+        if(_maxQueued > 0 && dispatching > _maxQueued)
+        {
+            _dispatching.decrementAndGet();
+            _maxQueuedRejected.increment();
+            return false;
+        }
+        return true;
+    }
+
+    public void
+    finished()
+    {
+        _dispatching.decrementAndGet();
+    }
+
+    public String
+    rejectReason()
+    {
+        return _rejectReason;
+    }
+
+    void
+    writeMetrics(OpenMetricsWriter writer)
+    {
+        String labels = OpenMetricsWriter.label("adapter", _name);
+        writer.gauge("ice_admission_dispatching", labels, _dispatching.get());
+        writer.counter("ice_admission_rejected", labels + "," + OpenMetricsWriter.label("reason", "max-queued"),
+                       _maxQueuedRejected.sum());
+        writer.counter("ice_admission_rejected", labels + "," + OpenMetricsWriter.label("reason", "queue-wait"),
+                       _queueWaitRejected.sum());
+        writer.counter("ice_admission_rejected", labels + "," + OpenMetricsWriter.label("reason", "codel"),
+                       _coDelRejected.sum());
+    }
+
+    private AdmissionControl(String name, int maxQueued, int maxQueueWait, int target, int interval)
+    {
+        _name = name;
+        _maxQueued = maxQueued;
+        _maxQueueWait = maxQueueWait > 0 ? maxQueueWait * 1000000L : 0;
+        _target = target > 0 ? target * 1000000L : 0;
+        _interval = interval * 1000000L;
+        _rejectReason = RejectedPrefix + ": object adapter `" + name +
+                        "' is overloaded, request rejected by admission control";
+    }
+
+    //
+    // Returns the maximum wait of a request given the minimum wait of the
+    // requests during the last interval.
+    //
+    private synchronized long
+    coDelMaxWait(long now, long wait)
+    {
+        if(now - _intervalStart >= _interval)
+        {
+            _overloaded = _minWait > _target;
+            _minWait = wait;
+            _intervalStart = now;
+        }
+        else if(wait < _minWait)
+        {
+            _minWait = wait;
+        }
+        return _overloaded ? _target : _interval;
+    }
+
+    static final String RejectedPrefix = "::Ice::ConcurrencyLimitException";
+
+    final private String _name;
+    final private int _maxQueued;
+    final private long _maxQueueWait; // In nanoseconds.
+    final private long _target; // In nanoseconds.
+    final private long _interval; // In nanoseconds.
+    final private String _rejectReason;
+    final private java.util.concurrent.atomic.AtomicInteger _dispatching =
+        new java.util.concurrent.atomic.AtomicInteger();
+
+    private long _intervalStart = System.nanoTime();
+    private long _minWait;
+    private boolean _overloaded;
+
+    final private java.util.concurrent.atomic.LongAdder _maxQueuedRejected =
+        new java.util.concurrent.atomic.LongAdder();
+    final private java.util.concurrent.atomic.LongAdder _queueWaitRejected =
+        new java.util.concurrent.atomic.LongAdder();
+    final private java.util.concurrent.atomic.LongAdder _coDelRejected = new java.util.concurrent.atomic.LongAdder();
+}
@@ -0,0 +1,180 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package com.zeroc.IceInternal;
+
+//
+// The circuit breakers of the connectors of the outgoing connection
+// factory. The circuit of a connector opens after
+// Ice.CircuitBreaker.Failures consecutive failures to establish a
+// connection or losses of an established connection. While it's open,
+// the connector is skipped and connection establishments fail right away
+// with the exception of the last failure.
+//
+// After Ice.CircuitBreaker.OpenTime milliseconds (5000 by default), the
+// circuit is half-open: a single connection establishment probes the
+// connector, the circuit closes if it succeeds and opens again otherwise.
+//
+// The circuits are removed once their connector succeeds. The circuits
+// without a failure or a probe during the open time are also removed by
+// sweeps, when the number of circuits doubled or when the metrics are
+// written, so that connectors which are no longer used don't accumulate.
+//
+public final class CircuitBreaker implements OpenMetricsWriter.Source
+{
+    static CircuitBreaker
+    create(com.zeroc.Ice.Properties properties)
+    {
+        int failures = properties.getPropertyAsIntWithDefault("Ice.CircuitBreaker.Failures", 0);
+        if(failures <= 0)
+        {
+            return null; // Circuit breakers are disabled.
+        }
+        int openTime = properties.getPropertyAsIntWithDefault("Ice.CircuitBreaker.OpenTime", 5000);
+        return new CircuitBreaker(failures, Math.max(openTime, 1));
+    }
+
+    //
+    // Called before establishing a connection to the connector. Returns
+    // null if the connection can be established, otherwise the exception
+    // to fail with.
+    //
+    synchronized com.zeroc.Ice.LocalException
+    check(Connector connector)
+    {
+        Circuit circuit = _circuits.get(connector);
+        if(circuit == null || !circuit.open)
+        {
+            return null; // Closed
+        }
+
+        //
+        // Once the circuit is half-open, let a single probe through. The
+        // probe is let through again if it didn't complete within the open
+        // time.
+        //
+        long now = System.nanoTime();
+        if(now - circuit.openTime >= _openTime && (!circuit.probing || now - circuit.probeTime >= _openTime))
+        {
+            circuit.probing = true;
+            circuit.probeTime = now;
+            return null;
+        }
+
+        _rejected.increment();
+        return (com.zeroc.Ice.LocalException)circuit.exception.clone();
+    }
+
+    synchronized void
+    success(Connector connector)
+    {
+        _circuits.remove(connector);
+    }
+
+    public synchronized void
+    failure(Connector connector, com.zeroc.Ice.LocalException ex)
+    {
+        long now = System.nanoTime();
+        Circuit circuit = _circuits.get(connector);
+        if(circuit == null)
+        {
+            if(_circuits.size() >= _sweepSize)
+            {
+                sweep(now);
+                _sweepSize = Math.max(_circuits.size() * 2, 16);
+            }
+            circuit = new Circuit();
+            _circuits.put(connector, circuit);
+        }
+
+        circuit.exception = ex;
+        circuit.failureTime = now;
+        if(circuit.probing || ++circuit.failures >= _failures)
+        {
+            circuit.open = true;
+            circuit.openTime = now;
+            circuit.probing = false;
+        }
+    }
+
+    @Override
+    public void
+    writeMetrics(OpenMetricsWriter writer)
+    {
+        java.util.List<String> open = new java.util.ArrayList<>();
+        java.util.List<String> halfOpen = new java.util.ArrayList<>();
+        synchronized(this)
+        {
+            long now = System.nanoTime();
+            sweep(now);
+            for(java.util.Map.Entry<Connector, Circuit> p : _circuits.entrySet())
+            {
+                if(p.getValue().open)
+                {
+                    (now - p.getValue().openTime >= _openTime ? halfOpen : open).add(p.getKey().toString());
+                }
+            }
+        }
+
+        for(String connector : open)
+        {
+            writer.gauge("ice_circuit_breaker_open",
+                         OpenMetricsWriter.label("connector", connector) + "," +
+                         OpenMetricsWriter.label("state", "open"), 1);
+        }
+        for(String connector : halfOpen)
+        {
+            writer.gauge("ice_circuit_breaker_open",
+                         OpenMetricsWriter.label("connector", connector) + "," +
+                         OpenMetricsWriter.label("state", "half-open"), 1);
+        }
+        writer.counter("ice_circuit_breaker_rejected_connects", "", _rejected.sum());
+    }
+
+    private CircuitBreaker(int failures, int openTime)
+    {
+        _failures = failures;
+        _openTime = openTime * 1000000L;
+    }
+
+    //
+    // Removes the circuits whose last failure is older than the open time
+    // and which don't have a probe in progress.
+    //
+    private void
+    sweep(long now)
+    {
+        java.util.Iterator<Circuit> p = _circuits.values().iterator();
+        while(p.hasNext())
+        {
+            Circuit circuit = p.next();
+            if(now - circuit.failureTime >= _openTime && (!circuit.probing || now - circuit.probeTime >= _openTime))
+            {
+                p.remove();
+            }
+        }
+    }
+
+    private static class Circuit
+    {
+        int failures; // The number of consecutive failures.
+        long failureTime; // The System.nanoTime() of the last failure.
+        boolean open;
+        long openTime; // The System.nanoTime() at which the circuit opened.
+        boolean probing;
+        long probeTime; // The System.nanoTime() at which the half-open circuit let a probe through.
+        com.zeroc.Ice.LocalException exception; // The exception of the last failure.
+    }
+
+    final private int _failures;
+    final private long _openTime; // In nanoseconds.
+    final private java.util.Map<Connector, Circuit> _circuits = new java.util.HashMap<>();
+    private int _sweepSize = 16; // The number of circuits that triggers the next sweep.
+    final private java.util.concurrent.atomic.LongAdder _rejected = new java.util.concurrent.atomic.LongAdder();
+}
@@ -323,7 +323,7 @@ public class CollocatedRequestHandler implements RequestHandler, ResponseHandler
 
                 Incoming in = new Incoming(_reference.getInstance(), this, null, _adapter, _response, (byte)0,
                                            requestId);
-                in.invoke(servantManager, is);
+                in.invoke(servantManager, is, 0);
                 --invokeNum;
             }
         }
@@ -0,0 +1,234 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package com.zeroc.IceInternal;
+
+//
+// The adaptive concurrency limiter of an outgoing connection, it limits the
+// number of twoway requests waiting for a reply on the connection.
+//
+// The limit is adjusted with AIMD (additive increase, multiplicative
+// decrease) from the round-trip time of the requests: the limit decreases
+// by 10% when a reply takes longer than Ice.ConcurrencyLimit.Tolerance
+// percent of the minimum round-trip time or when a request is canceled,
+// at most once per round-trip. Otherwise the limit increases by one for
+// each limit's worth of replies if the requests use at least half of the
+// limit. The minimum round-trip time is measured again every 1000 replies
+// to adapt to the changes of the network or server.
+//
+// The limiter isn't thread-safe, it's used with the connection locked.
+//
+public final class ConcurrencyLimiter
+{
+    //
+    // Creates the limiters of the connections and writes their metrics.
+    //
+    public static final class Manager implements OpenMetricsWriter.Source
+    {
+        static Manager
+        create(com.zeroc.Ice.Properties properties)
+        {
+            int initial = properties.getPropertyAsIntWithDefault("Ice.ConcurrencyLimit.Initial", 0);
+            if(initial <= 0)
+            {
+                return null; // Concurrency limits are disabled.
+            }
+            return new Manager(properties, initial);
+        }
+
+        public ConcurrencyLimiter
+        create(String endpoint)
+        {
+            ConcurrencyLimiter limiter = new ConcurrencyLimiter(this, endpoint);
+            _limiters.add(limiter);
+            return limiter;
+        }
+
+        public int
+        queueTimeout()
+        {
+            return _queueTimeout;
+        }
+
+        @Override
+        public void
+        writeMetrics(OpenMetricsWriter writer)
+        {
+            //
+            // The limiters of the connections to the same endpoint are aggregated.
+            //
+            java.util.Map<String, long[]> endpoints = new java.util.TreeMap<>();
+            for(ConcurrencyLimiter limiter : _limiters)
+            {
+                long[] values = endpoints.get(limiter._endpoint);
+                if(values == null)
+                {
+                    values = new long[3];
+                    endpoints.put(limiter._endpoint, values);
+                }
+                values[0] += (long)limiter._limit;
+                values[1] += limiter._inFlight;
+                values[2] += limiter._queued;
+            }
+
+            for(java.util.Map.Entry<String, long[]> p : endpoints.entrySet())
+            {
+                String labels = OpenMetricsWriter.label("endpoint", p.getKey());
+                writer.gauge("ice_concurrency_limit", labels, p.getValue()[0]);
+                writer.gauge("ice_concurrency_in_flight", labels, p.getValue()[1]);
+                writer.gauge("ice_concurrency_queued", labels, p.getValue()[2]);
+            }
+            for(java.util.Map.Entry<String, java.util.concurrent.atomic.LongAdder> p : _rejected.entrySet())
+            {
+                writer.counter("ice_concurrency_rejected", OpenMetricsWriter.label("endpoint", p.getKey()),
+                               p.getValue().sum());
+            }
+        }
+
+        private Manager(com.zeroc.Ice.Properties properties, int initial)
+        {
+            _min = Math.max(properties.getPropertyAsIntWithDefault("Ice.ConcurrencyLimit.Min", 1), 1);
+            _max = Math.max(properties.getPropertyAsIntWithDefault("Ice.ConcurrencyLimit.Max", 1000), _min);
+            _initial = Math.min(Math.max(initial, _min), _max);
+            _tolerance = Math.max(properties.getPropertyAsIntWithDefault("Ice.ConcurrencyLimit.Tolerance", 200), 100);
+            _queueTimeout = Math.max(properties.getPropertyAsInt("Ice.ConcurrencyLimit.QueueTimeout"), 0);
+        }
+
+        private void
+        rejected(String endpoint)
+        {
+            java.util.concurrent.atomic.LongAdder rejected = _rejected.get(endpoint);
+            if(rejected == null)
+            {
+                _rejected.putIfAbsent(endpoint, new java.util.concurrent.atomic.LongAdder());
+                rejected = _rejected.get(endpoint);
+            }
+            rejected.increment();
+        }
+
+        final private int _initial;
+        final private int _min;
+        final private int _max;
+        final private int _tolerance;
+        final private int _queueTimeout;
+        final private java.util.Set<ConcurrencyLimiter> _limiters =
+            java.util.concurrent.ConcurrentHashMap.newKeySet();
+        final private java.util.concurrent.ConcurrentHashMap<String, java.util.concurrent.atomic.LongAdder> _rejected =
+            new java.util.concurrent.ConcurrentHashMap<>();
+    }
+
+    //
+    // Acquires a slot for a request, returns false if the limit is reached.
+    //
+    public boolean
+    tryAcquire()
+    {
+        if(_inFlight < (int)_limit)
+        {
+            ++_inFlight;
+            return true;
+        }
+        return false;
+    }
+
+    //
+    // Releases the slot of a request which received a reply after the given
+    // round-trip time in nanoseconds.
+    //
+    public void
+    release(long rtt)
+    {
+        long now = System.nanoTime();
+        int inFlight = _inFlight--;
+
+        if(_samples++ == MinRttSamples)
+        {
+            _samples = 0;
+            _minRtt = 0;
+        }
+        if(_minRtt == 0 || rtt < _minRtt)
+        {
+            _minRtt = rtt;
+        }
+
+        if(rtt * 100 > _minRtt * _manager._tolerance)
+        {
+            decrease(now, rtt);
+        }
+        else if(inFlight * 2 >= (int)_limit)
+        {
+            _limit = Math.min(_limit + 1.0 / _limit, _manager._max);
+        }
+    }
+
+    //
+    // Releases the slot of a request which didn't receive a reply.
+    //
+    public void
+    drop()
+    {
+        --_inFlight;
+        decrease(System.nanoTime(), _minRtt);
+    }
+
+    //
+    // Updates the number of requests waiting for a slot.
+    //
+    public void
+    queued(int queued)
+    {
+        _queued = queued;
+    }
+
+    public void
+    rejected()
+    {
+        _manager.rejected(_endpoint);
+    }
+
+    public void
+    destroy()
+    {
+        _manager._limiters.remove(this);
+    }
+
+    private ConcurrencyLimiter(Manager manager, String endpoint)
+    {
+        _manager = manager;
+        _endpoint = endpoint;
+        _limit = manager._initial;
+        _lastDecrease = System.nanoTime();
+    }
+
+    private void
+    decrease(long now, long rtt)
+    {
+        if(now - _lastDecrease >= rtt)
+        {
+            _lastDecrease = now;
+            _limit = Math.max(_limit * 0.9, _manager._min);
+        }
+    }
+
+    private static final int MinRttSamples = 1000;
+
+    final private Manager _manager;
+    final private String _endpoint;
+
+    //
+    // The limit, in-flight and queued requests are also read without the
+    // connection locked to write the metrics.
+    //
+    private volatile double _limit;
+    private volatile int _inFlight;
+    private volatile int _queued;
+    private long _minRtt;
+    private long _lastDecrease;
+    private int _samples;
+}
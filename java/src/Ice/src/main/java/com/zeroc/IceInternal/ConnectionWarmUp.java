@@ -0,0 +1,185 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package com.zeroc.IceInternal;
+
+//
+// Establishes the connections of proxies ahead of their first invocation.
+// Each proxy is resolved and connected as for an invocation, then the
+// connections to the other endpoints of the proxy are established as well
+// so that the invocations which select or retry another endpoint don't
+// wait for a connection establishment either.
+//
+// The future completes once all the connection establishments completed,
+// with the exception of the first proxy which couldn't be connected. The
+// failures to connect the other endpoints are ignored.
+//
+public final class ConnectionWarmUp extends java.util.concurrent.CompletableFuture<Void>
+{
+    public ConnectionWarmUp(com.zeroc.Ice.ObjectPrx[] proxies)
+    {
+        _useCount = 1;
+        for(com.zeroc.Ice.ObjectPrx proxy : proxies)
+        {
+            if(proxy != null)
+            {
+                warmUp(proxy);
+            }
+        }
+        done(null);
+    }
+
+    public void
+    waitForResponse()
+    {
+        if(Thread.interrupted())
+        {
+            throw new com.zeroc.Ice.OperationInterruptedException();
+        }
+
+        try
+        {
+            get();
+        }
+        catch(InterruptedException ex)
+        {
+            throw new com.zeroc.Ice.OperationInterruptedException();
+        }
+        catch(java.util.concurrent.ExecutionException ee)
+        {
+            try
+            {
+                throw ee.getCause().fillInStackTrace();
+            }
+            catch(RuntimeException ex) // Includes LocalException
+            {
+                throw ex;
+            }
+            catch(Throwable ex)
+            {
+                throw new com.zeroc.Ice.UnknownException(ex);
+            }
+        }
+    }
+
+    private void
+    warmUp(com.zeroc.Ice.ObjectPrx proxy)
+    {
+        synchronized(this)
+        {
+            ++_useCount;
+        }
+
+        proxy.ice_getConnectionAsync().whenComplete((connection, ex) ->
+            {
+                if(ex == null)
+                {
+                    connectEndpoints(proxy);
+                }
+                done(ex);
+            });
+    }
+
+    private void
+    connectEndpoints(com.zeroc.Ice.ObjectPrx proxy)
+    {
+        Reference ref = proxy._getReference();
+        if(ref.getRouterInfo() != null)
+        {
+            return; // The connections are established with the router.
+        }
+
+        if(!ref.isIndirect())
+        {
+            connectEndpoints(proxy, ref.getEndpoints());
+            return;
+        }
+
+        LocatorInfo locatorInfo = ref.getLocatorInfo();
+        if(locatorInfo == null)
+        {
+            return;
+        }
+
+        //
+        // The endpoints were resolved by the connection establishment, they
+        // are usually provided by the locator cache.
+        //
+        synchronized(this)
+        {
+            ++_useCount;
+        }
+        locatorInfo.getEndpoints(ref, ref.getLocatorCacheTimeout(), new LocatorInfo.GetEndpointsCallback()
+            {
+                @Override
+                public void
+                setEndpoints(EndpointI[] endpoints, boolean cached)
+                {
+                    connectEndpoints(proxy, endpoints);
+                    done(null);
+                }
+
+                @Override
+                public void
+                setException(com.zeroc.Ice.LocalException ex)
+                {
+                    done(null);
+                }
+            });
+    }
+
+    private void
+    connectEndpoints(com.zeroc.Ice.ObjectPrx proxy, EndpointI[] endpoints)
+    {
+        if(endpoints.length <= 1)
+        {
+            return; // The proxy connection is the connection to its endpoint.
+        }
+
+        for(EndpointI endpoint : endpoints)
+        {
+            synchronized(this)
+            {
+                ++_useCount;
+            }
+            proxy.ice_endpoints(new com.zeroc.Ice.Endpoint[] { endpoint }).ice_getConnectionAsync().whenComplete(
+                (connection, ex) -> done(null));
+        }
+    }
+
+    private void
+    done(Throwable ex)
+    {
+        synchronized(this)
+        {
+            if(ex != null && _exception == null)
+            {
+                _exception = ex;
+            }
+
+            assert(_useCount > 0);
+            if(--_useCount > 0)
+            {
+                return;
+            }
+        }
+
+        if(_exception != null)
+        {
+            completeExceptionally(_exception);
+        }
+        else
+        {
+            complete(null);
+        }
+    }
+
+    private int _useCount;
+    private Throwable _exception;
+}
@@ -0,0 +1,98 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package com.zeroc.IceInternal;
+
+//
+// Request deadlines. With Ice.Deadline.Propagate, the remaining time of an
+// invocation with an invocation timeout is sent with the request in the
+// _deadline context entry, in milliseconds.
+//
+// The server only reads the context entry with Ice.Deadline.Propagate, it
+// discards the requests whose deadline expired before they are dispatched.
+// Otherwise, the context entry is updated with the remaining time when the
+// dispatch starts and the deadline is inherited by the invocations made by
+// the dispatch thread: their invocation timeout is shortened to the
+// remaining time of the dispatch.
+//
+// Deadlines are System.nanoTime() values, 0 means no deadline.
+//
+public final class Deadline
+{
+    public static final String ContextKey = "_deadline";
+
+    //
+    // Returns the deadline of an invocation made by the calling thread.
+    //
+    static long
+    compute(Instance instance, int invocationTimeout)
+    {
+        long deadline = instance.propagateDeadlines() ? _dispatchDeadline.get()[0] : 0;
+        if(invocationTimeout > 0)
+        {
+            long d = System.nanoTime() + invocationTimeout * 1000000L;
+            if(deadline == 0 || d - deadline < 0)
+            {
+                deadline = d;
+            }
+        }
+        return deadline;
+    }
+
+    //
+    // Returns the remaining milliseconds before the deadline, at least 0.
+    //
+    static long
+    remaining(long deadline)
+    {
+        return Math.max((deadline - System.nanoTime()) / 1000000L, 0);
+    }
+
+    //
+    // Parses the deadline of a request from its context entry, time is the
+    // System.nanoTime() at which the request was received. Returns 0 if the
+    // context entry isn't valid. The remaining time can't exceed the largest
+    // invocation timeout, larger or negative values are invalid.
+    //
+    static long
+    parse(String value, long time)
+    {
+        long remaining;
+        try
+        {
+            remaining = Long.parseLong(value);
+        }
+        catch(NumberFormatException ex)
+        {
+            return 0;
+        }
+
+        if(remaining < 0 || remaining > Integer.MAX_VALUE)
+        {
+            return 0;
+        }
+        long deadline = time + remaining * 1000000L;
+        return deadline != 0 ? deadline : 1;
+    }
+
+    //
+    // Sets the deadline of the dispatch of the calling thread and returns
+    // the previous one, for nested collocated dispatches.
+    //
+    static long
+    setDispatchDeadline(long deadline)
+    {
+        long[] d = _dispatchDeadline.get();
+        long previous = d[0];
+        d[0] = deadline;
+        return previous;
+    }
+
+    private static final ThreadLocal<long[]> _dispatchDeadline = ThreadLocal.withInitial(() -> new long[1]);
+}
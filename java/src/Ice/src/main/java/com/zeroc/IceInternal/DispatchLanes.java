@@ -0,0 +1,309 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package com.zeroc.IceInternal;
+
+//
+// The priority dispatch lanes of an object adapter. Requests are assigned
+// to the high, normal or low lane with:
+//
+// - the <adapter>.Lanes.Context context entry of the request, if set to
+//   high, normal or low (the context is set by clients so this should
+//   only be used with trusted clients),
+//
+// - otherwise, the <adapter>.Lanes.High.Operations and
+//   <adapter>.Lanes.Low.Operations operation name lists,
+//
+// - otherwise, the <adapter>.Lanes.High.Categories and
+//   <adapter>.Lanes.Low.Categories identity category lists.
+//
+// The requests read by the thread pool are queued with their lane and
+// dispatched by up to SizeMax - 1 threads of the thread pool (at least
+// one), the remaining thread keeps reading requests. The lanes are
+// scheduled with a smooth weighted round-robin using the
+// <adapter>.Lanes.<lane>.Weight properties (4, 2 and 1 by default). Once
+// <adapter>.Lanes.QueueSize requests are queued (100 by default), the
+// thread which reads a request also dispatches queued requests.
+//
+// If the thread pool serializes the requests of a connection, the
+// connection isn't read again until its queued request is dispatched.
+//
+public final class DispatchLanes
+{
+    public static DispatchLanes
+    create(com.zeroc.Ice.Properties properties, String name)
+    {
+        String prefix = name + ".Lanes.";
+        String context = properties.getProperty(prefix + "Context");
+        java.util.Map<String, Integer> operations = new java.util.HashMap<>();
+        java.util.Map<String, Integer> categories = new java.util.HashMap<>();
+        for(int lane : new int[] { Low, High })
+        {
+            for(String operation : properties.getPropertyAsList(prefix + _names[lane] + ".Operations"))
+            {
+                operations.put(operation, lane);
+            }
+            for(String category : properties.getPropertyAsList(prefix + _names[lane] + ".Categories"))
+            {
+                categories.put(category, lane);
+            }
+        }
+        if(context.isEmpty() && operations.isEmpty() && categories.isEmpty())
+        {
+            return null; // Dispatch lanes are disabled.
+        }
+
+        int[] weights = new int[_names.length];
+        for(int lane = 0; lane < _names.length; ++lane)
+        {
+            weights[lane] = Math.max(properties.getPropertyAsIntWithDefault(prefix + _names[lane] + ".Weight",
+                                                                              _defaultWeights[lane]), 1);
+        }
+        int queueSize = Math.max(properties.getPropertyAsIntWithDefault(prefix + "QueueSize", 100), 1);
+        return new DispatchLanes(name, context.isEmpty() ? null : context, operations, categories, weights,
+                                 queueSize);
+    }
+
+    //
+    // Queues the dispatch of the request read from the given stream, which
+    // must be positioned at the start of the request header. The dispatch
+    // is run by this thread or by another thread of the thread pool.
+    //
+    public void
+    dispatch(ThreadPoolCurrent current, com.zeroc.Ice.InputStream stream, Runnable dispatch)
+    {
+        int lane = lane(stream);
+        dispatch = current.deferSerialize(dispatch);
+
+        boolean overflow = false;
+        synchronized(this)
+        {
+            _lanes[lane].addLast(dispatch);
+            ++_queued;
+            if(_runners < Math.max(current._threadPool.sizeMax() - 1, 1))
+            {
+                ++_runners;
+            }
+            else if(_queued <= _queueSize)
+            {
+                return; // The request is dispatched by a running thread.
+            }
+            else
+            {
+                overflow = true;
+            }
+        }
+
+        run(current._threadPool, overflow);
+    }
+
+    void
+    writeMetrics(OpenMetricsWriter writer)
+    {
+        int[] queued = new int[_lanes.length];
+        synchronized(this)
+        {
+            for(int lane = 0; lane < _lanes.length; ++lane)
+            {
+                queued[lane] = _lanes[lane].size();
+            }
+        }
+
+        String labels = OpenMetricsWriter.label("adapter", _name);
+        for(int lane = 0; lane < _lanes.length; ++lane)
+        {
+            writer.gauge("ice_lane_queued", labels + "," + OpenMetricsWriter.label("lane", _names[lane].toLowerCase()),
+                         queued[lane]);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private DispatchLanes(String name, String context, java.util.Map<String, Integer> operations,
+                          java.util.Map<String, Integer> categories, int[] weights, int queueSize)
+    {
+        _name = name;
+        _context = context;
+        _operations = operations;
+        _categories = categories;
+        _weights = weights;
+        _queueSize = queueSize;
+        _lanes = new java.util.ArrayDeque[_names.length];
+        for(int lane = 0; lane < _lanes.length; ++lane)
+        {
+            _lanes[lane] = new java.util.ArrayDeque<>();
+        }
+        _current = new int[_names.length];
+    }
+
+    //
+    // Runs the queued dispatches until the queue is empty or, for a thread
+    // dispatching because the queue overflowed, until the queue is back to
+    // its maximum size. If a dispatch raises, the remaining dispatches are
+    // handed over to another thread of the thread pool before the
+    // exception is propagated.
+    //
+    private void
+    run(ThreadPool threadPool, boolean overflow)
+    {
+        boolean done = false;
+        try
+        {
+            while(true)
+            {
+                Runnable dispatch;
+                synchronized(this)
+                {
+                    if(_queued == 0 || (overflow && _queued <= _queueSize))
+                    {
+                        if(!overflow)
+                        {
+                            --_runners;
+                        }
+                        done = true;
+                        return;
+                    }
+                    dispatch = next();
+                    --_queued;
+                }
+                dispatch.run();
+            }
+        }
+        finally
+        {
+            if(!done)
+            {
+                handOver(threadPool, overflow);
+            }
+        }
+    }
+
+    private void
+    handOver(ThreadPool threadPool, boolean overflow)
+    {
+        synchronized(this)
+        {
+            if(!overflow)
+            {
+                --_runners;
+            }
+            if(_queued == 0 || _runners > 0)
+            {
+                return; // The remaining dispatches are run by the running threads.
+            }
+            ++_runners;
+        }
+
+        try
+        {
+            threadPool.execute(() -> run(threadPool, false));
+        }
+        catch(com.zeroc.Ice.CommunicatorDestroyedException ex)
+        {
+            synchronized(this)
+            {
+                --_runners;
+            }
+        }
+    }
+
+    //
+    // Returns the lane of the request, the header is read without moving
+    // the stream position. Batch requests use the lane of their first
+    // request.
+    //
+    private int
+    lane(com.zeroc.Ice.InputStream stream)
+    {
+        int pos = stream.pos();
+        try
+        {
+            String category = com.zeroc.Ice.Identity.ice_read(stream).category;
+            stream.readStringSeq(); // Facet
+            String operation = stream.readString();
+            if(_context != null)
+            {
+                stream.readByte(); // Mode
+                int sz = stream.readSize();
+                while(sz-- > 0)
+                {
+                    String key = stream.readString();
+                    String value = stream.readString();
+                    if(key.equals(_context))
+                    {
+                        for(int lane = 0; lane < _names.length; ++lane)
+                        {
+                            if(_names[lane].equalsIgnoreCase(value))
+                            {
+                                return lane;
+                            }
+                        }
+                    }
+                }
+            }
+
+            Integer lane = _operations.get(operation);
+            if(lane == null)
+            {
+                lane = _categories.get(category);
+            }
+            return lane != null ? lane : Normal;
+        }
+        catch(com.zeroc.Ice.LocalException ex)
+        {
+            return Normal; // The dispatch reports the invalid request.
+        }
+        finally
+        {
+            stream.pos(pos);
+        }
+    }
+
+    //
+    // Returns the next dispatch to run with a smooth weighted round-robin
+    // over the non-empty lanes. Must be called with _queued > 0.
+    //
+    private Runnable
+    next()
+    {
+        int total = 0;
+        int best = -1;
+        for(int lane = 0; lane < _lanes.length; ++lane)
+        {
+            if(!_lanes[lane].isEmpty())
+            {
+                _current[lane] += _weights[lane];
+                total += _weights[lane];
+                if(best < 0 || _current[lane] > _current[best])
+                {
+                    best = lane;
+                }
+            }
+        }
+        assert(best >= 0);
+        _current[best] -= total;
+        return _lanes[best].removeFirst();
+    }
+
+    private static final int High = 0;
+    private static final int Normal = 1;
+    private static final int Low = 2;
+    private static final String[] _names = { "High", "Normal", "Low" };
+    private static final int[] _defaultWeights = { 4, 2, 1 };
+
+    final private String _name;
+    final private String _context;
+    final private java.util.Map<String, Integer> _operations;
+    final private java.util.Map<String, Integer> _categories;
+    final private int[] _weights;
+    final private int _queueSize;
+    final private java.util.ArrayDeque<Runnable>[] _lanes;
+    final private int[] _current;
+    private int _queued;
+    private int _runners;
+}
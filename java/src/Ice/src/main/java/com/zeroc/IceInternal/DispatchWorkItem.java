@@ -30,6 +30,11 @@ abstract public class DispatchWorkItem implements ThreadPoolWorkItem, Runnable
     final public void
     execute(ThreadPoolCurrent current)
     {
+        if(_queueTime != 0)
+        {
+            FlightRecorder.threadPoolWait(current._threadPool.prefix(), "dispatch", System.nanoTime() - _queueTime);
+            _queueTime = 0;
+        }
         current.ioCompleted(); // Promote a follower
         current.dispatchFromThisThread(this);
     }
@@ -41,4 +46,10 @@ abstract public class DispatchWorkItem implements ThreadPoolWorkItem, Runnable
     }
 
     private com.zeroc.Ice.Connection _connection;
+
+    //
+    // The time at which the work item was queued, only set while the
+    // thread pool wait flight recorder event is enabled.
+    //
+    long _queueTime;
 }
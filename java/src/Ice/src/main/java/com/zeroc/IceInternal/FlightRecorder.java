@@ -0,0 +1,116 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package com.zeroc.IceInternal;
+
+//
+// Emits the Java Flight Recorder events of the Ice runtime.
+//
+// The flags below are only set while a recording enables the matching
+// event, callers must check them before calling the begin/end methods
+// so that disabled events don't cost more than a volatile read. This
+// class doesn't depend on the jdk.jfr API, FlightRecorderEvents is only
+// loaded if the JVM provides it and it's excluded from the build when
+// the JDK doesn't provide it.
+//
+public final class FlightRecorder
+{
+    public static volatile boolean invocation;
+    public static volatile boolean dispatch;
+    public static volatile boolean connectionRead;
+    public static volatile boolean connectionWrite;
+    public static volatile boolean threadPoolWait;
+    public static volatile boolean retry;
+
+    public static Object
+    beginInvocation()
+    {
+        return _events.beginInvocation();
+    }
+
+    public static void
+    endInvocation(Object event, com.zeroc.Ice.ObjectPrx proxy, String operation, String outcome)
+    {
+        _events.endInvocation(event, proxy, operation, outcome);
+    }
+
+    public static Object
+    beginDispatch()
+    {
+        return _events.beginDispatch();
+    }
+
+    public static void
+    endDispatch(Object event, com.zeroc.Ice.Current current, String outcome)
+    {
+        _events.endDispatch(event, current, outcome);
+    }
+
+    public static Object
+    beginConnectionIO(boolean read)
+    {
+        return _events.beginConnectionIO(read);
+    }
+
+    public static void
+    endConnectionIO(Object event, com.zeroc.Ice.Connection connection, String transport, int bytes)
+    {
+        _events.endConnectionIO(event, connection, transport, bytes);
+    }
+
+    public static void
+    threadPoolWait(String threadPool, String queue, long queueTimeNanos)
+    {
+        _events.threadPoolWait(threadPool, queue, queueTimeNanos);
+    }
+
+    public static Object
+    beginRetry()
+    {
+        return _events.beginRetry();
+    }
+
+    public static void
+    endRetry(Object event, com.zeroc.Ice.ObjectPrx proxy, String operation, int interval)
+    {
+        _events.endRetry(event, proxy, operation, interval);
+    }
+
+    interface Events
+    {
+        Object beginInvocation();
+        void endInvocation(Object event, com.zeroc.Ice.ObjectPrx proxy, String operation, String outcome);
+        Object beginDispatch();
+        void endDispatch(Object event, com.zeroc.Ice.Current current, String outcome);
+        Object beginConnectionIO(boolean read);
+        void endConnectionIO(Object event, com.zeroc.Ice.Connection connection, String transport, int bytes);
+        void threadPoolWait(String threadPool, String queue, long queueTimeNanos);
+        Object beginRetry();
+        void endRetry(Object event, com.zeroc.Ice.ObjectPrx proxy, String operation, int interval);
+    }
+
+    private static Events _events;
+
+    static
+    {
+        try
+        {
+            Class.forName("jdk.jfr.FlightRecorder");
+            Class<?> c = Class.forName("com.zeroc.IceInternal.FlightRecorderEvents");
+            _events = (Events)c.getDeclaredConstructor().newInstance();
+        }
+        catch(ReflectiveOperationException ex)
+        {
+            // The JVM doesn't support the jdk.jfr API, all the events remain disabled.
+        }
+        catch(LinkageError ex)
+        {
+        }
+    }
+}
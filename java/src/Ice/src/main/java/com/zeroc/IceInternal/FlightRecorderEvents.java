@@ -0,0 +1,285 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package com.zeroc.IceInternal;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+//
+// The jdk.jfr events of the Ice runtime, only used through FlightRecorder.
+//
+final class FlightRecorderEvents implements FlightRecorder.Events
+{
+    @Name("com.zeroc.Ice.Invocation")
+    @Label("Invocation")
+    @Category({"Ice", "Client"})
+    @Description("A proxy invocation, from its marshaling to its completion, including retries")
+    static final class InvocationEvent extends jdk.jfr.Event
+    {
+        @Label("Proxy")
+        String proxy;
+
+        @Label("Operation")
+        String operation;
+
+        @Label("Outcome")
+        String outcome;
+    }
+
+    @Name("com.zeroc.Ice.Dispatch")
+    @Label("Dispatch")
+    @Category({"Ice", "Server"})
+    @Description("The dispatch of an incoming request to a servant")
+    static final class DispatchEvent extends jdk.jfr.Event
+    {
+        @Label("Adapter")
+        String adapter;
+
+        @Label("Identity")
+        String identity;
+
+        @Label("Facet")
+        String facet;
+
+        @Label("Operation")
+        String operation;
+
+        @Label("Outcome")
+        String outcome;
+    }
+
+    @Name("com.zeroc.Ice.ConnectionRead")
+    @Label("Connection Read")
+    @Category({"Ice", "Connection"})
+    @Description("A read from the transceiver of an Ice connection")
+    static final class ConnectionReadEvent extends jdk.jfr.Event
+    {
+        @Label("Connection")
+        String connection;
+
+        @Label("Transport")
+        String transport;
+
+        @Label("Bytes Read")
+        @DataAmount
+        int bytes;
+    }
+
+    @Name("com.zeroc.Ice.ConnectionWrite")
+    @Label("Connection Write")
+    @Category({"Ice", "Connection"})
+    @Description("A write to the transceiver of an Ice connection")
+    static final class ConnectionWriteEvent extends jdk.jfr.Event
+    {
+        @Label("Connection")
+        String connection;
+
+        @Label("Transport")
+        String transport;
+
+        @Label("Bytes Written")
+        @DataAmount
+        int bytes;
+    }
+
+    @Name("com.zeroc.Ice.ThreadPoolWait")
+    @Label("Thread Pool Wait")
+    @Category({"Ice", "Thread Pool"})
+    @Description("The time spent by a work item or a ready event handler waiting for a thread pool thread")
+    static final class ThreadPoolWaitEvent extends jdk.jfr.Event
+    {
+        @Label("Thread Pool")
+        String threadPool;
+
+        @Label("Queue")
+        String queue;
+
+        @Label("Queue Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long queueTime;
+    }
+
+    @Name("com.zeroc.Ice.Retry")
+    @Label("Retry")
+    @Category({"Ice", "Client"})
+    @Description("An invocation waiting in the retry queue before being retried")
+    static final class RetryEvent extends jdk.jfr.Event
+    {
+        @Label("Proxy")
+        String proxy;
+
+        @Label("Operation")
+        String operation;
+
+        @Label("Retry Interval")
+        @Timespan(Timespan.MILLISECONDS)
+        long interval;
+    }
+
+    public FlightRecorderEvents()
+    {
+        jdk.jfr.FlightRecorder.addListener(new jdk.jfr.FlightRecorderListener()
+            {
+                @Override
+                public void recorderInitialized(jdk.jfr.FlightRecorder recorder)
+                {
+                    update();
+                }
+
+                @Override
+                public void recordingStateChanged(jdk.jfr.Recording recording)
+                {
+                    update();
+                }
+            });
+    }
+
+    @Override
+    public Object
+    beginInvocation()
+    {
+        InvocationEvent event = new InvocationEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void
+    endInvocation(Object e, com.zeroc.Ice.ObjectPrx proxy, String operation, String outcome)
+    {
+        InvocationEvent event = (InvocationEvent)e;
+        event.end();
+        if(event.shouldCommit())
+        {
+            event.proxy = proxy.toString();
+            event.operation = operation;
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+
+    @Override
+    public Object
+    beginDispatch()
+    {
+        DispatchEvent event = new DispatchEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void
+    endDispatch(Object e, com.zeroc.Ice.Current current, String outcome)
+    {
+        DispatchEvent event = (DispatchEvent)e;
+        event.end();
+        if(event.shouldCommit())
+        {
+            event.adapter = current.adapter != null ? current.adapter.getName() : "";
+            event.identity = com.zeroc.Ice.Util.identityToString(current.id, com.zeroc.Ice.ToStringMode.Unicode);
+            event.facet = current.facet;
+            event.operation = current.operation;
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+
+    @Override
+    public Object
+    beginConnectionIO(boolean read)
+    {
+        jdk.jfr.Event event = read ? new ConnectionReadEvent() : new ConnectionWriteEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void
+    endConnectionIO(Object e, com.zeroc.Ice.Connection connection, String transport, int bytes)
+    {
+        if(e instanceof ConnectionReadEvent)
+        {
+            ConnectionReadEvent event = (ConnectionReadEvent)e;
+            event.end();
+            if(bytes > 0 && event.shouldCommit())
+            {
+                event.connection = connection.toString();
+                event.transport = transport;
+                event.bytes = bytes;
+                event.commit();
+            }
+        }
+        else
+        {
+            ConnectionWriteEvent event = (ConnectionWriteEvent)e;
+            event.end();
+            if(bytes > 0 && event.shouldCommit())
+            {
+                event.connection = connection.toString();
+                event.transport = transport;
+                event.bytes = bytes;
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public void
+    threadPoolWait(String threadPool, String queue, long queueTimeNanos)
+    {
+        ThreadPoolWaitEvent event = new ThreadPoolWaitEvent();
+        if(event.shouldCommit())
+        {
+            event.threadPool = threadPool;
+            event.queue = queue;
+            event.queueTime = queueTimeNanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public Object
+    beginRetry()
+    {
+        RetryEvent event = new RetryEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void
+    endRetry(Object e, com.zeroc.Ice.ObjectPrx proxy, String operation, int interval)
+    {
+        RetryEvent event = (RetryEvent)e;
+        event.end();
+        if(event.shouldCommit())
+        {
+            event.proxy = proxy.toString();
+            event.operation = operation;
+            event.interval = interval;
+            event.commit();
+        }
+    }
+
+    private static void
+    update()
+    {
+        FlightRecorder.invocation = jdk.jfr.EventType.getEventType(InvocationEvent.class).isEnabled();
+        FlightRecorder.dispatch = jdk.jfr.EventType.getEventType(DispatchEvent.class).isEnabled();
+        FlightRecorder.connectionRead = jdk.jfr.EventType.getEventType(ConnectionReadEvent.class).isEnabled();
+        FlightRecorder.connectionWrite = jdk.jfr.EventType.getEventType(ConnectionWriteEvent.class).isEnabled();
+        FlightRecorder.threadPoolWait = jdk.jfr.EventType.getEventType(ThreadPoolWaitEvent.class).isEnabled();
+        FlightRecorder.retry = jdk.jfr.EventType.getEventType(RetryEvent.class).isEnabled();
+    }
+}
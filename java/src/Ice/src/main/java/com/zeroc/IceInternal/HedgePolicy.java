@@ -0,0 +1,151 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package com.zeroc.IceInternal;
+
+//
+// The hedging policy of a communicator. A twoway invocation of an
+// idempotent operation on a proxy with several endpoints is hedged if
+// it didn't receive a reply after the hedge delay: the request is sent
+// again to another endpoint of the proxy, the first successful reply
+// completes the invocation and the other request is canceled.
+//
+// The delay is Ice.Hedge.Delay milliseconds or, with Ice.Hedge.Percentile,
+// the given percentile of the latency of the recent invocations once
+// enough latencies are known (Ice.Hedge.Delay is used until then, if
+// set).
+//
+// The hedged requests are limited to Ice.Hedge.MaxPercent percent of the
+// invocations (10 by default) with a token bucket: each invocation
+// deposits MaxPercent hundredths of a token and each hedged request
+// withdraws a token.
+//
+public final class HedgePolicy implements OpenMetricsWriter.Source
+{
+    static HedgePolicy
+    create(com.zeroc.Ice.Properties properties)
+    {
+        int delay = properties.getPropertyAsInt("Ice.Hedge.Delay");
+        int percentile = Math.min(properties.getPropertyAsInt("Ice.Hedge.Percentile"), 99);
+        if(delay <= 0 && percentile <= 0)
+        {
+            return null; // Hedging is disabled.
+        }
+        int percent = properties.getPropertyAsIntWithDefault("Ice.Hedge.MaxPercent", 10);
+        return new HedgePolicy(delay, percentile, Math.max(percent, 0));
+    }
+
+    //
+    // Called when an invocation which can be hedged is sent, returns the
+    // hedge delay in nanoseconds or 0 if the invocation isn't hedged.
+    //
+    long
+    delay()
+    {
+        while(true)
+        {
+            long tokens = _tokens.get();
+            if(tokens >= MaxTokens || _tokens.compareAndSet(tokens, Math.min(MaxTokens, tokens + _percent)))
+            {
+                break;
+            }
+        }
+        return _percentileDelay > 0 ? _percentileDelay : _delay;
+    }
+
+    //
+    // Withdraws a token for a hedged request, returns false if the
+    // request must not be hedged.
+    //
+    boolean
+    withdraw()
+    {
+        while(true)
+        {
+            long tokens = _tokens.get();
+            if(tokens < Token)
+            {
+                _suppressed.increment();
+                return false;
+            }
+            if(_tokens.compareAndSet(tokens, tokens - Token))
+            {
+                _hedged.increment();
+                return true;
+            }
+        }
+    }
+
+    //
+    // Called when an invocation which can be hedged completes with a
+    // reply, latency is in nanoseconds.
+    //
+    void
+    completed(long latency)
+    {
+        if(_percentile > 0)
+        {
+            synchronized(this)
+            {
+                _latencies[_next] = latency;
+                _next = (_next + 1) % _latencies.length;
+                _full |= _next == 0;
+                if(_full && _next % (_latencies.length / 4) == 0)
+                {
+                    long[] latencies = _latencies.clone();
+                    java.util.Arrays.sort(latencies);
+                    _percentileDelay = Math.max(latencies[latencies.length * _percentile / 100], 1);
+                }
+            }
+        }
+    }
+
+    //
+    // Called when the reply of a hedged request completes the invocation.
+    //
+    void
+    won()
+    {
+        _won.increment();
+    }
+
+    @Override
+    public void
+    writeMetrics(OpenMetricsWriter writer)
+    {
+        writer.gauge("ice_hedge_delay_milliseconds", "", (_percentileDelay > 0 ? _percentileDelay : _delay) / 1000000L);
+        writer.counter("ice_hedge_requests", "", _hedged.sum());
+        writer.counter("ice_hedge_won_requests", "", _won.sum());
+        writer.counter("ice_hedge_suppressed_requests", "", _suppressed.sum());
+    }
+
+    private HedgePolicy(int delay, int percentile, int percent)
+    {
+        _delay = delay * 1000000L;
+        _percentile = percentile;
+        _percent = percent;
+        _tokens = new java.util.concurrent.atomic.AtomicLong(MaxTokens);
+    }
+
+    private static final long Token = 100; // The tokens are counted in hundredths.
+    private static final long MaxTokens = 10 * Token;
+
+    final private long _delay; // In nanoseconds.
+    final private int _percentile;
+    final private long _percent;
+    final private java.util.concurrent.atomic.AtomicLong _tokens;
+    final private long[] _latencies = new long[128];
+    private int _next;
+    private boolean _full;
+    private volatile long _percentileDelay; // In nanoseconds, 0 until enough latencies are known.
+
+    final private java.util.concurrent.atomic.LongAdder _hedged = new java.util.concurrent.atomic.LongAdder();
+    final private java.util.concurrent.atomic.LongAdder _won = new java.util.concurrent.atomic.LongAdder();
+    final private java.util.concurrent.atomic.LongAdder _suppressed = new java.util.concurrent.atomic.LongAdder();
+}
@@ -105,7 +105,7 @@ final public class Incoming implements com.zeroc.Ice.Request
         return _current;
     }
 
-    public void invoke(ServantManager servantManager, InputStream stream)
+    public void invoke(ServantManager servantManager, InputStream stream, long readyTime)
     {
         _is = stream;
 
@@ -144,6 +144,46 @@ final public class Incoming implements com.zeroc.Ice.Request
             _current.ctx.put(first, second);
         }
 
+        //
+        // With Ice.Deadline.Propagate, discard the request if its deadline
+        // expired, otherwise update its context with the remaining time.
+        //
+        long deadline = 0;
+        String deadlineValue = _instance.propagateDeadlines() ? _current.ctx.get(Deadline.ContextKey) : null;
+        if(deadlineValue != null)
+        {
+            deadline = Deadline.parse(deadlineValue, readyTime != 0 ? readyTime : System.nanoTime());
+            if(deadline != 0)
+            {
+                long remaining = Deadline.remaining(deadline);
+                if(remaining == 0)
+                {
+                    reject("request deadline expired before dispatch");
+                    return;
+                }
+                _current.ctx.put(Deadline.ContextKey, Long.toString(remaining));
+            }
+        }
+
+        //
+        // Reject the request before unmarshaling its parameters if the
+        // object adapter is overloaded.
+        //
+        if(_current.adapter != null)
+        {
+            AdmissionControl admissionControl =
+                ((com.zeroc.Ice.ObjectAdapterI)_current.adapter).getAdmissionControl();
+            if(admissionControl != null)
+            {
+                if(!admissionControl.admit(readyTime))
+                {
+                    reject(admissionControl.rejectReason());
+                    return;
+                }
+                _admissionControl = admissionControl;
+            }
+        }
+
         CommunicatorObserver obsv = _instance.initializationData().observer;
         if(obsv != null)
         {
@@ -158,6 +198,12 @@ final public class Incoming implements com.zeroc.Ice.Request
             }
         }
 
+        if(FlightRecorder.dispatch)
+        {
+            _flightRecorderEvent = FlightRecorder.beginDispatch();
+            _flightRecorderOutcome = "ok";
+        }
+
         //
         // Don't put the code above into the try block below. Exceptions
         // in the code above are considered fatal, and must propagate to
@@ -221,6 +267,10 @@ final public class Incoming implements com.zeroc.Ice.Request
                 Thread.currentThread().setContextClassLoader(_servant.getClass().getClassLoader());
             }
 
+            //
+            // The invocations made by the dispatch thread inherit the deadline.
+            //
+            long previousDeadline = deadline != 0 ? Deadline.setDispatchDeadline(deadline) : 0;
             try
             {
                 CompletionStage<OutputStream> f = _servant._iceDispatch(this, _current);
@@ -250,6 +300,10 @@ final public class Incoming implements com.zeroc.Ice.Request
                 {
                     Thread.currentThread().setContextClassLoader(null);
                 }
+                if(deadline != 0)
+                {
+                    Deadline.setDispatchDeadline(previousDeadline);
+                }
             }
         }
         catch(Throwable ex)
@@ -351,6 +405,15 @@ final public class Incoming implements com.zeroc.Ice.Request
 
             assert(_responseHandler != null);
 
+            //
+            // Release the admission slot before sending the response, the
+            // client may send its next request as soon as it receives it.
+            //
+            if(_admissionControl != null)
+            {
+                admissionFinished();
+            }
+
             if(exc != null)
             {
                 handleException(exc, amd);
@@ -379,6 +442,14 @@ final public class Incoming implements com.zeroc.Ice.Request
                 _observer.detach();
                 _observer = null;
             }
+            if(_flightRecorderEvent != null)
+            {
+                endFlightRecorderEvent();
+            }
+            if(_admissionControl != null)
+            {
+                admissionFinished();
+            }
             _responseHandler = null;
         }
     }
@@ -501,6 +572,10 @@ final public class Incoming implements com.zeroc.Ice.Request
         {
             _observer.userException();
         }
+        if(!ok && _flightRecorderEvent != null)
+        {
+            _flightRecorderOutcome = "user exception";
+        }
 
         if(_response)
         {
@@ -564,6 +639,24 @@ final public class Incoming implements com.zeroc.Ice.Request
     {
         assert(_responseHandler != null);
 
+        if(_admissionControl != null)
+        {
+            admissionFinished();
+        }
+
+        if(_flightRecorderEvent != null)
+        {
+            if(exc instanceof com.zeroc.Ice.UserException)
+            {
+                _flightRecorderOutcome = "user exception";
+            }
+            else
+            {
+                _flightRecorderOutcome = exc instanceof com.zeroc.Ice.Exception ?
+                    ((com.zeroc.Ice.Exception)exc).ice_id() : exc.getClass().getName();
+            }
+        }
+
         try
         {
             throw exc;
@@ -861,6 +954,10 @@ final public class Incoming implements com.zeroc.Ice.Request
                 _observer.detach();
                 _observer = null;
             }
+            if(_flightRecorderEvent != null)
+            {
+                endFlightRecorderEvent();
+            }
             _responseHandler = null;
 
             if(!amd && ex instanceof java.lang.Error)
@@ -874,6 +971,48 @@ final public class Incoming implements com.zeroc.Ice.Request
             _observer.detach();
             _observer = null;
         }
+        if(_flightRecorderEvent != null)
+        {
+            endFlightRecorderEvent();
+        }
+        _responseHandler = null;
+    }
+
+    private void endFlightRecorderEvent()
+    {
+        FlightRecorder.endDispatch(_flightRecorderEvent, _current, _flightRecorderOutcome);
+        _flightRecorderEvent = null;
+        _flightRecorderOutcome = null;
+    }
+
+    private void admissionFinished()
+    {
+        _admissionControl.finished();
+        _admissionControl = null;
+    }
+
+    //
+    // Sends the reply of a request rejected before its dispatch, by the
+    // admission control of the object adapter or because its deadline
+    // expired. The reply is built directly from the reason, it doesn't
+    // involve the observers or the creation of an exception.
+    //
+    private void reject(String reason)
+    {
+        skipReadParams(); // Required for batch requests.
+        if(_response)
+        {
+            _os = new OutputStream(_instance, Protocol.currentProtocolEncoding);
+            _os.writeBlob(Protocol.replyHdr);
+            _os.writeInt(_current.requestId);
+            _os.writeByte(ReplyStatus.replyUnknownLocalException);
+            _os.writeString(reason);
+            _responseHandler.sendResponse(_current.requestId, _os, _compress, false);
+        }
+        else
+        {
+            _responseHandler.sendNoResponse();
+        }
         _responseHandler = null;
     }
 
@@ -883,6 +1022,9 @@ final public class Incoming implements com.zeroc.Ice.Request
     private ServantLocator _locator;
     private java.lang.Object _cookie;
     private DispatchObserver _observer;
+    private Object _flightRecorderEvent;
+    private String _flightRecorderOutcome;
+    private AdmissionControl _admissionControl;
     private ResponseHandler _responseHandler;
 
     private boolean _response;
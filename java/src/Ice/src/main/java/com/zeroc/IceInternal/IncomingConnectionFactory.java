@@ -196,6 +196,16 @@ public final class IncomingConnectionFactory extends EventHandler implements Con
         }
     }
 
+    //
+    // Returns the endpoint the acceptor is bound to, or null if the factory
+    // doesn't have an acceptor.
+    //
+    public synchronized EndpointI
+    acceptorEndpoint()
+    {
+        return _transceiver == null ? _endpoint : null;
+    }
+
     public synchronized java.util.LinkedList<ConnectionI>
     connections()
     {
@@ -239,124 +249,146 @@ public final class IncomingConnectionFactory extends EventHandler implements Con
     public void
     message(ThreadPoolCurrent current)
     {
-        ConnectionI connection = null;
-        synchronized(this)
+        java.util.List<ConnectionI> connections = new java.util.ArrayList<>();
+        try
         {
-            if(_state >= StateClosed)
-            {
-                return;
-            }
-            else if(_state == StateHolding)
+            synchronized(this)
             {
-                Thread.yield();
-                return;
-            }
-
-            //
-            // Reap closed connections.
-            //
-            java.util.List<ConnectionI> cons = _monitor.swapReapedConnections();
-            if(cons != null)
-            {
-                for(ConnectionI c : cons)
+                if(_state >= StateClosed)
                 {
-                    _connections.remove(c);
+                    return;
+                }
+                else if(_state == StateHolding)
+                {
+                    Thread.yield();
+                    return;
                 }
-            }
-
-            if(!_acceptorStarted)
-            {
-                return;
-            }
 
-            //
-            // Now accept a new connection.
-            //
-            Transceiver transceiver = null;
-            try
-            {
-                transceiver = _acceptor.accept();
+                //
+                // Reap closed connections.
+                //
+                java.util.List<ConnectionI> cons = _monitor.swapReapedConnections();
+                if(cons != null)
+                {
+                    for(ConnectionI c : cons)
+                    {
+                        _connections.remove(c);
+                    }
+                }
 
-                if(_instance.traceLevels().network >= 2)
+                if(!_acceptorStarted)
                 {
-                    StringBuffer s = new StringBuffer("trying to accept ");
-                    s.append(_endpoint.protocol());
-                    s.append(" connection\n");
-                    s.append(transceiver.toString());
-                    _instance.initializationData().logger.trace(_instance.traceLevels().networkCat, s.toString());
+                    return;
                 }
-            }
-            catch(com.zeroc.Ice.SocketException ex)
-            {
-                if(Network.noMoreFds(ex.getCause()))
+
+                //
+                // Now accept the pending connections, up to AcceptMax connections
+                // to not hold this thread too long if connections keep coming.
+                //
+                while(connections.size() < AcceptMax)
                 {
+                    Transceiver transceiver = null;
                     try
                     {
-                        String s = "can't accept more connections:\n" + ex.getCause().getMessage();
-                        s += '\n' + _acceptor.toString();
-                        try
+                        transceiver = _acceptor.accept();
+                        if(transceiver == null)
                         {
-                            _instance.initializationData().logger.error(s);
+                            break; // No more pending connections.
                         }
-                        catch(Throwable ex1)
+
+                        if(_instance.traceLevels().network >= 2)
                         {
-                            System.out.println(s);
+                            StringBuffer s = new StringBuffer("trying to accept ");
+                            s.append(_endpoint.protocol());
+                            s.append(" connection\n");
+                            s.append(transceiver.toString());
+                            _instance.initializationData().logger.trace(_instance.traceLevels().networkCat,
+                                                                        s.toString());
                         }
                     }
-                    catch(Throwable ex2)
+                    catch(com.zeroc.Ice.SocketException ex)
                     {
-                        // Ignore, could be a class loading error.
-                    }
+                        if(Network.noMoreFds(ex.getCause()))
+                        {
+                            try
+                            {
+                                String s = "can't accept more connections:\n" + ex.getCause().getMessage();
+                                s += '\n' + _acceptor.toString();
+                                try
+                                {
+                                    _instance.initializationData().logger.error(s);
+                                }
+                                catch(Throwable ex1)
+                                {
+                                    System.out.println(s);
+                                }
+                            }
+                            catch(Throwable ex2)
+                            {
+                                // Ignore, could be a class loading error.
+                            }
+
+                            if(_adapter.getThreadPool().finish(this, true))
+                            {
+                                closeAcceptor();
+                            }
+                        }
 
-                    if(_adapter.getThreadPool().finish(this, true))
+                        // Ignore socket exceptions.
+                        break;
+                    }
+                    catch(com.zeroc.Ice.LocalException ex)
                     {
-                        closeAcceptor();
+                        // Warn about other Ice local exceptions.
+                        if(_warn)
+                        {
+                            warning(ex);
+                        }
+                        break;
                     }
-                }
 
-                // Ignore socket exceptions.
-                return;
-            }
-            catch(com.zeroc.Ice.LocalException ex)
-            {
-                // Warn about other Ice local exceptions.
-                if(_warn)
-                {
-                    warning(ex);
-                }
-                return;
-            }
+                    ConnectionI connection;
+                    try
+                    {
+                        connection = new ConnectionI(_adapter.getCommunicator(), _instance, _monitor, transceiver, null,
+                                                     _endpoint, _adapter);
+                    }
+                    catch(com.zeroc.Ice.LocalException ex)
+                    {
+                        try
+                        {
+                            transceiver.close();
+                        }
+                        catch(com.zeroc.Ice.LocalException exc)
+                        {
+                            // Ignore
+                        }
 
-            assert(transceiver != null);
+                        if(_warn)
+                        {
+                            warning(ex);
+                        }
+                        break;
+                    }
 
-            try
-            {
-                connection = new ConnectionI(_adapter.getCommunicator(), _instance, _monitor, transceiver, null,
-                                                 _endpoint, _adapter);
+                    _connections.add(connection);
+                    connections.add(connection);
+                }
             }
-            catch(com.zeroc.Ice.LocalException ex)
+        }
+        finally
+        {
+            //
+            // Start the connections accepted so far, even if accepting the
+            // next connection failed with an unexpected exception. They are
+            // already registered with the factory and must not be left in
+            // the not validated state.
+            //
+            for(ConnectionI connection : connections)
             {
-                try
-                {
-                    transceiver.close();
-                }
-                catch(com.zeroc.Ice.LocalException exc)
-                {
-                    // Ignore
-                }
-
-                if(_warn)
-                {
-                    warning(ex);
-                }
-                return;
+                connection.start(this);
             }
-
-            _connections.add(connection);
         }
-
-        assert(connection != null);
-        connection.start(this);
     }
 
     @Override
@@ -732,6 +764,8 @@ public final class IncomingConnectionFactory extends EventHandler implements Con
     private final Instance _instance;
     private final FactoryACMMonitor _monitor;
 
+    private static final int AcceptMax = 64;
+
     private Acceptor _acceptor;
     private Transceiver _transceiver;
     private EndpointI _endpoint;
@@ -168,6 +168,41 @@ public final class Instance implements java.util.function.Function<String, Class
         return _traceLevels;
     }
 
+    public RetryBudget
+    retryBudget()
+    {
+        // No mutex lock, immutable. Null if there's no retry budget.
+        return _retryBudget;
+    }
+
+    public HedgePolicy
+    hedgePolicy()
+    {
+        // No mutex lock, immutable. Null if the invocations aren't hedged.
+        return _hedgePolicy;
+    }
+
+    public CircuitBreaker
+    circuitBreaker()
+    {
+        // No mutex lock, immutable. Null if circuit breakers are disabled.
+        return _circuitBreaker;
+    }
+
+    public ConcurrencyLimiter.Manager
+    concurrencyLimits()
+    {
+        // No mutex lock, immutable. Null if the concurrency of the connections isn't limited.
+        return _concurrencyLimits;
+    }
+
+    public boolean
+    propagateDeadlines()
+    {
+        // No mutex lock, immutable.
+        return _propagateDeadlines;
+    }
+
     public DefaultsAndOverrides
     defaultsAndOverrides()
     {
@@ -808,6 +843,12 @@ public final class Instance implements java.util.function.Function<String, Class
         return c;
     }
 
+    public TypeIdRegistry
+    typeIdRegistry()
+    {
+        return _typeIdRegistry;
+    }
+
     public String resolveCompactId(int compactId)
     {
         String className = "com.zeroc.IceCompactId.TypeId_" + Integer.toString(compactId);
@@ -970,8 +1011,8 @@ public final class Instance implements java.util.function.Function<String, Class
                 }
                 else if(logfile.length() != 0)
                 {
-                    _initData.logger =
-                        new com.zeroc.Ice.LoggerI(_initData.properties.getProperty("Ice.ProgramName"), logfile);
+                    _initData.logger = new com.zeroc.Ice.LoggerI(_initData.properties.getProperty("Ice.ProgramName"),
+                                                                 logfile, _initData.properties);
                 }
                 else
                 {
@@ -1070,6 +1111,16 @@ public final class Instance implements java.util.function.Function<String, Class
 
             _requestHandlerFactory = new RequestHandlerFactory(this);
 
+            _retryBudget = RetryBudget.create(_initData.properties);
+
+            _hedgePolicy = HedgePolicy.create(_initData.properties);
+
+            _circuitBreaker = CircuitBreaker.create(_initData.properties);
+
+            _concurrencyLimits = ConcurrencyLimiter.Manager.create(_initData.properties);
+
+            _propagateDeadlines = _initData.properties.getPropertyAsInt("Ice.Deadline.Propagate") > 0;
+
             _proxyFactory = new ProxyFactory(this);
 
             boolean isIPv6Supported = Network.isIPv6Supported();
@@ -1256,11 +1307,43 @@ public final class Instance implements java.util.function.Function<String, Class
             // Metrics facet
             //
             String metricsFacetName = "Metrics";
-            if(_adminFacetFilter.isEmpty() || _adminFacetFilter.contains(metricsFacetName))
+            String openMetricsFacetName = "OpenMetrics";
+            boolean metricsFacet = _adminFacetFilter.isEmpty() || _adminFacetFilter.contains(metricsFacetName);
+            boolean openMetricsFacet = _adminFacetFilter.isEmpty() || _adminFacetFilter.contains(openMetricsFacetName);
+            if(metricsFacet || openMetricsFacet)
             {
                  CommunicatorObserverI observer = new CommunicatorObserverI(_initData);
                  _initData.observer = observer;
-                 _adminFacets.put(metricsFacetName, observer.getFacet());
+                 if(metricsFacet)
+                 {
+                     _adminFacets.put(metricsFacetName, observer.getFacet());
+                 }
+
+                 //
+                 // The OpenMetrics facet renders the views of the metrics facet.
+                 //
+                 if(openMetricsFacet)
+                 {
+                     _adminFacets.put(openMetricsFacetName, new OpenMetricsAdminI(observer.getFacet()));
+                     observer.getFacet().addSource(_locatorManager);
+                     observer.getFacet().addSource(_objectAdapterFactory);
+                     if(_retryBudget != null)
+                     {
+                         observer.getFacet().addSource(_retryBudget);
+                     }
+                     if(_hedgePolicy != null)
+                     {
+                         observer.getFacet().addSource(_hedgePolicy);
+                     }
+                     if(_circuitBreaker != null)
+                     {
+                         observer.getFacet().addSource(_circuitBreaker);
+                     }
+                     if(_concurrencyLimits != null)
+                     {
+                         observer.getFacet().addSource(_concurrencyLimits);
+                     }
+                 }
 
                  //
                  // Make sure the admin plugin receives property updates.
@@ -1269,6 +1352,11 @@ public final class Instance implements java.util.function.Function<String, Class
                  {
                      propsAdmin.addUpdateCallback(observer.getFacet());
                  }
+
+                 if(openMetricsFacet && _initData.properties.getPropertyAsInt("IceMX.OpenMetrics.Port") > 0)
+                 {
+                     _openMetricsListener = new OpenMetricsListener(this, observer.getFacet());
+                 }
             }
         }
 
@@ -1281,17 +1369,32 @@ public final class Instance implements java.util.function.Function<String, Class
         }
 
         //
-        // Create threads.
+        // Create threads. The client thread pool and the timer of the parent
+        // communicator are used if one is set, they are destroyed with the
+        // parent communicator.
         //
-        try
+        if(_initData.parent != null)
         {
-            _timer = new Timer(_initData.properties, Util.createThreadName(_initData.properties, "Ice.Timer"));
+            Instance parent = Util.getInstance(_initData.parent);
+            synchronized(parent)
+            {
+                _clientThreadPool = parent.clientThreadPool();
+                _timer = parent._timer;
+            }
+            _sharedThreads = true;
         }
-        catch(RuntimeException ex)
+        else
         {
-            String s = "cannot create thread for timer:\n" + Ex.toString(ex);
-            _initData.logger.error(s);
-            throw ex;
+            try
+            {
+                _timer = new Timer(_initData.properties, Util.createThreadName(_initData.properties, "Ice.Timer"));
+            }
+            catch(RuntimeException ex)
+            {
+                String s = "cannot create thread for timer:\n" + Ex.toString(ex);
+                _initData.logger.error(s);
+                throw ex;
+            }
         }
 
         try
@@ -1305,7 +1408,10 @@ public final class Instance implements java.util.function.Function<String, Class
             throw ex;
         }
 
-        _clientThreadPool = new ThreadPool(this, "Ice.ThreadPool.Client", 0);
+        if(_clientThreadPool == null)
+        {
+            _clientThreadPool = new ThreadPool(this, "Ice.ThreadPool.Client", 0);
+        }
 
         //
         // The default router/locator may have been set during the loading of plugins.
@@ -1345,6 +1451,13 @@ public final class Instance implements java.util.function.Function<String, Class
             pluginManagerImpl.initializePlugins();
         }
 
+        //
+        // Load the locator cache snapshot once the plug-ins are initialized,
+        // the plug-ins might provide the endpoint factories of the cached
+        // endpoints.
+        //
+        _locatorManager.initialize(this);
+
         //
         // This must be done last as this call creates the Ice.Admin object adapter
         // and eventually registers a process proxy with the Ice locator (allowing
@@ -1401,6 +1514,11 @@ public final class Instance implements java.util.function.Function<String, Class
 
         try
         {
+            if(_openMetricsListener != null)
+            {
+                _openMetricsListener.destroy();
+            }
+
             //
             // Shutdown and destroy all the incoming and outgoing Ice
             // connections and wait for the connections to be finished.
@@ -1452,7 +1570,7 @@ public final class Instance implements java.util.function.Function<String, Class
             {
                 _serverThreadPool.destroy();
             }
-            if(_clientThreadPool != null)
+            if(_clientThreadPool != null && !_sharedThreads)
             {
                 _clientThreadPool.destroy();
             }
@@ -1460,7 +1578,7 @@ public final class Instance implements java.util.function.Function<String, Class
             {
                 _endpointHostResolver.destroy();
             }
-            if(_timer != null)
+            if(_timer != null && !_sharedThreads)
             {
                 _timer.shutdown(); // Don't use shutdownNow(), timers don't support interrupts
             }
@@ -1470,7 +1588,7 @@ public final class Instance implements java.util.function.Function<String, Class
             //
             try
             {
-                if(_clientThreadPool != null)
+                if(_clientThreadPool != null && !_sharedThreads)
                 {
                     _clientThreadPool.joinWithAllThreads();
                 }
@@ -1486,7 +1604,7 @@ public final class Instance implements java.util.function.Function<String, Class
                 {
                     _queueExecutor.destroy();
                 }
-                if(_timer != null)
+                if(_timer != null && !_sharedThreads)
                 {
                     while(!_timer.isTerminated())
                     {
@@ -1582,11 +1700,13 @@ public final class Instance implements java.util.function.Function<String, Class
 
                 _adminAdapter = null;
                 _adminFacets.clear();
+                _openMetricsListener = null;
 
                 _queueExecutor = null;
                 _queueExecutorService = null;
 
                 _typeToClassMap.clear();
+                _typeIdRegistry.clear();
 
                 _state = StateDestroyed;
                 notifyAll();
@@ -1695,7 +1815,7 @@ public final class Instance implements java.util.function.Function<String, Class
     {
         try
         {
-            if(_clientThreadPool != null)
+            if(_clientThreadPool != null && !_sharedThreads)
             {
                 _clientThreadPool.updateObservers();
             }
@@ -1709,7 +1829,7 @@ public final class Instance implements java.util.function.Function<String, Class
             {
                 _endpointHostResolver.updateObserver();
             }
-            if(_timer != null)
+            if(_timer != null && !_sharedThreads)
             {
                 _timer.updateObserver(_initData.observer);
             }
@@ -1872,6 +1992,11 @@ public final class Instance implements java.util.function.Function<String, Class
 
     private final com.zeroc.Ice.InitializationData _initData; // Immutable, not reset by destroy().
     private final TraceLevels _traceLevels; // Immutable, not reset by destroy().
+    private final RetryBudget _retryBudget; // Immutable, not reset by destroy().
+    private final HedgePolicy _hedgePolicy; // Immutable, not reset by destroy().
+    private final CircuitBreaker _circuitBreaker; // Immutable, not reset by destroy().
+    private final ConcurrencyLimiter.Manager _concurrencyLimits; // Immutable, not reset by destroy().
+    private final boolean _propagateDeadlines; // Immutable, not reset by destroy().
     private final DefaultsAndOverrides _defaultsAndOverrides; // Immutable, not reset by destroy().
     private final int _messageSizeMax; // Immutable, not reset by destroy().
     private final int _batchAutoFlushSize; // Immutable, not reset by destroy().
@@ -1895,6 +2020,7 @@ public final class Instance implements java.util.function.Function<String, Class
     private EndpointHostResolver _endpointHostResolver;
     private RetryQueue _retryQueue;
     private Timer _timer;
+    private boolean _sharedThreads; // True if the client thread pool and timer are the parent's.
     private EndpointFactoryManager _endpointFactoryManager;
     private com.zeroc.Ice.PluginManager _pluginManager;
 
@@ -1902,10 +2028,12 @@ public final class Instance implements java.util.function.Function<String, Class
     private com.zeroc.Ice.ObjectAdapter _adminAdapter;
     private java.util.Map<String, com.zeroc.Ice.Object> _adminFacets = new java.util.HashMap<>();
     private java.util.Set<String> _adminFacetFilter = new java.util.HashSet<>();
+    private OpenMetricsListener _openMetricsListener;
     private com.zeroc.Ice.Identity _adminIdentity;
     private java.util.Map<Short, BufSizeWarnInfo> _setBufSizeWarn = new java.util.HashMap<>();
 
     private java.util.Map<String, String> _typeToClassMap = new java.util.HashMap<>();
+    final private TypeIdRegistry _typeIdRegistry = new TypeIdRegistry(this);
     final private String[] _packages;
     final private boolean _useApplicationClassLoader;
 
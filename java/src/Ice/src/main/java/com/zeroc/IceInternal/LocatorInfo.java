@@ -367,7 +367,12 @@ public final class LocatorInfo
             endpoints = _table.getAdapterEndpoints(ref.getAdapterId(), ttl, cached);
             if(!cached.value)
             {
-                if(_background && endpoints != null)
+                if(endpoints == null && _table.isAdapterNotRegistered(ref.getAdapterId(), ttl))
+                {
+                    notRegistered(ref, new com.zeroc.Ice.AdapterNotFoundException(), callback);
+                    return;
+                }
+                else if(_background && endpoints != null)
                 {
                     getAdapterRequest(ref).addCallback(ref, wellKnownRef, ttl, null);
                 }
@@ -383,7 +388,12 @@ public final class LocatorInfo
             Reference r = _table.getObjectReference(ref.getIdentity(), ttl, cached);
             if(!cached.value)
             {
-                if(_background && r != null)
+                if(r == null && _table.isObjectNotRegistered(ref.getIdentity(), ttl))
+                {
+                    notRegistered(ref, new com.zeroc.Ice.ObjectNotFoundException(), callback);
+                    return;
+                }
+                else if(_background && r != null)
                 {
                     getObjectRequest(ref).addCallback(ref, null, ttl, null);
                 }
@@ -587,6 +597,26 @@ public final class LocatorInfo
         }
     }
 
+    //
+    // Reports that the adapter or well-known object isn't registered without
+    // asking the locator, the locator reported it recently.
+    //
+    private void
+    notRegistered(Reference ref, com.zeroc.Ice.UserException exc, GetEndpointsCallback callback)
+    {
+        try
+        {
+            getEndpointsException(ref, exc); // This throws.
+        }
+        catch(com.zeroc.Ice.LocalException ex)
+        {
+            if(callback != null)
+            {
+                callback.setException(ex);
+            }
+        }
+    }
+
     private void
     getEndpointsTrace(Reference ref, EndpointI[] endpoints, boolean cached)
     {
@@ -712,7 +742,7 @@ public final class LocatorInfo
             }
             else if(notRegistered) // If the adapter isn't registered anymore, remove it from the cache.
             {
-                _table.removeAdapterEndpoints(ref.getAdapterId());
+                _table.addAdapterNotRegistered(ref.getAdapterId());
             }
 
             synchronized(this)
@@ -730,7 +760,7 @@ public final class LocatorInfo
             }
             else if(notRegistered) // If the well-known object isn't registered anymore, remove it from the cache.
             {
-                _table.removeObjectReference(ref.getIdentity());
+                _table.addObjectNotRegistered(ref.getIdentity());
             }
 
             synchronized(this)
@@ -9,7 +9,7 @@
 
 package com.zeroc.IceInternal;
 
-public final class LocatorManager
+public final class LocatorManager implements OpenMetricsWriter.Source
 {
     static private final class LocatorKey implements Cloneable
     {
@@ -59,8 +59,13 @@ public final class LocatorManager
         LocatorKey set(com.zeroc.Ice.LocatorPrx locator)
         {
             Reference r = ((com.zeroc.Ice._ObjectPrxI)locator)._getReference();
-            _id = r.getIdentity();
-            _encoding = r.getEncoding();
+            return set(r.getIdentity(), r.getEncoding());
+        }
+
+        LocatorKey set(com.zeroc.Ice.Identity id, com.zeroc.Ice.EncodingVersion encoding)
+        {
+            _id = id;
+            _encoding = encoding;
             return this;
         }
 
@@ -71,11 +76,63 @@ public final class LocatorManager
     LocatorManager(com.zeroc.Ice.Properties properties)
     {
         _background = properties.getPropertyAsInt("Ice.BackgroundLocatorCacheUpdates") > 0;
+        _cacheSize = properties.getPropertyAsIntWithDefault("Ice.LocatorCache.Size", 100000);
+        _cacheNegativeTTL = properties.getPropertyAsIntWithDefault("Ice.LocatorCache.NegativeTTL", 0);
+        _snapshotFile = properties.getProperty("Ice.LocatorCache.File");
+        _snapshotInterval = properties.getPropertyAsIntWithDefault("Ice.LocatorCache.SnapshotInterval", 60);
+    }
+
+    //
+    // Loads the locator cache snapshot file if Ice.LocatorCache.File is set and
+    // schedules the periodic snapshots. This must be called once the plug-ins
+    // are loaded to read the endpoints of the transports provided by plug-ins.
+    //
+    void
+    initialize(Instance instance)
+    {
+        if(_snapshotFile.isEmpty())
+        {
+            return;
+        }
+
+        readSnapshot(instance);
+
+        synchronized(this)
+        {
+            _instance = instance;
+        }
+
+        if(_snapshotInterval > 0)
+        {
+            java.util.concurrent.Future<?> future =
+                instance.timer().scheduleWithFixedDelay(() -> { writeSnapshot(); }, _snapshotInterval,
+                                                        _snapshotInterval, java.util.concurrent.TimeUnit.SECONDS);
+            synchronized(this)
+            {
+                _snapshotFuture = future;
+            }
+        }
     }
 
     synchronized void
     destroy()
     {
+        //
+        // The last snapshot is written before clearing the tables. The timer
+        // might be shared with another communicator, the periodic snapshots
+        // are canceled rather than relying on its termination.
+        //
+        if(_snapshotFuture != null)
+        {
+            _snapshotFuture.cancel(false);
+            _snapshotFuture = null;
+        }
+        if(_instance != null)
+        {
+            writeSnapshot();
+            _instance = null;
+        }
+
         for(LocatorInfo info : _table.values())
         {
             info.destroy();
@@ -118,7 +175,7 @@ public final class LocatorManager
                 LocatorTable table = _locatorTables.get(_lookupKey.set(locator));
                 if(table == null)
                 {
-                    table = new LocatorTable();
+                    table = new LocatorTable(_cacheSize, _cacheNegativeTTL);
                     _locatorTables.put(_lookupKey.clone(), table);
                 }
 
@@ -130,7 +187,142 @@ public final class LocatorManager
         }
     }
 
+    @Override
+    synchronized public void
+    writeMetrics(OpenMetricsWriter writer)
+    {
+        for(java.util.Map.Entry<LocatorKey, LocatorTable> p : _locatorTables.entrySet())
+        {
+            String locator = com.zeroc.Ice.Util.identityToString(p.getKey()._id, com.zeroc.Ice.ToStringMode.Unicode);
+            p.getValue().writeMetrics(writer, OpenMetricsWriter.label("locator", locator));
+        }
+    }
+
+    //
+    // The snapshot file contains the tables of the locators: the locator
+    // identity and encoding followed by the table entries. It's written to
+    // a temporary file that replaces the snapshot file once complete.
+    //
+    private void
+    readSnapshot(Instance instance)
+    {
+        java.nio.file.Path path = java.nio.file.Paths.get(_snapshotFile);
+        if(!java.nio.file.Files.exists(path))
+        {
+            return;
+        }
+
+        int count = 0;
+        try
+        {
+            byte[] data = java.nio.file.Files.readAllBytes(path);
+            com.zeroc.Ice.InputStream is = new com.zeroc.Ice.InputStream(instance, Protocol.currentEncoding, data);
+            if(!java.util.Arrays.equals(is.readBlob(SnapshotMagic.length), SnapshotMagic))
+            {
+                throw new com.zeroc.Ice.MarshalException("invalid locator cache snapshot");
+            }
+
+            synchronized(this)
+            {
+                for(int sz = is.readSize(); sz > 0; --sz)
+                {
+                    LocatorKey key = new LocatorKey().set(com.zeroc.Ice.Identity.ice_read(is),
+                                                          com.zeroc.Ice.EncodingVersion.ice_read(is));
+                    LocatorTable table = _locatorTables.get(key);
+                    if(table == null)
+                    {
+                        table = new LocatorTable(_cacheSize, _cacheNegativeTTL);
+                        _locatorTables.put(key, table);
+                    }
+                    count += table.read(is, instance);
+                }
+            }
+        }
+        catch(java.io.IOException ex)
+        {
+            instance.initializationData().logger.warning("cannot read locator cache file `" + _snapshotFile +
+                                                         "':\n" + ex);
+            return;
+        }
+        catch(com.zeroc.Ice.LocalException ex)
+        {
+            instance.initializationData().logger.warning("invalid locator cache file `" + _snapshotFile + "':\n" +
+                                                         ex);
+
+            //
+            // Don't keep the entries read before the error, start with an empty cache.
+            //
+            synchronized(this)
+            {
+                _locatorTables.clear();
+            }
+            return;
+        }
+
+        if(instance.traceLevels().location >= 1)
+        {
+            instance.initializationData().logger.trace(instance.traceLevels().locationCat,
+                                                       "loaded " + count + " entries from locator cache file `" +
+                                                       _snapshotFile + "'");
+        }
+    }
+
+    private void
+    writeSnapshot()
+    {
+        Instance instance;
+        java.util.List<java.util.Map.Entry<LocatorKey, LocatorTable>> tables;
+        synchronized(this)
+        {
+            if(_instance == null)
+            {
+                return;
+            }
+            instance = _instance;
+            tables = new java.util.ArrayList<>(_locatorTables.entrySet());
+        }
+
+        com.zeroc.Ice.OutputStream os = new com.zeroc.Ice.OutputStream(instance, Protocol.currentEncoding);
+        os.writeBlob(SnapshotMagic);
+        os.writeSize(tables.size());
+        for(java.util.Map.Entry<LocatorKey, LocatorTable> p : tables)
+        {
+            com.zeroc.Ice.Identity.ice_write(os, p.getKey()._id);
+            com.zeroc.Ice.EncodingVersion.ice_write(os, p.getKey()._encoding);
+            p.getValue().write(os);
+        }
+
+        java.nio.file.Path path = java.nio.file.Paths.get(_snapshotFile);
+        java.nio.file.Path tmp = java.nio.file.Paths.get(_snapshotFile + ".tmp");
+        try
+        {
+            java.nio.file.Files.write(tmp, os.finished());
+            java.nio.file.Files.move(tmp, path, java.nio.file.StandardCopyOption.REPLACE_EXISTING,
+                                     java.nio.file.StandardCopyOption.ATOMIC_MOVE);
+            _snapshotFailed = false;
+        }
+        catch(java.io.IOException ex)
+        {
+            if(!_snapshotFailed) // Only warn once until the next successful snapshot.
+            {
+                _snapshotFailed = true;
+                instance.initializationData().logger.warning("cannot write locator cache file `" + _snapshotFile +
+                                                             "':\n" + ex);
+            }
+        }
+    }
+
+    private static final byte[] SnapshotMagic = { 'I', 'L', 'C', 1 };
+
     final private boolean _background;
+    final private int _cacheSize;
+    final private int _cacheNegativeTTL;
+    final private String _snapshotFile;
+    final private int _snapshotInterval;
+
+    private Instance _instance; // Set if the snapshots are enabled.
+    private java.util.concurrent.Future<?> _snapshotFuture;
+    private volatile boolean _snapshotFailed;
 
     private java.util.HashMap<com.zeroc.Ice.LocatorPrx, LocatorInfo> _table = new java.util.HashMap<>();
     private java.util.HashMap<LocatorKey, LocatorTable> _locatorTables = new java.util.HashMap<>();
@@ -9,85 +9,180 @@
 
 package com.zeroc.IceInternal;
 
+//
+// The locator cache of a locator, it caches the endpoints of object adapters
+// and the references of well-known objects.
+//
+// Each table is a concurrent map bounded by Ice.LocatorCache.Size entries.
+// Lookups don't lock, they only mark the entry as referenced. Once a table
+// is full, entries are evicted with the CLOCK algorithm: a hand sweeps the
+// entries, evicts the first entry that expired or that wasn't referenced
+// since the last sweep and clears the referenced flag of the other entries.
+// An entry is expired when it's older than the locator cache timeout of its
+// last lookup.
+//
+// With Ice.LocatorCache.NegativeTTL, the adapters and well-known objects
+// that the locator reported as not registered are also cached for the
+// given number of seconds.
+//
+// The tables can be written to and read from a stream to snapshot the
+// cache in a file, the entries read from a snapshot are stale: they are
+// used when the locator cache is updated in the background but they are
+// always resolved again with the locator.
+//
 final class LocatorTable
 {
-    LocatorTable()
+    LocatorTable(int size, int negativeTTL)
     {
+        _adapterEndpointsTable = new Cache<>(size);
+        _objectTable = new Cache<>(size);
+        _negativeTTL = negativeTTL;
     }
 
-    synchronized void
+    void
     clear()
     {
         _adapterEndpointsTable.clear();
         _objectTable.clear();
     }
 
-    synchronized EndpointI[]
+    EndpointI[]
     getAdapterEndpoints(String adapter, int ttl, Holder<Boolean> cached)
     {
-        if(ttl == 0) // Locator cache disabled.
-        {
-            cached.value = false;
-            return null;
-        }
+        return _adapterEndpointsTable.get(adapter, ttl, cached);
+    }
 
-        EndpointTableEntry entry = _adapterEndpointsTable.get(adapter);
-        if(entry != null)
-        {
-            cached.value = checkTTL(entry.time, ttl);
-            return entry.endpoints;
-        }
-        cached.value = false;
-        return null;
+    boolean
+    isAdapterNotRegistered(String adapter, int ttl)
+    {
+        return ttl != 0 && _adapterEndpointsTable.isNotRegistered(adapter);
     }
 
-    synchronized void
+    void
     addAdapterEndpoints(String adapter, EndpointI[] endpoints)
     {
-        _adapterEndpointsTable.put(adapter,
-                new EndpointTableEntry(Time.currentMonotonicTimeMillis(), endpoints));
+        _adapterEndpointsTable.put(adapter, endpoints);
     }
 
-    synchronized EndpointI[]
+    void
+    addAdapterNotRegistered(String adapter)
+    {
+        if(_negativeTTL > 0)
+        {
+            _adapterEndpointsTable.put(adapter, null);
+        }
+        else
+        {
+            _adapterEndpointsTable.remove(adapter);
+        }
+    }
+
+    EndpointI[]
     removeAdapterEndpoints(String adapter)
     {
-        EndpointTableEntry entry = _adapterEndpointsTable.remove(adapter);
-        return entry != null ? entry.endpoints : null;
+        return _adapterEndpointsTable.remove(adapter);
     }
 
-    synchronized Reference
+    Reference
     getObjectReference(com.zeroc.Ice.Identity id, int ttl, Holder<Boolean> cached)
     {
-        if(ttl == 0) // Locator cache disabled.
+        return _objectTable.get(id, ttl, cached);
+    }
+
+    boolean
+    isObjectNotRegistered(com.zeroc.Ice.Identity id, int ttl)
+    {
+        return ttl != 0 && _objectTable.isNotRegistered(id);
+    }
+
+    void
+    addObjectReference(com.zeroc.Ice.Identity id, Reference ref)
+    {
+        _objectTable.put(id, ref);
+    }
+
+    void
+    addObjectNotRegistered(com.zeroc.Ice.Identity id)
+    {
+        if(_negativeTTL > 0)
+        {
+            _objectTable.put(id, null);
+        }
+        else
         {
-            cached.value = false;
-            return null;
+            _objectTable.remove(id);
         }
+    }
+
+    Reference
+    removeObjectReference(com.zeroc.Ice.Identity id)
+    {
+        return _objectTable.remove(id);
+    }
 
-        ReferenceTableEntry entry = _objectTable.get(id);
-        if(entry != null)
+    void
+    write(com.zeroc.Ice.OutputStream os)
+    {
+        java.util.List<java.util.Map.Entry<String, EndpointI[]>> adapters = _adapterEndpointsTable.entries();
+        os.writeSize(adapters.size());
+        for(java.util.Map.Entry<String, EndpointI[]> p : adapters)
         {
-            cached.value = checkTTL(entry.time, ttl);
-            return entry.reference;
+            os.writeString(p.getKey());
+            os.writeSize(p.getValue().length);
+            for(EndpointI endpoint : p.getValue())
+            {
+                os.writeShort(endpoint.type());
+                endpoint.streamWrite(os);
+            }
+        }
+
+        java.util.List<java.util.Map.Entry<com.zeroc.Ice.Identity, Reference>> objects = _objectTable.entries();
+        os.writeSize(objects.size());
+        for(java.util.Map.Entry<com.zeroc.Ice.Identity, Reference> p : objects)
+        {
+            com.zeroc.Ice.Identity.ice_write(os, p.getKey());
+            com.zeroc.Ice.Identity.ice_write(os, p.getValue().getIdentity());
+            p.getValue().streamWrite(os);
         }
-        cached.value = false;
-        return null;
     }
 
-    synchronized void
-    addObjectReference(com.zeroc.Ice.Identity id, Reference ref)
+    int
+    read(com.zeroc.Ice.InputStream is, Instance instance)
     {
-        _objectTable.put(id, new ReferenceTableEntry(Time.currentMonotonicTimeMillis(), ref));
+        int count = 0;
+        for(int sz = is.readSize(); sz > 0; --sz)
+        {
+            String adapter = is.readString();
+            EndpointI[] endpoints = new EndpointI[is.readAndCheckSeqSize(8)]; // Type and empty encapsulation.
+            for(int i = 0; i < endpoints.length; ++i)
+            {
+                endpoints[i] = instance.endpointFactoryManager().read(is);
+            }
+            _adapterEndpointsTable.putStale(adapter, endpoints);
+            ++count;
+        }
+
+        for(int sz = is.readSize(); sz > 0; --sz)
+        {
+            com.zeroc.Ice.Identity id = com.zeroc.Ice.Identity.ice_read(is);
+            Reference ref = instance.referenceFactory().create(com.zeroc.Ice.Identity.ice_read(is), is);
+            if(ref != null)
+            {
+                _objectTable.putStale(id, ref);
+                ++count;
+            }
+        }
+        return count;
     }
 
-    synchronized Reference
-    removeObjectReference(com.zeroc.Ice.Identity id)
+    void
+    writeMetrics(OpenMetricsWriter writer, String labels)
     {
-        ReferenceTableEntry entry = _objectTable.remove(id);
-        return entry != null ? entry.reference : null;
+        _adapterEndpointsTable.writeMetrics(writer, labels + "," + OpenMetricsWriter.label("table", "adapter"));
+        _objectTable.writeMetrics(writer, labels + "," + OpenMetricsWriter.label("table", "object"));
     }
 
-    private boolean
+    private static boolean
     checkTTL(long time, int ttl)
     {
         assert(ttl != 0);
@@ -101,30 +196,202 @@ final class LocatorTable
         }
     }
 
-    private static final class EndpointTableEntry
+    private static final class Entry<V>
     {
-        public EndpointTableEntry(long time, EndpointI[] endpoints)
+        Entry(long time, V value, boolean stale)
         {
             this.time = time;
-            this.endpoints = endpoints;
+            this.value = value;
+            this.stale = stale;
+            this.referenced = !stale;
         }
 
-        final public long time;
-        final public EndpointI[] endpoints;
+        final long time;
+        final V value; // Null if not registered.
+        final boolean stale; // True if read from a snapshot.
+        volatile boolean referenced; // Set on creation so that a new entry survives the next sweep.
+        volatile int ttl; // The locator cache timeout of the last lookup, 0 if not looked up yet.
     }
 
-    private static final class ReferenceTableEntry
+    private final class Cache<K, V>
     {
-        public ReferenceTableEntry(long time, Reference reference)
+        Cache(int size)
         {
-            this.time = time;
-            this.reference = reference;
+            _size = size;
+        }
+
+        V
+        get(K key, int ttl, Holder<Boolean> cached)
+        {
+            if(ttl == 0) // Locator cache disabled.
+            {
+                cached.value = false;
+                return null;
+            }
+
+            Entry<V> entry = _map.get(key);
+            if(entry == null || entry.value == null)
+            {
+                _misses.increment();
+                cached.value = false;
+                return null;
+            }
+
+            if(!entry.referenced)
+            {
+                entry.referenced = true;
+            }
+            if(entry.ttl != ttl)
+            {
+                entry.ttl = ttl;
+            }
+            cached.value = !entry.stale && checkTTL(entry.time, ttl);
+            if(cached.value)
+            {
+                _hits.increment();
+            }
+            else
+            {
+                _misses.increment();
+            }
+            return entry.value;
+        }
+
+        boolean
+        isNotRegistered(K key)
+        {
+            Entry<V> entry = _map.get(key);
+            if(entry != null && entry.value == null)
+            {
+                if(!isExpired(entry, Time.currentMonotonicTimeMillis()))
+                {
+                    _negativeHits.increment();
+                    return true;
+                }
+                _map.remove(key, entry);
+            }
+            return false;
+        }
+
+        void
+        put(K key, V value)
+        {
+            _map.put(key, new Entry<>(Time.currentMonotonicTimeMillis(), value, false));
+            if(_size > 0 && _map.size() > _size)
+            {
+                evict();
+            }
+        }
+
+        void
+        putStale(K key, V value)
+        {
+            if(_size > 0 && _map.size() >= _size)
+            {
+                return;
+            }
+            _map.putIfAbsent(key, new Entry<>(Time.currentMonotonicTimeMillis(), value, true));
         }
 
-        final public long time;
-        final public Reference reference;
+        //
+        // Returns the keys and values of the entries, without the entries of the
+        // keys that aren't registered.
+        //
+        java.util.List<java.util.Map.Entry<K, V>>
+        entries()
+        {
+            java.util.List<java.util.Map.Entry<K, V>> entries = new java.util.ArrayList<>(_map.size());
+            for(java.util.Map.Entry<K, Entry<V>> p : _map.entrySet())
+            {
+                V value = p.getValue().value;
+                if(value != null)
+                {
+                    entries.add(new java.util.AbstractMap.SimpleImmutableEntry<>(p.getKey(), value));
+                }
+            }
+            return entries;
+        }
+
+        V
+        remove(K key)
+        {
+            Entry<V> entry = _map.remove(key);
+            return entry != null ? entry.value : null;
+        }
+
+        void
+        clear()
+        {
+            _map.clear();
+        }
+
+        void
+        writeMetrics(OpenMetricsWriter writer, String labels)
+        {
+            writer.gauge("ice_locator_cache_entries", labels, _map.size());
+            writer.counter("ice_locator_cache_hits", labels, _hits.sum());
+            writer.counter("ice_locator_cache_misses", labels, _misses.sum());
+            writer.counter("ice_locator_cache_negative_hits", labels, _negativeHits.sum());
+            writer.counter("ice_locator_cache_evictions", labels, _evictions.sum());
+        }
+
+        private void
+        evict()
+        {
+            synchronized(this)
+            {
+                long now = Time.currentMonotonicTimeMillis();
+                while(_map.size() > _size)
+                {
+                    if(_hand == null || !_hand.hasNext())
+                    {
+                        _hand = _map.entrySet().iterator();
+                        if(!_hand.hasNext())
+                        {
+                            break;
+                        }
+                    }
+
+                    java.util.Map.Entry<K, Entry<V>> e = _hand.next();
+                    Entry<V> entry = e.getValue();
+                    if(!entry.referenced || isExpired(entry, now))
+                    {
+                        if(_map.remove(e.getKey(), entry))
+                        {
+                            _evictions.increment();
+                        }
+                    }
+                    else
+                    {
+                        entry.referenced = false;
+                    }
+                }
+            }
+        }
+
+        private boolean
+        isExpired(Entry<V> entry, long now)
+        {
+            if(entry.value == null)
+            {
+                return now - entry.time > (long)_negativeTTL * 1000;
+            }
+            return entry.ttl > 0 && now - entry.time > (long)entry.ttl * 1000;
+        }
+
+        final private int _size;
+        final private java.util.concurrent.ConcurrentHashMap<K, Entry<V>> _map =
+            new java.util.concurrent.ConcurrentHashMap<>();
+        private java.util.Iterator<java.util.Map.Entry<K, Entry<V>>> _hand; // The CLOCK hand.
+
+        final private java.util.concurrent.atomic.LongAdder _hits = new java.util.concurrent.atomic.LongAdder();
+        final private java.util.concurrent.atomic.LongAdder _misses = new java.util.concurrent.atomic.LongAdder();
+        final private java.util.concurrent.atomic.LongAdder _negativeHits =
+            new java.util.concurrent.atomic.LongAdder();
+        final private java.util.concurrent.atomic.LongAdder _evictions = new java.util.concurrent.atomic.LongAdder();
     }
 
-    private java.util.Map<String, EndpointTableEntry> _adapterEndpointsTable = new java.util.HashMap<>();
-    private java.util.Map<com.zeroc.Ice.Identity, ReferenceTableEntry> _objectTable = new java.util.HashMap<>();
+    final private Cache<String, EndpointI[]> _adapterEndpointsTable;
+    final private Cache<com.zeroc.Ice.Identity, Reference> _objectTable;
+    final private int _negativeTTL;
 }
@@ -28,7 +28,7 @@ final class LoggerAdminI implements com.zeroc.Ice.LoggerAdmin
         RemoteLoggerPrx remoteLogger = RemoteLoggerPrx.uncheckedCast(prx.ice_twoway());
 
         Filters filters = new Filters(messageTypes, categories);
-        java.util.List<LogMessage> initLogMessages = null;
+        LogMessage[] initLogMessages = null;
 
         synchronized(this)
         {
@@ -57,16 +57,10 @@ final class LoggerAdminI implements com.zeroc.Ice.LoggerAdmin
             }
 
             _remoteLoggerMap.put(remoteLoggerId,
-                                 new RemoteLoggerData(changeCommunicator(remoteLogger, _sendLogCommunicator), filters));
+                                 new RemoteLoggerData(changeCommunicator(remoteLogger, _sendLogCommunicator), filters,
+                                                      _flushInterval > 0));
 
-            if(messageMax != 0)
-            {
-                initLogMessages = new java.util.LinkedList<>(_queue); // copy
-            }
-            else
-            {
-                initLogMessages = new java.util.LinkedList<>();
-            }
+            initLogMessages = copyLogMessages(filters, messageMax);
         }
 
         if(_traceLevel > 0)
@@ -74,14 +68,9 @@ final class LoggerAdminI implements com.zeroc.Ice.LoggerAdmin
             _logger.trace(_traceCategory, "attached `" + remoteLogger.toString() + "'");
         }
 
-        if(!initLogMessages.isEmpty())
-        {
-            filterLogMessages(initLogMessages, filters.messageTypes, filters.traceCategories, messageMax);
-        }
-
         try
         {
-            remoteLogger.initAsync(_logger.getPrefix(), initLogMessages.toArray(new LogMessage[0])).whenComplete(
+            remoteLogger.initAsync(_logger.getPrefix(), initLogMessages).whenComplete(
                 (Void v, Throwable ex) ->
                 {
                     if(ex != null)
@@ -149,34 +138,21 @@ final class LoggerAdminI implements com.zeroc.Ice.LoggerAdmin
     {
         com.zeroc.Ice.LoggerAdmin.GetLogResult r = new com.zeroc.Ice.LoggerAdmin.GetLogResult();
 
-        java.util.List<LogMessage> logMessages = null;
+        Filters filters = new Filters(messageTypes, categories);
         synchronized(this)
         {
-            if(messageMax != 0)
-            {
-                logMessages = new java.util.LinkedList<>(_queue);
-            }
-            else
-            {
-                logMessages = new java.util.LinkedList<>();
-            }
+            r.returnValue = copyLogMessages(filters, messageMax);
         }
 
         r.prefix = _logger.getPrefix();
-
-        if(!logMessages.isEmpty())
-        {
-            Filters filters = new Filters(messageTypes, categories);
-            filterLogMessages(logMessages, filters.messageTypes, filters.traceCategories, messageMax);
-        }
-        r.returnValue = logMessages.toArray(new LogMessage[0]);
         return r;
     }
 
     LoggerAdminI(com.zeroc.Ice.Properties props, LoggerAdminLoggerI logger)
     {
-        _maxLogCount = props.getPropertyAsIntWithDefault("Ice.Admin.Logger.KeepLogs", 100);
-        _maxTraceCount = props.getPropertyAsIntWithDefault("Ice.Admin.Logger.KeepTraces", 100);
+        _logs = new LogMessageRing(props.getPropertyAsIntWithDefault("Ice.Admin.Logger.KeepLogs", 100));
+        _traces = new LogMessageRing(props.getPropertyAsIntWithDefault("Ice.Admin.Logger.KeepTraces", 100));
+        _flushInterval = props.getPropertyAsInt("Ice.Admin.Logger.FlushInterval");
         _traceLevel = props.getPropertyAsInt("Ice.Trace.Admin.Logger");
         _logger = logger;
     }
@@ -210,68 +186,12 @@ final class LoggerAdminI implements com.zeroc.Ice.LoggerAdmin
         java.util.List<RemoteLoggerPrx> remoteLoggers = null;
 
         //
-        // Put message in _queue
+        // Put message in the ring of its kind, which evicts the oldest message if the ring is full
         //
-        if((logMessage.type != LogMessageType.TraceMessage && _maxLogCount > 0) ||
-           (logMessage.type == LogMessageType.TraceMessage && _maxTraceCount > 0))
+        LogMessageRing ring = logMessage.type == LogMessageType.TraceMessage ? _traces : _logs;
+        if(ring.capacity() > 0)
         {
-            _queue.add(logMessage); // add at the end
-
-            if(logMessage.type != LogMessageType.TraceMessage)
-            {
-                assert(_maxLogCount > 0);
-                if(_logCount == _maxLogCount)
-                {
-                    //
-                    // Need to remove the oldest log from the queue
-                    //
-                    assert(_oldestLog != -1);
-                    _queue.remove(_oldestLog);
-                    int qs = _queue.size();
-
-                    while(_oldestLog < qs && _queue.get(_oldestLog).type == LogMessageType.TraceMessage)
-                    {
-                        _oldestLog++;
-                    }
-                    assert(_oldestLog < qs); // remember: we just added a log message at end
-                }
-                else
-                {
-                    assert(_logCount < _maxLogCount);
-                    _logCount++;
-                    if(_oldestLog == -1)
-                    {
-                        _oldestLog = _queue.size() - 1;
-                    }
-                }
-            }
-            else
-            {
-                assert(_maxTraceCount > 0);
-                if(_traceCount == _maxTraceCount)
-                {
-                    //
-                    // Need to remove the oldest trace from the queue
-                    //
-                    assert(_oldestTrace != -1);
-                    _queue.remove(_oldestTrace);
-                    int qs = _queue.size();
-                    while(_oldestTrace < qs && _queue.get(_oldestTrace).type != LogMessageType.TraceMessage)
-                    {
-                        _oldestTrace++;
-                    }
-                    assert(_oldestTrace < qs); // remember: we just added a trace message at end
-                }
-                else
-                {
-                    assert(_traceCount < _maxTraceCount);
-                    _traceCount++;
-                    if(_oldestTrace == -1)
-                    {
-                        _oldestTrace = _queue.size() - 1;
-                    }
-                }
-            }
+            ring.add(logMessage, _nextSequence++);
 
             //
             // Queue updated, now find which remote loggers want this message
@@ -319,61 +239,64 @@ final class LoggerAdminI implements com.zeroc.Ice.LoggerAdmin
         return _traceLevel;
     }
 
+    int getFlushInterval()
+    {
+        return _flushInterval;
+    }
+
     private synchronized boolean removeRemoteLogger(RemoteLoggerPrx remoteLogger)
     {
         return _remoteLoggerMap.remove(remoteLogger.ice_getIdentity()) != null;
     }
 
-    private static void filterLogMessages(java.util.List<LogMessage> logMessages,
-                                          java.util.Set<LogMessageType> messageTypes,
-                                          java.util.Set<String> traceCategories, int messageMax)
+    //
+    // Returns the retained messages that match the filters, oldest first. The messages and traces
+    // rings are merged from the most recent message using the message sequence numbers; messageMax
+    // < 0 means "give me all" that match the filters, if any.
+    //
+    private LogMessage[] copyLogMessages(Filters filters, int messageMax)
     {
-        assert(!logMessages.isEmpty() && messageMax != 0);
+        int size = _logs.size() + _traces.size();
+        if(messageMax == 0 || size == 0)
+        {
+            return new LogMessage[0];
+        }
+        if(messageMax > 0 && messageMax < size)
+        {
+            size = messageMax;
+        }
 
-        //
-        // Filter only if one of the 3 filters is set; messageMax < 0 means "give me all"
-        // that match the other filters, if any.
-        //
-        if(!messageTypes.isEmpty() || !traceCategories.isEmpty() || messageMax > 0)
+        LogMessage[] result = new LogMessage[size];
+        int count = 0;
+        int i = _logs.size() - 1;
+        int j = _traces.size() - 1;
+        while(count < size && (i >= 0 || j >= 0))
         {
-            int count = 0;
-            java.util.ListIterator<LogMessage> p = logMessages.listIterator(logMessages.size());
-            while(p.hasPrevious())
+            LogMessage msg;
+            if(j < 0 || (i >= 0 && _logs.sequence(i) > _traces.sequence(j)))
             {
-                boolean keepIt = false;
-                LogMessage msg = p.previous();
-                if(messageTypes.isEmpty() || messageTypes.contains(msg.type))
-                {
-                    if(msg.type != LogMessageType.TraceMessage || traceCategories.isEmpty() ||
-                       traceCategories.contains(msg.traceCategory))
-                    {
-                        keepIt = true;
-                    }
-                }
+                msg = _logs.get(i--);
+            }
+            else
+            {
+                msg = _traces.get(j--);
+            }
 
-                if(keepIt)
-                {
-                    ++count;
-                    if(messageMax > 0 && count >= messageMax)
-                    {
-                        if(p.hasPrevious())
-                        {
-                            int removeCount = p.previousIndex() + 1;
-                            for(int i = 0; i < removeCount; ++i)
-                            {
-                                logMessages.remove(0);
-                            }
-                        }
-                        break; // while
-                    }
-                }
-                else
+            if(filters.messageTypes.isEmpty() || filters.messageTypes.contains(msg.type))
+            {
+                if(msg.type != LogMessageType.TraceMessage || filters.traceCategories.isEmpty() ||
+                   filters.traceCategories.contains(msg.traceCategory))
                 {
-                    p.remove();
+                    result[size - ++count] = msg;
                 }
             }
         }
-        // else, don't need any filtering
+
+        if(count < size)
+        {
+            result = java.util.Arrays.copyOfRange(result, size - count, size);
+        }
+        return result;
     }
 
     //
@@ -428,15 +351,69 @@ final class LoggerAdminI implements com.zeroc.Ice.LoggerAdmin
         return com.zeroc.Ice.Util.initialize(initData);
     }
 
-    private final java.util.List<LogMessage> _queue = new java.util.LinkedList<>();
-    private int _logCount = 0; // non-trace messages
-    private final int _maxLogCount;
-    private int _traceCount = 0;
-    private final int _maxTraceCount;
-    private final int _traceLevel;
+    //
+    // Fixed-capacity ring of retained log messages, each message is stored with
+    // the sequence number used to merge the messages and traces rings.
+    //
+    private static class LogMessageRing
+    {
+        LogMessageRing(int capacity)
+        {
+            capacity = Math.max(capacity, 0);
+            _messages = new LogMessage[capacity];
+            _sequences = new long[capacity];
+        }
 
-    private int _oldestTrace = -1;
-    private int _oldestLog = -1;
+        int capacity()
+        {
+            return _messages.length;
+        }
+
+        int size()
+        {
+            return _size;
+        }
+
+        void add(LogMessage message, long sequence)
+        {
+            int index = _first + _size;
+            if(_size == _messages.length)
+            {
+                _first = (_first + 1) % _messages.length; // Evict the oldest message
+            }
+            else
+            {
+                ++_size;
+            }
+            index %= _messages.length;
+            _messages[index] = message;
+            _sequences[index] = sequence;
+        }
+
+        //
+        // The message at the given position, 0 being the oldest message.
+        //
+        LogMessage get(int i)
+        {
+            return _messages[(_first + i) % _messages.length];
+        }
+
+        long sequence(int i)
+        {
+            return _sequences[(_first + i) % _messages.length];
+        }
+
+        private final LogMessage[] _messages;
+        private final long[] _sequences;
+        private int _first;
+        private int _size;
+    }
+
+    private final LogMessageRing _logs; // non-trace messages
+    private final LogMessageRing _traces;
+    private long _nextSequence;
+    private final int _flushInterval;
+    private final int _traceLevel;
 
     private static class Filters
     {
@@ -452,9 +429,9 @@ final class LoggerAdminI implements com.zeroc.Ice.LoggerAdmin
 
     private static class RemoteLoggerData
     {
-        RemoteLoggerData(RemoteLoggerPrx prx, Filters f)
+        RemoteLoggerData(RemoteLoggerPrx prx, Filters f, boolean batch)
         {
-            remoteLogger = prx;
+            remoteLogger = batch ? prx.ice_batchOneway() : prx;
             filters = f;
         }
 
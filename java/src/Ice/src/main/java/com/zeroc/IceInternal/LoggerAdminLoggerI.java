@@ -106,16 +106,35 @@ final class LoggerAdminLoggerI implements LoggerAdminLogger, Runnable
             _localLogger.trace(_traceCategory, "send log thread started");
         }
 
+        //
+        // The log messages sent to batch oneway remote loggers are queued in the
+        // batch request queue of the remote logger connection, the remote loggers
+        // with queued messages are flushed together every flush interval.
+        //
+        final int flushInterval = _loggerAdmin.getFlushInterval();
+        java.util.Set<com.zeroc.Ice.RemoteLoggerPrx> batched = new java.util.LinkedHashSet<>();
+        long nextFlush = 0;
+        java.util.Deque<Job> jobs = new java.util.ArrayDeque<>();
+
         for(;;)
         {
-            Job job = null;
             synchronized(this)
             {
                 while(!_destroyed && _jobQueue.isEmpty())
                 {
+                    long timeout = 0;
+                    if(!batched.isEmpty())
+                    {
+                        timeout = nextFlush - Time.currentMonotonicTimeMillis();
+                        if(timeout <= 0)
+                        {
+                            break;
+                        }
+                    }
+
                     try
                     {
-                        wait();
+                        wait(timeout);
                     }
                     catch(InterruptedException e)
                     {
@@ -128,59 +147,59 @@ final class LoggerAdminLoggerI implements LoggerAdminLogger, Runnable
                     break; // for(;;)
                 }
 
-                assert(!_jobQueue.isEmpty());
-                job = _jobQueue.removeFirst();
+                //
+                // Take all the queued jobs at once.
+                //
+                java.util.Deque<Job> tmp = _jobQueue;
+                _jobQueue = jobs;
+                jobs = tmp;
             }
 
-            for(com.zeroc.Ice.RemoteLoggerPrx p : job.remoteLoggers)
+            for(Job job : jobs)
             {
-                if(_loggerAdmin.getTraceLevel() > 1)
+                for(com.zeroc.Ice.RemoteLoggerPrx p : job.remoteLoggers)
                 {
-                    _localLogger.trace(_traceCategory, "sending log message to `" + p.toString() + "'");
+                    if(_loggerAdmin.getTraceLevel() > 1)
+                    {
+                        _localLogger.trace(_traceCategory, "sending log message to `" + p.toString() + "'");
+                    }
+
+                    try
+                    {
+                        //
+                        // p is a proxy associated with the _sendLogCommunicator
+                        //
+                        p.logAsync(job.logMessage).whenComplete((Void v, Throwable ex) -> completed(p, ex, "log"));
+                        if(p.ice_isBatchOneway())
+                        {
+                            batched.add(p);
+                        }
+                    }
+                    catch(com.zeroc.Ice.LocalException ex)
+                    {
+                        _loggerAdmin.deadRemoteLogger(p, _localLogger, ex, "log");
+                    }
                 }
+            }
+            jobs.clear();
 
-                try
+            if(!batched.isEmpty())
+            {
+                long now = Time.currentMonotonicTimeMillis();
+                if(nextFlush == 0)
                 {
-                    //
-                    // p is a proxy associated with the _sendLogCommunicator
-                    //
-                    p.logAsync(job.logMessage).whenComplete(
-                        (Void v, Throwable ex) ->
-                        {
-                            if(ex != null)
-                            {
-                                if(ex instanceof com.zeroc.Ice.CommunicatorDestroyedException)
-                                {
-                                    // Expected if there are outstanding calls during communicator destruction.
-                                }
-                                else if(ex instanceof com.zeroc.Ice.LocalException)
-                                {
-                                    _loggerAdmin.deadRemoteLogger(p, _localLogger, (com.zeroc.Ice.LocalException)ex,
-                                                                  "log");
-                                }
-                                else
-                                {
-                                    _loggerAdmin.deadRemoteLogger(p, _localLogger,
-                                                                  new com.zeroc.Ice.UnknownException(ex), "log");
-                                }
-                            }
-                            else
-                            {
-                                if(_loggerAdmin.getTraceLevel() > 1)
-                                {
-                                    _localLogger.trace(_traceCategory, "log on `" + p.toString() +
-                                                       "' completed successfully");
-                                }
-                            }
-                        });
+                    nextFlush = now + flushInterval;
                 }
-                catch(com.zeroc.Ice.LocalException ex)
+                if(now >= nextFlush)
                 {
-                    _loggerAdmin.deadRemoteLogger(p, _localLogger, ex, "log");
+                    flush(batched);
+                    nextFlush = 0;
                 }
             }
         }
 
+        flush(batched);
+
         if(_loggerAdmin.getTraceLevel() > 1)
         {
             _localLogger.trace(_traceCategory, "send log thread completed");
@@ -228,6 +247,55 @@ final class LoggerAdminLoggerI implements LoggerAdminLogger, Runnable
         }
     }
 
+    //
+    // Flushes the batched log messages of the remote loggers. The batch oneway
+    // requests don't report the remote logger failures such as
+    // ObjectNotExistException, the remote loggers are therefore pinged after
+    // the flush to detach the dead remote loggers.
+    //
+    private void flush(java.util.Set<com.zeroc.Ice.RemoteLoggerPrx> batched)
+    {
+        for(com.zeroc.Ice.RemoteLoggerPrx p : batched)
+        {
+            try
+            {
+                p.ice_flushBatchRequestsAsync().whenComplete((Void v, Throwable ex) -> completed(p, ex, "log"));
+                p.ice_twoway().ice_pingAsync().whenComplete((Void v, Throwable ex) -> completed(p, ex, "ice_ping"));
+            }
+            catch(com.zeroc.Ice.LocalException ex)
+            {
+                _loggerAdmin.deadRemoteLogger(p, _localLogger, ex, "log");
+            }
+        }
+        batched.clear();
+    }
+
+    private void completed(com.zeroc.Ice.RemoteLoggerPrx p, Throwable ex, String operation)
+    {
+        if(ex != null)
+        {
+            if(ex instanceof com.zeroc.Ice.CommunicatorDestroyedException)
+            {
+                // Expected if there are outstanding calls during communicator destruction.
+            }
+            else if(ex instanceof com.zeroc.Ice.LocalException)
+            {
+                _loggerAdmin.deadRemoteLogger(p, _localLogger, (com.zeroc.Ice.LocalException)ex, operation);
+            }
+            else
+            {
+                _loggerAdmin.deadRemoteLogger(p, _localLogger, new com.zeroc.Ice.UnknownException(ex), operation);
+            }
+        }
+        else
+        {
+            if(_loggerAdmin.getTraceLevel() > 1)
+            {
+                _localLogger.trace(_traceCategory, operation + " on `" + p.toString() + "' completed successfully");
+            }
+        }
+    }
+
     static private long now()
     {
         return java.util.Calendar.getInstance().getTimeInMillis() * 1000;
@@ -249,7 +317,7 @@ final class LoggerAdminLoggerI implements LoggerAdminLogger, Runnable
     private final LoggerAdminI _loggerAdmin;
     private boolean _destroyed = false;
     private Thread _sendLogThread;
-    private final java.util.Deque<Job> _jobQueue = new java.util.ArrayDeque<>();
+    private java.util.Deque<Job> _jobQueue = new java.util.ArrayDeque<>();
 
     static private final String _traceCategory = "Admin.Logger";
 }
@@ -256,6 +256,30 @@ public class MetricsAdminI implements com.zeroc.IceMX.MetricsAdmin,
         return new com.zeroc.IceMX.MetricsFailures();
     }
 
+    synchronized void visitViews(OpenMetricsWriter writer)
+    {
+        for(java.util.Map.Entry<String, MetricsViewI> v : new java.util.TreeMap<>(_views).entrySet())
+        {
+            for(String mapName : new java.util.TreeSet<>(v.getValue().getMaps()))
+            {
+                v.getValue().visit(mapName, writer.visitor(v.getKey(), mapName));
+            }
+        }
+    }
+
+    void visitSources(OpenMetricsWriter writer)
+    {
+        for(OpenMetricsWriter.Source source : _sources)
+        {
+            source.writeMetrics(writer);
+        }
+    }
+
+    public void addSource(OpenMetricsWriter.Source source)
+    {
+        _sources.add(source);
+    }
+
     public <T extends com.zeroc.IceMX.Metrics> void registerMap(String map, Class<T> cl, Runnable updater)
     {
         boolean updated;
@@ -395,4 +419,6 @@ public class MetricsAdminI implements com.zeroc.IceMX.MetricsAdmin,
 
     private java.util.Map<String, MetricsViewI> _views = new java.util.HashMap<>();
     private java.util.Set<String> _disabledViews = new java.util.HashSet<>();
+    final private java.util.List<OpenMetricsWriter.Source> _sources =
+        new java.util.concurrent.CopyOnWriteArrayList<>();
 }
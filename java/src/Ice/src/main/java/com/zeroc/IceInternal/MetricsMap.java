@@ -11,6 +11,13 @@ package com.zeroc.IceInternal;
 
 public class MetricsMap<T extends com.zeroc.IceMX.Metrics>
 {
+    interface Visitor
+    {
+        void visit(com.zeroc.IceMX.Metrics metrics);
+
+        Visitor visitSubMap(String subMapName, com.zeroc.IceMX.Metrics parent);
+    }
+
     public class Entry
     {
         Entry(T obj)
@@ -317,6 +324,31 @@ public class MetricsMap<T extends com.zeroc.IceMX.Metrics>
         return metrics;
     }
 
+    //
+    // Visit the metrics objects of this map and of their sub-maps
+    // without cloning them. The visitor is called with the map lock
+    // held and must not retain the given metrics objects.
+    //
+    synchronized void
+    visit(Visitor visitor)
+    {
+        for(Entry e : _objects.values())
+        {
+            visitor.visit(e._object);
+            if(e._subMaps != null)
+            {
+                for(java.util.Map.Entry<String, SubMap<?>> s : e._subMaps.entrySet())
+                {
+                    Visitor v = visitor.visitSubMap(s.getKey(), e._object);
+                    if(v != null)
+                    {
+                        s.getValue()._map.visit(v);
+                    }
+                }
+            }
+        }
+    }
+
     synchronized com.zeroc.IceMX.MetricsFailures[]
     getFailures()
     {
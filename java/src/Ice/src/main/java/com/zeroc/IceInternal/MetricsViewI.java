@@ -86,6 +86,16 @@ public class MetricsViewI
         return metrics;
     }
 
+    public void
+    visit(String mapName, MetricsMap.Visitor visitor)
+    {
+        MetricsMap<?> m = _maps.get(mapName);
+        if(m != null)
+        {
+            m.visit(visitor);
+        }
+    }
+
     public com.zeroc.IceMX.MetricsFailures[]
     getFailures(String mapName)
     {
@@ -396,6 +396,30 @@ public final class Network
         }
     }
 
+    //
+    // Enables SO_REUSEPORT if the JDK and the platform support it (JDK 9 or
+    // later, not Windows), returns false otherwise.
+    //
+    public static boolean
+    setReusePort(java.nio.channels.ServerSocketChannel fd)
+    {
+        if(_reusePort == null || !fd.supportedOptions().contains(_reusePort))
+        {
+            return false;
+        }
+
+        try
+        {
+            fd.setOption(_reusePort, true);
+            return true;
+        }
+        catch(java.io.IOException ex)
+        {
+            closeSocketNoThrow(fd);
+            throw new SocketException(ex);
+        }
+    }
+
     public static java.net.InetSocketAddress
     doBind(java.nio.channels.ServerSocketChannel fd, java.net.InetSocketAddress addr, int backlog)
     {
@@ -437,6 +461,10 @@ public final class Network
             try
             {
                 fd = afd.accept();
+                if(fd == null)
+                {
+                    return null; // No pending connection.
+                }
                 break;
             }
             catch(java.io.IOException ex)
@@ -1480,4 +1508,24 @@ public final class Network
 
     private static IPAddressComparator _preferIPv4Comparator = new IPAddressComparator(false);
     private static IPAddressComparator _preferIPv6Comparator = new IPAddressComparator(true);
+
+    //
+    // StandardSocketOptions.SO_REUSEPORT, looked up at runtime since it's
+    // only available with JDK 9 or later.
+    //
+    private static java.net.SocketOption<Boolean> _reusePort = null;
+    static
+    {
+        try
+        {
+            @SuppressWarnings("unchecked")
+            java.net.SocketOption<Boolean> reusePort =
+                (java.net.SocketOption<Boolean>)java.net.StandardSocketOptions.class.getField("SO_REUSEPORT").get(null);
+            _reusePort = reusePort;
+        }
+        catch(ReflectiveOperationException ex)
+        {
+            // Not supported by this JDK.
+        }
+    }
 }
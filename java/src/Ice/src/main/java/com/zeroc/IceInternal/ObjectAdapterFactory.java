@@ -12,7 +12,7 @@ package com.zeroc.IceInternal;
 import com.zeroc.Ice.ObjectAdapter;
 import com.zeroc.Ice.ObjectAdapterI;
 
-public final class ObjectAdapterFactory
+public final class ObjectAdapterFactory implements OpenMetricsWriter.Source
 {
     public void
     shutdown()
@@ -276,6 +276,32 @@ public final class ObjectAdapterFactory
         }
     }
 
+    @Override
+    public void
+    writeMetrics(OpenMetricsWriter writer)
+    {
+        java.util.List<ObjectAdapterI> adapters;
+        synchronized(this)
+        {
+            adapters = new java.util.LinkedList<>(_adapters);
+        }
+
+        for(ObjectAdapterI adapter : adapters)
+        {
+            AdmissionControl admissionControl = adapter.getAdmissionControl();
+            if(admissionControl != null)
+            {
+                admissionControl.writeMetrics(writer);
+            }
+
+            DispatchLanes dispatchLanes = adapter.getDispatchLanes();
+            if(dispatchLanes != null)
+            {
+                dispatchLanes.writeMetrics(writer);
+            }
+        }
+    }
+
     //
     // Only for use by Instance.
     //
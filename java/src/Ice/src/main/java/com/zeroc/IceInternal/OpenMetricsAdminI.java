@@ -0,0 +1,26 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package com.zeroc.IceInternal;
+
+class OpenMetricsAdminI implements com.zeroc.IceMX.OpenMetricsAdmin
+{
+    OpenMetricsAdminI(MetricsAdminI metrics)
+    {
+        _metrics = metrics;
+    }
+
+    @Override
+    public String getOpenMetrics(com.zeroc.Ice.Current current)
+    {
+        return OpenMetricsWriter.write(_metrics);
+    }
+
+    final private MetricsAdminI _metrics;
+}
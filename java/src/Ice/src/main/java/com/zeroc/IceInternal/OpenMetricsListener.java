@@ -0,0 +1,110 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package com.zeroc.IceInternal;
+
+//
+// A minimal HTTP listener serving the OpenMetrics exposition of the
+// communicator metrics on the /metrics path, for scrapers which can't
+// use the OpenMetricsAdmin facet. Requests are served by a single
+// thread and the listener is only created if IceMX.OpenMetrics.Port
+// is set.
+//
+class OpenMetricsListener
+{
+    OpenMetricsListener(Instance instance, MetricsAdminI metrics)
+    {
+        com.zeroc.Ice.Properties properties = instance.initializationData().properties;
+        String host = properties.getPropertyWithDefault("IceMX.OpenMetrics.Host", "127.0.0.1");
+        int port = properties.getPropertyAsInt("IceMX.OpenMetrics.Port");
+        _logger = instance.initializationData().logger;
+        _metrics = metrics;
+
+        try
+        {
+            _server = com.sun.net.httpserver.HttpServer.create(new java.net.InetSocketAddress(host, port), 0);
+        }
+        catch(java.io.IOException ex)
+        {
+            throw new com.zeroc.Ice.SocketException(ex);
+        }
+
+        _server.createContext("/metrics", exchange ->
+            {
+                try
+                {
+                    if(!exchange.getRequestMethod().equals("GET") && !exchange.getRequestMethod().equals("HEAD"))
+                    {
+                        exchange.sendResponseHeaders(405, -1);
+                        return;
+                    }
+
+                    byte[] body = OpenMetricsWriter.write(_metrics).getBytes(java.nio.charset.StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().set("Content-Type", OpenMetricsWriter.CONTENT_TYPE);
+                    if(exchange.getRequestMethod().equals("HEAD"))
+                    {
+                        exchange.sendResponseHeaders(200, -1);
+                    }
+                    else
+                    {
+                        exchange.sendResponseHeaders(200, body.length);
+                        try(java.io.OutputStream os = exchange.getResponseBody())
+                        {
+                            os.write(body);
+                        }
+                    }
+                }
+                catch(java.io.IOException ex)
+                {
+                    // Client went away, nothing to do.
+                }
+                catch(RuntimeException ex)
+                {
+                    _logger.warning("unexpected exception while serving OpenMetrics request:\n" + Ex.toString(ex));
+
+                    //
+                    // The error can only be reported if the response headers
+                    // weren't sent yet, otherwise the exchange is just closed.
+                    //
+                    if(exchange.getResponseCode() == -1)
+                    {
+                        try
+                        {
+                            exchange.sendResponseHeaders(500, -1);
+                        }
+                        catch(java.io.IOException exc)
+                        {
+                            // Client went away, nothing to do.
+                        }
+                    }
+                }
+                finally
+                {
+                    exchange.close();
+                }
+            });
+        _server.start();
+    }
+
+    java.net.InetSocketAddress
+    getAddress()
+    {
+        return _server.getAddress();
+    }
+
+    void
+    destroy()
+    {
+        _server.stop(0);
+    }
+
+    final private com.sun.net.httpserver.HttpServer _server;
+    final private MetricsAdminI _metrics;
+    final private com.zeroc.Ice.Logger _logger;
+}
@@ -0,0 +1,321 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package com.zeroc.IceInternal;
+
+//
+// Renders the metrics views of a MetricsAdminI in the OpenMetrics text
+// exposition format. Each metrics map attribute is exported as a metric
+// family, the samples are labeled with the view name, the metrics ID and
+// for sub-maps the ID of the parent metrics. The metrics objects are
+// visited in place, they are never cloned. The runtime components that
+// don't have a metrics map, such as the locator cache, write their
+// samples with a Source registered with the MetricsAdminI.
+//
+public final class OpenMetricsWriter
+{
+    public static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+    public interface Source
+    {
+        void writeMetrics(OpenMetricsWriter writer);
+    }
+
+    public static String
+    write(MetricsAdminI metrics)
+    {
+        OpenMetricsWriter writer = new OpenMetricsWriter();
+        metrics.visitViews(writer);
+        metrics.visitSources(writer);
+        return writer.toString();
+    }
+
+    //
+    // Returns the label with the given name and value, the labels of a sample
+    // are separated with commas.
+    //
+    public static String
+    label(String name, String value)
+    {
+        return name + "=\"" + escape(value) + "\"";
+    }
+
+    public void
+    counter(String name, String labels, long value)
+    {
+        sample(name, true, labels, value);
+    }
+
+    public void
+    gauge(String name, String labels, long value)
+    {
+        sample(name, false, labels, value);
+    }
+
+    @Override
+    public String
+    toString()
+    {
+        StringBuilder out = new StringBuilder();
+        for(Family f : _families.values())
+        {
+            out.append("# TYPE ").append(f.name).append(' ').append(f.counter ? "counter" : "gauge").append('\n');
+            if(f.unit != null)
+            {
+                out.append("# UNIT ").append(f.name).append(' ').append(f.unit).append('\n');
+            }
+            out.append(f.samples);
+        }
+        out.append("# EOF\n");
+        return out.toString();
+    }
+
+    MetricsMap.Visitor
+    visitor(String viewName, String mapName)
+    {
+        return new MapVisitor("ice_" + toSnakeCase(mapName), "view=\"" + escape(viewName) + "\"");
+    }
+
+    private class MapVisitor implements MetricsMap.Visitor
+    {
+        MapVisitor(String prefix, String labels)
+        {
+            _prefix = prefix;
+            _labels = labels;
+        }
+
+        @Override
+        public void
+        visit(com.zeroc.IceMX.Metrics metrics)
+        {
+            String labels = "{" + _labels + ",id=\"" + escape(metrics.id) + "\"} ";
+            try
+            {
+                for(Attribute a : getAttributes(metrics.getClass()))
+                {
+                    Family f = getFamily(_prefix, a);
+                    f.samples.append(f.name);
+                    if(f.counter)
+                    {
+                        f.samples.append("_total");
+                    }
+                    f.samples.append(labels);
+                    if(a.microseconds)
+                    {
+                        f.samples.append(a.field.getLong(metrics) / 1000000.0);
+                    }
+                    else
+                    {
+                        f.samples.append(a.field.getLong(metrics));
+                    }
+                    f.samples.append('\n');
+                }
+            }
+            catch(IllegalAccessException ex)
+            {
+                assert(false);
+            }
+        }
+
+        @Override
+        public MetricsMap.Visitor
+        visitSubMap(String subMapName, com.zeroc.IceMX.Metrics parent)
+        {
+            return new MapVisitor(_prefix + "_" + toSnakeCase(subMapName),
+                                  _labels + ",parent=\"" + escape(parent.id) + "\"");
+        }
+
+        final private String _prefix;
+        final private String _labels;
+    }
+
+    private static class Family
+    {
+        Family(String name, boolean counter, String unit)
+        {
+            this.name = name;
+            this.counter = counter;
+            this.unit = unit;
+        }
+
+        final String name;
+        final boolean counter;
+        final String unit;
+        final StringBuilder samples = new StringBuilder();
+    }
+
+    private static class Attribute
+    {
+        Attribute(java.lang.reflect.Field field)
+        {
+            this.field = field;
+            String name = field.getName();
+            if(name.equals("total"))
+            {
+                suffix = "";
+            }
+            else if(name.equals("totalLifetime"))
+            {
+                suffix = "_lifetime_seconds";
+            }
+            else
+            {
+                suffix = "_" + toSnakeCase(name);
+            }
+            counter = !name.equals("current") && !name.startsWith("inUse");
+            microseconds = name.equals("totalLifetime");
+        }
+
+        final java.lang.reflect.Field field;
+        final String suffix;
+        final boolean counter;
+        final boolean microseconds;
+    }
+
+    private void
+    sample(String name, boolean counter, String labels, long value)
+    {
+        Family f = _families.get(name);
+        if(f == null)
+        {
+            f = new Family(name, counter, null);
+            _families.put(name, f);
+        }
+        f.samples.append(name);
+        if(f.counter)
+        {
+            f.samples.append("_total");
+        }
+        if(!labels.isEmpty())
+        {
+            f.samples.append('{').append(labels).append('}');
+        }
+        f.samples.append(' ').append(value).append('\n');
+    }
+
+    private Family
+    getFamily(String prefix, Attribute attribute)
+    {
+        String name = prefix + attribute.suffix;
+        Family f = _families.get(name);
+        if(f == null)
+        {
+            f = new Family(name, attribute.counter, attribute.microseconds ? "seconds" : null);
+            _families.put(name, f);
+        }
+        return f;
+    }
+
+    private static Attribute[]
+    getAttributes(Class<?> cl)
+    {
+        Attribute[] attributes = _attributes.get(cl);
+        if(attributes == null)
+        {
+            //
+            // Collect the numeric public fields, starting with the fields of the
+            // Metrics base class to get the same attribute order for all maps.
+            //
+            java.util.List<Class<?>> hierarchy = new java.util.LinkedList<>();
+            for(Class<?> c = cl; c != null && com.zeroc.IceMX.Metrics.class.isAssignableFrom(c);
+                c = c.getSuperclass())
+            {
+                hierarchy.add(0, c);
+            }
+
+            java.util.List<Attribute> l = new java.util.ArrayList<>();
+            for(Class<?> c : hierarchy)
+            {
+                for(java.lang.reflect.Field field : c.getDeclaredFields())
+                {
+                    int m = field.getModifiers();
+                    if(java.lang.reflect.Modifier.isPublic(m) && !java.lang.reflect.Modifier.isStatic(m) &&
+                       (field.getType() == int.class || field.getType() == long.class))
+                    {
+                        l.add(new Attribute(field));
+                    }
+                }
+            }
+            attributes = l.toArray(new Attribute[l.size()]);
+            _attributes.putIfAbsent(cl, attributes);
+        }
+        return attributes;
+    }
+
+    private static String
+    toSnakeCase(String name)
+    {
+        StringBuilder s = new StringBuilder(name.length() + 8);
+        for(int i = 0; i < name.length(); ++i)
+        {
+            char c = name.charAt(i);
+            if(Character.isUpperCase(c))
+            {
+                if(i > 0 && !Character.isUpperCase(name.charAt(i - 1)))
+                {
+                    s.append('_');
+                }
+                s.append(Character.toLowerCase(c));
+            }
+            else if(Character.isLetterOrDigit(c))
+            {
+                s.append(c);
+            }
+            else
+            {
+                s.append('_');
+            }
+        }
+        return s.toString();
+    }
+
+    private static String
+    escape(String value)
+    {
+        if(value.indexOf('\\') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0)
+        {
+            return value;
+        }
+
+        StringBuilder s = new StringBuilder(value.length() + 8);
+        for(int i = 0; i < value.length(); ++i)
+        {
+            char c = value.charAt(i);
+            switch(c)
+            {
+                case '\\':
+                {
+                    s.append("\\\\");
+                    break;
+                }
+                case '"':
+                {
+                    s.append("\\\"");
+                    break;
+                }
+                case '\n':
+                {
+                    s.append("\\n");
+                    break;
+                }
+                default:
+                {
+                    s.append(c);
+                    break;
+                }
+            }
+        }
+        return s.toString();
+    }
+
+    private static final java.util.concurrent.ConcurrentHashMap<Class<?>, Attribute[]> _attributes =
+        new java.util.concurrent.ConcurrentHashMap<>();
+
+    final private java.util.Map<String, Family> _families = new java.util.TreeMap<>();
+}
@@ -91,12 +91,28 @@ public class OutgoingAsync<T> extends ProxyOutgoingAsyncBaseI<T>
             }
             else
             {
+                //
+                // Twoway invocations of idempotent operations on proxies with
+                // several endpoints can be hedged.
+                //
+                HedgePolicy hedgePolicy = null;
+                if(_mode != OperationMode.Normal && _proxy.ice_isTwoway() &&
+                   _proxy._getReference().getEndpoints().length > 1)
+                {
+                    hedgePolicy = _instance.hedgePolicy();
+                }
+
                 //
                 // NOTE: invokeImpl doesn't throw so this can be called from the
                 // try block with the catch block calling abort() in case of an
                 // exception.
                 //
                 invokeImpl(true); // userThread = true
+
+                if(hedgePolicy != null)
+                {
+                    hedge(hedgePolicy);
+                }
             }
         }
         catch(com.zeroc.Ice.Exception ex)
@@ -202,12 +218,31 @@ public class OutgoingAsync<T> extends ProxyOutgoingAsyncBaseI<T>
         super.abort(ex);
     }
 
+    @Override
+    protected boolean finished(com.zeroc.Ice.Exception ex)
+    {
+        if(_hedged)
+        {
+            //
+            // The hedged request received a reply, the request of this
+            // invocation was canceled and the invocation completes with the
+            // result of the hedged request.
+            //
+            return finished(true, true);
+        }
+        return super.finished(ex);
+    }
+
     @Override
     protected void markCompleted()
     {
         try
         {
-            if(!_proxy.ice_isTwoway())
+            if(_hedged)
+            {
+                complete(_hedgeResult);
+            }
+            else if(!_proxy.ice_isTwoway())
             {
                 //
                 // For a non-twoway proxy, the invocation is completed after it is sent.
@@ -294,6 +329,120 @@ public class OutgoingAsync<T> extends ProxyOutgoingAsyncBaseI<T>
         return super.completed(_is);
     }
 
+    private void hedge(HedgePolicy hedgePolicy)
+    {
+        final long start = System.nanoTime();
+        final long delay = hedgePolicy.delay();
+        final java.util.concurrent.Future<?> future = delay > 0 && !isDone() ?
+            _instance.timer().schedule(() -> sendHedge(hedgePolicy), delay,
+                                       java.util.concurrent.TimeUnit.NANOSECONDS) : null;
+        whenComplete((r, ex) ->
+            {
+                if(future != null)
+                {
+                    future.cancel(false);
+                }
+                if(ex == null || ex instanceof UserException)
+                {
+                    hedgePolicy.completed(System.nanoTime() - start);
+                }
+            });
+    }
+
+    //
+    // Sends the request to the endpoints of the proxy other than the
+    // endpoint of the connection used by this invocation. The first reply
+    // completes the invocation and the other request is canceled.
+    //
+    private void sendHedge(HedgePolicy hedgePolicy)
+    {
+        com.zeroc.Ice.Connection connection = _cachedConnection;
+        if(isDone() || !(connection instanceof com.zeroc.Ice.ConnectionI))
+        {
+            return;
+        }
+
+        EndpointI connectionEndpoint = ((com.zeroc.Ice.ConnectionI)connection).endpoint();
+        java.util.List<com.zeroc.Ice.Endpoint> endpoints = new java.util.ArrayList<>();
+        for(EndpointI endpoint : _proxy._getReference().getEndpoints())
+        {
+            if(!endpoint.equivalent(connectionEndpoint))
+            {
+                endpoints.add(endpoint);
+            }
+        }
+        if(endpoints.isEmpty() || !hedgePolicy.withdraw())
+        {
+            return;
+        }
+
+        //
+        // Copy the marshaled request, the buffers of the invocation are
+        // released once it's completed.
+        //
+        byte[] request;
+        synchronized(this)
+        {
+            if((_state & (StateDone | StateCachedBuffers)) != 0)
+            {
+                return;
+            }
+            request = new byte[_os.size()];
+            java.nio.ByteBuffer b = _os.getBuffer().b.duplicate();
+            b.position(0);
+            b.get(request);
+        }
+
+        try
+        {
+            OutgoingAsync<T> hedge = new OutgoingAsync<>(
+                _proxy.ice_endpoints(endpoints.toArray(new com.zeroc.Ice.Endpoint[endpoints.size()])), _operation,
+                _mode, false, _userExceptions);
+            hedge._unmarshal = _unmarshal;
+            hedge._os.writeBlob(request);
+            try
+            {
+                hedge.invokeImpl(true);
+            }
+            catch(com.zeroc.Ice.Exception ex)
+            {
+                hedge.abort(ex);
+            }
+
+            hedge.whenComplete((r, ex) ->
+                {
+                    if(ex == null && hedgeCompleted(r))
+                    {
+                        hedgePolicy.won();
+                    }
+                });
+            whenComplete((r, ex) -> hedge.cancel());
+        }
+        catch(com.zeroc.Ice.CommunicatorDestroyedException ex)
+        {
+        }
+    }
+
+    //
+    // Called when the hedged request receives a reply before this
+    // invocation. The request of this invocation is canceled, which
+    // completes the invocation with the given result, see finished().
+    //
+    private boolean hedgeCompleted(T result)
+    {
+        synchronized(this)
+        {
+            if((_state & StateDone) != 0)
+            {
+                return false;
+            }
+            _hedgeResult = result;
+            _hedged = true;
+        }
+        cancel(new com.zeroc.Ice.InvocationCanceledException());
+        return true;
+    }
+
     private com.zeroc.Ice.OutputStream startWriteParams(FormatType format)
     {
         _os.startEncapsulation(_encoding, format);
@@ -373,4 +522,7 @@ public class OutgoingAsync<T> extends ProxyOutgoingAsyncBaseI<T>
 
     private Class<?>[] _userExceptions; // Valid user exceptions.
     private Unmarshaler<T> _unmarshal;
+
+    private volatile boolean _hedged; // True if the invocation completes with the result of the hedged request.
+    private T _hedgeResult;
 }
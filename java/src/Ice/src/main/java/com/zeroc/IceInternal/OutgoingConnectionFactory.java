@@ -352,6 +352,7 @@ public final class OutgoingConnectionFactory
         _instance = instance;
         _monitor = new FactoryACMMonitor(instance, instance.clientACM());
         _destroyed = false;
+        _connectAttemptDelay = instance.initializationData().properties.getPropertyAsInt("Ice.ConnectAttemptDelay");
     }
 
     @SuppressWarnings("deprecation")
@@ -877,7 +878,7 @@ public final class OutgoingConnectionFactory
         public EndpointI endpoint;
     }
 
-    private static class ConnectCallback implements ConnectionI.StartCallback, EndpointI_connectors
+    private static class ConnectCallback implements EndpointI_connectors
     {
         ConnectCallback(OutgoingConnectionFactory f, java.util.List<EndpointI> endpoints, boolean more,
                         CreateConnectionCallback cb, com.zeroc.Ice.EndpointSelectionType selType)
@@ -890,32 +891,6 @@ public final class OutgoingConnectionFactory
             _endpointsIter = _endpoints.iterator();
         }
 
-        //
-        // Methods from ConnectionI.StartCallback
-        //
-        @Override
-        public void
-        connectionStartCompleted(ConnectionI connection)
-        {
-            if(_observer != null)
-            {
-                _observer.detach();
-            }
-            connection.activate();
-            _factory.finishGetConnection(_connectors, _current, connection, this);
-        }
-
-        @Override
-        public void
-        connectionStartFailed(ConnectionI connection, LocalException ex)
-        {
-            assert(_current != null);
-            if(connectionStartFailedImpl(ex))
-            {
-                nextConnector();
-            }
-        }
-
         //
         // Methods from EndpointI_connectors
         //
@@ -1079,88 +1054,283 @@ public final class OutgoingConnectionFactory
             }
         }
 
+        //
+        // Starts the connection establishment with the next connector. With
+        // Ice.ConnectAttemptDelay, the connection establishment with the
+        // next connector is also started if this one didn't complete after
+        // the delay, the first established connection is used and the others
+        // are closed.
+        //
         private void
         nextConnector()
         {
-            while(true)
+            Attempt attempt;
+            synchronized(this)
             {
-                try
+                if(_delayFuture != null)
+                {
+                    _delayFuture.cancel(false);
+                    _delayFuture = null;
+                }
+                if(_established != null || !_iter.hasNext())
+                {
+                    return;
+                }
+                attempt = new Attempt(_iter.next());
+                _attempts.add(attempt);
+            }
+
+            attempt.start();
+
+            synchronized(this)
+            {
+                int delay = _factory._connectAttemptDelay;
+                if(delay > 0 && _established == null && _iter.hasNext() && _attempts.contains(attempt) &&
+                   _delayFuture == null)
+                {
+                    try
+                    {
+                        _delayFuture = _factory._instance.timer().schedule(() -> nextConnector(), delay,
+                                                                            java.util.concurrent.TimeUnit.MILLISECONDS);
+                    }
+                    catch(com.zeroc.Ice.CommunicatorDestroyedException ex)
+                    {
+                        // Ignore, the pending connection establishment fails.
+                    }
+                }
+            }
+        }
+
+        private void
+        attemptCompleted(Attempt attempt, ConnectionI connection)
+        {
+            java.util.List<Attempt> attempts;
+            synchronized(this)
+            {
+                if(!_attempts.remove(attempt) || _established != null)
+                {
+                    //
+                    // Another connection was established first.
+                    //
+                    connection.close(com.zeroc.Ice.ConnectionClose.Gracefully);
+                    return;
+                }
+
+                _established = connection;
+                attempts = new java.util.ArrayList<>(_attempts);
+                _attempts.clear();
+                if(_delayFuture != null)
+                {
+                    _delayFuture.cancel(false);
+                    _delayFuture = null;
+                }
+            }
+
+            for(Attempt p : attempts)
+            {
+                p.close();
+            }
+
+            connection.activate();
+            _factory.finishGetConnection(_connectors, attempt._ci, connection, this);
+        }
+
+        private void
+        attemptFailed(Attempt attempt, LocalException ex)
+        {
+            boolean hasMore;
+            boolean pending;
+            synchronized(this)
+            {
+                if(!_attempts.remove(attempt))
+                {
+                    return; // Closed, another connection was established first.
+                }
+                hasMore = _iter.hasNext();
+                pending = !_attempts.isEmpty();
+            }
+
+            _factory.handleConnectionException(ex, _hasMore || hasMore || pending);
+            if(ex instanceof com.zeroc.Ice.CommunicatorDestroyedException) // No need to continue.
+            {
+                if(!pending)
                 {
-                    assert(_iter.hasNext());
-                    _current = _iter.next();
+                    _factory.finishGetConnection(_connectors, ex, this);
+                }
+            }
+            else if(hasMore) // Try the next connector.
+            {
+                nextConnector();
+            }
+            else if(!pending)
+            {
+                _factory.finishGetConnection(_connectors, ex, this);
+            }
+        }
+
+        //
+        // The connection establishment with a connector.
+        //
+        private class Attempt implements ConnectionI.StartCallback
+        {
+            Attempt(ConnectorInfo ci)
+            {
+                _ci = ci;
+            }
 
+            void
+            start()
+            {
+                LocalException open = null;
+                try
+                {
                     com.zeroc.Ice.Instrumentation.CommunicatorObserver obsv =
                         _factory._instance.initializationData().observer;
                     if(obsv != null)
                     {
-                        _observer = obsv.getConnectionEstablishmentObserver(_current.endpoint,
-                                                                            _current.connector.toString());
+                        _observer = obsv.getConnectionEstablishmentObserver(_ci.endpoint, _ci.connector.toString());
                         if(_observer != null)
                         {
                             _observer.attach();
                         }
                     }
 
+                    //
+                    // Fail right away if the circuit breaker of the connector is
+                    // open, the connection establishment observer reports the
+                    // failure.
+                    //
+                    CircuitBreaker circuitBreaker = _factory._instance.circuitBreaker();
+                    if(circuitBreaker != null && (open = circuitBreaker.check(_ci.connector)) != null)
+                    {
+                        if(_factory._instance.traceLevels().network >= 2)
+                        {
+                            StringBuffer s = new StringBuffer("circuit breaker open for ");
+                            s.append(_ci.endpoint.protocol());
+                            s.append(" connection to ");
+                            s.append(_ci.connector.toString());
+                            _factory._instance.initializationData().logger.trace(
+                                _factory._instance.traceLevels().networkCat, s.toString());
+                        }
+                        throw open;
+                    }
+
                     if(_factory._instance.traceLevels().network >= 2)
                     {
                         StringBuffer s = new StringBuffer("trying to establish ");
-                        s.append(_current.endpoint.protocol());
+                        s.append(_ci.endpoint.protocol());
                         s.append(" connection to ");
-                        s.append(_current.connector.toString());
+                        s.append(_ci.connector.toString());
                         _factory._instance.initializationData().logger.trace(
                             _factory._instance.traceLevels().networkCat, s.toString());
                     }
 
-                    ConnectionI connection =
-                        _factory.createConnection(_current.connector.connect(), _current);
+                    ConnectionI connection = _factory.createConnection(_ci.connector.connect(), _ci);
+                    boolean closed;
+                    synchronized(ConnectCallback.this)
+                    {
+                        _connection = connection;
+                        closed = _closed;
+                    }
+                    if(closed)
+                    {
+                        connection.close(com.zeroc.Ice.ConnectionClose.Forcefully);
+                    }
                     connection.start(this);
                 }
                 catch(LocalException ex)
                 {
-                    if(_factory._instance.traceLevels().network >= 2)
+                    if(open == null && _factory._instance.traceLevels().network >= 2)
                     {
                         StringBuffer s = new StringBuffer("failed to establish ");
-                        s.append(_current.endpoint.protocol());
+                        s.append(_ci.endpoint.protocol());
                         s.append(" connection to ");
-                        s.append(_current.connector.toString());
+                        s.append(_ci.connector.toString());
                         s.append("\n");
                         s.append(ex);
                         _factory._instance.initializationData().logger.trace(
                             _factory._instance.traceLevels().networkCat, s.toString());
                     }
-
-                    if(connectionStartFailedImpl(ex))
-                    {
-                        continue;
-                    }
+                    failed(ex, open == null);
                 }
-                break;
             }
-        }
 
-        private boolean
-        connectionStartFailedImpl(LocalException ex)
-        {
-            if(_observer != null)
+            //
+            // Closes the connection, another connection was established first.
+            //
+            void
+            close()
             {
-                _observer.failed(ex.ice_id());
-                _observer.detach();
+                ConnectionI connection;
+                synchronized(ConnectCallback.this)
+                {
+                    _closed = true;
+                    connection = _connection;
+                }
+                if(connection != null)
+                {
+                    connection.close(com.zeroc.Ice.ConnectionClose.Forcefully);
+                }
             }
 
-            _factory.handleConnectionException(ex, _hasMore || _iter.hasNext());
-            if(ex instanceof com.zeroc.Ice.CommunicatorDestroyedException) // No need to continue.
+            //
+            // Methods from ConnectionI.StartCallback
+            //
+            @Override
+            public void
+            connectionStartCompleted(ConnectionI connection)
             {
-                _factory.finishGetConnection(_connectors, ex, this);
+                if(_observer != null)
+                {
+                    _observer.detach();
+                }
+                CircuitBreaker circuitBreaker = _factory._instance.circuitBreaker();
+                if(circuitBreaker != null)
+                {
+                    circuitBreaker.success(_ci.connector);
+                }
+                attemptCompleted(this, connection);
             }
-            else if(_iter.hasNext()) // Try the next connector.
+
+            @Override
+            public void
+            connectionStartFailed(ConnectionI connection, LocalException ex)
             {
-                return true;
+                failed(ex, true);
             }
-            else
+
+            private void
+            failed(LocalException ex, boolean record)
             {
-                _factory.finishGetConnection(_connectors, ex, this);
+                boolean closed;
+                synchronized(ConnectCallback.this)
+                {
+                    closed = _closed;
+                }
+
+                CircuitBreaker circuitBreaker = _factory._instance.circuitBreaker();
+                if(circuitBreaker != null && record && !closed &&
+                   !(ex instanceof com.zeroc.Ice.CommunicatorDestroyedException))
+                {
+                    circuitBreaker.failure(_ci.connector, ex);
+                }
+
+                if(_observer != null)
+                {
+                    if(!closed)
+                    {
+                        _observer.failed(ex.ice_id());
+                    }
+                    _observer.detach();
+                }
+
+                attemptFailed(this, ex);
             }
-            return false;
+
+            private final ConnectorInfo _ci;
+            private com.zeroc.Ice.Instrumentation.Observer _observer;
+            private ConnectionI _connection;
+            private boolean _closed;
         }
 
         private final OutgoingConnectionFactory _factory;
@@ -1172,13 +1342,15 @@ public final class OutgoingConnectionFactory
         private EndpointI _currentEndpoint;
         private java.util.List<ConnectorInfo> _connectors = new java.util.ArrayList<>();
         private java.util.Iterator<ConnectorInfo> _iter;
-        private ConnectorInfo _current;
-        private com.zeroc.Ice.Instrumentation.Observer _observer;
+        private java.util.List<Attempt> _attempts = new java.util.ArrayList<>();
+        private java.util.concurrent.Future<?> _delayFuture;
+        private ConnectionI _established;
     }
 
     private com.zeroc.Ice.Communicator _communicator;
     private final Instance _instance;
     private final FactoryACMMonitor _monitor;
+    private final int _connectAttemptDelay;
     private boolean _destroyed;
 
     private MultiHashMap<Connector, ConnectionI> _connections = new MultiHashMap<>();
@@ -6,7 +6,7 @@
 // ICE_LICENSE file included in this distribution.
 //
 // **********************************************************************
-// Generated by makeprops.py from file ./config/PropertyNames.xml, Wed Sep 12 19:11:29 2018
+// Generated by makeprops.py from file ./config/PropertyNames.xml, Mon Oct 19 16:48:23 2026
 
 // IMPORTANT: Do not edit this file -- any edits made here will be lost!
 
@@ -34,6 +34,7 @@ public final class PropertyNames
         new Property("Ice\\.Admin\\.ACM\\.Heartbeat", false, null),
         new Property("Ice\\.Admin\\.ACM\\.Close", false, null),
         new Property("Ice\\.Admin\\.ACM", false, null),
+        new Property("Ice\\.Admin\\.Acceptors", false, null),
         new Property("Ice\\.Admin\\.AdapterId", false, null),
         new Property("Ice\\.Admin\\.Endpoints", false, null),
         new Property("Ice\\.Admin\\.Locator\\.EndpointSelection", false, null),
@@ -67,10 +68,25 @@ public final class PropertyNames
         new Property("Ice\\.Admin\\.ThreadPool\\.ThreadIdleTime", false, null),
         new Property("Ice\\.Admin\\.ThreadPool\\.ThreadPriority", false, null),
         new Property("Ice\\.Admin\\.MessageSizeMax", false, null),
+        new Property("Ice\\.Admin\\.AdmissionControl\\.MaxQueued", false, null),
+        new Property("Ice\\.Admin\\.AdmissionControl\\.MaxQueueWait", false, null),
+        new Property("Ice\\.Admin\\.AdmissionControl\\.CoDelTarget", false, null),
+        new Property("Ice\\.Admin\\.AdmissionControl\\.CoDelInterval", false, null),
+        new Property("Ice\\.Admin\\.Lanes\\.High\\.Operations", false, null),
+        new Property("Ice\\.Admin\\.Lanes\\.High\\.Categories", false, null),
+        new Property("Ice\\.Admin\\.Lanes\\.High\\.Weight", false, null),
+        new Property("Ice\\.Admin\\.Lanes\\.Normal\\.Weight", false, null),
+        new Property("Ice\\.Admin\\.Lanes\\.Low\\.Operations", false, null),
+        new Property("Ice\\.Admin\\.Lanes\\.Low\\.Categories", false, null),
+        new Property("Ice\\.Admin\\.Lanes\\.Low\\.Weight", false, null),
+        new Property("Ice\\.Admin\\.Lanes\\.Context", false, null),
+        new Property("Ice\\.Admin\\.Lanes\\.QueueSize", false, null),
+        new Property("Ice\\.Admin\\.WarmUp", false, null),
         new Property("Ice\\.Admin\\.DelayCreation", false, null),
         new Property("Ice\\.Admin\\.Enabled", false, null),
         new Property("Ice\\.Admin\\.Facets", false, null),
         new Property("Ice\\.Admin\\.InstanceName", false, null),
+        new Property("Ice\\.Admin\\.Logger\\.FlushInterval", false, null),
         new Property("Ice\\.Admin\\.Logger\\.KeepLogs", false, null),
         new Property("Ice\\.Admin\\.Logger\\.KeepTraces", false, null),
         new Property("Ice\\.Admin\\.Logger\\.Properties", false, null),
@@ -79,12 +95,21 @@ public final class PropertyNames
         new Property("Ice\\.BatchAutoFlush", true, null),
         new Property("Ice\\.BatchAutoFlushSize", false, null),
         new Property("Ice\\.ChangeUser", false, null),
+        new Property("Ice\\.CircuitBreaker\\.Failures", false, null),
+        new Property("Ice\\.CircuitBreaker\\.OpenTime", false, null),
         new Property("Ice\\.ClassGraphDepthMax", false, null),
         new Property("Ice\\.ClientAccessPolicyProtocol", false, null),
         new Property("Ice\\.Compression\\.Level", false, null),
         new Property("Ice\\.CollectObjects", false, null),
+        new Property("Ice\\.ConcurrencyLimit\\.Initial", false, null),
+        new Property("Ice\\.ConcurrencyLimit\\.Max", false, null),
+        new Property("Ice\\.ConcurrencyLimit\\.Min", false, null),
+        new Property("Ice\\.ConcurrencyLimit\\.QueueTimeout", false, null),
+        new Property("Ice\\.ConcurrencyLimit\\.Tolerance", false, null),
         new Property("Ice\\.Config", false, null),
+        new Property("Ice\\.ConnectAttemptDelay", false, null),
         new Property("Ice\\.ConsoleListener", false, null),
+        new Property("Ice\\.Deadline\\.Propagate", false, null),
         new Property("Ice\\.Default\\.CollocationOptimized", false, null),
         new Property("Ice\\.Default\\.EncodingVersion", false, null),
         new Property("Ice\\.Default\\.EndpointSelection", false, null),
@@ -121,11 +146,21 @@ public final class PropertyNames
         new Property("Ice\\.FactoryAssemblies", false, null),
         new Property("Ice\\.HTTPProxyHost", false, null),
         new Property("Ice\\.HTTPProxyPort", false, null),
+        new Property("Ice\\.Hedge\\.Delay", false, null),
+        new Property("Ice\\.Hedge\\.MaxPercent", false, null),
+        new Property("Ice\\.Hedge\\.Percentile", false, null),
         new Property("Ice\\.ImplicitContext", false, null),
         new Property("Ice\\.InitPlugins", false, null),
         new Property("Ice\\.IPv4", false, null),
         new Property("Ice\\.IPv6", false, null),
+        new Property("Ice\\.LocatorCache\\.File", false, null),
+        new Property("Ice\\.LocatorCache\\.NegativeTTL", false, null),
+        new Property("Ice\\.LocatorCache\\.Size", false, null),
+        new Property("Ice\\.LocatorCache\\.SnapshotInterval", false, null),
         new Property("Ice\\.LogFile", false, null),
+        new Property("Ice\\.LogFile\\.Async", false, null),
+        new Property("Ice\\.LogFile\\.Overflow", false, null),
+        new Property("Ice\\.LogFile\\.QueueSize", false, null),
         new Property("Ice\\.LogFile\\.SizeMax", false, null),
         new Property("Ice\\.LogStdErr\\.Convert", false, null),
         new Property("Ice\\.MessageSizeMax", false, null),
@@ -145,7 +180,14 @@ public final class PropertyNames
         new Property("Ice\\.PrintProcessId", false, null),
         new Property("Ice\\.PrintStackTraces", false, null),
         new Property("Ice\\.ProgramName", false, null),
+        new Property("Ice\\.RetryBackoff\\.Initial", false, null),
+        new Property("Ice\\.RetryBackoff\\.Max", false, null),
+        new Property("Ice\\.RetryBackoff\\.Retries", false, null),
+        new Property("Ice\\.RetryBudget\\.Max", false, null),
+        new Property("Ice\\.RetryBudget\\.Percent", false, null),
         new Property("Ice\\.RetryIntervals", false, null),
+        new Property("Ice\\.RetryJitter", false, null),
+        new Property("Ice\\.RouterAddProxiesDelay", false, null),
         new Property("Ice\\.ServerIdleTime", false, null),
         new Property("Ice\\.SOCKSProxyHost", false, null),
         new Property("Ice\\.SOCKSProxyPort", false, null),
@@ -204,6 +246,8 @@ public final class PropertyNames
         new Property("IceMX\\.Metrics\\.[^\\s]+\\.Accept", false, null),
         new Property("IceMX\\.Metrics\\.[^\\s]+\\.Reject", false, null),
         new Property("IceMX\\.Metrics\\.[^\\s]+", false, null),
+        new Property("IceMX\\.OpenMetrics\\.Host", false, null),
+        new Property("IceMX\\.OpenMetrics\\.Port", false, null),
         null
     };
 
@@ -213,6 +257,7 @@ public final class PropertyNames
         new Property("IceDiscovery\\.Multicast\\.ACM\\.Heartbeat", false, null),
         new Property("IceDiscovery\\.Multicast\\.ACM\\.Close", false, null),
         new Property("IceDiscovery\\.Multicast\\.ACM", false, null),
+        new Property("IceDiscovery\\.Multicast\\.Acceptors", false, null),
         new Property("IceDiscovery\\.Multicast\\.AdapterId", false, null),
         new Property("IceDiscovery\\.Multicast\\.Endpoints", false, null),
         new Property("IceDiscovery\\.Multicast\\.Locator\\.EndpointSelection", false, null),
@@ -246,10 +291,25 @@ public final class PropertyNames
         new Property("IceDiscovery\\.Multicast\\.ThreadPool\\.ThreadIdleTime", false, null),
         new Property("IceDiscovery\\.Multicast\\.ThreadPool\\.ThreadPriority", false, null),
         new Property("IceDiscovery\\.Multicast\\.MessageSizeMax", false, null),
+        new Property("IceDiscovery\\.Multicast\\.AdmissionControl\\.MaxQueued", false, null),
+        new Property("IceDiscovery\\.Multicast\\.AdmissionControl\\.MaxQueueWait", false, null),
+        new Property("IceDiscovery\\.Multicast\\.AdmissionControl\\.CoDelTarget", false, null),
+        new Property("IceDiscovery\\.Multicast\\.AdmissionControl\\.CoDelInterval", false, null),
+        new Property("IceDiscovery\\.Multicast\\.Lanes\\.High\\.Operations", false, null),
+        new Property("IceDiscovery\\.Multicast\\.Lanes\\.High\\.Categories", false, null),
+        new Property("IceDiscovery\\.Multicast\\.Lanes\\.High\\.Weight", false, null),
+        new Property("IceDiscovery\\.Multicast\\.Lanes\\.Normal\\.Weight", false, null),
+        new Property("IceDiscovery\\.Multicast\\.Lanes\\.Low\\.Operations", false, null),
+        new Property("IceDiscovery\\.Multicast\\.Lanes\\.Low\\.Categories", false, null),
+        new Property("IceDiscovery\\.Multicast\\.Lanes\\.Low\\.Weight", false, null),
+        new Property("IceDiscovery\\.Multicast\\.Lanes\\.Context", false, null),
+        new Property("IceDiscovery\\.Multicast\\.Lanes\\.QueueSize", false, null),
+        new Property("IceDiscovery\\.Multicast\\.WarmUp", false, null),
         new Property("IceDiscovery\\.Reply\\.ACM\\.Timeout", false, null),
         new Property("IceDiscovery\\.Reply\\.ACM\\.Heartbeat", false, null),
         new Property("IceDiscovery\\.Reply\\.ACM\\.Close", false, null),
         new Property("IceDiscovery\\.Reply\\.ACM", false, null),
+        new Property("IceDiscovery\\.Reply\\.Acceptors", false, null),
         new Property("IceDiscovery\\.Reply\\.AdapterId", false, null),
         new Property("IceDiscovery\\.Reply\\.Endpoints", false, null),
         new Property("IceDiscovery\\.Reply\\.Locator\\.EndpointSelection", false, null),
@@ -283,10 +343,25 @@ public final class PropertyNames
         new Property("IceDiscovery\\.Reply\\.ThreadPool\\.ThreadIdleTime", false, null),
         new Property("IceDiscovery\\.Reply\\.ThreadPool\\.ThreadPriority", false, null),
         new Property("IceDiscovery\\.Reply\\.MessageSizeMax", false, null),
+        new Property("IceDiscovery\\.Reply\\.AdmissionControl\\.MaxQueued", false, null),
+        new Property("IceDiscovery\\.Reply\\.AdmissionControl\\.MaxQueueWait", false, null),
+        new Property("IceDiscovery\\.Reply\\.AdmissionControl\\.CoDelTarget", false, null),
+        new Property("IceDiscovery\\.Reply\\.AdmissionControl\\.CoDelInterval", false, null),
+        new Property("IceDiscovery\\.Reply\\.Lanes\\.High\\.Operations", false, null),
+        new Property("IceDiscovery\\.Reply\\.Lanes\\.High\\.Categories", false, null),
+        new Property("IceDiscovery\\.Reply\\.Lanes\\.High\\.Weight", false, null),
+        new Property("IceDiscovery\\.Reply\\.Lanes\\.Normal\\.Weight", false, null),
+        new Property("IceDiscovery\\.Reply\\.Lanes\\.Low\\.Operations", false, null),
+        new Property("IceDiscovery\\.Reply\\.Lanes\\.Low\\.Categories", false, null),
+        new Property("IceDiscovery\\.Reply\\.Lanes\\.Low\\.Weight", false, null),
+        new Property("IceDiscovery\\.Reply\\.Lanes\\.Context", false, null),
+        new Property("IceDiscovery\\.Reply\\.Lanes\\.QueueSize", false, null),
+        new Property("IceDiscovery\\.Reply\\.WarmUp", false, null),
         new Property("IceDiscovery\\.Locator\\.ACM\\.Timeout", false, null),
         new Property("IceDiscovery\\.Locator\\.ACM\\.Heartbeat", false, null),
         new Property("IceDiscovery\\.Locator\\.ACM\\.Close", false, null),
         new Property("IceDiscovery\\.Locator\\.ACM", false, null),
+        new Property("IceDiscovery\\.Locator\\.Acceptors", false, null),
         new Property("IceDiscovery\\.Locator\\.AdapterId", false, null),
         new Property("IceDiscovery\\.Locator\\.Endpoints", false, null),
         new Property("IceDiscovery\\.Locator\\.Locator\\.EndpointSelection", false, null),
@@ -320,10 +395,26 @@ public final class PropertyNames
         new Property("IceDiscovery\\.Locator\\.ThreadPool\\.ThreadIdleTime", false, null),
         new Property("IceDiscovery\\.Locator\\.ThreadPool\\.ThreadPriority", false, null),
         new Property("IceDiscovery\\.Locator\\.MessageSizeMax", false, null),
+        new Property("IceDiscovery\\.Locator\\.AdmissionControl\\.MaxQueued", false, null),
+        new Property("IceDiscovery\\.Locator\\.AdmissionControl\\.MaxQueueWait", false, null),
+        new Property("IceDiscovery\\.Locator\\.AdmissionControl\\.CoDelTarget", false, null),
+        new Property("IceDiscovery\\.Locator\\.AdmissionControl\\.CoDelInterval", false, null),
+        new Property("IceDiscovery\\.Locator\\.Lanes\\.High\\.Operations", false, null),
+        new Property("IceDiscovery\\.Locator\\.Lanes\\.High\\.Categories", false, null),
+        new Property("IceDiscovery\\.Locator\\.Lanes\\.High\\.Weight", false, null),
+        new Property("IceDiscovery\\.Locator\\.Lanes\\.Normal\\.Weight", false, null),
+        new Property("IceDiscovery\\.Locator\\.Lanes\\.Low\\.Operations", false, null),
+        new Property("IceDiscovery\\.Locator\\.Lanes\\.Low\\.Categories", false, null),
+        new Property("IceDiscovery\\.Locator\\.Lanes\\.Low\\.Weight", false, null),
+        new Property("IceDiscovery\\.Locator\\.Lanes\\.Context", false, null),
+        new Property("IceDiscovery\\.Locator\\.Lanes\\.QueueSize", false, null),
+        new Property("IceDiscovery\\.Locator\\.WarmUp", false, null),
         new Property("IceDiscovery\\.Lookup", false, null),
         new Property("IceDiscovery\\.Timeout", false, null),
         new Property("IceDiscovery\\.RetryCount", false, null),
         new Property("IceDiscovery\\.LatencyMultiplier", false, null),
+        new Property("IceDiscovery\\.AdaptiveTimeout", false, null),
+        new Property("IceDiscovery\\.CacheTimeout", false, null),
         new Property("IceDiscovery\\.Address", false, null),
         new Property("IceDiscovery\\.Port", false, null),
         new Property("IceDiscovery\\.Interface", false, null),
@@ -337,6 +428,7 @@ public final class PropertyNames
         new Property("IceLocatorDiscovery\\.Reply\\.ACM\\.Heartbeat", false, null),
         new Property("IceLocatorDiscovery\\.Reply\\.ACM\\.Close", false, null),
         new Property("IceLocatorDiscovery\\.Reply\\.ACM", false, null),
+        new Property("IceLocatorDiscovery\\.Reply\\.Acceptors", false, null),
         new Property("IceLocatorDiscovery\\.Reply\\.AdapterId", false, null),
         new Property("IceLocatorDiscovery\\.Reply\\.Endpoints", false, null),
         new Property("IceLocatorDiscovery\\.Reply\\.Locator\\.EndpointSelection", false, null),
@@ -370,10 +462,25 @@ public final class PropertyNames
         new Property("IceLocatorDiscovery\\.Reply\\.ThreadPool\\.ThreadIdleTime", false, null),
         new Property("IceLocatorDiscovery\\.Reply\\.ThreadPool\\.ThreadPriority", false, null),
         new Property("IceLocatorDiscovery\\.Reply\\.MessageSizeMax", false, null),
+        new Property("IceLocatorDiscovery\\.Reply\\.AdmissionControl\\.MaxQueued", false, null),
+        new Property("IceLocatorDiscovery\\.Reply\\.AdmissionControl\\.MaxQueueWait", false, null),
+        new Property("IceLocatorDiscovery\\.Reply\\.AdmissionControl\\.CoDelTarget", false, null),
+        new Property("IceLocatorDiscovery\\.Reply\\.AdmissionControl\\.CoDelInterval", false, null),
+        new Property("IceLocatorDiscovery\\.Reply\\.Lanes\\.High\\.Operations", false, null),
+        new Property("IceLocatorDiscovery\\.Reply\\.Lanes\\.High\\.Categories", false, null),
+        new Property("IceLocatorDiscovery\\.Reply\\.Lanes\\.High\\.Weight", false, null),
+        new Property("IceLocatorDiscovery\\.Reply\\.Lanes\\.Normal\\.Weight", false, null),
+        new Property("IceLocatorDiscovery\\.Reply\\.Lanes\\.Low\\.Operations", false, null),
+        new Property("IceLocatorDiscovery\\.Reply\\.Lanes\\.Low\\.Categories", false, null),
+        new Property("IceLocatorDiscovery\\.Reply\\.Lanes\\.Low\\.Weight", false, null),
+        new Property("IceLocatorDiscovery\\.Reply\\.Lanes\\.Context", false, null),
+        new Property("IceLocatorDiscovery\\.Reply\\.Lanes\\.QueueSize", false, null),
+        new Property("IceLocatorDiscovery\\.Reply\\.WarmUp", false, null),
         new Property("IceLocatorDiscovery\\.Locator\\.ACM\\.Timeout", false, null),
         new Property("IceLocatorDiscovery\\.Locator\\.ACM\\.Heartbeat", false, null),
         new Property("IceLocatorDiscovery\\.Locator\\.ACM\\.Close", false, null),
         new Property("IceLocatorDiscovery\\.Locator\\.ACM", false, null),
+        new Property("IceLocatorDiscovery\\.Locator\\.Acceptors", false, null),
         new Property("IceLocatorDiscovery\\.Locator\\.AdapterId", false, null),
         new Property("IceLocatorDiscovery\\.Locator\\.Endpoints", false, null),
         new Property("IceLocatorDiscovery\\.Locator\\.Locator\\.EndpointSelection", false, null),
@@ -407,10 +514,26 @@ public final class PropertyNames
         new Property("IceLocatorDiscovery\\.Locator\\.ThreadPool\\.ThreadIdleTime", false, null),
         new Property("IceLocatorDiscovery\\.Locator\\.ThreadPool\\.ThreadPriority", false, null),
         new Property("IceLocatorDiscovery\\.Locator\\.MessageSizeMax", false, null),
+        new Property("IceLocatorDiscovery\\.Locator\\.AdmissionControl\\.MaxQueued", false, null),
+        new Property("IceLocatorDiscovery\\.Locator\\.AdmissionControl\\.MaxQueueWait", false, null),
+        new Property("IceLocatorDiscovery\\.Locator\\.AdmissionControl\\.CoDelTarget", false, null),
+        new Property("IceLocatorDiscovery\\.Locator\\.AdmissionControl\\.CoDelInterval", false, null),
+        new Property("IceLocatorDiscovery\\.Locator\\.Lanes\\.High\\.Operations", false, null),
+        new Property("IceLocatorDiscovery\\.Locator\\.Lanes\\.High\\.Categories", false, null),
+        new Property("IceLocatorDiscovery\\.Locator\\.Lanes\\.High\\.Weight", false, null),
+        new Property("IceLocatorDiscovery\\.Locator\\.Lanes\\.Normal\\.Weight", false, null),
+        new Property("IceLocatorDiscovery\\.Locator\\.Lanes\\.Low\\.Operations", false, null),
+        new Property("IceLocatorDiscovery\\.Locator\\.Lanes\\.Low\\.Categories", false, null),
+        new Property("IceLocatorDiscovery\\.Locator\\.Lanes\\.Low\\.Weight", false, null),
+        new Property("IceLocatorDiscovery\\.Locator\\.Lanes\\.Context", false, null),
+        new Property("IceLocatorDiscovery\\.Locator\\.Lanes\\.QueueSize", false, null),
+        new Property("IceLocatorDiscovery\\.Locator\\.WarmUp", false, null),
         new Property("IceLocatorDiscovery\\.Lookup", false, null),
         new Property("IceLocatorDiscovery\\.Timeout", false, null),
         new Property("IceLocatorDiscovery\\.RetryCount", false, null),
         new Property("IceLocatorDiscovery\\.RetryDelay", false, null),
+        new Property("IceLocatorDiscovery\\.HedgeDelay", false, null),
+        new Property("IceLocatorDiscovery\\.RefreshInterval", false, null),
         new Property("IceLocatorDiscovery\\.Address", false, null),
         new Property("IceLocatorDiscovery\\.Port", false, null),
         new Property("IceLocatorDiscovery\\.Interface", false, null),
@@ -421,6 +544,7 @@ public final class PropertyNames
 
     public static final Property IceBoxProps[] =
     {
+        new Property("IceBox\\.DependsOn\\.[^\\s]+", false, null),
         new Property("IceBox\\.InheritProperties", false, null),
         new Property("IceBox\\.InstanceName", true, null),
         new Property("IceBox\\.LoadOrder", false, null),
@@ -436,6 +560,8 @@ public final class PropertyNames
         new Property("IceBox\\.ServiceManager\\.ThreadPool\\.SizeMax", true, null),
         new Property("IceBox\\.ServiceManager\\.ThreadPool\\.SizeWarn", true, null),
         new Property("IceBox\\.ServiceManager\\.ThreadPool\\.StackSize", true, null),
+        new Property("IceBox\\.ShareThreads", false, null),
+        new Property("IceBox\\.StartThreads", false, null),
         new Property("IceBox\\.Trace\\.ServiceObserver", false, null),
         new Property("IceBox\\.UseSharedCommunicator\\.[^\\s]+", false, null),
         null
@@ -462,6 +588,7 @@ public final class PropertyNames
         new Property("IceBridge\\.Source\\.ACM\\.Heartbeat", false, null),
         new Property("IceBridge\\.Source\\.ACM\\.Close", false, null),
         new Property("IceBridge\\.Source\\.ACM", false, null),
+        new Property("IceBridge\\.Source\\.Acceptors", false, null),
         new Property("IceBridge\\.Source\\.AdapterId", false, null),
         new Property("IceBridge\\.Source\\.Endpoints", false, null),
         new Property("IceBridge\\.Source\\.Locator\\.EndpointSelection", false, null),
@@ -495,6 +622,20 @@ public final class PropertyNames
         new Property("IceBridge\\.Source\\.ThreadPool\\.ThreadIdleTime", false, null),
         new Property("IceBridge\\.Source\\.ThreadPool\\.ThreadPriority", false, null),
         new Property("IceBridge\\.Source\\.MessageSizeMax", false, null),
+        new Property("IceBridge\\.Source\\.AdmissionControl\\.MaxQueued", false, null),
+        new Property("IceBridge\\.Source\\.AdmissionControl\\.MaxQueueWait", false, null),
+        new Property("IceBridge\\.Source\\.AdmissionControl\\.CoDelTarget", false, null),
+        new Property("IceBridge\\.Source\\.AdmissionControl\\.CoDelInterval", false, null),
+        new Property("IceBridge\\.Source\\.Lanes\\.High\\.Operations", false, null),
+        new Property("IceBridge\\.Source\\.Lanes\\.High\\.Categories", false, null),
+        new Property("IceBridge\\.Source\\.Lanes\\.High\\.Weight", false, null),
+        new Property("IceBridge\\.Source\\.Lanes\\.Normal\\.Weight", false, null),
+        new Property("IceBridge\\.Source\\.Lanes\\.Low\\.Operations", false, null),
+        new Property("IceBridge\\.Source\\.Lanes\\.Low\\.Categories", false, null),
+        new Property("IceBridge\\.Source\\.Lanes\\.Low\\.Weight", false, null),
+        new Property("IceBridge\\.Source\\.Lanes\\.Context", false, null),
+        new Property("IceBridge\\.Source\\.Lanes\\.QueueSize", false, null),
+        new Property("IceBridge\\.Source\\.WarmUp", false, null),
         new Property("IceBridge\\.Target\\.Endpoints", false, null),
         new Property("IceBridge\\.InstanceName", false, null),
         null
@@ -514,6 +655,7 @@ public final class PropertyNames
         new Property("IceGridAdmin\\.Server\\.ACM\\.Heartbeat", false, null),
         new Property("IceGridAdmin\\.Server\\.ACM\\.Close", false, null),
         new Property("IceGridAdmin\\.Server\\.ACM", false, null),
+        new Property("IceGridAdmin\\.Server\\.Acceptors", false, null),
         new Property("IceGridAdmin\\.Server\\.AdapterId", false, null),
         new Property("IceGridAdmin\\.Server\\.Endpoints", false, null),
         new Property("IceGridAdmin\\.Server\\.Locator\\.EndpointSelection", false, null),
@@ -547,6 +689,20 @@ public final class PropertyNames
         new Property("IceGridAdmin\\.Server\\.ThreadPool\\.ThreadIdleTime", false, null),
         new Property("IceGridAdmin\\.Server\\.ThreadPool\\.ThreadPriority", false, null),
         new Property("IceGridAdmin\\.Server\\.MessageSizeMax", false, null),
+        new Property("IceGridAdmin\\.Server\\.AdmissionControl\\.MaxQueued", false, null),
+        new Property("IceGridAdmin\\.Server\\.AdmissionControl\\.MaxQueueWait", false, null),
+        new Property("IceGridAdmin\\.Server\\.AdmissionControl\\.CoDelTarget", false, null),
+        new Property("IceGridAdmin\\.Server\\.AdmissionControl\\.CoDelInterval", false, null),
+        new Property("IceGridAdmin\\.Server\\.Lanes\\.High\\.Operations", false, null),
+        new Property("IceGridAdmin\\.Server\\.Lanes\\.High\\.Categories", false, null),
+        new Property("IceGridAdmin\\.Server\\.Lanes\\.High\\.Weight", false, null),
+        new Property("IceGridAdmin\\.Server\\.Lanes\\.Normal\\.Weight", false, null),
+        new Property("IceGridAdmin\\.Server\\.Lanes\\.Low\\.Operations", false, null),
+        new Property("IceGridAdmin\\.Server\\.Lanes\\.Low\\.Categories", false, null),
+        new Property("IceGridAdmin\\.Server\\.Lanes\\.Low\\.Weight", false, null),
+        new Property("IceGridAdmin\\.Server\\.Lanes\\.Context", false, null),
+        new Property("IceGridAdmin\\.Server\\.Lanes\\.QueueSize", false, null),
+        new Property("IceGridAdmin\\.Server\\.WarmUp", false, null),
         new Property("IceGridAdmin\\.Discovery\\.Address", false, null),
         new Property("IceGridAdmin\\.Discovery\\.Interface", false, null),
         new Property("IceGridAdmin\\.Discovery\\.Lookup", false, null),
@@ -554,6 +710,7 @@ public final class PropertyNames
         new Property("IceGridAdmin\\.Discovery\\.Reply\\.ACM\\.Heartbeat", false, null),
         new Property("IceGridAdmin\\.Discovery\\.Reply\\.ACM\\.Close", false, null),
         new Property("IceGridAdmin\\.Discovery\\.Reply\\.ACM", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Reply\\.Acceptors", false, null),
         new Property("IceGridAdmin\\.Discovery\\.Reply\\.AdapterId", false, null),
         new Property("IceGridAdmin\\.Discovery\\.Reply\\.Endpoints", false, null),
         new Property("IceGridAdmin\\.Discovery\\.Reply\\.Locator\\.EndpointSelection", false, null),
@@ -587,10 +744,25 @@ public final class PropertyNames
         new Property("IceGridAdmin\\.Discovery\\.Reply\\.ThreadPool\\.ThreadIdleTime", false, null),
         new Property("IceGridAdmin\\.Discovery\\.Reply\\.ThreadPool\\.ThreadPriority", false, null),
         new Property("IceGridAdmin\\.Discovery\\.Reply\\.MessageSizeMax", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Reply\\.AdmissionControl\\.MaxQueued", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Reply\\.AdmissionControl\\.MaxQueueWait", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Reply\\.AdmissionControl\\.CoDelTarget", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Reply\\.AdmissionControl\\.CoDelInterval", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Reply\\.Lanes\\.High\\.Operations", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Reply\\.Lanes\\.High\\.Categories", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Reply\\.Lanes\\.High\\.Weight", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Reply\\.Lanes\\.Normal\\.Weight", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Reply\\.Lanes\\.Low\\.Operations", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Reply\\.Lanes\\.Low\\.Categories", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Reply\\.Lanes\\.Low\\.Weight", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Reply\\.Lanes\\.Context", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Reply\\.Lanes\\.QueueSize", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Reply\\.WarmUp", false, null),
         new Property("IceGridAdmin\\.Discovery\\.Locator\\.ACM\\.Timeout", false, null),
         new Property("IceGridAdmin\\.Discovery\\.Locator\\.ACM\\.Heartbeat", false, null),
         new Property("IceGridAdmin\\.Discovery\\.Locator\\.ACM\\.Close", false, null),
         new Property("IceGridAdmin\\.Discovery\\.Locator\\.ACM", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Locator\\.Acceptors", false, null),
         new Property("IceGridAdmin\\.Discovery\\.Locator\\.AdapterId", false, null),
         new Property("IceGridAdmin\\.Discovery\\.Locator\\.Endpoints", false, null),
         new Property("IceGridAdmin\\.Discovery\\.Locator\\.Locator\\.EndpointSelection", false, null),
@@ -624,6 +796,20 @@ public final class PropertyNames
         new Property("IceGridAdmin\\.Discovery\\.Locator\\.ThreadPool\\.ThreadIdleTime", false, null),
         new Property("IceGridAdmin\\.Discovery\\.Locator\\.ThreadPool\\.ThreadPriority", false, null),
         new Property("IceGridAdmin\\.Discovery\\.Locator\\.MessageSizeMax", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Locator\\.AdmissionControl\\.MaxQueued", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Locator\\.AdmissionControl\\.MaxQueueWait", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Locator\\.AdmissionControl\\.CoDelTarget", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Locator\\.AdmissionControl\\.CoDelInterval", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Locator\\.Lanes\\.High\\.Operations", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Locator\\.Lanes\\.High\\.Categories", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Locator\\.Lanes\\.High\\.Weight", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Locator\\.Lanes\\.Normal\\.Weight", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Locator\\.Lanes\\.Low\\.Operations", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Locator\\.Lanes\\.Low\\.Categories", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Locator\\.Lanes\\.Low\\.Weight", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Locator\\.Lanes\\.Context", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Locator\\.Lanes\\.QueueSize", false, null),
+        new Property("IceGridAdmin\\.Discovery\\.Locator\\.WarmUp", false, null),
         new Property("IceGridAdmin\\.Trace\\.Observers", false, null),
         new Property("IceGridAdmin\\.Trace\\.SaveToRegistry", false, null),
         null
@@ -635,6 +821,7 @@ public final class PropertyNames
         new Property("IceGrid\\.AdminRouter\\.ACM\\.Heartbeat", false, null),
         new Property("IceGrid\\.AdminRouter\\.ACM\\.Close", false, null),
         new Property("IceGrid\\.AdminRouter\\.ACM", false, null),
+        new Property("IceGrid\\.AdminRouter\\.Acceptors", false, null),
         new Property("IceGrid\\.AdminRouter\\.AdapterId", false, null),
         new Property("IceGrid\\.AdminRouter\\.Endpoints", false, null),
         new Property("IceGrid\\.AdminRouter\\.Locator\\.EndpointSelection", false, null),
@@ -668,11 +855,26 @@ public final class PropertyNames
         new Property("IceGrid\\.AdminRouter\\.ThreadPool\\.ThreadIdleTime", false, null),
         new Property("IceGrid\\.AdminRouter\\.ThreadPool\\.ThreadPriority", false, null),
         new Property("IceGrid\\.AdminRouter\\.MessageSizeMax", false, null),
+        new Property("IceGrid\\.AdminRouter\\.AdmissionControl\\.MaxQueued", false, null),
+        new Property("IceGrid\\.AdminRouter\\.AdmissionControl\\.MaxQueueWait", false, null),
+        new Property("IceGrid\\.AdminRouter\\.AdmissionControl\\.CoDelTarget", false, null),
+        new Property("IceGrid\\.AdminRouter\\.AdmissionControl\\.CoDelInterval", false, null),
+        new Property("IceGrid\\.AdminRouter\\.Lanes\\.High\\.Operations", false, null),
+        new Property("IceGrid\\.AdminRouter\\.Lanes\\.High\\.Categories", false, null),
+        new Property("IceGrid\\.AdminRouter\\.Lanes\\.High\\.Weight", false, null),
+        new Property("IceGrid\\.AdminRouter\\.Lanes\\.Normal\\.Weight", false, null),
+        new Property("IceGrid\\.AdminRouter\\.Lanes\\.Low\\.Operations", false, null),
+        new Property("IceGrid\\.AdminRouter\\.Lanes\\.Low\\.Categories", false, null),
+        new Property("IceGrid\\.AdminRouter\\.Lanes\\.Low\\.Weight", false, null),
+        new Property("IceGrid\\.AdminRouter\\.Lanes\\.Context", false, null),
+        new Property("IceGrid\\.AdminRouter\\.Lanes\\.QueueSize", false, null),
+        new Property("IceGrid\\.AdminRouter\\.WarmUp", false, null),
         new Property("IceGrid\\.InstanceName", false, null),
         new Property("IceGrid\\.Node\\.ACM\\.Timeout", false, null),
         new Property("IceGrid\\.Node\\.ACM\\.Heartbeat", false, null),
         new Property("IceGrid\\.Node\\.ACM\\.Close", false, null),
         new Property("IceGrid\\.Node\\.ACM", false, null),
+        new Property("IceGrid\\.Node\\.Acceptors", false, null),
         new Property("IceGrid\\.Node\\.AdapterId", false, null),
         new Property("IceGrid\\.Node\\.Endpoints", false, null),
         new Property("IceGrid\\.Node\\.Locator\\.EndpointSelection", false, null),
@@ -706,6 +908,20 @@ public final class PropertyNames
         new Property("IceGrid\\.Node\\.ThreadPool\\.ThreadIdleTime", false, null),
         new Property("IceGrid\\.Node\\.ThreadPool\\.ThreadPriority", false, null),
         new Property("IceGrid\\.Node\\.MessageSizeMax", false, null),
+        new Property("IceGrid\\.Node\\.AdmissionControl\\.MaxQueued", false, null),
+        new Property("IceGrid\\.Node\\.AdmissionControl\\.MaxQueueWait", false, null),
+        new Property("IceGrid\\.Node\\.AdmissionControl\\.CoDelTarget", false, null),
+        new Property("IceGrid\\.Node\\.AdmissionControl\\.CoDelInterval", false, null),
+        new Property("IceGrid\\.Node\\.Lanes\\.High\\.Operations", false, null),
+        new Property("IceGrid\\.Node\\.Lanes\\.High\\.Categories", false, null),
+        new Property("IceGrid\\.Node\\.Lanes\\.High\\.Weight", false, null),
+        new Property("IceGrid\\.Node\\.Lanes\\.Normal\\.Weight", false, null),
+        new Property("IceGrid\\.Node\\.Lanes\\.Low\\.Operations", false, null),
+        new Property("IceGrid\\.Node\\.Lanes\\.Low\\.Categories", false, null),
+        new Property("IceGrid\\.Node\\.Lanes\\.Low\\.Weight", false, null),
+        new Property("IceGrid\\.Node\\.Lanes\\.Context", false, null),
+        new Property("IceGrid\\.Node\\.Lanes\\.QueueSize", false, null),
+        new Property("IceGrid\\.Node\\.WarmUp", false, null),
         new Property("IceGrid\\.Node\\.AllowRunningServersAsRoot", false, null),
         new Property("IceGrid\\.Node\\.AllowEndpointsOverride", false, null),
         new Property("IceGrid\\.Node\\.CollocateRegistry", false, null),
@@ -751,6 +967,7 @@ public final class PropertyNames
         new Property("IceGrid\\.Registry\\.AdminSessionManager\\.ACM\\.Heartbeat", false, null),
         new Property("IceGrid\\.Registry\\.AdminSessionManager\\.ACM\\.Close", false, null),
         new Property("IceGrid\\.Registry\\.AdminSessionManager\\.ACM", false, null),
+        new Property("IceGrid\\.Registry\\.AdminSessionManager\\.Acceptors", false, null),
         new Property("IceGrid\\.Registry\\.AdminSessionManager\\.AdapterId", false, null),
         new Property("IceGrid\\.Registry\\.AdminSessionManager\\.Endpoints", false, null),
         new Property("IceGrid\\.Registry\\.AdminSessionManager\\.Locator\\.EndpointSelection", false, null),
@@ -784,6 +1001,20 @@ public final class PropertyNames
         new Property("IceGrid\\.Registry\\.AdminSessionManager\\.ThreadPool\\.ThreadIdleTime", false, null),
         new Property("IceGrid\\.Registry\\.AdminSessionManager\\.ThreadPool\\.ThreadPriority", false, null),
         new Property("IceGrid\\.Registry\\.AdminSessionManager\\.MessageSizeMax", false, null),
+        new Property("IceGrid\\.Registry\\.AdminSessionManager\\.AdmissionControl\\.MaxQueued", false, null),
+        new Property("IceGrid\\.Registry\\.AdminSessionManager\\.AdmissionControl\\.MaxQueueWait", false, null),
+        new Property("IceGrid\\.Registry\\.AdminSessionManager\\.AdmissionControl\\.CoDelTarget", false, null),
+        new Property("IceGrid\\.Registry\\.AdminSessionManager\\.AdmissionControl\\.CoDelInterval", false, null),
+        new Property("IceGrid\\.Registry\\.AdminSessionManager\\.Lanes\\.High\\.Operations", false, null),
+        new Property("IceGrid\\.Registry\\.AdminSessionManager\\.Lanes\\.High\\.Categories", false, null),
+        new Property("IceGrid\\.Registry\\.AdminSessionManager\\.Lanes\\.High\\.Weight", false, null),
+        new Property("IceGrid\\.Registry\\.AdminSessionManager\\.Lanes\\.Normal\\.Weight", false, null),
+        new Property("IceGrid\\.Registry\\.AdminSessionManager\\.Lanes\\.Low\\.Operations", false, null),
+        new Property("IceGrid\\.Registry\\.AdminSessionManager\\.Lanes\\.Low\\.Categories", false, null),
+        new Property("IceGrid\\.Registry\\.AdminSessionManager\\.Lanes\\.Low\\.Weight", false, null),
+        new Property("IceGrid\\.Registry\\.AdminSessionManager\\.Lanes\\.Context", false, null),
+        new Property("IceGrid\\.Registry\\.AdminSessionManager\\.Lanes\\.QueueSize", false, null),
+        new Property("IceGrid\\.Registry\\.AdminSessionManager\\.WarmUp", false, null),
         new Property("IceGrid\\.Registry\\.AdminSSLPermissionsVerifier\\.EndpointSelection", false, null),
         new Property("IceGrid\\.Registry\\.AdminSSLPermissionsVerifier\\.ConnectionCached", false, null),
         new Property("IceGrid\\.Registry\\.AdminSSLPermissionsVerifier\\.PreferSecure", false, null),
@@ -798,6 +1029,7 @@ public final class PropertyNames
         new Property("IceGrid\\.Registry\\.Client\\.ACM\\.Heartbeat", false, null),
         new Property("IceGrid\\.Registry\\.Client\\.ACM\\.Close", false, null),
         new Property("IceGrid\\.Registry\\.Client\\.ACM", false, null),
+        new Property("IceGrid\\.Registry\\.Client\\.Acceptors", false, null),
         new Property("IceGrid\\.Registry\\.Client\\.AdapterId", false, null),
         new Property("IceGrid\\.Registry\\.Client\\.Endpoints", false, null),
         new Property("IceGrid\\.Registry\\.Client\\.Locator\\.EndpointSelection", false, null),
@@ -831,12 +1063,27 @@ public final class PropertyNames
         new Property("IceGrid\\.Registry\\.Client\\.ThreadPool\\.ThreadIdleTime", false, null),
         new Property("IceGrid\\.Registry\\.Client\\.ThreadPool\\.ThreadPriority", false, null),
         new Property("IceGrid\\.Registry\\.Client\\.MessageSizeMax", false, null),
+        new Property("IceGrid\\.Registry\\.Client\\.AdmissionControl\\.MaxQueued", false, null),
+        new Property("IceGrid\\.Registry\\.Client\\.AdmissionControl\\.MaxQueueWait", false, null),
+        new Property("IceGrid\\.Registry\\.Client\\.AdmissionControl\\.CoDelTarget", false, null),
+        new Property("IceGrid\\.Registry\\.Client\\.AdmissionControl\\.CoDelInterval", false, null),
+        new Property("IceGrid\\.Registry\\.Client\\.Lanes\\.High\\.Operations", false, null),
+        new Property("IceGrid\\.Registry\\.Client\\.Lanes\\.High\\.Categories", false, null),
+        new Property("IceGrid\\.Registry\\.Client\\.Lanes\\.High\\.Weight", false, null),
+        new Property("IceGrid\\.Registry\\.Client\\.Lanes\\.Normal\\.Weight", false, null),
+        new Property("IceGrid\\.Registry\\.Client\\.Lanes\\.Low\\.Operations", false, null),
+        new Property("IceGrid\\.Registry\\.Client\\.Lanes\\.Low\\.Categories", false, null),
+        new Property("IceGrid\\.Registry\\.Client\\.Lanes\\.Low\\.Weight", false, null),
+        new Property("IceGrid\\.Registry\\.Client\\.Lanes\\.Context", false, null),
+        new Property("IceGrid\\.Registry\\.Client\\.Lanes\\.QueueSize", false, null),
+        new Property("IceGrid\\.Registry\\.Client\\.WarmUp", false, null),
         new Property("IceGrid\\.Registry\\.CryptPasswords", false, null),
         new Property("IceGrid\\.Registry\\.DefaultTemplates", false, null),
         new Property("IceGrid\\.Registry\\.Discovery\\.ACM\\.Timeout", false, null),
         new Property("IceGrid\\.Registry\\.Discovery\\.ACM\\.Heartbeat", false, null),
         new Property("IceGrid\\.Registry\\.Discovery\\.ACM\\.Close", false, null),
         new Property("IceGrid\\.Registry\\.Discovery\\.ACM", false, null),
+        new Property("IceGrid\\.Registry\\.Discovery\\.Acceptors", false, null),
         new Property("IceGrid\\.Registry\\.Discovery\\.AdapterId", false, null),
         new Property("IceGrid\\.Registry\\.Discovery\\.Endpoints", false, null),
         new Property("IceGrid\\.Registry\\.Discovery\\.Locator\\.EndpointSelection", false, null),
@@ -870,6 +1117,20 @@ public final class PropertyNames
         new Property("IceGrid\\.Registry\\.Discovery\\.ThreadPool\\.ThreadIdleTime", false, null),
         new Property("IceGrid\\.Registry\\.Discovery\\.ThreadPool\\.ThreadPriority", false, null),
         new Property("IceGrid\\.Registry\\.Discovery\\.MessageSizeMax", false, null),
+        new Property("IceGrid\\.Registry\\.Discovery\\.AdmissionControl\\.MaxQueued", false, null),
+        new Property("IceGrid\\.Registry\\.Discovery\\.AdmissionControl\\.MaxQueueWait", false, null),
+        new Property("IceGrid\\.Registry\\.Discovery\\.AdmissionControl\\.CoDelTarget", false, null),
+        new Property("IceGrid\\.Registry\\.Discovery\\.AdmissionControl\\.CoDelInterval", false, null),
+        new Property("IceGrid\\.Registry\\.Discovery\\.Lanes\\.High\\.Operations", false, null),
+        new Property("IceGrid\\.Registry\\.Discovery\\.Lanes\\.High\\.Categories", false, null),
+        new Property("IceGrid\\.Registry\\.Discovery\\.Lanes\\.High\\.Weight", false, null),
+        new Property("IceGrid\\.Registry\\.Discovery\\.Lanes\\.Normal\\.Weight", false, null),
+        new Property("IceGrid\\.Registry\\.Discovery\\.Lanes\\.Low\\.Operations", false, null),
+        new Property("IceGrid\\.Registry\\.Discovery\\.Lanes\\.Low\\.Categories", false, null),
+        new Property("IceGrid\\.Registry\\.Discovery\\.Lanes\\.Low\\.Weight", false, null),
+        new Property("IceGrid\\.Registry\\.Discovery\\.Lanes\\.Context", false, null),
+        new Property("IceGrid\\.Registry\\.Discovery\\.Lanes\\.QueueSize", false, null),
+        new Property("IceGrid\\.Registry\\.Discovery\\.WarmUp", false, null),
         new Property("IceGrid\\.Registry\\.Discovery\\.Enabled", false, null),
         new Property("IceGrid\\.Registry\\.Discovery\\.Address", false, null),
         new Property("IceGrid\\.Registry\\.Discovery\\.Port", false, null),
@@ -879,6 +1140,7 @@ public final class PropertyNames
         new Property("IceGrid\\.Registry\\.Internal\\.ACM\\.Heartbeat", false, null),
         new Property("IceGrid\\.Registry\\.Internal\\.ACM\\.Close", false, null),
         new Property("IceGrid\\.Registry\\.Internal\\.ACM", false, null),
+        new Property("IceGrid\\.Registry\\.Internal\\.Acceptors", false, null),
         new Property("IceGrid\\.Registry\\.Internal\\.AdapterId", false, null),
         new Property("IceGrid\\.Registry\\.Internal\\.Endpoints", false, null),
         new Property("IceGrid\\.Registry\\.Internal\\.Locator\\.EndpointSelection", false, null),
@@ -912,6 +1174,20 @@ public final class PropertyNames
         new Property("IceGrid\\.Registry\\.Internal\\.ThreadPool\\.ThreadIdleTime", false, null),
         new Property("IceGrid\\.Registry\\.Internal\\.ThreadPool\\.ThreadPriority", false, null),
         new Property("IceGrid\\.Registry\\.Internal\\.MessageSizeMax", false, null),
+        new Property("IceGrid\\.Registry\\.Internal\\.AdmissionControl\\.MaxQueued", false, null),
+        new Property("IceGrid\\.Registry\\.Internal\\.AdmissionControl\\.MaxQueueWait", false, null),
+        new Property("IceGrid\\.Registry\\.Internal\\.AdmissionControl\\.CoDelTarget", false, null),
+        new Property("IceGrid\\.Registry\\.Internal\\.AdmissionControl\\.CoDelInterval", false, null),
+        new Property("IceGrid\\.Registry\\.Internal\\.Lanes\\.High\\.Operations", false, null),
+        new Property("IceGrid\\.Registry\\.Internal\\.Lanes\\.High\\.Categories", false, null),
+        new Property("IceGrid\\.Registry\\.Internal\\.Lanes\\.High\\.Weight", false, null),
+        new Property("IceGrid\\.Registry\\.Internal\\.Lanes\\.Normal\\.Weight", false, null),
+        new Property("IceGrid\\.Registry\\.Internal\\.Lanes\\.Low\\.Operations", false, null),
+        new Property("IceGrid\\.Registry\\.Internal\\.Lanes\\.Low\\.Categories", false, null),
+        new Property("IceGrid\\.Registry\\.Internal\\.Lanes\\.Low\\.Weight", false, null),
+        new Property("IceGrid\\.Registry\\.Internal\\.Lanes\\.Context", false, null),
+        new Property("IceGrid\\.Registry\\.Internal\\.Lanes\\.QueueSize", false, null),
+        new Property("IceGrid\\.Registry\\.Internal\\.WarmUp", false, null),
         new Property("IceGrid\\.Registry\\.LMDB\\.MapSize", false, null),
         new Property("IceGrid\\.Registry\\.LMDB\\.Path", false, null),
         new Property("IceGrid\\.Registry\\.NodeSessionTimeout", false, null),
@@ -933,6 +1209,7 @@ public final class PropertyNames
         new Property("IceGrid\\.Registry\\.Server\\.ACM\\.Heartbeat", false, null),
         new Property("IceGrid\\.Registry\\.Server\\.ACM\\.Close", false, null),
         new Property("IceGrid\\.Registry\\.Server\\.ACM", false, null),
+        new Property("IceGrid\\.Registry\\.Server\\.Acceptors", false, null),
         new Property("IceGrid\\.Registry\\.Server\\.AdapterId", false, null),
         new Property("IceGrid\\.Registry\\.Server\\.Endpoints", false, null),
         new Property("IceGrid\\.Registry\\.Server\\.Locator\\.EndpointSelection", false, null),
@@ -966,11 +1243,26 @@ public final class PropertyNames
         new Property("IceGrid\\.Registry\\.Server\\.ThreadPool\\.ThreadIdleTime", false, null),
         new Property("IceGrid\\.Registry\\.Server\\.ThreadPool\\.ThreadPriority", false, null),
         new Property("IceGrid\\.Registry\\.Server\\.MessageSizeMax", false, null),
+        new Property("IceGrid\\.Registry\\.Server\\.AdmissionControl\\.MaxQueued", false, null),
+        new Property("IceGrid\\.Registry\\.Server\\.AdmissionControl\\.MaxQueueWait", false, null),
+        new Property("IceGrid\\.Registry\\.Server\\.AdmissionControl\\.CoDelTarget", false, null),
+        new Property("IceGrid\\.Registry\\.Server\\.AdmissionControl\\.CoDelInterval", false, null),
+        new Property("IceGrid\\.Registry\\.Server\\.Lanes\\.High\\.Operations", false, null),
+        new Property("IceGrid\\.Registry\\.Server\\.Lanes\\.High\\.Categories", false, null),
+        new Property("IceGrid\\.Registry\\.Server\\.Lanes\\.High\\.Weight", false, null),
+        new Property("IceGrid\\.Registry\\.Server\\.Lanes\\.Normal\\.Weight", false, null),
+        new Property("IceGrid\\.Registry\\.Server\\.Lanes\\.Low\\.Operations", false, null),
+        new Property("IceGrid\\.Registry\\.Server\\.Lanes\\.Low\\.Categories", false, null),
+        new Property("IceGrid\\.Registry\\.Server\\.Lanes\\.Low\\.Weight", false, null),
+        new Property("IceGrid\\.Registry\\.Server\\.Lanes\\.Context", false, null),
+        new Property("IceGrid\\.Registry\\.Server\\.Lanes\\.QueueSize", false, null),
+        new Property("IceGrid\\.Registry\\.Server\\.WarmUp", false, null),
         new Property("IceGrid\\.Registry\\.SessionFilters", false, null),
         new Property("IceGrid\\.Registry\\.SessionManager\\.ACM\\.Timeout", false, null),
         new Property("IceGrid\\.Registry\\.SessionManager\\.ACM\\.Heartbeat", false, null),
         new Property("IceGrid\\.Registry\\.SessionManager\\.ACM\\.Close", false, null),
         new Property("IceGrid\\.Registry\\.SessionManager\\.ACM", false, null),
+        new Property("IceGrid\\.Registry\\.SessionManager\\.Acceptors", false, null),
         new Property("IceGrid\\.Registry\\.SessionManager\\.AdapterId", false, null),
         new Property("IceGrid\\.Registry\\.SessionManager\\.Endpoints", false, null),
         new Property("IceGrid\\.Registry\\.SessionManager\\.Locator\\.EndpointSelection", false, null),
@@ -1004,6 +1296,20 @@ public final class PropertyNames
         new Property("IceGrid\\.Registry\\.SessionManager\\.ThreadPool\\.ThreadIdleTime", false, null),
         new Property("IceGrid\\.Registry\\.SessionManager\\.ThreadPool\\.ThreadPriority", false, null),
         new Property("IceGrid\\.Registry\\.SessionManager\\.MessageSizeMax", false, null),
+        new Property("IceGrid\\.Registry\\.SessionManager\\.AdmissionControl\\.MaxQueued", false, null),
+        new Property("IceGrid\\.Registry\\.SessionManager\\.AdmissionControl\\.MaxQueueWait", false, null),
+        new Property("IceGrid\\.Registry\\.SessionManager\\.AdmissionControl\\.CoDelTarget", false, null),
+        new Property("IceGrid\\.Registry\\.SessionManager\\.AdmissionControl\\.CoDelInterval", false, null),
+        new Property("IceGrid\\.Registry\\.SessionManager\\.Lanes\\.High\\.Operations", false, null),
+        new Property("IceGrid\\.Registry\\.SessionManager\\.Lanes\\.High\\.Categories", false, null),
+        new Property("IceGrid\\.Registry\\.SessionManager\\.Lanes\\.High\\.Weight", false, null),
+        new Property("IceGrid\\.Registry\\.SessionManager\\.Lanes\\.Normal\\.Weight", false, null),
+        new Property("IceGrid\\.Registry\\.SessionManager\\.Lanes\\.Low\\.Operations", false, null),
+        new Property("IceGrid\\.Registry\\.SessionManager\\.Lanes\\.Low\\.Categories", false, null),
+        new Property("IceGrid\\.Registry\\.SessionManager\\.Lanes\\.Low\\.Weight", false, null),
+        new Property("IceGrid\\.Registry\\.SessionManager\\.Lanes\\.Context", false, null),
+        new Property("IceGrid\\.Registry\\.SessionManager\\.Lanes\\.QueueSize", false, null),
+        new Property("IceGrid\\.Registry\\.SessionManager\\.WarmUp", false, null),
         new Property("IceGrid\\.Registry\\.SessionTimeout", false, null),
         new Property("IceGrid\\.Registry\\.SSLPermissionsVerifier\\.EndpointSelection", false, null),
         new Property("IceGrid\\.Registry\\.SSLPermissionsVerifier\\.ConnectionCached", false, null),
@@ -1039,6 +1345,7 @@ public final class PropertyNames
         new Property("IcePatch2\\.ACM\\.Heartbeat", false, null),
         new Property("IcePatch2\\.ACM\\.Close", false, null),
         new Property("IcePatch2\\.ACM", false, null),
+        new Property("IcePatch2\\.Acceptors", false, null),
         new Property("IcePatch2\\.AdapterId", false, null),
         new Property("IcePatch2\\.Endpoints", false, null),
         new Property("IcePatch2\\.Locator\\.EndpointSelection", false, null),
@@ -1072,6 +1379,20 @@ public final class PropertyNames
         new Property("IcePatch2\\.ThreadPool\\.ThreadIdleTime", false, null),
         new Property("IcePatch2\\.ThreadPool\\.ThreadPriority", false, null),
         new Property("IcePatch2\\.MessageSizeMax", false, null),
+        new Property("IcePatch2\\.AdmissionControl\\.MaxQueued", false, null),
+        new Property("IcePatch2\\.AdmissionControl\\.MaxQueueWait", false, null),
+        new Property("IcePatch2\\.AdmissionControl\\.CoDelTarget", false, null),
+        new Property("IcePatch2\\.AdmissionControl\\.CoDelInterval", false, null),
+        new Property("IcePatch2\\.Lanes\\.High\\.Operations", false, null),
+        new Property("IcePatch2\\.Lanes\\.High\\.Categories", false, null),
+        new Property("IcePatch2\\.Lanes\\.High\\.Weight", false, null),
+        new Property("IcePatch2\\.Lanes\\.Normal\\.Weight", false, null),
+        new Property("IcePatch2\\.Lanes\\.Low\\.Operations", false, null),
+        new Property("IcePatch2\\.Lanes\\.Low\\.Categories", false, null),
+        new Property("IcePatch2\\.Lanes\\.Low\\.Weight", false, null),
+        new Property("IcePatch2\\.Lanes\\.Context", false, null),
+        new Property("IcePatch2\\.Lanes\\.QueueSize", false, null),
+        new Property("IcePatch2\\.WarmUp", false, null),
         new Property("IcePatch2\\.Directory", false, null),
         new Property("IcePatch2\\.InstanceName", false, null),
         null
@@ -1157,6 +1478,7 @@ public final class PropertyNames
         new Property("Glacier2\\.Client\\.ACM\\.Heartbeat", false, null),
         new Property("Glacier2\\.Client\\.ACM\\.Close", false, null),
         new Property("Glacier2\\.Client\\.ACM", false, null),
+        new Property("Glacier2\\.Client\\.Acceptors", false, null),
         new Property("Glacier2\\.Client\\.AdapterId", false, null),
         new Property("Glacier2\\.Client\\.Endpoints", false, null),
         new Property("Glacier2\\.Client\\.Locator\\.EndpointSelection", false, null),
@@ -1190,6 +1512,20 @@ public final class PropertyNames
         new Property("Glacier2\\.Client\\.ThreadPool\\.ThreadIdleTime", false, null),
         new Property("Glacier2\\.Client\\.ThreadPool\\.ThreadPriority", false, null),
         new Property("Glacier2\\.Client\\.MessageSizeMax", false, null),
+        new Property("Glacier2\\.Client\\.AdmissionControl\\.MaxQueued", false, null),
+        new Property("Glacier2\\.Client\\.AdmissionControl\\.MaxQueueWait", false, null),
+        new Property("Glacier2\\.Client\\.AdmissionControl\\.CoDelTarget", false, null),
+        new Property("Glacier2\\.Client\\.AdmissionControl\\.CoDelInterval", false, null),
+        new Property("Glacier2\\.Client\\.Lanes\\.High\\.Operations", false, null),
+        new Property("Glacier2\\.Client\\.Lanes\\.High\\.Categories", false, null),
+        new Property("Glacier2\\.Client\\.Lanes\\.High\\.Weight", false, null),
+        new Property("Glacier2\\.Client\\.Lanes\\.Normal\\.Weight", false, null),
+        new Property("Glacier2\\.Client\\.Lanes\\.Low\\.Operations", false, null),
+        new Property("Glacier2\\.Client\\.Lanes\\.Low\\.Categories", false, null),
+        new Property("Glacier2\\.Client\\.Lanes\\.Low\\.Weight", false, null),
+        new Property("Glacier2\\.Client\\.Lanes\\.Context", false, null),
+        new Property("Glacier2\\.Client\\.Lanes\\.QueueSize", false, null),
+        new Property("Glacier2\\.Client\\.WarmUp", false, null),
         new Property("Glacier2\\.Client\\.AlwaysBatch", false, null),
         new Property("Glacier2\\.Client\\.Buffered", false, null),
         new Property("Glacier2\\.Client\\.ForwardContext", false, null),
@@ -1232,6 +1568,7 @@ public final class PropertyNames
         new Property("Glacier2\\.Server\\.ACM\\.Heartbeat", false, null),
         new Property("Glacier2\\.Server\\.ACM\\.Close", false, null),
         new Property("Glacier2\\.Server\\.ACM", false, null),
+        new Property("Glacier2\\.Server\\.Acceptors", false, null),
         new Property("Glacier2\\.Server\\.AdapterId", false, null),
         new Property("Glacier2\\.Server\\.Endpoints", false, null),
         new Property("Glacier2\\.Server\\.Locator\\.EndpointSelection", false, null),
@@ -1265,6 +1602,20 @@ public final class PropertyNames
         new Property("Glacier2\\.Server\\.ThreadPool\\.ThreadIdleTime", false, null),
         new Property("Glacier2\\.Server\\.ThreadPool\\.ThreadPriority", false, null),
         new Property("Glacier2\\.Server\\.MessageSizeMax", false, null),
+        new Property("Glacier2\\.Server\\.AdmissionControl\\.MaxQueued", false, null),
+        new Property("Glacier2\\.Server\\.AdmissionControl\\.MaxQueueWait", false, null),
+        new Property("Glacier2\\.Server\\.AdmissionControl\\.CoDelTarget", false, null),
+        new Property("Glacier2\\.Server\\.AdmissionControl\\.CoDelInterval", false, null),
+        new Property("Glacier2\\.Server\\.Lanes\\.High\\.Operations", false, null),
+        new Property("Glacier2\\.Server\\.Lanes\\.High\\.Categories", false, null),
+        new Property("Glacier2\\.Server\\.Lanes\\.High\\.Weight", false, null),
+        new Property("Glacier2\\.Server\\.Lanes\\.Normal\\.Weight", false, null),
+        new Property("Glacier2\\.Server\\.Lanes\\.Low\\.Operations", false, null),
+        new Property("Glacier2\\.Server\\.Lanes\\.Low\\.Categories", false, null),
+        new Property("Glacier2\\.Server\\.Lanes\\.Low\\.Weight", false, null),
+        new Property("Glacier2\\.Server\\.Lanes\\.Context", false, null),
+        new Property("Glacier2\\.Server\\.Lanes\\.QueueSize", false, null),
+        new Property("Glacier2\\.Server\\.WarmUp", false, null),
         new Property("Glacier2\\.Server\\.AlwaysBatch", false, null),
         new Property("Glacier2\\.Server\\.Buffered", false, null),
         new Property("Glacier2\\.Server\\.ForwardContext", false, null),
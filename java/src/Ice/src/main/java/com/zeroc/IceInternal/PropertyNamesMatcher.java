@@ -0,0 +1,357 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package com.zeroc.IceInternal;
+
+//
+// Matches property names against the patterns of a PropertyNames namespace
+// (for example "Ice" or "IceSSL") without compiling regular expressions.
+//
+// The patterns only use escaped dots and the "[^\s]+" wildcard, they are
+// compiled once into a trie where each wildcard is a node that consumes one
+// or more non-whitespace characters. A key is matched by walking the trie
+// with the set of active nodes. When several patterns match, the first one
+// in the PropertyNames order is returned, like the regular expression
+// matching did. Patterns using other regular expression constructs are
+// matched with regular expressions.
+//
+public final class PropertyNamesMatcher
+{
+    //
+    // Returns the matcher of the namespace of the given prefix, the prefix
+    // is compared without case. Returns null if there's no such namespace.
+    //
+    public static PropertyNamesMatcher
+    find(String prefix)
+    {
+        return Holder.matchers.get(prefix.toUpperCase());
+    }
+
+    //
+    // Returns the first property whose pattern matches the key, or null.
+    //
+    public Property
+    match(String key)
+    {
+        int order = Integer.MAX_VALUE;
+
+        java.util.List<Node> current = new java.util.ArrayList<>();
+        java.util.List<Node> next = new java.util.ArrayList<>();
+        current.add(_root);
+        for(int i = 0; i < key.length() && !current.isEmpty(); ++i)
+        {
+            char c = key.charAt(i);
+            boolean whitespace = isWhitespace(c);
+            for(Node n : current)
+            {
+                if(n.wildcardLoop && !whitespace)
+                {
+                    addNode(next, n);
+                }
+                Node child = n.child(c);
+                if(child != null)
+                {
+                    addNode(next, child);
+                }
+                if(n.wildcard != null && !whitespace)
+                {
+                    addNode(next, n.wildcard);
+                }
+            }
+            java.util.List<Node> tmp = current;
+            current = next;
+            next = tmp;
+            next.clear();
+        }
+
+        for(Node n : current)
+        {
+            if(n.order < order)
+            {
+                order = n.order;
+            }
+        }
+
+        for(int i = 0; i < _patterns.size() && _patternOrders.get(i) < order; ++i)
+        {
+            if(_patterns.get(i).matcher(key).matches())
+            {
+                order = _patternOrders.get(i);
+            }
+        }
+
+        return order == Integer.MAX_VALUE ? null : _properties[order];
+    }
+
+    //
+    // Returns the name of the property that matches the key without case,
+    // or null. The property names without wildcards are looked up first,
+    // the other patterns are only compiled and tried on a miss, this is
+    // only used to report unknown properties.
+    //
+    public String
+    matchIgnoreCase(String key)
+    {
+        String name = _upperCaseNames.get(key.toUpperCase());
+        if(name != null)
+        {
+            return name;
+        }
+
+        java.util.regex.Pattern[] patterns = ignoreCasePatterns();
+        for(int i = 0; i < patterns.length; ++i)
+        {
+            java.util.regex.Matcher m = patterns[i].matcher(key);
+            if(m.matches())
+            {
+                //
+                // Return the pattern with the wildcards replaced by the text
+                // they matched in the key.
+                //
+                String pattern = _properties[_ignoreCaseOrders.get(i)].pattern();
+                StringBuilder sb = new StringBuilder();
+                int group = 0;
+                for(int j = 0; j < pattern.length(); ++j)
+                {
+                    char c = pattern.charAt(j);
+                    if(c == '\\' && j + 1 < pattern.length())
+                    {
+                        sb.append(pattern.charAt(++j));
+                    }
+                    else if(group < m.groupCount() && pattern.startsWith(WILDCARD, j))
+                    {
+                        sb.append(m.group(++group));
+                        j += WILDCARD.length() - 1;
+                    }
+                    else
+                    {
+                        sb.append(c);
+                    }
+                }
+                return sb.toString();
+            }
+        }
+        return null;
+    }
+
+    private PropertyNamesMatcher(Property[] properties)
+    {
+        int count = 0;
+        while(properties[count] != null)
+        {
+            ++count;
+        }
+        _properties = java.util.Arrays.copyOf(properties, count);
+
+        for(int i = 0; i < count; ++i)
+        {
+            String pattern = _properties[i].pattern();
+            if(!add(pattern, i))
+            {
+                _patterns.add(java.util.regex.Pattern.compile(pattern));
+                _patternOrders.add(i);
+                _ignoreCaseOrders.add(i);
+            }
+            else if(pattern.indexOf('[') == -1)
+            {
+                String name = pattern.replace("\\", "");
+                _upperCaseNames.putIfAbsent(name.toUpperCase(), name);
+            }
+            else
+            {
+                _ignoreCaseOrders.add(i);
+            }
+        }
+    }
+
+    private synchronized java.util.regex.Pattern[]
+    ignoreCasePatterns()
+    {
+        if(_ignoreCasePatterns == null)
+        {
+            _ignoreCasePatterns = new java.util.regex.Pattern[_ignoreCaseOrders.size()];
+            for(int i = 0; i < _ignoreCasePatterns.length; ++i)
+            {
+                //
+                // The wildcards of the patterns matched by the trie are captured to build the
+                // property name, the other patterns are used as is.
+                //
+                String pattern = _properties[_ignoreCaseOrders.get(i)].pattern();
+                if(_patternOrders.indexOf(_ignoreCaseOrders.get(i)) == -1)
+                {
+                    pattern = pattern.replace(WILDCARD, "(" + WILDCARD + ")");
+                }
+                _ignoreCasePatterns[i] = java.util.regex.Pattern.compile(pattern,
+                                                                         java.util.regex.Pattern.CASE_INSENSITIVE);
+            }
+        }
+        return _ignoreCasePatterns;
+    }
+
+    //
+    // Adds the pattern to the trie, returns false if the pattern uses other
+    // regular expression constructs than escaped dots and wildcards.
+    //
+    private boolean
+    add(String pattern, int order)
+    {
+        for(int i = 0; i < pattern.length(); ++i)
+        {
+            char c = pattern.charAt(i);
+            if(c == '\\')
+            {
+                if(i + 1 >= pattern.length() || pattern.charAt(++i) != '.')
+                {
+                    return false;
+                }
+            }
+            else if(c == '[')
+            {
+                if(!pattern.startsWith(WILDCARD, i))
+                {
+                    return false;
+                }
+                i += WILDCARD.length() - 1;
+            }
+            else if(!Character.isLetterOrDigit(c) && c != '_' && c != '-')
+            {
+                return false;
+            }
+        }
+
+        Node node = _root;
+        for(int i = 0; i < pattern.length(); ++i)
+        {
+            char c = pattern.charAt(i);
+            if(c == '\\')
+            {
+                node = node.addChild(pattern.charAt(++i));
+            }
+            else if(c == '[')
+            {
+                if(node.wildcard == null)
+                {
+                    node.wildcard = new Node();
+                    node.wildcard.wildcardLoop = true;
+                }
+                node = node.wildcard;
+                i += WILDCARD.length() - 1;
+            }
+            else
+            {
+                node = node.addChild(c);
+            }
+        }
+        if(order < node.order)
+        {
+            node.order = order;
+        }
+        return true;
+    }
+
+    //
+    // The characters matched by \s.
+    //
+    private static boolean
+    isWhitespace(char c)
+    {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static void
+    addNode(java.util.List<Node> nodes, Node node)
+    {
+        //
+        // The lists of active nodes are small, a linear search is cheaper than a set.
+        //
+        for(Node n : nodes)
+        {
+            if(n == node)
+            {
+                return;
+            }
+        }
+        nodes.add(node);
+    }
+
+    private static class Node
+    {
+        Node
+        child(char c)
+        {
+            for(int i = 0; i < _chars.length; ++i)
+            {
+                if(_chars[i] == c)
+                {
+                    return _children[i];
+                }
+            }
+            return null;
+        }
+
+        Node
+        addChild(char c)
+        {
+            Node child = child(c);
+            if(child == null)
+            {
+                child = new Node();
+                _chars = java.util.Arrays.copyOf(_chars, _chars.length + 1);
+                _children = java.util.Arrays.copyOf(_children, _children.length + 1);
+                _chars[_chars.length - 1] = c;
+                _children[_children.length - 1] = child;
+            }
+            return child;
+        }
+
+        int order = Integer.MAX_VALUE; // The index of the first property ending with this node.
+        Node wildcard; // The node reached by consuming one non-whitespace character with a wildcard.
+        boolean wildcardLoop; // Whether or not this node is a wildcard node.
+
+        private char[] _chars = new char[0];
+        private Node[] _children = new Node[0];
+    }
+
+    //
+    // The matchers are built on first use.
+    //
+    private static class Holder
+    {
+        static final java.util.Map<String, PropertyNamesMatcher> matchers = new java.util.HashMap<>();
+
+        static
+        {
+            for(int i = 0; PropertyNames.validProps[i] != null; ++i)
+            {
+                String pattern = PropertyNames.validProps[i][0].pattern();
+                int dotPos = pattern.indexOf('.');
+                //
+                // Each top level prefix describes a non-empty namespace. Having a string without a
+                // prefix followed by a dot is an error.
+                //
+                assert(dotPos != -1);
+                String prefix = pattern.substring(0, dotPos - 1).toUpperCase();
+                if(!matchers.containsKey(prefix))
+                {
+                    matchers.put(prefix, new PropertyNamesMatcher(PropertyNames.validProps[i]));
+                }
+            }
+        }
+    }
+
+    private static final String WILDCARD = "[^\\s]+";
+
+    private final Property[] _properties;
+    private final Node _root = new Node();
+    private final java.util.List<java.util.regex.Pattern> _patterns = new java.util.ArrayList<>();
+    private final java.util.List<Integer> _patternOrders = new java.util.ArrayList<>();
+    private final java.util.Map<String, String> _upperCaseNames = new java.util.HashMap<>();
+    private final java.util.List<Integer> _ignoreCaseOrders = new java.util.ArrayList<>();
+    private java.util.regex.Pattern[] _ignoreCasePatterns; // Compiled on first use.
+}
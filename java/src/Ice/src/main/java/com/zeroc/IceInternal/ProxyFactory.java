@@ -235,6 +235,26 @@ public final class ProxyFactory
         else
         {
             interval = _retryIntervals[cnt - 1];
+            if(interval > 0 && _retryJitter > 0)
+            {
+                interval -= java.util.concurrent.ThreadLocalRandom.current().nextInt(
+                    (int)((long)interval * _retryJitter / 100) + 1);
+            }
+        }
+
+        //
+        // Graceful connection closures don't count against the retry budget,
+        // the server didn't process the request.
+        //
+        RetryBudget budget = _instance.retryBudget();
+        if(budget != null && !(ex instanceof com.zeroc.Ice.CloseConnectionException) && !budget.withdraw())
+        {
+            if(traceLevels.retry >= 1)
+            {
+                String s = "cannot retry operation call because retry budget is exhausted\n" + ex.toString();
+                logger.trace(traceLevels.retryCat, s);
+            }
+            throw ex;
         }
 
         if(traceLevels.retry >= 1)
@@ -259,9 +279,26 @@ public final class ProxyFactory
     {
         _instance = instance;
 
-        String[] arr = _instance.initializationData().properties.getPropertyAsList("Ice.RetryIntervals");
+        com.zeroc.Ice.Properties properties = _instance.initializationData().properties;
+        String[] arr = properties.getPropertyAsList("Ice.RetryIntervals");
 
-        if(arr.length > 0)
+        int backoff = properties.getPropertyAsIntWithDefault("Ice.RetryBackoff.Initial", 0);
+        if(backoff > 0)
+        {
+            //
+            // Exponential backoff, the interval doubles with each retry up to
+            // Ice.RetryBackoff.Max.
+            //
+            int max = Math.max(properties.getPropertyAsIntWithDefault("Ice.RetryBackoff.Max", 10000), backoff);
+            _retryIntervals = new int[Math.max(properties.getPropertyAsIntWithDefault("Ice.RetryBackoff.Retries", 5),
+                                               0)];
+            for(int i = 0; i < _retryIntervals.length; ++i)
+            {
+                _retryIntervals[i] = backoff;
+                backoff = (int)Math.min((long)backoff * 2, max);
+            }
+        }
+        else if(arr.length > 0)
         {
             _retryIntervals = new int[arr.length];
 
@@ -295,8 +332,16 @@ public final class ProxyFactory
             _retryIntervals = new int[1];
             _retryIntervals[0] = 0;
         }
+
+        //
+        // The jitter is the maximum percentage of a retry interval that is
+        // randomly removed from the interval, to spread the retries of the
+        // clients that failed at the same time.
+        //
+        _retryJitter = Math.min(Math.max(properties.getPropertyAsInt("Ice.RetryJitter"), 0), 100);
     }
 
     private Instance _instance;
     private int[] _retryIntervals;
+    private int _retryJitter;
 }
@@ -24,4 +24,8 @@ public interface ProxyOutgoingAsyncBase extends OutgoingAsyncBase
     void retry();
 
     void abort(com.zeroc.Ice.Exception ex);
+
+    com.zeroc.Ice.ObjectPrx getProxy();
+
+    String getOperation();
 }
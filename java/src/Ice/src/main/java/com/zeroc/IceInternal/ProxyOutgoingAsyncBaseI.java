@@ -144,6 +144,16 @@ public abstract class ProxyOutgoingAsyncBaseI<T> extends OutgoingAsyncBaseI<T> i
 
                 case ReplyStatus.replyUnknownLocalException:
                 {
+                    //
+                    // The request was rejected by the admission control of
+                    // the server before its dispatch.
+                    //
+                    if(unknown.startsWith(AdmissionControl.RejectedPrefix))
+                    {
+                        com.zeroc.Ice.UnknownLocalException cause = new com.zeroc.Ice.UnknownLocalException();
+                        cause.unknown = unknown;
+                        throw new com.zeroc.Ice.ConcurrencyLimitException(cause);
+                    }
                     ex = new com.zeroc.Ice.UnknownLocalException();
                     break;
                 }
@@ -280,6 +290,7 @@ public abstract class ProxyOutgoingAsyncBaseI<T> extends OutgoingAsyncBaseI<T> i
         _cnt = 0;
         _sent = false;
         _proxyMode = _proxy._getReference().getMode();
+        _deadline = Deadline.compute(_instance, _proxy._getReference().getInvocationTimeout());
     }
 
     protected ProxyOutgoingAsyncBaseI(com.zeroc.Ice._ObjectPrxI prx, String op, com.zeroc.Ice.OutputStream os)
@@ -290,6 +301,7 @@ public abstract class ProxyOutgoingAsyncBaseI<T> extends OutgoingAsyncBaseI<T> i
         _cnt = 0;
         _sent = false;
         _proxyMode = _proxy._getReference().getMode();
+        _deadline = Deadline.compute(_instance, _proxy._getReference().getInvocationTimeout());
     }
 
     protected void invokeImpl(boolean userThread)
@@ -298,12 +310,11 @@ public abstract class ProxyOutgoingAsyncBaseI<T> extends OutgoingAsyncBaseI<T> i
         {
             if(userThread)
             {
-                int invocationTimeout = _proxy._getReference().getInvocationTimeout();
-                if(invocationTimeout > 0)
+                if(_deadline != 0)
                 {
                     _timerFuture = _instance.timer().schedule(
                         () -> { cancel(new com.zeroc.Ice.InvocationTimeoutException()); },
-                        invocationTimeout, java.util.concurrent.TimeUnit.MILLISECONDS);
+                        Math.max(_deadline - System.nanoTime(), 0), java.util.concurrent.TimeUnit.NANOSECONDS);
                 }
             }
             else // If not called from the user thread, it's called from the retry queue
@@ -395,6 +406,16 @@ public abstract class ProxyOutgoingAsyncBaseI<T> extends OutgoingAsyncBaseI<T> i
                 _timerFuture.cancel(false);
                 _timerFuture = null;
             }
+            if(_flightRecorderEvent != null)
+            {
+                FlightRecorder.endInvocation(_flightRecorderEvent, _proxy, _operation, "sent");
+                _flightRecorderEvent = null;
+            }
+            RetryBudget budget = _instance.retryBudget();
+            if(budget != null)
+            {
+                budget.deposit();
+            }
         }
         return super.sent(done);
     }
@@ -407,6 +428,11 @@ public abstract class ProxyOutgoingAsyncBaseI<T> extends OutgoingAsyncBaseI<T> i
             _timerFuture.cancel(false);
             _timerFuture = null;
         }
+        if(_flightRecorderEvent != null)
+        {
+            FlightRecorder.endInvocation(_flightRecorderEvent, _proxy, _operation, ex.ice_id());
+            _flightRecorderEvent = null;
+        }
         return super.finished(ex);
     }
 
@@ -418,6 +444,16 @@ public abstract class ProxyOutgoingAsyncBaseI<T> extends OutgoingAsyncBaseI<T> i
             _timerFuture.cancel(false);
             _timerFuture = null;
         }
+        if(_flightRecorderEvent != null)
+        {
+            FlightRecorder.endInvocation(_flightRecorderEvent, _proxy, _operation, ok ? "ok" : "user exception");
+            _flightRecorderEvent = null;
+        }
+        RetryBudget budget = _instance.retryBudget();
+        if(budget != null)
+        {
+            budget.deposit(); // Replies, including user exceptions, are successful invocations.
+        }
         return super.finished(ok, invoke);
     }
 
@@ -433,6 +469,10 @@ public abstract class ProxyOutgoingAsyncBaseI<T> extends OutgoingAsyncBaseI<T> i
         Protocol.checkSupportedProtocol(Protocol.getCompatibleProtocol(_proxy._getReference().getProtocol()));
 
         _observer = ObserverHelper.get(_proxy, _operation, ctx == null ? _emptyContext : ctx);
+        if(FlightRecorder.invocation)
+        {
+            _flightRecorderEvent = FlightRecorder.beginInvocation();
+        }
 
         switch(_proxyMode)
         {
@@ -474,7 +514,35 @@ public abstract class ProxyOutgoingAsyncBaseI<T> extends OutgoingAsyncBaseI<T> i
 
         _os.writeByte((byte)_mode.value());
 
-        if(ctx != com.zeroc.Ice.ObjectPrx.noExplicitContext)
+        if(_deadline != 0 && _instance.propagateDeadlines() && !isBatch())
+        {
+            //
+            // Send the remaining time of the invocation with the context. The
+            // entry is added to the explicit or proxy context, which take
+            // precedence over the implicit context.
+            //
+            java.util.Map<String, String> context;
+            com.zeroc.Ice.ImplicitContextI implicitContext = null;
+            if(ctx != com.zeroc.Ice.ObjectPrx.noExplicitContext)
+            {
+                context = ctx == null ? new java.util.HashMap<>() : new java.util.HashMap<>(ctx);
+            }
+            else
+            {
+                context = new java.util.HashMap<>(ref.getContext());
+                implicitContext = ref.getInstance().getImplicitContext();
+            }
+            context.put(Deadline.ContextKey, Long.toString(Deadline.remaining(_deadline)));
+            if(implicitContext == null)
+            {
+                com.zeroc.Ice.ContextHelper.write(_os, context);
+            }
+            else
+            {
+                implicitContext.write(context, _os);
+            }
+        }
+        else if(ctx != com.zeroc.Ice.ObjectPrx.noExplicitContext)
         {
             //
             // Explicit context
@@ -506,6 +574,8 @@ public abstract class ProxyOutgoingAsyncBaseI<T> extends OutgoingAsyncBaseI<T> i
     protected int _proxyMode;
 
     private java.util.concurrent.Future<?> _timerFuture;
+    final private long _deadline; // The System.nanoTime() deadline of the invocation, 0 if none.
+    private Object _flightRecorderEvent;
     private int _cnt;
     private boolean _sent;
 
@@ -0,0 +1,103 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package com.zeroc.IceInternal;
+
+//
+// The retry budget of a communicator, it limits the retries to a
+// percentage of the successful invocations so that the clients of an
+// overloaded server don't amplify the overload with their retries.
+//
+// The budget is a token bucket: each successful invocation deposits
+// Ice.RetryBudget.Percent hundredths of a token and each retry withdraws
+// a token, a retry is suppressed if there's less than a token left. The
+// bucket holds at most Ice.RetryBudget.Max tokens and it's initially
+// full, the budget therefore only depends on the recent invocations.
+//
+public final class RetryBudget implements OpenMetricsWriter.Source
+{
+    static RetryBudget
+    create(com.zeroc.Ice.Properties properties)
+    {
+        int percent = properties.getPropertyAsIntWithDefault("Ice.RetryBudget.Percent", 0);
+        if(percent <= 0)
+        {
+            return null; // No retry budget.
+        }
+        int max = properties.getPropertyAsIntWithDefault("Ice.RetryBudget.Max", 10);
+        return new RetryBudget(percent, max > 0 ? max : 1);
+    }
+
+    //
+    // Called when an invocation succeeds.
+    //
+    public void
+    deposit()
+    {
+        while(true)
+        {
+            long tokens = _tokens.get();
+            if(tokens >= _max)
+            {
+                return;
+            }
+            if(_tokens.compareAndSet(tokens, Math.min(_max, tokens + _percent)))
+            {
+                return;
+            }
+        }
+    }
+
+    //
+    // Withdraws a token for a retry, returns false if the retry must be
+    // suppressed.
+    //
+    public boolean
+    withdraw()
+    {
+        while(true)
+        {
+            long tokens = _tokens.get();
+            if(tokens < Token)
+            {
+                _suppressed.increment();
+                return false;
+            }
+            if(_tokens.compareAndSet(tokens, tokens - Token))
+            {
+                _retries.increment();
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void
+    writeMetrics(OpenMetricsWriter writer)
+    {
+        writer.gauge("ice_retry_budget_tokens", "", _tokens.get() / Token);
+        writer.counter("ice_retry_budget_retries", "", _retries.sum());
+        writer.counter("ice_retry_budget_suppressed_retries", "", _suppressed.sum());
+    }
+
+    private RetryBudget(int percent, int max)
+    {
+        _percent = percent;
+        _max = (long)max * Token;
+        _tokens = new java.util.concurrent.atomic.AtomicLong(_max);
+    }
+
+    private static final long Token = 100; // The tokens are counted in hundredths.
+
+    final private long _percent;
+    final private long _max;
+    final private java.util.concurrent.atomic.AtomicLong _tokens;
+    final private java.util.concurrent.atomic.LongAdder _retries = new java.util.concurrent.atomic.LongAdder();
+    final private java.util.concurrent.atomic.LongAdder _suppressed = new java.util.concurrent.atomic.LongAdder();
+}
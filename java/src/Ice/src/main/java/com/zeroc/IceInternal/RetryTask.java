@@ -11,16 +11,23 @@ package com.zeroc.IceInternal;
 
 class RetryTask implements Runnable, CancellationHandler
 {
-    RetryTask(Instance instance, RetryQueue queue, ProxyOutgoingAsyncBase outAsync)
+    RetryTask(Instance instance, RetryQueue queue, ProxyOutgoingAsyncBase outAsync, int interval)
     {
         _instance = instance;
         _queue = queue;
         _outAsync = outAsync;
+        _interval = interval;
+        _flightRecorderEvent = FlightRecorder.retry ? FlightRecorder.beginRetry() : null;
     }
 
     @Override
     public void run()
     {
+        if(_flightRecorderEvent != null)
+        {
+            FlightRecorder.endRetry(_flightRecorderEvent, _outAsync.getProxy(), _outAsync.getOperation(), _interval);
+        }
+
         _outAsync.retry();
 
         //
@@ -76,5 +83,7 @@ class RetryTask implements Runnable, CancellationHandler
     private final Instance _instance;
     private final RetryQueue _queue;
     private final ProxyOutgoingAsyncBase _outAsync;
+    private final int _interval;
+    private final Object _flightRecorderEvent;
     private java.util.concurrent.Future<?> _future;
 }
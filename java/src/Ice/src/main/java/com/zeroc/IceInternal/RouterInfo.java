@@ -28,6 +28,10 @@ public final class RouterInfo
         _router = router;
 
         assert(_router != null);
+
+        _instance = ((com.zeroc.Ice._ObjectPrxI)_router)._getReference().getInstance();
+        _addProxiesDelay =
+            _instance.initializationData().properties.getPropertyAsInt("Ice.RouterAddProxiesDelay");
     }
 
     synchronized public void
@@ -133,10 +137,19 @@ public final class RouterInfo
         return ((com.zeroc.Ice._ObjectPrxI)serverProxy)._getReference().getEndpoints();
     }
 
+    //
+    // Adds the proxy to the router routing table. The proxies added while an
+    // addProxies call is in progress, or within Ice.RouterAddProxiesDelay
+    // milliseconds of the first one, are coalesced into a single addProxies
+    // call. The callback is called once the call which adds the proxy
+    // completes, unless true is returned because the proxy doesn't need to
+    // be added.
+    //
     public boolean
     addProxy(final com.zeroc.Ice.ObjectPrx proxy, final AddProxyCallback callback)
     {
         assert(proxy != null);
+        com.zeroc.Ice.ObjectPrx[] proxies;
         synchronized(this)
         {
             if(!_hasRoutingTable)
@@ -150,29 +163,44 @@ public final class RouterInfo
                 //
                 return true;
             }
-        }
 
-        _router.addProxiesAsync(new com.zeroc.Ice.ObjectPrx[] { proxy }).whenComplete(
-            (com.zeroc.Ice.ObjectPrx[] evictedProxies, Throwable ex) ->
+            //
+            // If the proxy is already being added, wait for the same addProxies call.
+            //
+            java.util.List<AddProxyCallback> callbacks = _addProxiesCallbacks.get(proxy.ice_getIdentity());
+            if(callbacks != null)
             {
-                if(ex != null)
+                callbacks.add(callback);
+                return false;
+            }
+            callbacks = new java.util.ArrayList<>();
+            callbacks.add(callback);
+            _addProxiesCallbacks.put(proxy.ice_getIdentity(), callbacks);
+            _queuedProxies.add(proxy);
+
+            if(_addProxiesInProgress || _addProxiesScheduled)
+            {
+                return false; // The proxy is added with the next addProxies call.
+            }
+
+            if(_addProxiesDelay > 0)
+            {
+                try
                 {
-                    if(ex instanceof com.zeroc.Ice.LocalException)
-                    {
-                        callback.setException((com.zeroc.Ice.LocalException)ex);
-                    }
-                    else
-                    {
-                        callback.setException(new com.zeroc.Ice.UnknownException(ex));
-                    }
+                    _instance.timer().schedule(() -> flushQueuedProxies(), _addProxiesDelay,
+                                               java.util.concurrent.TimeUnit.MILLISECONDS);
+                    _addProxiesScheduled = true;
+                    return false;
                 }
-                else
+                catch(com.zeroc.Ice.CommunicatorDestroyedException ex)
                 {
-                    addAndEvictProxies(proxy, evictedProxies);
-                    callback.addedProxy();
+                    // Send the proxy now, the invocation reports the destruction.
                 }
-            });
+            }
+            proxies = takeQueuedProxies();
+        }
 
+        addProxies(proxies);
         return false;
     }
 
@@ -226,26 +254,108 @@ public final class RouterInfo
         return _clientEndpoints;
     }
 
-    private synchronized void
-    addAndEvictProxies(com.zeroc.Ice.ObjectPrx proxy, com.zeroc.Ice.ObjectPrx[] evictedProxies)
+    private void
+    flushQueuedProxies()
     {
-        //
-        // Check if the proxy hasn't already been evicted by a
-        // concurrent addProxies call. If it's the case, don't
-        // add it to our local map.
-        //
-        int index = _evictedIdentities.indexOf(proxy.ice_getIdentity());
-        if(index >= 0)
+        com.zeroc.Ice.ObjectPrx[] proxies;
+        synchronized(this)
         {
-            _evictedIdentities.remove(index);
+            _addProxiesScheduled = false;
+            if(_addProxiesInProgress || _queuedProxies.isEmpty())
+            {
+                return;
+            }
+            proxies = takeQueuedProxies();
         }
-        else
+        addProxies(proxies);
+    }
+
+    private com.zeroc.Ice.ObjectPrx[]
+    takeQueuedProxies()
+    {
+        assert(Thread.holdsLock(this) && !_addProxiesInProgress && !_queuedProxies.isEmpty());
+        com.zeroc.Ice.ObjectPrx[] proxies = _queuedProxies.toArray(new com.zeroc.Ice.ObjectPrx[_queuedProxies.size()]);
+        _queuedProxies.clear();
+        _addProxiesInProgress = true;
+        return proxies;
+    }
+
+    private void
+    addProxies(final com.zeroc.Ice.ObjectPrx[] proxies)
+    {
+        _router.addProxiesAsync(proxies).whenComplete(
+            (com.zeroc.Ice.ObjectPrx[] evictedProxies, Throwable ex) ->
+            {
+                java.util.List<AddProxyCallback> callbacks = new java.util.ArrayList<>();
+                com.zeroc.Ice.ObjectPrx[] next = null;
+                synchronized(this)
+                {
+                    if(ex == null)
+                    {
+                        addAndEvictProxies(proxies, evictedProxies);
+                    }
+                    for(com.zeroc.Ice.ObjectPrx p : proxies)
+                    {
+                        callbacks.addAll(_addProxiesCallbacks.remove(p.ice_getIdentity()));
+                    }
+
+                    //
+                    // Send the proxies queued while this call was in progress right away.
+                    //
+                    _addProxiesInProgress = false;
+                    if(!_queuedProxies.isEmpty() && !_addProxiesScheduled)
+                    {
+                        next = takeQueuedProxies();
+                    }
+                }
+
+                for(AddProxyCallback callback : callbacks)
+                {
+                    if(ex == null)
+                    {
+                        callback.addedProxy();
+                    }
+                    else if(ex instanceof com.zeroc.Ice.LocalException)
+                    {
+                        callback.setException((com.zeroc.Ice.LocalException)ex);
+                    }
+                    else
+                    {
+                        callback.setException(new com.zeroc.Ice.UnknownException(ex));
+                    }
+                }
+
+                if(next != null)
+                {
+                    addProxies(next);
+                }
+            });
+    }
+
+    private void
+    addAndEvictProxies(com.zeroc.Ice.ObjectPrx[] proxies, com.zeroc.Ice.ObjectPrx[] evictedProxies)
+    {
+        assert(Thread.holdsLock(this));
+        for(com.zeroc.Ice.ObjectPrx proxy : proxies)
         {
             //
-            // If we successfully added the proxy to the router,
-            // we add it to our local map.
+            // Check if the proxy hasn't already been evicted by a
+            // concurrent addProxies call. If it's the case, don't
+            // add it to our local map.
             //
-            _identities.add(proxy.ice_getIdentity());
+            int index = _evictedIdentities.indexOf(proxy.ice_getIdentity());
+            if(index >= 0)
+            {
+                _evictedIdentities.remove(index);
+            }
+            else
+            {
+                //
+                // If we successfully added the proxy to the router,
+                // we add it to our local map.
+                //
+                _identities.add(proxy.ice_getIdentity());
+            }
         }
 
         //
@@ -266,9 +376,16 @@ public final class RouterInfo
     }
 
     private final com.zeroc.Ice.RouterPrx _router;
+    private final Instance _instance;
+    private final int _addProxiesDelay;
     private EndpointI[] _clientEndpoints;
     private com.zeroc.Ice.ObjectAdapter _adapter;
     private java.util.Set<com.zeroc.Ice.Identity> _identities = new java.util.HashSet<>();
     private java.util.List<com.zeroc.Ice.Identity> _evictedIdentities = new java.util.ArrayList<>();
     private boolean _hasRoutingTable;
+    private java.util.Map<com.zeroc.Ice.Identity, java.util.List<AddProxyCallback>> _addProxiesCallbacks =
+        new java.util.HashMap<>();
+    private java.util.List<com.zeroc.Ice.ObjectPrx> _queuedProxies = new java.util.ArrayList<>();
+    private boolean _addProxiesInProgress;
+    private boolean _addProxiesScheduled;
 }
@@ -52,7 +52,12 @@ class TcpAcceptor implements Acceptor
     @Override
     public Transceiver accept()
     {
-        return new TcpTransceiver(_instance, new StreamSocket(_instance, Network.doAccept(_fd)));
+        java.nio.channels.SocketChannel fd = Network.doAccept(_fd);
+        if(fd == null)
+        {
+            return null; // No pending connection.
+        }
+        return new TcpTransceiver(_instance, new StreamSocket(_instance, fd));
     }
 
     @Override
@@ -88,7 +93,7 @@ class TcpAcceptor implements Acceptor
         return _addr.getPort();
     }
 
-    TcpAcceptor(TcpEndpointI endpoint, ProtocolInstance instance, String host, int port)
+    TcpAcceptor(TcpEndpointI endpoint, ProtocolInstance instance, String host, int port, String adapterName)
     {
         _endpoint = endpoint;
         _instance = instance;
@@ -116,6 +121,16 @@ class TcpAcceptor implements Acceptor
                 Network.setReuseAddress(_fd, true);
             }
 
+            if(instance.properties().getPropertyAsIntWithDefault(adapterName + ".Acceptors", 1) > 1)
+            {
+                //
+                // The object adapter binds several acceptors to this endpoint,
+                // this is ignored if SO_REUSEPORT isn't supported (the other
+                // acceptors fail to bind).
+                //
+                Network.setReusePort(_fd);
+            }
+
             _addr = Network.getAddressForServer(host, port, instance.protocolSupport(), instance.preferIPv6());
         }
         catch(RuntimeException ex)
@@ -145,7 +145,7 @@ final class TcpEndpointI extends IPEndpointI
     @Override
     public Acceptor acceptor(String adapterName)
     {
-        return new TcpAcceptor(this, _instance, _host, _port);
+        return new TcpAcceptor(this, _instance, _host, _port, adapterName);
     }
 
     public TcpEndpointI endpoint(TcpAcceptor acceptor)
@@ -363,9 +363,59 @@ public final class ThreadPool implements java.util.concurrent.Executor
         {
             throw new com.zeroc.Ice.CommunicatorDestroyedException();
         }
+        if(FlightRecorder.threadPoolWait)
+        {
+            workItem._queueTime = System.nanoTime();
+        }
         _workQueue.queue(workItem);
     }
 
+    String
+    prefix()
+    {
+        return _prefix;
+    }
+
+    int
+    sizeMax()
+    {
+        return _sizeMax;
+    }
+
+    public boolean
+    serialize()
+    {
+        return _serialize;
+    }
+
+    synchronized Runnable
+    deferSerialize(ThreadPoolCurrent current, Runnable dispatch)
+    {
+        //
+        // The handler is only disabled by ioCompleted() if the thread pool
+        // has more than one thread.
+        //
+        if(!_serialize || _sizeMax == 1 || !current._ioCompleted)
+        {
+            return dispatch;
+        }
+
+        current._serializeDeferred = true;
+        final EventHandler handler = current._handler;
+        final int operation = current.operation;
+        return () ->
+        {
+            try
+            {
+                dispatch.run();
+            }
+            finally
+            {
+                serializeCompleted(handler, operation);
+            }
+        };
+    }
+
     public void
     joinWithAllThreads()
         throws InterruptedException
@@ -412,6 +462,11 @@ public final class ThreadPool implements java.util.concurrent.Executor
         {
             if(current._handler != null)
             {
+                if(FlightRecorder.threadPoolWait)
+                {
+                    FlightRecorder.threadPoolWait(_prefix, "ready handler", System.nanoTime() - current._readyTime);
+                }
+
                 try
                 {
                     current._handler.message(current);
@@ -454,6 +509,7 @@ public final class ThreadPool implements java.util.concurrent.Executor
                     {
                         _selector.finishSelect(_handlers);
                         select = false;
+                        _selectTime = System.nanoTime();
                         _nextHandler = _handlers.iterator();
                     }
                     else if(!current._leader && followerWait(current))
@@ -477,7 +533,7 @@ public final class ThreadPool implements java.util.concurrent.Executor
                         // If the handler called ioCompleted(), we re-enable the handler in
                         // case it was disabled and we decrease the number of thread in use.
                         //
-                        if(_serialize)
+                        if(_serialize && !current._serializeDeferred)
                         {
                             _selector.enable(current._handler, current.operation);
                         }
@@ -502,8 +558,10 @@ public final class ThreadPool implements java.util.concurrent.Executor
                     if(op != 0)
                     {
                         current._ioCompleted = false;
+                        current._serializeDeferred = false;
                         current._handler = n.handler;
                         current.operation = op;
+                        current._readyTime = _selectTime;
                         thread.setState(com.zeroc.Ice.Instrumentation.ThreadState.ThreadStateInUseForIO);
                         break;
                     }
@@ -620,6 +678,15 @@ public final class ThreadPool implements java.util.concurrent.Executor
         }
     }
 
+    private synchronized void
+    serializeCompleted(EventHandler handler, int operation)
+    {
+        if(!_destroyed)
+        {
+            _selector.enable(handler, operation);
+        }
+    }
+
     private synchronized void
     promoteFollower(ThreadPoolCurrent current)
     {
@@ -840,6 +907,7 @@ public final class ThreadPool implements java.util.concurrent.Executor
 
     private java.util.List<EventHandlerOpPair> _handlers = new java.util.ArrayList<>();
     private java.util.Iterator<EventHandlerOpPair> _nextHandler;
+    private long _selectTime; // The time of the last select.
 
     private boolean _promote;
 }
@@ -37,6 +37,28 @@ public final class ThreadPoolCurrent
         _threadPool.ioCompleted(this);
     }
 
+    //
+    // Returns the System.nanoTime() at which the selector reported the
+    // handler ready.
+    //
+    public long
+    readyTime()
+    {
+        return _readyTime;
+    }
+
+    //
+    // Called from message() by a handler which hands off the dispatch of
+    // the message to another thread. If the thread pool serializes the
+    // messages of its handlers, the handler remains disabled until the
+    // returned runnable, which runs the given dispatch, completes.
+    //
+    public Runnable
+    deferSerialize(Runnable dispatch)
+    {
+        return _threadPool.deferSerialize(this, dispatch);
+    }
+
     public void
     dispatchFromThisThread(DispatchWorkItem workItem)
     {
@@ -48,4 +70,6 @@ public final class ThreadPoolCurrent
     EventHandler _handler;
     boolean _ioCompleted;
     boolean _leader;
+    boolean _serializeDeferred;
+    long _readyTime;
 }
@@ -0,0 +1,173 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package com.zeroc.IceInternal;
+
+//
+// The communicator-wide registry of the classes used to unmarshal class
+// instances.
+//
+// The type IDs and compact IDs are resolved once per communicator with
+// the communicator's class resolver and the resolved constructors are
+// shared by the decoders of all the input streams. The constructor of a
+// class is looked up once and bound to a method handle, so unmarshaling
+// doesn't do any reflective lookup once the type IDs are resolved. The
+// registry is populated lazily, the type IDs that don't map to a class
+// are also cached up to a maximum number of entries since these type IDs
+// are provided by the peer.
+//
+public final class TypeIdRegistry
+{
+    public static final class ValueConstructor
+    {
+        public Class<?>
+        type()
+        {
+            return _type;
+        }
+
+        //
+        // Creates a new instance, raises NoValueFactoryException if the class
+        // constructor isn't accessible or raises an exception.
+        //
+        public com.zeroc.Ice.Value
+        newInstance(String typeId)
+        {
+            if(_handle == null)
+            {
+                throw new com.zeroc.Ice.NoValueFactoryException("no value factory", typeId, _exception);
+            }
+
+            try
+            {
+                return (com.zeroc.Ice.Value)_handle.invokeExact();
+            }
+            catch(Throwable ex)
+            {
+                throw new com.zeroc.Ice.NoValueFactoryException("no value factory", typeId, ex);
+            }
+        }
+
+        private ValueConstructor(Class<?> type)
+        {
+            java.lang.invoke.MethodHandle handle = null;
+            Throwable exception = null;
+            try
+            {
+                handle = java.lang.invoke.MethodHandles.publicLookup().findConstructor(
+                    type, java.lang.invoke.MethodType.methodType(void.class)).asType(
+                        java.lang.invoke.MethodType.methodType(com.zeroc.Ice.Value.class));
+            }
+            catch(ReflectiveOperationException ex)
+            {
+                exception = ex;
+            }
+            catch(RuntimeException ex)
+            {
+                exception = ex; // The class isn't a Value class.
+            }
+            _type = type;
+            _handle = handle;
+            _exception = exception;
+        }
+
+        final private Class<?> _type;
+        final private java.lang.invoke.MethodHandle _handle;
+        final private Throwable _exception;
+    }
+
+    //
+    // Returns the constructor of the given class.
+    //
+    public static ValueConstructor
+    constructor(Class<?> type)
+    {
+        return _constructors.get(type);
+    }
+
+    //
+    // Returns the constructor of the class of the given type ID, or null if
+    // the type ID doesn't map to a class.
+    //
+    public ValueConstructor
+    find(String typeId)
+    {
+        ValueConstructor c = _types.get(typeId);
+        if(c == null)
+        {
+            Class<?> cls;
+            try
+            {
+                cls = _instance.apply(typeId);
+            }
+            catch(java.lang.Exception ex)
+            {
+                throw new com.zeroc.Ice.NoValueFactoryException("no value factory", typeId, ex);
+            }
+
+            c = cls != null ? constructor(cls) : _none;
+            if(cls != null || _types.size() < MaxEntries)
+            {
+                _types.putIfAbsent(typeId, c);
+            }
+        }
+        return c != _none ? c : null;
+    }
+
+    //
+    // Returns the type ID of the given compact ID, or an empty string if the
+    // compact ID isn't known.
+    //
+    public String
+    resolveCompactId(int compactId)
+    {
+        String typeId = _compactIds.get(compactId);
+        if(typeId == null)
+        {
+            typeId = _instance.resolveCompactId(compactId);
+            if(!typeId.isEmpty() || _compactIds.size() < MaxEntries)
+            {
+                _compactIds.putIfAbsent(compactId, typeId);
+            }
+        }
+        return typeId;
+    }
+
+    TypeIdRegistry(Instance instance)
+    {
+        _instance = instance;
+    }
+
+    void
+    clear()
+    {
+        _types.clear();
+        _compactIds.clear();
+    }
+
+    private static final int MaxEntries = 10000;
+
+    private static final ClassValue<ValueConstructor> _constructors = new ClassValue<ValueConstructor>()
+        {
+            @Override
+            protected ValueConstructor
+            computeValue(Class<?> type)
+            {
+                return new ValueConstructor(type);
+            }
+        };
+
+    private static final ValueConstructor _none = new ValueConstructor(ValueConstructor.class);
+
+    final private Instance _instance;
+    final private java.util.concurrent.ConcurrentHashMap<String, ValueConstructor> _types =
+        new java.util.concurrent.ConcurrentHashMap<>();
+    final private java.util.concurrent.ConcurrentHashMap<Integer, String> _compactIds =
+        new java.util.concurrent.ConcurrentHashMap<>();
+}
@@ -180,23 +180,33 @@ final class UdpTransceiver implements Transceiver
 
         assert(buf.b.position() == 0);
 
+        //
+        // Receive the datagram with the transceiver's receive buffer and
+        // copy it to the given buffer: the receive buffer is only allocated
+        // once for the maximum packet size, the given buffer is sized for
+        // the datagram.
+        //
         final int packetSize = java.lang.Math.min(_maxPacketSize, _rcvSize - _udpOverhead);
-        buf.resize(packetSize, true);
-        buf.position(0);
+        if(_rcvBuf == null || _rcvBuf.capacity() < packetSize)
+        {
+            _rcvBuf = java.nio.ByteBuffer.allocateDirect(packetSize);
+        }
+        _rcvBuf.clear();
+        _rcvBuf.limit(packetSize);
 
         int ret = 0;
         while(true)
         {
             try
             {
-                java.net.SocketAddress peerAddr = _fd.receive(buf.b);
-                if(peerAddr == null || buf.b.position() == 0)
+                java.net.SocketAddress peerAddr = _fd.receive(_rcvBuf);
+                if(peerAddr == null || _rcvBuf.position() == 0)
                 {
                     return SocketOperation.Read;
                 }
 
                 _peerAddr = (java.net.InetSocketAddress)peerAddr;
-                ret = buf.b.position();
+                ret = _rcvBuf.position();
                 break;
             }
             catch(java.nio.channels.AsynchronousCloseException ex)
@@ -233,7 +243,9 @@ final class UdpTransceiver implements Transceiver
         }
 
         buf.resize(ret, true);
-        buf.position(ret);
+        buf.position(0);
+        _rcvBuf.flip();
+        buf.b.put(_rcvBuf);
 
         return SocketOperation.None;
     }
@@ -556,6 +568,7 @@ final class UdpTransceiver implements Transceiver
     private java.net.InetSocketAddress _mcastAddr = null;
     private String _mcastInterface;
     private java.net.InetSocketAddress _peerAddr = null;
+    private java.nio.ByteBuffer _rcvBuf = null; // The receive buffer, see read().
 
     private boolean _incoming = false;
     private int _port = 0;
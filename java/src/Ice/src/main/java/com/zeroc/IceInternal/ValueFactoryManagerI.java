@@ -13,23 +13,24 @@ import com.zeroc.Ice.ValueFactory;
 
 final class ValueFactoryManagerI implements com.zeroc.Ice.ValueFactoryManager
 {
-    public synchronized void add(ValueFactory factory, String id)
+    public void add(ValueFactory factory, String id)
     {
-        Object o = _factoryMap.get(id);
-        if(o != null)
+        if(_factoryMap.putIfAbsent(id, factory) != null)
         {
             com.zeroc.Ice.AlreadyRegisteredException ex = new com.zeroc.Ice.AlreadyRegisteredException();
             ex.id = id;
             ex.kindOfObject = "value factory";
             throw ex;
         }
-        _factoryMap.put(id, factory);
     }
 
-    public synchronized ValueFactory find(String id)
+    //
+    // Called for each class instance unmarshaled, no locking.
+    //
+    public ValueFactory find(String id)
     {
         return _factoryMap.get(id);
     }
 
-    private java.util.Map<String, ValueFactory> _factoryMap = new java.util.HashMap<>();
+    private java.util.Map<String, ValueFactory> _factoryMap = new java.util.concurrent.ConcurrentHashMap<>();
 }
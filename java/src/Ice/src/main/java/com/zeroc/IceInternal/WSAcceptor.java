@@ -43,7 +43,8 @@ final class WSAcceptor implements Acceptor
         // WebSocket handshaking is performed in TransceiverI::initialize, since
         // accept must not block.
         //
-        return new WSTransceiver(_instance, _delegate.accept());
+        Transceiver delegate = _delegate.accept();
+        return delegate != null ? new WSTransceiver(_instance, delegate) : null;
     }
 
     @Override
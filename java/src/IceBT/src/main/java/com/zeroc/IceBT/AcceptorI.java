@@ -113,10 +113,10 @@ final class AcceptorI implements Acceptor
             throw new SocketException(_exception);
         }
 
-        //
-        // accept() should only be called when we have at least one socket ready.
-        //
-        assert(!_pending.isEmpty());
+        if(_pending.isEmpty())
+        {
+            return null; // No pending connection.
+        }
 
         BluetoothSocket socket = _pending.pop();
 
@@ -93,6 +93,7 @@ public class ServiceManagerI implements ServiceManager
         }
 
         boolean started = false;
+        long startTime = System.nanoTime();
         try
         {
             info.service.start(name, info.communicator == null ? _sharedCommunicator : info.communicator, info.args);
@@ -116,6 +117,7 @@ public class ServiceManagerI implements ServiceManager
                     if(started)
                     {
                         p.status = StatusStarted;
+                        p.startTime = (System.nanoTime() - startTime) / 1000000;
 
                         java.util.List<String> services = new java.util.ArrayList<>();
                         services.add(name);
@@ -324,6 +326,10 @@ public class ServiceManagerI implements ServiceManager
             {
                 com.zeroc.Ice.InitializationData initData = new com.zeroc.Ice.InitializationData();
                 initData.properties = createServiceProperties("SharedCommunicator");
+                if(properties.getPropertyAsInt("IceBox.ShareThreads") > 0)
+                {
+                    initData.parent = _communicator;
+                }
                 for(StartServiceInfo service : servicesInfo)
                 {
                     if(properties.getPropertyAsInt("IceBox.UseSharedCommunicator." + service.name) <= 0)
@@ -387,11 +393,18 @@ public class ServiceManagerI implements ServiceManager
                 }
             }
 
-            for(StartServiceInfo s : servicesInfo)
+            //
+            // Report the time taken to start each service with the OpenMetrics facet.
+            //
+            com.zeroc.Ice.Instrumentation.CommunicatorObserver observer =
+                com.zeroc.IceInternal.Util.getInstance(_communicator).initializationData().observer;
+            if(observer instanceof com.zeroc.IceInternal.CommunicatorObserverI)
             {
-                start(s.name, s.className, s.classDir, s.absolutePath, s.args);
+                ((com.zeroc.IceInternal.CommunicatorObserverI)observer).getFacet().addSource(this::writeMetrics);
             }
 
+            startAll(servicesInfo, properties.getPropertyAsIntWithDefault("IceBox.StartThreads", 1));
+
             //
             // We may want to notify external scripts that the services
             // have started. This is done by defining the property:
@@ -484,10 +497,195 @@ public class ServiceManagerI implements ServiceManager
         return 0;
     }
 
-    synchronized private void start(String service, String className, String classDir, boolean absolutePath,
-                                    String[] args)
+    //
+    // Starts the services in the given order. A service listed in
+    // IceBox.DependsOn.<service> is started before the service. With
+    // IceBox.StartThreads greater than one, the services which don't depend
+    // on each other are started in parallel by this number of threads.
+    //
+    // If a service fails to start, the services which are still starting
+    // complete their start and the failure is raised, the other services
+    // aren't started.
+    //
+    private void startAll(java.util.List<StartServiceInfo> services, int threads)
+        throws Throwable
+    {
+        Properties properties = _communicator.getProperties();
+        java.util.Set<String> names = new java.util.HashSet<>();
+        for(StartServiceInfo service : services)
+        {
+            names.add(service.name);
+        }
+        final java.util.Map<String, java.util.List<String>> dependencies = new java.util.HashMap<>();
+        for(StartServiceInfo service : services)
+        {
+            java.util.List<String> l =
+                java.util.Arrays.asList(properties.getPropertyAsList("IceBox.DependsOn." + service.name));
+            for(String name : l)
+            {
+                if(!names.contains(name))
+                {
+                    throw new FailureException("ServiceManager: unknown service `" + name + "' in dependencies of " +
+                                               "service `" + service.name + "'");
+                }
+            }
+            dependencies.put(service.name, l);
+        }
+
+        java.util.concurrent.ExecutorService executor = null;
+        if(threads > 1)
+        {
+            executor = java.util.concurrent.Executors.newFixedThreadPool(threads, r ->
+                {
+                    Thread t = new Thread(r, "IceBox.ServiceManager.Start");
+                    t.setDaemon(true);
+                    return t;
+                });
+        }
+        else
+        {
+            threads = 1;
+        }
+
+        final java.util.List<StartServiceInfo> pending = new java.util.LinkedList<>(services);
+        final java.util.Set<String> started = new java.util.HashSet<>();
+        final Throwable[] failure = new Throwable[1];
+        final int[] starting = new int[1];
+        try
+        {
+            while(true)
+            {
+                java.util.List<StartServiceInfo> ready = new java.util.ArrayList<>();
+                synchronized(started)
+                {
+                    while(true)
+                    {
+                        if(failure[0] == null)
+                        {
+                            java.util.Iterator<StartServiceInfo> p = pending.iterator();
+                            while(starting[0] + ready.size() < threads && p.hasNext())
+                            {
+                                StartServiceInfo service = p.next();
+                                if(started.containsAll(dependencies.get(service.name)))
+                                {
+                                    p.remove();
+                                    ready.add(service);
+                                }
+                            }
+                        }
+
+                        if(!ready.isEmpty())
+                        {
+                            starting[0] += ready.size();
+                            break;
+                        }
+                        else if(starting[0] == 0)
+                        {
+                            if(failure[0] != null)
+                            {
+                                throw failure[0];
+                            }
+                            else if(!pending.isEmpty())
+                            {
+                                throw new FailureException("ServiceManager: circular dependency between services " +
+                                                           dependencyCycle(pending, dependencies, started));
+                            }
+                            return;
+                        }
+
+                        started.wait();
+                    }
+                }
+
+                for(final StartServiceInfo service : ready)
+                {
+                    Runnable r = () ->
+                        {
+                            Throwable ex = null;
+                            try
+                            {
+                                start(service.name, service.className, service.classDir, service.absolutePath,
+                                      service.args);
+                            }
+                            catch(Throwable e)
+                            {
+                                ex = e;
+                            }
+
+                            synchronized(started)
+                            {
+                                --starting[0];
+                                if(ex == null)
+                                {
+                                    started.add(service.name);
+                                }
+                                else if(failure[0] == null)
+                                {
+                                    failure[0] = ex;
+                                }
+                                started.notifyAll();
+                            }
+                        };
+
+                    if(executor != null)
+                    {
+                        executor.execute(r);
+                    }
+                    else
+                    {
+                        r.run();
+                    }
+                }
+            }
+        }
+        finally
+        {
+            if(executor != null)
+            {
+                executor.shutdown();
+            }
+        }
+    }
+
+    //
+    // Returns the dependency cycle which prevents the pending services from
+    // being started, for example "`A' -> `B' -> `A'". Each pending service
+    // depends on a service which isn't started, the first such dependency
+    // is followed until a service is visited again.
+    //
+    private static String dependencyCycle(java.util.List<StartServiceInfo> pending,
+                                          java.util.Map<String, java.util.List<String>> dependencies,
+                                          java.util.Set<String> started)
+    {
+        java.util.List<String> path = new java.util.ArrayList<>();
+        String name = pending.get(0).name;
+        while(!path.contains(name))
+        {
+            path.add(name);
+            for(String dependency : dependencies.get(name))
+            {
+                if(!started.contains(dependency))
+                {
+                    name = dependency;
+                    break;
+                }
+            }
+        }
+
+        StringBuilder s = new StringBuilder();
+        for(String service : path.subList(path.indexOf(name), path.size()))
+        {
+            s.append('`').append(service).append("' -> ");
+        }
+        s.append('`').append(name).append('\'');
+        return s.toString();
+    }
+
+    private void start(String service, String className, String classDir, boolean absolutePath, String[] args)
         throws FailureException
     {
+        long startTime = System.nanoTime();
+
         //
         // Load the class.
         //
@@ -518,22 +716,25 @@ public class ServiceManagerI implements ServiceManager
                 //
                 ClassLoader cl = null;
 
-                if(_classLoaders == null)
+                synchronized(this)
                 {
-                    _classLoaders = new java.util.HashMap<>();
-                }
-                else
-                {
-                    cl = _classLoaders.get(classDir);
-                }
+                    if(_classLoaders == null)
+                    {
+                        _classLoaders = new java.util.HashMap<>();
+                    }
+                    else
+                    {
+                        cl = _classLoaders.get(classDir);
+                    }
 
-                if(cl == null)
-                {
-                    final java.net.URL[] url = new java.net.URL[] { new java.net.URL("file:///" + classDir) };
+                    if(cl == null)
+                    {
+                        final java.net.URL[] url = new java.net.URL[] { new java.net.URL("file:///" + classDir) };
 
-                    cl = new java.net.URLClassLoader(url);
+                        cl = new java.net.URLClassLoader(url);
 
-                    _classLoaders.put(classDir, cl);
+                        _classLoaders.put(classDir, cl);
+                    }
                 }
 
                 c = cl.loadClass(className);
@@ -591,6 +792,15 @@ public class ServiceManagerI implements ServiceManager
                 com.zeroc.Ice.InitializationData initData = new com.zeroc.Ice.InitializationData();
                 initData.properties = createServiceProperties(service);
                 String[] serviceArgs = info.args;
+
+                //
+                // Use the client thread pool and timer of the IceBox communicator
+                // rather than creating new threads for each service communicator.
+                //
+                if(_communicator.getProperties().getPropertyAsInt("IceBox.ShareThreads") > 0)
+                {
+                    initData.parent = _communicator;
+                }
                 if(serviceArgs.length > 0)
                 {
                     //
@@ -763,7 +973,11 @@ public class ServiceManagerI implements ServiceManager
             }
 
             info.status = StatusStarted;
-            _services.add(info);
+            info.startTime = (System.nanoTime() - startTime) / 1000000;
+            synchronized(this)
+            {
+                _services.add(info);
+            }
         }
         catch(RuntimeException ex)
         {
@@ -776,6 +990,15 @@ public class ServiceManagerI implements ServiceManager
         }
     }
 
+    private synchronized void writeMetrics(com.zeroc.IceInternal.OpenMetricsWriter writer)
+    {
+        for(ServiceInfo info : _services)
+        {
+            writer.gauge("ice_icebox_service_start_milliseconds",
+                         com.zeroc.IceInternal.OpenMetricsWriter.label("service", info.name), info.startTime);
+        }
+    }
+
     private synchronized void stopAll()
     {
         //
@@ -938,6 +1161,7 @@ public class ServiceManagerI implements ServiceManager
         public com.zeroc.Ice.Communicator communicator;
         public int status;
         public String[] args;
+        public long startTime; // The time taken to start the service in milliseconds.
     }
 
     static class StartServiceInfo
@@ -12,20 +12,57 @@ package com.zeroc.IceDiscovery;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CompletableFuture;
 
+//
+// With IceDiscovery.CacheTimeout, the proxies found with the lookup are
+// cached for the given number of milliseconds so that the locator requests
+// for the same object or adapter don't multicast a lookup request again.
+// Failed lookups aren't cached and remove the entry from the cache.
+//
+// An entry requested again shortly after it was returned is most likely
+// stale: the Ice runtime asks the locator again when it can't establish a
+// connection to the endpoints it got. The entry is removed and a new lookup
+// request is sent.
+//
 class LocatorI implements com.zeroc.Ice.Locator
 {
-    public LocatorI(LookupI lookup, com.zeroc.Ice.LocatorRegistryPrx registry)
+    public LocatorI(LookupI lookup, com.zeroc.Ice.LocatorRegistryPrx registry, com.zeroc.Ice.Properties properties)
     {
         _lookup = lookup;
         _registry = registry;
+        int cacheTimeout = properties.getPropertyAsInt("IceDiscovery.CacheTimeout");
+        _objectCache = cacheTimeout > 0 ? new Cache<>(cacheTimeout) : null;
+        _adapterCache = cacheTimeout > 0 ? new Cache<>(cacheTimeout) : null;
     }
 
     @Override
     public CompletionStage<com.zeroc.Ice.ObjectPrx> findObjectByIdAsync(com.zeroc.Ice.Identity id,
                                                                         com.zeroc.Ice.Current current)
     {
+        if(_objectCache != null)
+        {
+            com.zeroc.Ice.ObjectPrx proxy = _objectCache.get(id);
+            if(proxy != null)
+            {
+                return CompletableFuture.completedFuture(proxy);
+            }
+        }
+
         CompletableFuture<com.zeroc.Ice.ObjectPrx> f = new CompletableFuture<com.zeroc.Ice.ObjectPrx>();
         _lookup.findObject(f, id);
+        if(_objectCache != null)
+        {
+            return f.whenComplete((proxy, ex) ->
+                {
+                    if(proxy != null)
+                    {
+                        _objectCache.put(id, proxy);
+                    }
+                    else
+                    {
+                        _objectCache.remove(id);
+                    }
+                });
+        }
         return f;
     }
 
@@ -33,8 +70,31 @@ class LocatorI implements com.zeroc.Ice.Locator
     public CompletionStage<com.zeroc.Ice.ObjectPrx> findAdapterByIdAsync(String adapterId,
                                                                          com.zeroc.Ice.Current current)
     {
+        if(_adapterCache != null)
+        {
+            com.zeroc.Ice.ObjectPrx proxy = _adapterCache.get(adapterId);
+            if(proxy != null)
+            {
+                return CompletableFuture.completedFuture(proxy);
+            }
+        }
+
         CompletableFuture<com.zeroc.Ice.ObjectPrx> f = new CompletableFuture<com.zeroc.Ice.ObjectPrx>();
         _lookup.findAdapter(f, adapterId);
+        if(_adapterCache != null)
+        {
+            return f.whenComplete((proxy, ex) ->
+                {
+                    if(proxy != null)
+                    {
+                        _adapterCache.put(adapterId, proxy);
+                    }
+                    else
+                    {
+                        _adapterCache.remove(adapterId);
+                    }
+                });
+        }
         return f;
     }
 
@@ -44,6 +104,81 @@ class LocatorI implements com.zeroc.Ice.Locator
         return _registry;
     }
 
+    //
+    // The entries are kept in insertion order. They all have the same time to
+    // live so the expired entries are at the head of the map and are evicted
+    // when a new entry is added. The cache is also bounded to MaxEntries.
+    //
+    private static class Cache<K>
+    {
+        Cache(int timeout)
+        {
+            _timeout = timeout * 1000000L;
+        }
+
+        synchronized com.zeroc.Ice.ObjectPrx get(K key)
+        {
+            Entry entry = _entries.get(key);
+            if(entry == null)
+            {
+                return null;
+            }
+
+            long now = System.nanoTime();
+            if(now - entry.time >= _timeout || (entry.returned != 0 && now - entry.returned < InvalidateDelay))
+            {
+                _entries.remove(key);
+                return null;
+            }
+            entry.returned = now;
+            return entry.proxy;
+        }
+
+        synchronized void put(K key, com.zeroc.Ice.ObjectPrx proxy)
+        {
+            long now = System.nanoTime();
+            java.util.Iterator<Entry> p = _entries.values().iterator();
+            while(p.hasNext())
+            {
+                Entry entry = p.next();
+                if(now - entry.time < _timeout && _entries.size() < MaxEntries)
+                {
+                    break;
+                }
+                p.remove();
+            }
+
+            _entries.remove(key); // Move the entry to the tail of the map.
+            _entries.put(key, new Entry(proxy, now));
+        }
+
+        synchronized void remove(K key)
+        {
+            _entries.remove(key);
+        }
+
+        private static class Entry
+        {
+            Entry(com.zeroc.Ice.ObjectPrx proxy, long time)
+            {
+                this.proxy = proxy;
+                this.time = time;
+            }
+
+            final com.zeroc.Ice.ObjectPrx proxy;
+            final long time;
+            long returned; // The last time the entry was returned, 0 if never returned.
+        }
+
+        private static final int MaxEntries = 1024;
+        private static final long InvalidateDelay = 1000000000L; // One second, in nanoseconds.
+
+        private final long _timeout; // In nanoseconds.
+        private final java.util.Map<K, Entry> _entries = new java.util.LinkedHashMap<>();
+    }
+
     private final LookupI _lookup;
     private final com.zeroc.Ice.LocatorRegistryPrx _registry;
+    private final Cache<com.zeroc.Ice.Identity> _objectCache;
+    private final Cache<String> _adapterCache;
 }
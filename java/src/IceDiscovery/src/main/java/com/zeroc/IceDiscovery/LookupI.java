@@ -46,6 +46,8 @@ class LookupI implements Lookup
 
         void invoke(String domainId, Map<LookupPrx, LookupReplyPrx> lookups)
         {
+            ++_attempt;
+            _invokeTime = System.nanoTime();
             _lookupCount = lookups.size();
             _failureCount = 0;
             final com.zeroc.Ice.Identity id = new com.zeroc.Ice.Identity(_requestId, "");
@@ -72,6 +74,26 @@ class LookupI implements Lookup
             return _requestId;
         }
 
+        int getAttempt()
+        {
+            return _attempt;
+        }
+
+        //
+        // Returns the latency of the first reply to this request, or -1 if
+        // the reply latency is unknown because the request was sent several
+        // times or if it was already returned for a previous reply.
+        //
+        long replyLatency()
+        {
+            if(_attempt != 1 || _replied)
+            {
+                return -1;
+            }
+            _replied = true;
+            return System.nanoTime() - _invokeTime;
+        }
+
         void scheduleTimer(long timeout)
         {
             _future = _timer.schedule(this, timeout, java.util.concurrent.TimeUnit.MILLISECONDS);
@@ -91,6 +113,9 @@ class LookupI implements Lookup
         private final String _requestId;
 
         protected int _retryCount;
+        protected int _attempt;
+        protected long _invokeTime;
+        protected boolean _replied;
         protected int _lookupCount;
         protected int _failureCount;
         protected List<CompletableFuture<Ret>> _futures = new ArrayList<>();
@@ -120,11 +145,7 @@ class LookupI implements Lookup
                 _proxies.add(proxy);
                 if(_latency == 0)
                 {
-                    _latency = (long)((System.nanoTime() - _start) * _latencyMultiplier / 100000.0);
-                    if(_latency == 0)
-                    {
-                        _latency = 1; // 1ms
-                    }
+                    _latency = replicaGroupWindow(System.nanoTime() - _start);
                     cancelTimer();
                     scheduleTimer(_latency);
                 }
@@ -244,6 +265,7 @@ class LookupI implements Lookup
         _timeout = properties.getPropertyAsIntWithDefault("IceDiscovery.Timeout", 300);
         _retryCount = properties.getPropertyAsIntWithDefault("IceDiscovery.RetryCount", 3);
         _latencyMultiplier = properties.getPropertyAsIntWithDefault("IceDiscovery.LatencyMultiplier", 1);
+        _adaptiveTimeout = properties.getPropertyAsInt("IceDiscovery.AdaptiveTimeout") > 0;
         _domainId = properties.getProperty("IceDiscovery.DomainId");
         _timer = com.zeroc.IceInternal.Util.getInstance(lookup.ice_getCommunicator()).timer();
 
@@ -354,7 +376,7 @@ class LookupI implements Lookup
             try
             {
                 request.invoke(_domainId, _lookups);
-                request.scheduleTimer(_timeout);
+                request.scheduleTimer(requestTimeout(request));
             }
             catch(com.zeroc.Ice.LocalException ex)
             {
@@ -378,7 +400,7 @@ class LookupI implements Lookup
             try
             {
                 request.invoke(_domainId, _lookups);
-                request.scheduleTimer(_timeout);
+                request.scheduleTimer(requestTimeout(request));
             }
             catch(com.zeroc.Ice.LocalException ex)
             {
@@ -393,6 +415,7 @@ class LookupI implements Lookup
         ObjectRequest request = _objectRequests.get(id);
         if(request != null && request.getRequestId().equals(requestId)) // Ignore responses from old requests
         {
+            addLatencySample(request.replyLatency());
             request.response(proxy);
             request.cancelTimer();
             _objectRequests.remove(id);
@@ -405,6 +428,7 @@ class LookupI implements Lookup
         AdapterRequest request = _adapterRequests.get(adapterId);
         if(request != null && request.getRequestId().equals(requestId)) // Ignore responses from old requests
         {
+            addLatencySample(request.replyLatency());
             if(request.response(proxy, isReplicaGroup))
             {
                 request.cancelTimer();
@@ -426,7 +450,7 @@ class LookupI implements Lookup
             try
             {
                 request.invoke(_domainId, _lookups);
-                request.scheduleTimer(_timeout);
+                request.scheduleTimer(requestTimeout(request));
                 return;
             }
             catch(com.zeroc.Ice.LocalException ex)
@@ -478,7 +502,7 @@ class LookupI implements Lookup
             try
             {
                 request.invoke(_domainId, _lookups);
-                request.scheduleTimer(_timeout);
+                request.scheduleTimer(requestTimeout(request));
                 return;
             }
             catch(com.zeroc.Ice.LocalException ex)
@@ -517,12 +541,76 @@ class LookupI implements Lookup
         }
     }
 
+    //
+    // With IceDiscovery.AdaptiveTimeout, the reply latency is estimated from
+    // the latency of the replies to the requests which were sent once, as
+    // TCP estimates the round-trip time (RFC 6298). A request is sent again
+    // if it didn't get a reply after the estimated latency plus four times
+    // its deviation, doubled with each retry and bounded by
+    // IceDiscovery.Timeout. The replies of the adapters of a replica group
+    // are collected for the estimated latency plus four times its deviation
+    // multiplied by IceDiscovery.LatencyMultiplier.
+    //
+    private void addLatencySample(long latency)
+    {
+        if(!_adaptiveTimeout || latency < 0)
+        {
+            return;
+        }
+
+        if(_replyLatency < 0)
+        {
+            _replyLatency = latency;
+            _replyLatencyDeviation = latency / 2;
+        }
+        else
+        {
+            _replyLatencyDeviation = (3 * _replyLatencyDeviation + Math.abs(_replyLatency - latency)) / 4;
+            _replyLatency = (7 * _replyLatency + latency) / 8;
+        }
+    }
+
+    private long requestTimeout(Request<?, ?> request)
+    {
+        if(!_adaptiveTimeout || _replyLatency < 0)
+        {
+            return _timeout;
+        }
+
+        long timeout = Math.max((_replyLatency + 4 * _replyLatencyDeviation) / NanosPerMillisecond, MinAdaptiveTimeout);
+        for(int i = 1; i < request.getAttempt() && timeout < _timeout; ++i)
+        {
+            timeout *= 2;
+        }
+        return Math.min(timeout, _timeout);
+    }
+
+    private long replicaGroupWindow(long latency)
+    {
+        long window;
+        if(!_adaptiveTimeout || _replyLatency < 0)
+        {
+            window = latency * _latencyMultiplier / NanosPerMillisecond;
+        }
+        else
+        {
+            window = (_replyLatency + 4 * _replyLatencyDeviation) * _latencyMultiplier / NanosPerMillisecond;
+        }
+        return Math.max(window, 1); // 1ms
+    }
+
+    private static final int MinAdaptiveTimeout = 10; // ms
+    private static final long NanosPerMillisecond = 1000000; // The latencies are in nanoseconds.
+
     private LocatorRegistryI _registry;
     private LookupPrx _lookup;
     private java.util.Map<LookupPrx, LookupReplyPrx> _lookups = new java.util.HashMap<>();
     private final int _timeout;
     private final int _retryCount;
     private final int _latencyMultiplier;
+    private final boolean _adaptiveTimeout;
+    private long _replyLatency = -1; // In nanoseconds, -1 until the first reply latency is known.
+    private long _replyLatencyDeviation;
     private final String _domainId;
 
     private final java.util.concurrent.ScheduledExecutorService _timer;
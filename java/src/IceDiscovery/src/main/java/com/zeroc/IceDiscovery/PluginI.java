@@ -102,7 +102,8 @@ public class PluginI implements com.zeroc.Ice.Plugin
         //
         // Setup locator on the communicator.
         //
-        com.zeroc.Ice.ObjectPrx locator = _locatorAdapter.addWithUUID(new LocatorI(lookup, locatorRegistryPrx));
+        com.zeroc.Ice.ObjectPrx locator =
+            _locatorAdapter.addWithUUID(new LocatorI(lookup, locatorRegistryPrx, properties));
         _defaultLocator = _communicator.getDefaultLocator();
         _locator = com.zeroc.Ice.LocatorPrx.uncheckedCast(locator);
         _communicator.setDefaultLocator(_locator);
@@ -37,41 +37,106 @@ class PluginI implements Plugin
             _future = f;
         }
 
-        void invoke(com.zeroc.Ice.LocatorPrx l)
+        //
+        // Sends the request to the given locator replica. The request can be
+        // sent to several replicas concurrently if it's hedged.
+        //
+        void invoke(Replica replica)
         {
-            if(_locatorPrx == null || !_locatorPrx.equals(l))
+            synchronized(this)
             {
-                _locatorPrx = l;
-                try
-                {
-                    final CompletableFuture<com.zeroc.Ice.Object.Ice_invokeResult> f =
-                        l.ice_invokeAsync(_operation, _mode, _inParams, _context);
-                    f.whenComplete((result, ex) ->
+                _replicas.add(replica.proxy);
+                ++_pending;
+            }
+
+            final long start = System.nanoTime();
+            try
+            {
+                final CompletableFuture<com.zeroc.Ice.Object.Ice_invokeResult> f =
+                    replica.proxy.ice_invokeAsync(_operation, _mode, _inParams, _context);
+                f.whenComplete((result, ex) ->
+                               {
+                                   _locator.completed(replica, ex == null ? System.nanoTime() - start : -1);
+                                   if(ex != null)
                                    {
-                                       if(ex != null)
-                                       {
-                                           exception((com.zeroc.Ice.LocalException)ex);
-                                       }
-                                       else
-                                       {
-                                           _future.complete(result);
-                                       }
-                                   });
-                }
-                catch(com.zeroc.Ice.LocalException ex)
-                {
-                    exception(ex);
-                }
+                                       exception(replica, (com.zeroc.Ice.LocalException)ex);
+                                   }
+                                   else
+                                   {
+                                       _future.complete(result);
+                                   }
+                               });
             }
-            else
+            catch(com.zeroc.Ice.LocalException ex)
             {
-                assert(_exception != null); // Don't retry if the proxy didn't change
-                exception(_exception);
+                _locator.completed(replica, -1);
+                exception(replica, ex);
             }
         }
 
-        private void exception(com.zeroc.Ice.LocalException ex)
+        //
+        // Sends the request to the void locator once no locator replica is
+        // available for the request.
+        //
+        void invoke(com.zeroc.Ice.LocatorPrx voidLocator)
         {
+            try
+            {
+                final CompletableFuture<com.zeroc.Ice.Object.Ice_invokeResult> f =
+                    voidLocator.ice_invokeAsync(_operation, _mode, _inParams, _context);
+                f.whenComplete((result, ex) ->
+                               {
+                                   if(ex != null)
+                                   {
+                                       exception(null, (com.zeroc.Ice.LocalException)ex);
+                                   }
+                                   else
+                                   {
+                                       _future.complete(result);
+                                   }
+                               });
+            }
+            catch(com.zeroc.Ice.LocalException ex)
+            {
+                exception(null, ex);
+            }
+        }
+
+        synchronized boolean sentTo(com.zeroc.Ice.LocatorPrx replica)
+        {
+            return _replicas.contains(replica);
+        }
+
+        boolean isDone()
+        {
+            return _future.isDone();
+        }
+
+        private void exception(Replica replica, com.zeroc.Ice.LocalException ex)
+        {
+            if(replica != null)
+            {
+                boolean last;
+                synchronized(this)
+                {
+                    last = --_pending == 0 && !_future.isDone();
+                }
+
+                if(!last)
+                {
+                    //
+                    // The request is still in progress with another replica or
+                    // it already completed, it's not retried but the failed
+                    // replica is no longer used for the next requests.
+                    //
+                    if(isReplicaFailure(ex))
+                    {
+                        _locator.failed(replica);
+                    }
+                    return;
+                }
+            }
+
             try
             {
                 throw ex;
@@ -98,20 +163,56 @@ class PluginI implements Plugin
             }
             catch(com.zeroc.Ice.LocalException exc)
             {
-                _exception = exc;
-                _locator.invoke(_locatorPrx, Request.this); // Retry with new locator proxy
+                if(replica != null)
+                {
+                    _locator.invoke(replica, Request.this); // Retry with another locator replica
+                }
+                else
+                {
+                    _future.completeExceptionally(new com.zeroc.Ice.ObjectNotExistException());
+                }
             }
         }
 
+        //
+        // Returns whether or not the exception is a failure of the locator
+        // replica, in which case the request is retried with another replica.
+        //
+        private static boolean isReplicaFailure(com.zeroc.Ice.LocalException ex)
+        {
+            return !(ex instanceof com.zeroc.Ice.RequestFailedException ||
+                     ex instanceof com.zeroc.Ice.UnknownException ||
+                     ex instanceof com.zeroc.Ice.NoEndpointException ||
+                     ex instanceof com.zeroc.Ice.ObjectAdapterDeactivatedException ||
+                     ex instanceof com.zeroc.Ice.CommunicatorDestroyedException);
+        }
+
         private final LocatorI _locator;
-        private com.zeroc.Ice.LocalException _exception = null;
         private final String _operation;
         private final com.zeroc.Ice.OperationMode _mode;
         private final java.util.Map<String, String> _context;
         private final byte[] _inParams;
         private final CompletableFuture<com.zeroc.Ice.Object.Ice_invokeResult> _future;
 
-        private com.zeroc.Ice.LocatorPrx _locatorPrx;
+        private final java.util.Set<com.zeroc.Ice.LocatorPrx> _replicas = new java.util.HashSet<>();
+        private int _pending;
+    }
+
+    //
+    // A replica of the discovered locator, with the smoothed latency and
+    // the number of pending requests used to select the replica of a
+    // request.
+    //
+    private static class Replica
+    {
+        Replica(com.zeroc.Ice.LocatorPrx proxy)
+        {
+            this.proxy = proxy;
+        }
+
+        final com.zeroc.Ice.LocatorPrx proxy;
+        long latency = -1; // In nanoseconds, -1 until the first request completed.
+        int pending;
     }
 
     static private class VoidLocatorI implements com.zeroc.Ice.Locator
@@ -145,6 +246,8 @@ class PluginI implements Plugin
             _timeout = properties.getPropertyAsIntWithDefault(name + ".Timeout", 300);
             _retryCount = properties.getPropertyAsIntWithDefault(name + ".RetryCount", 3);
             _retryDelay = properties.getPropertyAsIntWithDefault(name + ".RetryDelay", 2000);
+            _hedgeDelay = properties.getPropertyAsInt(name + ".HedgeDelay");
+            _refreshInterval = properties.getPropertyAsInt(name + ".RefreshInterval");
             _timer = com.zeroc.IceInternal.Util.getInstance(lookup.ice_getCommunicator()).timer();
             _traceLevel = properties.getPropertyAsInt(name + ".Trace.Lookup");
             _instanceName = instanceName;
@@ -209,6 +312,15 @@ class PluginI implements Plugin
             return f;
         }
 
+        public synchronized void destroy()
+        {
+            if(_refreshFuture != null)
+            {
+                _refreshFuture.cancel(false);
+                _refreshFuture = null;
+            }
+        }
+
         public List<com.zeroc.Ice.LocatorPrx> getLocators(String instanceName, int waitTime)
         {
             //
@@ -355,10 +467,20 @@ class PluginI implements Plugin
             {
                 _locators.put(locator.ice_getIdentity().category, l);
                 notify();
+
+                //
+                // Add the replicas of the current locator found by later replies or by the
+                // background refresh of the locator replicas.
+                //
+                if(_locator != null && locator.ice_getIdentity().category.equals(_locator.ice_getIdentity().category))
+                {
+                    addReplica(locator);
+                }
             }
             else
             {
                 _locator = l;
+                addReplica(locator);
                 if(_instanceName.isEmpty())
                 {
                     _instanceName = _locator.ice_getIdentity().category; // Stick to the first locator
@@ -369,17 +491,29 @@ class PluginI implements Plugin
                 //
                 for(Request req : _pendingRequests)
                 {
-                    req.invoke(_locator);
+                    send(req);
                 }
                 _pendingRequests.clear();
+
+                if(_refreshInterval > 0 && _refreshFuture == null)
+                {
+                    _refreshFuture = _timer.scheduleWithFixedDelay(() -> refresh(), _refreshInterval,
+                                                                   _refreshInterval,
+                                                                   java.util.concurrent.TimeUnit.MILLISECONDS);
+                }
             }
         }
 
-        public synchronized void invoke(com.zeroc.Ice.LocatorPrx locator, Request request)
+        public synchronized void invoke(Replica failed, Request request)
         {
-            if(request != null && _locator != null && _locator != locator)
+            if(failed != null)
+            {
+                _replicas.remove(failed);
+            }
+
+            if(request != null && !_replicas.isEmpty())
             {
-                request.invoke(_locator);
+                send(request);
             }
             else if(request != null && com.zeroc.IceInternal.Time.currentMonotonicTimeMillis() < _nextRetry)
             {
@@ -388,6 +522,7 @@ class PluginI implements Plugin
             else
             {
                 _locator = null;
+                _replicas.clear();
 
                 if(request != null)
                 {
@@ -497,6 +632,147 @@ class PluginI implements Plugin
             }
         }
 
+        //
+        // Sends the request to a replica of the locator it wasn't sent to yet,
+        // chosen among two random replicas as the replica with the lowest
+        // latency weighted by its number of pending requests. Replicas whose
+        // latency is still unknown are probed first. With a hedge delay, the
+        // request is also sent to a second replica if it didn't complete
+        // within this delay.
+        //
+        private void send(Request request)
+        {
+            Replica replica = selectReplica(request);
+            if(replica == null)
+            {
+                request.invoke(_voidLocator); // The request was already sent to all the replicas.
+                return;
+            }
+
+            ++replica.pending;
+            request.invoke(replica);
+
+            if(_hedgeDelay > 0 && !request.isDone())
+            {
+                _timer.schedule(() -> hedge(request), _hedgeDelay, java.util.concurrent.TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private synchronized void hedge(Request request)
+        {
+            if(request.isDone())
+            {
+                return;
+            }
+
+            Replica replica = selectReplica(request);
+            if(replica != null)
+            {
+                if(_traceLevel > 1)
+                {
+                    StringBuilder s = new StringBuilder("hedging locator request:\nlocator = ");
+                    s.append(replica.proxy);
+                    _lookup.ice_getCommunicator().getLogger().trace("Lookup", s.toString());
+                }
+                ++replica.pending;
+                request.invoke(replica);
+            }
+        }
+
+        private Replica selectReplica(Request request)
+        {
+            List<Replica> replicas = new ArrayList<>();
+            for(Replica replica : _replicas)
+            {
+                if(!request.sentTo(replica.proxy))
+                {
+                    replicas.add(replica);
+                }
+            }
+
+            if(replicas.size() <= 1)
+            {
+                return replicas.isEmpty() ? null : replicas.get(0);
+            }
+
+            java.util.concurrent.ThreadLocalRandom random = java.util.concurrent.ThreadLocalRandom.current();
+            int i = random.nextInt(replicas.size());
+            int j = random.nextInt(replicas.size() - 1);
+            if(j >= i)
+            {
+                ++j;
+            }
+            Replica r1 = replicas.get(i);
+            Replica r2 = replicas.get(j);
+            return cost(r1) <= cost(r2) ? r1 : r2;
+        }
+
+        private static long cost(Replica replica)
+        {
+            if(replica.latency < 0)
+            {
+                //
+                // Probe a replica whose latency is unknown unless it's still
+                // completing its first request.
+                //
+                return replica.pending == 0 ? 0 : Long.MAX_VALUE;
+            }
+            return replica.latency * (replica.pending + 1);
+        }
+
+        private void addReplica(com.zeroc.Ice.LocatorPrx locator)
+        {
+            for(Replica replica : _replicas)
+            {
+                if(replica.proxy.equals(locator))
+                {
+                    return;
+                }
+            }
+            _replicas.add(new Replica(locator));
+        }
+
+        synchronized void completed(Replica replica, long latency)
+        {
+            --replica.pending;
+            if(latency >= 0)
+            {
+                replica.latency = replica.latency < 0 ? latency : (7 * replica.latency + latency) / 8;
+            }
+        }
+
+        //
+        // Removes a replica which failed while the request was still in
+        // progress with another replica.
+        //
+        synchronized void failed(Replica replica)
+        {
+            _replicas.remove(replica);
+        }
+
+        //
+        // Sends a locator lookup request to find the replicas of the current
+        // locator which were started or restarted since the last lookup.
+        //
+        private synchronized void refresh()
+        {
+            if(_locator == null || _pendingRetryCount > 0)
+            {
+                return; // A lookup is in progress.
+            }
+
+            try
+            {
+                for(Map.Entry<LookupPrx, LookupReplyPrx> entry : _lookups.entrySet())
+                {
+                    entry.getKey().findLocatorAsync(_instanceName, entry.getValue()); // Send multicast request.
+                }
+            }
+            catch(com.zeroc.Ice.LocalException ex)
+            {
+            }
+        }
+
         private Runnable _retryTask = new Runnable()
         {
             @Override
@@ -577,10 +853,14 @@ class PluginI implements Plugin
         private final int _traceLevel;
         private final int _retryCount;
         private final int _retryDelay;
+        private final int _hedgeDelay;
+        private final int _refreshInterval;
+        private java.util.concurrent.Future<?> _refreshFuture;
 
         private String _instanceName;
         private boolean _warned;
         private com.zeroc.Ice.LocatorPrx _locator;
+        private List<Replica> _replicas = new ArrayList<>();
         private com.zeroc.Ice.LocatorPrx _voidLocator;
         private Map<String, com.zeroc.Ice.LocatorPrx> _locators = new HashMap<>();
 
@@ -691,6 +971,10 @@ class PluginI implements Plugin
     @Override
     public void destroy()
     {
+        if(_locator != null)
+        {
+            _locator.destroy();
+        }
         if(_replyAdapter != null)
         {
             _replyAdapter.destroy();
@@ -49,7 +49,8 @@ final class AcceptorI implements com.zeroc.IceInternal.Acceptor
             throw ex;
         }
 
-        return new TransceiverI(_instance, _delegate.accept(), _adapterName, true);
+        com.zeroc.IceInternal.Transceiver delegate = _delegate.accept();
+        return delegate != null ? new TransceiverI(_instance, delegate, _adapterName, true) : null;
     }
 
     @Override
@@ -0,0 +1,125 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.acceptors;
+
+import java.io.PrintWriter;
+import java.util.concurrent.CompletableFuture;
+
+import test.Ice.acceptors.Test.TestIntfPrx;
+
+public class AllTests
+{
+    private static void test(boolean b)
+    {
+        if(!b)
+        {
+            throw new RuntimeException();
+        }
+    }
+
+    //
+    // Returns true if the JDK and the platform support SO_REUSEPORT.
+    //
+    private static boolean supportsReusePort()
+    {
+        if(System.getProperty("os.name").startsWith("Windows"))
+        {
+            return false;
+        }
+
+        try(java.nio.channels.ServerSocketChannel fd = java.nio.channels.ServerSocketChannel.open())
+        {
+            for(java.net.SocketOption<?> option : fd.supportedOptions())
+            {
+                if(option.name().equals("SO_REUSEPORT"))
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+        catch(java.io.IOException ex)
+        {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    public static void allTests(test.TestHelper helper)
+    {
+        com.zeroc.Ice.Communicator communicator = helper.communicator();
+        PrintWriter out = helper.getWriter();
+
+        LoggerI logger = new LoggerI();
+        com.zeroc.Ice.InitializationData initData = new com.zeroc.Ice.InitializationData();
+        initData.properties = communicator.getProperties()._clone();
+        initData.properties.setProperty("Ice.Trace.Network", "1");
+        initData.properties.setProperty("TestAdapter.Endpoints", helper.getTestEndpoint(0));
+        initData.logger = logger;
+
+        String protocol = communicator.getProperties().getPropertyWithDefault("Ice.Default.Protocol", "tcp");
+        boolean stream = protocol.equals("tcp") || protocol.equals("ssl") || protocol.equals("ws") ||
+            protocol.equals("wss");
+
+        out.print("testing object adapter with a single acceptor... ");
+        out.flush();
+        try(com.zeroc.Ice.Communicator comm = helper.initialize(initData))
+        {
+            com.zeroc.Ice.ObjectAdapter adapter = comm.createObjectAdapter("TestAdapter");
+            adapter.add(new TestI(), com.zeroc.Ice.Util.stringToIdentity("test"));
+            adapter.activate();
+            test(logger.getListening() == 1);
+            adapter.destroy();
+        }
+        out.println("ok");
+
+        out.print("testing object adapter with several acceptors... ");
+        out.flush();
+        initData.properties.setProperty("TestAdapter.Acceptors", "4");
+        try(com.zeroc.Ice.Communicator comm = helper.initialize(initData))
+        {
+            com.zeroc.Ice.ObjectAdapter adapter = comm.createObjectAdapter("TestAdapter");
+            adapter.add(new TestI(), com.zeroc.Ice.Util.stringToIdentity("test"));
+            adapter.activate();
+
+            //
+            // The additional acceptors are only bound to stream endpoints if
+            // SO_REUSEPORT is supported, otherwise a warning is logged.
+            //
+            if(stream && supportsReusePort())
+            {
+                test(logger.getListening() == 4);
+                test(logger.getWarnings().isEmpty());
+            }
+            else
+            {
+                test(logger.getListening() == 1);
+            }
+            test(adapter.getEndpoints().length == 1);
+            test(adapter.getPublishedEndpoints().length == 1);
+
+            //
+            // Establish more connections concurrently than the connections
+            // accepted at once by an acceptor.
+            //
+            TestIntfPrx proxy = TestIntfPrx.uncheckedCast(comm.stringToProxy("test:" + helper.getTestEndpoint(0)));
+            java.util.List<CompletableFuture<Void>> futures = new java.util.ArrayList<>();
+            for(int i = 0; i < 100; ++i)
+            {
+                futures.add(proxy.ice_connectionId("test-" + i).opAsync());
+            }
+            for(CompletableFuture<Void> f : futures)
+            {
+                f.join();
+            }
+            adapter.destroy();
+        }
+        out.println("ok");
+    }
+}
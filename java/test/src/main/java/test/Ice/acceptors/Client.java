@@ -0,0 +1,23 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.acceptors;
+
+public class Client extends test.TestHelper
+{
+    public void run(String[] args)
+    {
+        com.zeroc.Ice.Properties properties = createTestProperties(args);
+        properties.setProperty("Ice.Package.Test", "test.Ice.acceptors");
+        try(com.zeroc.Ice.Communicator communicator = initialize(properties))
+        {
+            AllTests.allTests(this);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.acceptors;
+
+//
+// Logger which counts the acceptors listening for connections, from the
+// network traces, and records the warnings.
+//
+class LoggerI implements com.zeroc.Ice.Logger
+{
+    @Override
+    public void print(String message)
+    {
+    }
+
+    @Override
+    public synchronized void trace(String category, String message)
+    {
+        if(message.startsWith("listening for "))
+        {
+            ++_listening;
+        }
+    }
+
+    @Override
+    public synchronized void warning(String message)
+    {
+        _warnings.add(message);
+    }
+
+    @Override
+    public void error(String message)
+    {
+        System.err.println("error: " + message);
+    }
+
+    @Override
+    public String getPrefix()
+    {
+        return "";
+    }
+
+    @Override
+    public com.zeroc.Ice.Logger cloneWithPrefix(String prefix)
+    {
+        return this;
+    }
+
+    synchronized int getListening()
+    {
+        int listening = _listening;
+        _listening = 0;
+        return listening;
+    }
+
+    synchronized java.util.List<String> getWarnings()
+    {
+        java.util.List<String> warnings = new java.util.ArrayList<>(_warnings);
+        _warnings.clear();
+        return warnings;
+    }
+
+    private int _listening;
+    private final java.util.List<String> _warnings = new java.util.ArrayList<>();
+}
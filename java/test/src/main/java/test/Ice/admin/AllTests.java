@@ -34,6 +34,7 @@ public class AllTests
             test(com.findAdminFacet("Process") != null);
             test(com.findAdminFacet("Logger") != null);
             test(com.findAdminFacet("Metrics") != null);
+            test(com.findAdminFacet("OpenMetrics") != null);
         }
 
         TestFacet f1 = new TestFacetI();
@@ -52,11 +53,12 @@ public class AllTests
         java.util.Map<String, com.zeroc.Ice.Object> facetMap = com.findAllAdminFacets();
         if(builtInFacets)
         {
-            test(facetMap.size() == 7);
+            test(facetMap.size() == 8);
             test(facetMap.containsKey("Properties"));
             test(facetMap.containsKey("Process"));
             test(facetMap.containsKey("Logger"));
             test(facetMap.containsKey("Metrics"));
+            test(facetMap.containsKey("OpenMetrics"));
         }
         else
         {
@@ -450,6 +452,110 @@ public class AllTests
 
             rcom.destroy();
         }
+        {
+            //
+            // With Ice.Admin.Logger.FlushInterval, the log messages are sent with batch oneway
+            // requests and the remote loggers which no longer exist are still detached.
+            //
+            java.util.Map<String, String> props = new java.util.HashMap<>();
+            props.put("Ice.Admin.Endpoints", "tcp -h 127.0.0.1");
+            props.put("Ice.Admin.InstanceName", "Test");
+            props.put("Ice.Admin.Logger.FlushInterval", "50");
+            props.put("NullLogger", "1");
+            RemoteCommunicatorPrx rcom = factory.createCommunicator(props);
+
+            com.zeroc.Ice.LoggerAdminPrx logger = com.zeroc.Ice.LoggerAdminPrx.checkedCast(rcom.getAdmin(), "Logger");
+            com.zeroc.Ice.ObjectAdapter adapter =
+                helper.communicator().createObjectAdapterWithEndpoints("BatchRemoteLoggerAdapter", "tcp -h localhost");
+            RemoteLoggerI remoteLogger = new RemoteLoggerI();
+            com.zeroc.Ice.RemoteLoggerPrx myProxy =
+                com.zeroc.Ice.RemoteLoggerPrx.uncheckedCast(adapter.addWithUUID(remoteLogger));
+            adapter.activate();
+
+            com.zeroc.Ice.LoggerAdmin.GetLogResult r = logger.getLog(null, null, 0);
+            remoteLogger.checkNextInit(r.prefix, r.returnValue);
+            try
+            {
+                logger.attachRemoteLogger(myProxy, null, null, 0);
+            }
+            catch(com.zeroc.Ice.RemoteLoggerAlreadyAttachedException ex)
+            {
+                test(false);
+            }
+            remoteLogger.wait(1);
+
+            remoteLogger.checkNextLog(LogMessageType.WarningMessage, "bwarning", "");
+            rcom.warning("bwarning");
+            remoteLogger.wait(1);
+
+            //
+            // The remote logger is detached once a flush finds out it no longer exists, it
+            // can then be attached again.
+            //
+            adapter.remove(myProxy.ice_getIdentity());
+            boolean detached = false;
+            for(int i = 0; i < 100 && !detached; ++i)
+            {
+                rcom.warning("bwarning2");
+                try
+                {
+                    Thread.sleep(50);
+                }
+                catch(InterruptedException ex)
+                {
+                }
+
+                try
+                {
+                    logger.attachRemoteLogger(myProxy, null, null, 0);
+                    detached = true;
+                }
+                catch(com.zeroc.Ice.RemoteLoggerAlreadyAttachedException ex)
+                {
+                }
+            }
+            test(detached);
+
+            adapter.destroy();
+            rcom.destroy();
+        }
+        {
+            //
+            // Only the most recent logs and traces are kept, in the order they were logged.
+            //
+            java.util.Map<String, String> props = new java.util.HashMap<>();
+            props.put("Ice.Admin.Endpoints", "tcp -h 127.0.0.1");
+            props.put("Ice.Admin.InstanceName", "Test");
+            props.put("Ice.Admin.Logger.KeepLogs", "2");
+            props.put("Ice.Admin.Logger.KeepTraces", "2");
+            props.put("NullLogger", "1");
+            RemoteCommunicatorPrx rcom = factory.createCommunicator(props);
+
+            rcom.trace("testCat", "trace1");
+            rcom.error("error1");
+            rcom.trace("testCat", "trace2");
+            rcom.warning("warning1");
+            rcom.trace("testCat", "trace3");
+            rcom.print("print1");
+
+            com.zeroc.Ice.LoggerAdminPrx logger =
+                com.zeroc.Ice.LoggerAdminPrx.checkedCast(rcom.getAdmin(), "Logger");
+            com.zeroc.Ice.LoggerAdmin.GetLogResult r = logger.getLog(null, null, -1);
+            test(r.returnValue.length == 4);
+            test(r.returnValue[0].message.equals("trace2"));
+            test(r.returnValue[1].message.equals("warning1"));
+            test(r.returnValue[2].message.equals("trace3"));
+            test(r.returnValue[3].message.equals("print1"));
+
+            r = logger.getLog(null, null, 3);
+            test(r.returnValue.length == 3);
+            test(r.returnValue[0].message.equals("warning1"));
+            test(r.returnValue[2].message.equals("print1"));
+
+            test(logger.getLog(null, null, 0).returnValue.length == 0);
+
+            rcom.destroy();
+        }
         out.println("ok");
 
         out.print("testing custom facet... ");
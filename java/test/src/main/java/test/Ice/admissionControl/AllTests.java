@@ -0,0 +1,100 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.admissionControl;
+
+import java.io.PrintWriter;
+import java.util.concurrent.CompletableFuture;
+
+import test.Ice.admissionControl.Test.ControllerPrx;
+import test.Ice.admissionControl.Test.TestIntfPrx;
+
+public class AllTests
+{
+    private static void test(boolean b)
+    {
+        if(!b)
+        {
+            throw new RuntimeException();
+        }
+    }
+
+    public static ControllerPrx allTests(test.TestHelper helper)
+    {
+        com.zeroc.Ice.Communicator communicator = helper.communicator();
+        PrintWriter out = helper.getWriter();
+
+        TestIntfPrx test = TestIntfPrx.checkedCast(communicator.stringToProxy("test:" + helper.getTestEndpoint(0)));
+        test(test != null);
+        ControllerPrx controller =
+            ControllerPrx.checkedCast(communicator.stringToProxy("controller:" + helper.getTestEndpoint(1)));
+        test(controller != null);
+
+        int mult = 1;
+        if(!communicator.getProperties().getPropertyWithDefault("Ice.Default.Protocol", "tcp").equals("tcp") ||
+           helper.isAndroid())
+        {
+            mult = 4;
+        }
+
+        out.print("testing object adapter admission control... ");
+        out.flush();
+        {
+            CompletableFuture<Void> f = test.sleepAsync(500 * mult);
+            controller.waitForSleep();
+            try
+            {
+                test.op();
+                test(false);
+            }
+            catch(com.zeroc.Ice.ConcurrencyLimitException ex)
+            {
+                //
+                // The rejection is sent as an UnknownLocalException reply, the
+                // client raises a ConcurrencyLimitException once the retries
+                // are exhausted.
+                //
+                test(ex.getCause() instanceof com.zeroc.Ice.UnknownLocalException);
+                test(((com.zeroc.Ice.UnknownLocalException)ex.getCause()).unknown.contains("TestAdapter"));
+            }
+            f.join();
+
+            //
+            // The rejected requests weren't dispatched, they are retried even
+            // if the operation isn't idempotent.
+            //
+            com.zeroc.Ice.Properties properties = communicator.getProperties()._clone();
+            properties.setProperty("Ice.RetryIntervals", "0 " + 1000 * mult);
+            try(com.zeroc.Ice.Communicator ic = helper.initialize(properties))
+            {
+                TestIntfPrx test2 = TestIntfPrx.uncheckedCast(ic.stringToProxy(test.toString()));
+                test2.ice_ping();
+                f = test.sleepAsync(500 * mult);
+                controller.waitForSleep();
+                test2.op();
+                f.join();
+            }
+
+            //
+            // The admission slot of the sleep request is released before its
+            // response is sent, the next request is admitted.
+            //
+            for(int i = 0; i < 100; ++i)
+            {
+                f = test.sleepAsync(0);
+                controller.waitForSleep();
+                f.join();
+                test.op();
+            }
+        }
+        out.println("ok");
+
+        return controller;
+    }
+}
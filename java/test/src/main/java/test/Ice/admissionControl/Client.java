@@ -0,0 +1,26 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.admissionControl;
+
+import test.Ice.admissionControl.Test.ControllerPrx;
+
+public class Client extends test.TestHelper
+{
+    public void run(String[] args)
+    {
+        com.zeroc.Ice.Properties properties = createTestProperties(args);
+        properties.setProperty("Ice.Package.Test", "test.Ice.admissionControl");
+        try(com.zeroc.Ice.Communicator communicator = initialize(properties))
+        {
+            ControllerPrx controller = AllTests.allTests(this);
+            controller.shutdown();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.admissionControl;
+
+import test.Ice.admissionControl.Test.Controller;
+
+class ControllerI implements Controller
+{
+    ControllerI(TestI servant)
+    {
+        _servant = servant;
+    }
+
+    @Override
+    public void waitForSleep(com.zeroc.Ice.Current current)
+    {
+        _servant.waitForSleep();
+    }
+
+    @Override
+    public void shutdown(com.zeroc.Ice.Current current)
+    {
+        current.adapter.getCommunicator().shutdown();
+    }
+
+    final private TestI _servant;
+}
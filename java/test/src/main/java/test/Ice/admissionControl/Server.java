@@ -0,0 +1,39 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.admissionControl;
+
+public class Server extends test.TestHelper
+{
+    public void run(String[] args)
+    {
+        com.zeroc.Ice.Properties properties = createTestProperties(args);
+        properties.setProperty("Ice.Package.Test", "test.Ice.admissionControl");
+        try(com.zeroc.Ice.Communicator communicator = initialize(properties))
+        {
+            communicator.getProperties().setProperty("TestAdapter.Endpoints", getTestEndpoint(0));
+            communicator.getProperties().setProperty("TestAdapter.ThreadPool.Size", "2");
+            communicator.getProperties().setProperty("TestAdapter.AdmissionControl.MaxQueued", "1");
+            communicator.getProperties().setProperty("ControllerAdapter.Endpoints", getTestEndpoint(1));
+            communicator.getProperties().setProperty("ControllerAdapter.ThreadPool.Size", "1");
+
+            TestI servant = new TestI();
+            com.zeroc.Ice.ObjectAdapter adapter = communicator.createObjectAdapter("TestAdapter");
+            adapter.add(servant, com.zeroc.Ice.Util.stringToIdentity("test"));
+            adapter.activate();
+
+            com.zeroc.Ice.ObjectAdapter adapter2 = communicator.createObjectAdapter("ControllerAdapter");
+            adapter2.add(new ControllerI(servant), com.zeroc.Ice.Util.stringToIdentity("controller"));
+            adapter2.activate();
+
+            serverReady();
+            communicator.waitForShutdown();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.admissionControl;
+
+import test.Ice.admissionControl.Test.TestIntf;
+
+public final class TestI implements TestIntf
+{
+    @Override
+    public void op(com.zeroc.Ice.Current current)
+    {
+    }
+
+    @Override
+    public void sleep(int ms, com.zeroc.Ice.Current current)
+    {
+        synchronized(this)
+        {
+            _sleeping = true;
+            notifyAll();
+        }
+
+        try
+        {
+            Thread.sleep(ms);
+        }
+        catch(InterruptedException ex)
+        {
+        }
+    }
+
+    synchronized void waitForSleep()
+    {
+        while(!_sleeping)
+        {
+            try
+            {
+                wait();
+            }
+            catch(InterruptedException ex)
+            {
+            }
+        }
+        _sleeping = false;
+    }
+
+    private boolean _sleeping;
+}
@@ -39,7 +39,8 @@ class Acceptor implements com.zeroc.IceInternal.Acceptor
     @Override
     public com.zeroc.IceInternal.Transceiver accept()
     {
-        return new Transceiver(_configuration, _acceptor.accept());
+        com.zeroc.IceInternal.Transceiver transceiver = _acceptor.accept();
+        return transceiver != null ? new Transceiver(_configuration, transceiver) : null;
     }
 
     @Override
@@ -0,0 +1,167 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.circuitBreaker;
+
+import java.io.PrintWriter;
+
+import test.Ice.circuitBreaker.Test.ControllerPrx;
+import test.Ice.circuitBreaker.Test.TestIntfPrx;
+
+public class AllTests
+{
+    private static void test(boolean b)
+    {
+        if(!b)
+        {
+            throw new RuntimeException();
+        }
+    }
+
+    private static void testRefused(TestIntfPrx proxy)
+    {
+        try
+        {
+            proxy.op();
+            test(false);
+        }
+        catch(com.zeroc.Ice.ConnectionRefusedException ex)
+        {
+            // Expected
+        }
+    }
+
+    public static ControllerPrx allTests(test.TestHelper helper)
+    {
+        com.zeroc.Ice.Communicator communicator = helper.communicator();
+        PrintWriter out = helper.getWriter();
+
+        ControllerPrx controller =
+            ControllerPrx.checkedCast(communicator.stringToProxy("controller:" + helper.getTestEndpoint(0)));
+        test(controller != null);
+
+        int mult = 1;
+        if(!communicator.getProperties().getPropertyWithDefault("Ice.Default.Protocol", "tcp").equals("tcp") ||
+           helper.isAndroid())
+        {
+            mult = 4;
+        }
+
+        String sref = "test:" + helper.getTestEndpoint(1);
+
+        out.print("testing circuit breaker... ");
+        out.flush();
+        {
+            com.zeroc.Ice.InitializationData initData = new com.zeroc.Ice.InitializationData();
+            initData.properties = communicator.getProperties()._clone();
+            initData.properties.setProperty("Ice.CircuitBreaker.Failures", "2");
+            initData.properties.setProperty("Ice.CircuitBreaker.OpenTime", String.valueOf(500 * mult));
+            initData.properties.setProperty("Ice.RetryIntervals", "-1");
+            try(com.zeroc.Ice.Communicator comm = helper.initialize(initData))
+            {
+                TestIntfPrx proxy = TestIntfPrx.uncheckedCast(comm.stringToProxy(sref));
+                testRefused(proxy);
+                testRefused(proxy);
+
+                controller.activate();
+                try
+                {
+                    //
+                    // The circuit is open, the invocation fails right away with
+                    // the exception of the last failure.
+                    //
+                    testRefused(proxy);
+
+                    //
+                    // Once the circuit is half-open, the invocation probes the
+                    // endpoint and closes the circuit.
+                    //
+                    Thread.sleep(600 * mult);
+                    proxy.op();
+                    proxy.ice_getConnection().close(com.zeroc.Ice.ConnectionClose.GracefullyWithWait);
+                    proxy.op();
+                }
+                catch(InterruptedException ex)
+                {
+                    throw new RuntimeException(ex);
+                }
+                finally
+                {
+                    controller.deactivate();
+                }
+            }
+        }
+        out.println("ok");
+
+        out.print("testing circuit breaker sweep... ");
+        out.flush();
+        {
+            com.zeroc.Ice.InitializationData initData = new com.zeroc.Ice.InitializationData();
+            initData.properties = communicator.getProperties()._clone();
+            initData.properties.setProperty("Ice.CircuitBreaker.Failures", "2");
+            initData.properties.setProperty("Ice.CircuitBreaker.OpenTime", String.valueOf(500 * mult));
+            initData.properties.setProperty("Ice.RetryIntervals", "-1");
+            initData.properties.setProperty("Ice.Admin.Enabled", "1");
+            try(com.zeroc.Ice.Communicator comm = helper.initialize(initData))
+            {
+                com.zeroc.IceMX.OpenMetricsAdmin metrics =
+                    (com.zeroc.IceMX.OpenMetricsAdmin)comm.findAdminFacet("OpenMetrics");
+                TestIntfPrx proxy = TestIntfPrx.uncheckedCast(comm.stringToProxy(sref));
+                testRefused(proxy);
+                testRefused(proxy);
+                test(metrics.getOpenMetrics(null).contains("state=\"open\"} 1\n"));
+
+                //
+                // The circuit isn't probed during the open time, it's removed by
+                // the next sweep.
+                //
+                Thread.sleep(600 * mult);
+                test(!metrics.getOpenMetrics(null).contains("ice_circuit_breaker_open{"));
+                testRefused(proxy);
+            }
+            catch(InterruptedException ex)
+            {
+                throw new RuntimeException(ex);
+            }
+        }
+        out.println("ok");
+
+        out.print("testing circuit breaker disabled... ");
+        out.flush();
+        {
+            //
+            // Without Ice.CircuitBreaker.Failures, the endpoint is tried again
+            // by each invocation.
+            //
+            com.zeroc.Ice.InitializationData initData = new com.zeroc.Ice.InitializationData();
+            initData.properties = communicator.getProperties()._clone();
+            initData.properties.setProperty("Ice.RetryIntervals", "-1");
+            try(com.zeroc.Ice.Communicator comm = helper.initialize(initData))
+            {
+                TestIntfPrx proxy = TestIntfPrx.uncheckedCast(comm.stringToProxy(sref));
+                testRefused(proxy);
+                testRefused(proxy);
+                testRefused(proxy);
+
+                controller.activate();
+                try
+                {
+                    proxy.op();
+                }
+                finally
+                {
+                    controller.deactivate();
+                }
+            }
+        }
+        out.println("ok");
+
+        return controller;
+    }
+}
@@ -0,0 +1,44 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.circuitBreaker;
+
+import test.Ice.circuitBreaker.Test.Controller;
+
+class ControllerI implements Controller
+{
+    @Override
+    public synchronized void activate(com.zeroc.Ice.Current current)
+    {
+        if(_adapter == null)
+        {
+            _adapter = current.adapter.getCommunicator().createObjectAdapter("TestAdapter");
+            _adapter.add(new TestI(), com.zeroc.Ice.Util.stringToIdentity("test"));
+            _adapter.activate();
+        }
+    }
+
+    @Override
+    public synchronized void deactivate(com.zeroc.Ice.Current current)
+    {
+        if(_adapter != null)
+        {
+            _adapter.destroy();
+            _adapter = null;
+        }
+    }
+
+    @Override
+    public void shutdown(com.zeroc.Ice.Current current)
+    {
+        current.adapter.getCommunicator().shutdown();
+    }
+
+    private com.zeroc.Ice.ObjectAdapter _adapter;
+}
@@ -0,0 +1,33 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.circuitBreaker;
+
+public class Server extends test.TestHelper
+{
+    public void run(String[] args)
+    {
+        com.zeroc.Ice.Properties properties = createTestProperties(args);
+        properties.setProperty("Ice.Package.Test", "test.Ice.circuitBreaker");
+        try(com.zeroc.Ice.Communicator communicator = initialize(properties))
+        {
+            communicator.getProperties().setProperty("ControllerAdapter.Endpoints", getTestEndpoint(0));
+            communicator.getProperties().setProperty("TestAdapter.Endpoints", getTestEndpoint(1));
+
+            //
+            // The test adapter is created by the controller.
+            //
+            com.zeroc.Ice.ObjectAdapter adapter = communicator.createObjectAdapter("ControllerAdapter");
+            adapter.add(new ControllerI(), com.zeroc.Ice.Util.stringToIdentity("controller"));
+            adapter.activate();
+            serverReady();
+            communicator.waitForShutdown();
+        }
+    }
+}
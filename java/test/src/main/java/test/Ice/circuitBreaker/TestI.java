@@ -0,0 +1,20 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.circuitBreaker;
+
+import test.Ice.circuitBreaker.Test.TestIntf;
+
+public final class TestI implements TestIntf
+{
+    @Override
+    public void op(com.zeroc.Ice.Current current)
+    {
+    }
+}
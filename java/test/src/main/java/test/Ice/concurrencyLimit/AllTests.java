@@ -0,0 +1,117 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.concurrencyLimit;
+
+import java.io.PrintWriter;
+import java.util.concurrent.CompletableFuture;
+
+import test.Ice.concurrencyLimit.Test.TestIntfPrx;
+
+public class AllTests
+{
+    private static void test(boolean b)
+    {
+        if(!b)
+        {
+            throw new RuntimeException();
+        }
+    }
+
+    public static TestIntfPrx allTests(test.TestHelper helper)
+    {
+        com.zeroc.Ice.Communicator communicator = helper.communicator();
+        PrintWriter out = helper.getWriter();
+
+        String sref = "test:" + helper.getTestEndpoint(0);
+        TestIntfPrx test = TestIntfPrx.checkedCast(communicator.stringToProxy(sref));
+        test(test != null);
+
+        int mult = 1;
+        if(!communicator.getProperties().getPropertyWithDefault("Ice.Default.Protocol", "tcp").equals("tcp") ||
+           helper.isAndroid())
+        {
+            mult = 4;
+        }
+
+        com.zeroc.Ice.Properties properties = communicator.getProperties()._clone();
+        properties.setProperty("Ice.ConcurrencyLimit.Initial", "1");
+        properties.setProperty("Ice.ConcurrencyLimit.Max", "1");
+        properties.setProperty("Ice.ConcurrencyLimit.QueueTimeout", "0");
+        properties.setProperty("Ice.RetryIntervals", "-1");
+
+        out.print("testing requests over the concurrency limit... ");
+        out.flush();
+        try(com.zeroc.Ice.Communicator comm = helper.initialize(properties._clone()))
+        {
+            //
+            // Without queue timeout, the requests over the limit are rejected.
+            //
+            TestIntfPrx prx = TestIntfPrx.uncheckedCast(comm.stringToProxy(sref));
+            CompletableFuture<Void> f = prx.sleepAsync(500 * mult);
+            try
+            {
+                prx.op();
+                test(false);
+            }
+            catch(com.zeroc.Ice.ConcurrencyLimitException ex)
+            {
+            }
+            prx.ice_oneway().op(); // Oneway requests aren't limited.
+            f.join();
+            prx.op();
+        }
+        out.println("ok");
+
+        out.print("testing retry of rejected requests... ");
+        out.flush();
+        properties.setProperty("Ice.RetryIntervals", String.valueOf(500 * mult));
+        try(com.zeroc.Ice.Communicator comm = helper.initialize(properties._clone()))
+        {
+            //
+            // The rejected request wasn't sent, it's retried once the retry
+            // interval elapsed, the sleep request is completed by then.
+            //
+            TestIntfPrx prx = TestIntfPrx.uncheckedCast(comm.stringToProxy(sref));
+            CompletableFuture<Void> f = prx.sleepAsync(100 * mult);
+            prx.op();
+            test(f.isDone());
+        }
+        out.println("ok");
+
+        out.print("testing concurrency limit queue timeout... ");
+        out.flush();
+        properties.setProperty("Ice.RetryIntervals", "-1");
+        properties.setProperty("Ice.ConcurrencyLimit.QueueTimeout", String.valueOf(100 * mult));
+        try(com.zeroc.Ice.Communicator comm = helper.initialize(properties._clone()))
+        {
+            //
+            // The requests over the limit wait for a reply up to the queue timeout.
+            //
+            TestIntfPrx prx = TestIntfPrx.uncheckedCast(comm.stringToProxy(sref));
+            CompletableFuture<Void> f = prx.sleepAsync(1000 * mult);
+            try
+            {
+                prx.op();
+                test(false);
+            }
+            catch(com.zeroc.Ice.ConcurrencyLimitException ex)
+            {
+            }
+            f.join();
+
+            f = prx.sleepAsync(50 * mult);
+            prx.op();
+            test(f.isDone());
+        }
+        out.println("ok");
+
+        return test;
+    }
+}
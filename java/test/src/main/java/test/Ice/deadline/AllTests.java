@@ -0,0 +1,153 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.deadline;
+
+import java.io.PrintWriter;
+import java.util.concurrent.CompletableFuture;
+
+import test.Ice.deadline.Test.TestIntfPrx;
+
+public class AllTests
+{
+    private static void test(boolean b)
+    {
+        if(!b)
+        {
+            throw new RuntimeException();
+        }
+    }
+
+    public static TestIntfPrx allTests(test.TestHelper helper)
+    {
+        com.zeroc.Ice.Communicator communicator = helper.communicator();
+        PrintWriter out = helper.getWriter();
+
+        String sref = "test:" + helper.getTestEndpoint(0);
+        TestIntfPrx test = TestIntfPrx.checkedCast(communicator.stringToProxy(sref));
+        test(test != null);
+
+        int mult = 1;
+        if(!communicator.getProperties().getPropertyWithDefault("Ice.Default.Protocol", "tcp").equals("tcp") ||
+           helper.isAndroid())
+        {
+            mult = 4;
+        }
+
+        com.zeroc.Ice.InitializationData initData = new com.zeroc.Ice.InitializationData();
+        initData.properties = communicator.getProperties()._clone();
+        initData.properties.setProperty("Ice.Deadline.Propagate", "1");
+
+        //
+        // The dispatches are queued with a single thread executor, the invocations made by the
+        // dispatches use another communicator to not wait for the executor thread.
+        //
+        java.util.concurrent.ExecutorService executor = java.util.concurrent.Executors.newSingleThreadExecutor();
+        com.zeroc.Ice.InitializationData dispatchInitData = initData.clone();
+        dispatchInitData.properties = initData.properties._clone();
+        dispatchInitData.properties.setProperty("DeadlineAdapter.Endpoints", helper.getTestEndpoint(1));
+        dispatchInitData.dispatcher = (runnable, connection) -> executor.execute(runnable);
+
+        try(com.zeroc.Ice.Communicator comm = helper.initialize(initData);
+            com.zeroc.Ice.Communicator dispatchComm = helper.initialize(dispatchInitData))
+        {
+            com.zeroc.Ice.ObjectAdapter adapter = dispatchComm.createObjectAdapter("DeadlineAdapter");
+            DeadlineI servant = new DeadlineI(TestIntfPrx.uncheckedCast(comm.stringToProxy(sref)));
+            TestIntfPrx proxy = TestIntfPrx.uncheckedCast(adapter.addWithUUID(servant));
+            adapter.activate();
+            proxy = TestIntfPrx.uncheckedCast(comm.stringToProxy(proxy.toString()));
+
+            out.print("testing deadline propagation... ");
+            out.flush();
+            {
+                //
+                // The remaining time of the invocation is sent with the request context.
+                //
+                proxy.op();
+                test(servant.getDeadline() == null);
+                proxy.ice_invocationTimeout(10000).op();
+                long remaining = Long.parseLong(servant.getDeadline());
+                test(remaining > 0 && remaining <= 10000);
+
+                //
+                // The invocations made by a dispatch inherit its deadline. The nested invocation times out
+                // at about the same time as the invocation, so the dispatch might still return first.
+                //
+                try
+                {
+                    proxy.ice_invocationTimeout(100 * mult).sleep(1000 * mult);
+                }
+                catch(com.zeroc.Ice.InvocationTimeoutException ex)
+                {
+                }
+                test(servant.waitForSleep() instanceof com.zeroc.Ice.InvocationTimeoutException);
+            }
+            out.println("ok");
+
+            out.print("testing requests with expired deadline... ");
+            out.flush();
+            {
+                //
+                // The requests whose deadline expired while waiting to be dispatched are discarded.
+                //
+                int count = servant.getCount();
+                CompletableFuture<Void> f = proxy.sleepAsync(500 * mult);
+                try
+                {
+                    proxy.ice_invocationTimeout(100 * mult).op();
+                    test(false);
+                }
+                catch(com.zeroc.Ice.InvocationTimeoutException ex)
+                {
+                }
+                f.join();
+                test(servant.waitForSleep() == null);
+                proxy.op();
+                test(servant.getCount() == count + 1);
+            }
+            out.println("ok");
+
+            out.print("testing invalid deadlines... ");
+            out.flush();
+            {
+                //
+                // The deadlines that aren't valid are ignored, the request is dispatched with its
+                // context unchanged.
+                //
+                for(String value : new String[] { "abc", "-1", "9223372036854775807", "2147483648" })
+                {
+                    java.util.Map<String, String> ctx = new java.util.HashMap<>();
+                    ctx.put("_deadline", value);
+                    proxy.op(ctx);
+                    test(servant.getDeadline().equals(value));
+                }
+
+                java.util.Map<String, String> ctx = new java.util.HashMap<>();
+                ctx.put("_deadline", "0");
+                try
+                {
+                    proxy.op(ctx);
+                    test(false);
+                }
+                catch(com.zeroc.Ice.UnknownLocalException ex)
+                {
+                }
+
+                //
+                // The server doesn't read the deadlines without Ice.Deadline.Propagate.
+                //
+                test.op(ctx);
+            }
+            out.println("ok");
+        }
+        executor.shutdown();
+
+        return test;
+    }
+}
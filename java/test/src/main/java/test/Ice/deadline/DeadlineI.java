@@ -0,0 +1,94 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.deadline;
+
+import test.Ice.deadline.Test.TestIntf;
+import test.Ice.deadline.Test.TestIntfPrx;
+
+//
+// Servant of the client object adapter, it records the deadline of the
+// dispatches and forwards the sleep calls to the server.
+//
+class DeadlineI implements TestIntf
+{
+    DeadlineI(TestIntfPrx test)
+    {
+        _test = test;
+    }
+
+    @Override
+    public synchronized void op(com.zeroc.Ice.Current current)
+    {
+        _deadline = current.ctx.get("_deadline");
+        ++_count;
+    }
+
+    @Override
+    public void sleep(int ms, com.zeroc.Ice.Current current)
+    {
+        //
+        // Forward the call to the server, the invocation inherits the deadline of the dispatch.
+        //
+        com.zeroc.Ice.LocalException exception = null;
+        try
+        {
+            _test.sleep(ms);
+        }
+        catch(com.zeroc.Ice.LocalException ex)
+        {
+            exception = ex;
+        }
+
+        synchronized(this)
+        {
+            _sleepException = exception;
+            _sleepCompleted = true;
+            notifyAll();
+        }
+    }
+
+    @Override
+    public void shutdown(com.zeroc.Ice.Current current)
+    {
+        current.adapter.getCommunicator().shutdown();
+    }
+
+    synchronized String getDeadline()
+    {
+        return _deadline;
+    }
+
+    synchronized int getCount()
+    {
+        return _count;
+    }
+
+    synchronized com.zeroc.Ice.LocalException waitForSleep()
+    {
+        while(!_sleepCompleted)
+        {
+            try
+            {
+                wait();
+            }
+            catch(InterruptedException ex)
+            {
+            }
+        }
+        _sleepCompleted = false;
+        return _sleepException;
+    }
+
+    final private TestIntfPrx _test;
+    private String _deadline;
+    private int _count;
+    private boolean _sleepCompleted;
+    private com.zeroc.Ice.LocalException _sleepException;
+}
@@ -0,0 +1,38 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.deadline;
+
+import test.Ice.deadline.Test.TestIntf;
+
+public final class TestI implements TestIntf
+{
+    @Override
+    public void op(com.zeroc.Ice.Current current)
+    {
+    }
+
+    @Override
+    public void sleep(int ms, com.zeroc.Ice.Current current)
+    {
+        try
+        {
+            Thread.sleep(ms);
+        }
+        catch(InterruptedException ex)
+        {
+        }
+    }
+
+    @Override
+    public void shutdown(com.zeroc.Ice.Current current)
+    {
+        current.adapter.getCommunicator().shutdown();
+    }
+}
@@ -0,0 +1,139 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.dispatchLanes;
+
+import java.io.PrintWriter;
+import java.util.concurrent.CompletableFuture;
+
+import test.Ice.dispatchLanes.Test.TestIntfPrx;
+
+public class AllTests
+{
+    private static void test(boolean b)
+    {
+        if(!b)
+        {
+            throw new RuntimeException();
+        }
+    }
+
+    public static void allTests(test.TestHelper helper)
+    {
+        com.zeroc.Ice.Communicator communicator = helper.communicator();
+        PrintWriter out = helper.getWriter();
+
+        int mult = 1;
+        if(!communicator.getProperties().getPropertyWithDefault("Ice.Default.Protocol", "tcp").equals("tcp") ||
+           helper.isAndroid())
+        {
+            mult = 4;
+        }
+
+        out.print("testing dispatch lanes... ");
+        out.flush();
+        {
+            for(int serialize = 0; serialize <= 1; ++serialize)
+            {
+                String name = "LanesAdapter" + serialize;
+                communicator.getProperties().setProperty(name + ".Endpoints", helper.getTestEndpoint(0));
+                communicator.getProperties().setProperty(name + ".ThreadPool.Size", "2");
+                communicator.getProperties().setProperty(name + ".ThreadPool.Serialize", Integer.toString(serialize));
+                communicator.getProperties().setProperty(name + ".Lanes.High.Operations", "op");
+                communicator.getProperties().setProperty(name + ".Lanes.Low.Operations", "sendData");
+
+                com.zeroc.Ice.ObjectAdapter adapter = communicator.createObjectAdapter(name);
+                adapter.activate();
+
+                LanesI servant = new LanesI();
+                TestIntfPrx proxy = TestIntfPrx.uncheckedCast(adapter.addWithUUID(servant));
+                proxy = proxy.ice_collocationOptimized(false);
+
+                //
+                // The requests queued while the sleep request is dispatched are dispatched according to
+                // their lane, unless the thread pool serializes the requests of the connection.
+                //
+                java.util.List<CompletableFuture<Void>> futures = new java.util.ArrayList<>();
+                futures.add(proxy.sleepAsync(500 * mult));
+                servant.waitForDispatch();
+                futures.add(proxy.sendDataAsync(new byte[0]));
+                futures.add(proxy.sendDataAsync(new byte[0]));
+                futures.add(proxy.opAsync());
+                for(CompletableFuture<Void> f : futures)
+                {
+                    f.join();
+                }
+                java.util.List<String> operations = servant.getOperations();
+                test(operations.size() == 4 && operations.get(0).equals("sleep"));
+                test(operations.get(serialize == 0 ? 1 : 3).equals("op"));
+
+                adapter.destroy();
+            }
+        }
+        out.println("ok");
+
+        out.print("testing dispatch lanes with failing dispatch... ");
+        out.flush();
+        {
+            //
+            // The thread pool thread dispatching queued requests is terminated by the error raised by
+            // the servant, the requests still queued are dispatched by another thread.
+            //
+            com.zeroc.Ice.InitializationData initData = new com.zeroc.Ice.InitializationData();
+            initData.properties = communicator.getProperties()._clone();
+            initData.properties.setProperty("LanesAdapter.Endpoints", helper.getTestEndpoint(0));
+            initData.properties.setProperty("LanesAdapter.ThreadPool.Size", "2");
+            initData.properties.setProperty("LanesAdapter.Lanes.High.Operations", "fail");
+            initData.properties.setProperty("Ice.Warn.Dispatch", "0");
+            initData.threadStart = () -> Thread.currentThread().setUncaughtExceptionHandler((thread, ex) ->
+                {
+                    if(!(ex instanceof LanesI.DispatchError))
+                    {
+                        ex.printStackTrace();
+                    }
+                });
+
+            try(com.zeroc.Ice.Communicator comm = helper.initialize(initData))
+            {
+                com.zeroc.Ice.ObjectAdapter adapter = comm.createObjectAdapter("LanesAdapter");
+                adapter.activate();
+
+                LanesI servant = new LanesI();
+                TestIntfPrx proxy = TestIntfPrx.uncheckedCast(adapter.addWithUUID(servant));
+                proxy = proxy.ice_collocationOptimized(false);
+
+                CompletableFuture<Void> f = proxy.sleepAsync(500 * mult);
+                servant.waitForDispatch();
+                CompletableFuture<Void> f1 = proxy.failAsync();
+                CompletableFuture<Void> f2 = proxy.opAsync();
+                CompletableFuture<Void> f3 = proxy.opAsync();
+                f.join();
+                try
+                {
+                    f1.join();
+                    test(false);
+                }
+                catch(java.util.concurrent.CompletionException ex)
+                {
+                    test(ex.getCause() instanceof com.zeroc.Ice.UnknownException);
+                }
+                f2.get(10, java.util.concurrent.TimeUnit.SECONDS);
+                f3.get(10, java.util.concurrent.TimeUnit.SECONDS);
+                java.util.List<String> operations = servant.getOperations();
+                test(operations.size() == 4 && operations.get(1).equals("fail"));
+            }
+            catch(Exception ex)
+            {
+                ex.printStackTrace();
+                test(false);
+            }
+        }
+        out.println("ok");
+    }
+}
@@ -0,0 +1,86 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.dispatchLanes;
+
+import test.Ice.dispatchLanes.Test.TestIntf;
+
+class LanesI implements TestIntf
+{
+    @Override
+    public void op(com.zeroc.Ice.Current current)
+    {
+        dispatched(current.operation);
+    }
+
+    @Override
+    public void sendData(byte[] seq, com.zeroc.Ice.Current current)
+    {
+        dispatched(current.operation);
+    }
+
+    @Override
+    public void sleep(int ms, com.zeroc.Ice.Current current)
+    {
+        dispatched(current.operation);
+        try
+        {
+            Thread.sleep(ms);
+        }
+        catch(InterruptedException ex)
+        {
+            System.err.println("sleep interrupted");
+        }
+    }
+
+    @Override
+    public void fail(com.zeroc.Ice.Current current)
+    {
+        dispatched(current.operation);
+        throw new DispatchError();
+    }
+
+    synchronized java.util.List<String> getOperations()
+    {
+        java.util.List<String> operations = new java.util.ArrayList<>(_operations);
+        _operations.clear();
+        return operations;
+    }
+
+    synchronized void waitForDispatch()
+    {
+        while(_operations.isEmpty())
+        {
+            try
+            {
+                wait();
+            }
+            catch(InterruptedException ex)
+            {
+            }
+        }
+    }
+
+    private synchronized void dispatched(String operation)
+    {
+        _operations.add(operation);
+        notifyAll();
+    }
+
+    //
+    // Error raised by fail(), it isn't suppressed by the dispatch and is
+    // propagated to the thread pool thread.
+    //
+    static class DispatchError extends java.lang.Error
+    {
+        private static final long serialVersionUID = 1L;
+    }
+
+    final private java.util.List<String> _operations = new java.util.ArrayList<>();
+}
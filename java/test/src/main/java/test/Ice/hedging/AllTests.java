@@ -0,0 +1,88 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.hedging;
+
+import java.io.PrintWriter;
+import java.util.concurrent.CompletableFuture;
+
+import test.Ice.hedging.Test.TestIntfPrx;
+
+public class AllTests
+{
+    private static void test(boolean b)
+    {
+        if(!b)
+        {
+            throw new RuntimeException();
+        }
+    }
+
+    public static TestIntfPrx allTests(test.TestHelper helper)
+    {
+        com.zeroc.Ice.Communicator communicator = helper.communicator();
+        PrintWriter out = helper.getWriter();
+
+        int mult = 1;
+        if(!communicator.getProperties().getPropertyWithDefault("Ice.Default.Protocol", "tcp").equals("tcp") ||
+           helper.isAndroid())
+        {
+            mult = 4;
+        }
+
+        TestIntfPrx test = TestIntfPrx.uncheckedCast(communicator.stringToProxy(
+            "test:" + helper.getTestEndpoint(0) + ":" + helper.getTestEndpoint(1)));
+        test = test.ice_endpointSelection(com.zeroc.Ice.EndpointSelectionType.Ordered);
+        test.op(); // Establish the connection with the slow adapter.
+
+        final int delay = 1000 * mult;
+
+        out.print("testing hedged requests... ");
+        out.flush();
+        {
+            //
+            // The idempotent request is sent again to the second endpoint once the hedge delay elapsed,
+            // its reply completes the invocation.
+            //
+            long start = System.nanoTime();
+            test(test.idempotentSleep(delay).equals("FastAdapter"));
+            test(System.nanoTime() - start < delay / 2 * 1000000L);
+
+            start = System.nanoTime();
+            CompletableFuture<String> f = test.idempotentSleepAsync(delay);
+            test(f.join().equals("FastAdapter"));
+            test(System.nanoTime() - start < delay / 2 * 1000000L);
+
+            //
+            // The invocation is still completed with the reply of the first request if it's received
+            // before the reply of the hedged request.
+            //
+            test(test.idempotentSleep(0).equals("SlowAdapter"));
+        }
+        out.println("ok");
+
+        out.print("testing requests which aren't hedged... ");
+        out.flush();
+        {
+            //
+            // Requests of operations which aren't idempotent are never hedged.
+            //
+            test(test.sleep(200 * mult).equals("SlowAdapter"));
+
+            //
+            // Requests sent with proxies with a single endpoint aren't hedged.
+            //
+            TestIntfPrx prx = test.ice_endpoints(new com.zeroc.Ice.Endpoint[] { test.ice_getEndpoints()[0] });
+            test(prx.idempotentSleep(200 * mult).equals("SlowAdapter"));
+        }
+        out.println("ok");
+
+        return test;
+    }
+}
@@ -0,0 +1,27 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.hedging;
+
+import test.Ice.hedging.Test.TestIntfPrx;
+
+public class Client extends test.TestHelper
+{
+    public void run(String[] args)
+    {
+        com.zeroc.Ice.Properties properties = createTestProperties(args);
+        properties.setProperty("Ice.Package.Test", "test.Ice.hedging");
+        properties.setProperty("Ice.Hedge.Delay", "50");
+        try(com.zeroc.Ice.Communicator communicator = initialize(properties))
+        {
+            TestIntfPrx test = AllTests.allTests(this);
+            test.shutdown();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.hedging;
+
+public class Server extends test.TestHelper
+{
+    public void run(String[] args)
+    {
+        com.zeroc.Ice.Properties properties = createTestProperties(args);
+        properties.setProperty("Ice.Package.Test", "test.Ice.hedging");
+        try(com.zeroc.Ice.Communicator communicator = initialize(properties))
+        {
+            communicator.getProperties().setProperty("SlowAdapter.Endpoints", getTestEndpoint(0));
+            //
+            // The slow adapter keeps dispatching the requests whose hedged request won.
+            //
+            communicator.getProperties().setProperty("SlowAdapter.ThreadPool.Size", "4");
+            communicator.getProperties().setProperty("FastAdapter.Endpoints", getTestEndpoint(1));
+
+            com.zeroc.Ice.ObjectAdapter adapter1 = communicator.createObjectAdapter("SlowAdapter");
+            adapter1.add(new TestI(true), com.zeroc.Ice.Util.stringToIdentity("test"));
+            adapter1.activate();
+
+            com.zeroc.Ice.ObjectAdapter adapter2 = communicator.createObjectAdapter("FastAdapter");
+            adapter2.add(new TestI(false), com.zeroc.Ice.Util.stringToIdentity("test"));
+            adapter2.activate();
+
+            serverReady();
+            communicator.waitForShutdown();
+        }
+    }
+}
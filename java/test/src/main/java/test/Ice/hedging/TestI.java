@@ -0,0 +1,55 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.hedging;
+
+import test.Ice.hedging.Test.TestIntf;
+
+public final class TestI implements TestIntf
+{
+    TestI(boolean slow)
+    {
+        _slow = slow;
+    }
+
+    @Override
+    public void op(com.zeroc.Ice.Current current)
+    {
+    }
+
+    @Override
+    public String sleep(int ms, com.zeroc.Ice.Current current)
+    {
+        if(_slow)
+        {
+            try
+            {
+                Thread.sleep(ms);
+            }
+            catch(InterruptedException ex)
+            {
+            }
+        }
+        return current.adapter.getName();
+    }
+
+    @Override
+    public String idempotentSleep(int ms, com.zeroc.Ice.Current current)
+    {
+        return sleep(ms, current);
+    }
+
+    @Override
+    public void shutdown(com.zeroc.Ice.Current current)
+    {
+        current.adapter.getCommunicator().shutdown();
+    }
+
+    final private boolean _slow;
+}
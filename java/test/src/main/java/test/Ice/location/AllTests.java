@@ -582,6 +582,268 @@ public class AllTests
         }
         out.println("ok");
 
+        out.print("testing locator cache size and negative caching... ");
+        out.flush();
+        {
+            com.zeroc.Ice.Properties properties = communicator.getProperties()._clone();
+            properties.setProperty("Ice.LocatorCache.Size", "1");
+            try(com.zeroc.Ice.Communicator ic = helper.initialize(properties))
+            {
+                registry.setAdapterDirectProxy("TestAdapter6", locator.findAdapterById("TestAdapter"));
+                registry.setAdapterDirectProxy("TestAdapter7", locator.findAdapterById("TestAdapter"));
+
+                //
+                // The cache keeps at most one adapter, at least two of the adapters
+                // must be resolved again.
+                //
+                count = locator.getRequestCount();
+                for(int i = 0; i < 2; ++i)
+                {
+                    ic.stringToProxy("test@TestAdapter").ice_ping();
+                    ic.stringToProxy("test@TestAdapter6").ice_ping();
+                    ic.stringToProxy("test@TestAdapter7").ice_ping();
+                }
+                test(locator.getRequestCount() >= count + 5);
+
+                registry.setAdapterDirectProxy("TestAdapter6", null);
+                registry.setAdapterDirectProxy("TestAdapter7", null);
+            }
+
+            properties = communicator.getProperties()._clone();
+            properties.setProperty("Ice.LocatorCache.Size", "2");
+            {
+                //
+                // Fill the caches with two entries that expire after one second. Once they
+                // expired, the sweep of the next entry must evict them and keep the new entry,
+                // even if the new entry is the first one swept. The adapter names change with
+                // each communicator to vary the order of the sweeps.
+                //
+                java.util.List<com.zeroc.Ice.Communicator> communicators = new java.util.ArrayList<>();
+                try
+                {
+                    for(int i = 0; i < 10; ++i)
+                    {
+                        com.zeroc.Ice.Communicator ic = helper.initialize(properties);
+                        communicators.add(ic);
+                        for(int j = 0; j < 3; ++j)
+                        {
+                            registry.setAdapterDirectProxy("CacheAdapter" + i + "-" + j,
+                                                           locator.findAdapterById("TestAdapter"));
+                        }
+                        for(int j = 0; j < 2; ++j)
+                        {
+                            ic.stringToProxy("test@CacheAdapter" + i + "-" + j).ice_ping();
+                            ic.stringToProxy("test@CacheAdapter" + i + "-" + j).ice_locatorCacheTimeout(1).ice_ping();
+                        }
+                    }
+
+                    Thread.sleep(1100);
+
+                    for(int i = 0; i < communicators.size(); ++i)
+                    {
+                        String proxy = "test@CacheAdapter" + i + "-2";
+                        count = locator.getRequestCount();
+                        communicators.get(i).stringToProxy(proxy).ice_ping();
+                        test(count + 1 == locator.getRequestCount());
+                        communicators.get(i).stringToProxy(proxy).ice_ping(); // Still cached.
+                        test(count + 1 == locator.getRequestCount());
+                    }
+                }
+                catch(InterruptedException ex)
+                {
+                    test(false);
+                }
+                finally
+                {
+                    for(int i = 0; i < communicators.size(); ++i)
+                    {
+                        communicators.get(i).destroy();
+                        for(int j = 0; j < 3; ++j)
+                        {
+                            registry.setAdapterDirectProxy("CacheAdapter" + i + "-" + j, null);
+                        }
+                    }
+                }
+            }
+
+            properties = communicator.getProperties()._clone();
+            properties.setProperty("Ice.LocatorCache.NegativeTTL", "60");
+            try(com.zeroc.Ice.Communicator ic = helper.initialize(properties))
+            {
+                count = locator.getRequestCount();
+                for(int i = 0; i < 2; ++i)
+                {
+                    try
+                    {
+                        ic.stringToProxy("test@UnknownAdapter").ice_ping();
+                        test(false);
+                    }
+                    catch(com.zeroc.Ice.NotRegisteredException ex)
+                    {
+                        test(ex.kindOfObject.equals("object adapter"));
+                    }
+                    test(count + 1 == locator.getRequestCount());
+                }
+
+                for(int i = 0; i < 2; ++i)
+                {
+                    try
+                    {
+                        ic.stringToProxy("unknown").ice_ping();
+                        test(false);
+                    }
+                    catch(com.zeroc.Ice.NotRegisteredException ex)
+                    {
+                        test(ex.kindOfObject.equals("object"));
+                    }
+                    test(count + 2 == locator.getRequestCount());
+                }
+
+                try
+                {
+                    ic.stringToProxy("unknown").ice_locatorCacheTimeout(0).ice_ping(); // No locator cache.
+                    test(false);
+                }
+                catch(com.zeroc.Ice.NotRegisteredException ex)
+                {
+                }
+                test(count + 4 == locator.getRequestCount()); // The retry also queries the locator.
+            }
+        }
+        out.println("ok");
+
+        out.print("testing locator cache snapshot... ");
+        out.flush();
+        {
+            java.io.File file;
+            try
+            {
+                file = java.io.File.createTempFile("locator", ".cache");
+            }
+            catch(java.io.IOException ex)
+            {
+                throw new RuntimeException(ex);
+            }
+
+            try
+            {
+                com.zeroc.Ice.Properties properties = communicator.getProperties()._clone();
+                properties.setProperty("Ice.LocatorCache.File", file.getPath());
+                try(com.zeroc.Ice.Communicator ic = helper.initialize(properties))
+                {
+                    registry.setAdapterDirectProxy("TestAdapter6", locator.findAdapterById("TestAdapter"));
+                    ic.stringToProxy("test@TestAdapter6").ice_ping();
+                    ic.stringToProxy("test2").ice_ping();
+                }
+                test(file.length() > 0); // The snapshot is written on destruction.
+
+                //
+                // The snapshot entries are used while they are resolved again in the
+                // background. Once TestAdapter6 is resolved again, it's no longer
+                // cached since it's no longer registered.
+                //
+                registry.setAdapterDirectProxy("TestAdapter6", null);
+                properties.setProperty("Ice.BackgroundLocatorCacheUpdates", "1");
+                try(com.zeroc.Ice.Communicator ic = helper.initialize(properties))
+                {
+                    count = locator.getRequestCount();
+                    ic.stringToProxy("test@TestAdapter6").ice_ping();
+                    ic.stringToProxy("test2").ice_ping();
+
+                    int i = 0;
+                    while(i++ < 100)
+                    {
+                        try
+                        {
+                            ic.stringToProxy("test@TestAdapter6").ice_ping();
+                            Thread.sleep(10);
+                        }
+                        catch(com.zeroc.Ice.NotRegisteredException ex)
+                        {
+                            break;
+                        }
+                    }
+                    test(i < 100);
+                    test(locator.getRequestCount() > count);
+                }
+
+                //
+                // Without background updates, the snapshot entries are always resolved
+                // again.
+                //
+                properties.setProperty("Ice.BackgroundLocatorCacheUpdates", "0");
+                try(com.zeroc.Ice.Communicator ic = helper.initialize(properties))
+                {
+                    count = locator.getRequestCount();
+                    ic.stringToProxy("test2").ice_ping();
+                    test(locator.getRequestCount() > count);
+                    count = locator.getRequestCount();
+                    ic.stringToProxy("test2").ice_ping();
+                    test(count == locator.getRequestCount());
+                }
+
+                //
+                // A snapshot that can't be read is ignored, the entries read before the
+                // error aren't used and a bogus size doesn't allocate a large array.
+                //
+                registry.setAdapterDirectProxy("TestAdapter6", locator.findAdapterById("TestAdapter"));
+                try(com.zeroc.Ice.Communicator ic = helper.initialize(properties))
+                {
+                    ic.stringToProxy("test@TestAdapter6").ice_ping();
+                    ic.stringToProxy("test2").ice_ping();
+                }
+                registry.setAdapterDirectProxy("TestAdapter6", null);
+
+                properties.setProperty("Ice.BackgroundLocatorCacheUpdates", "1");
+                try
+                {
+                    byte[] data = java.nio.file.Files.readAllBytes(file.toPath());
+                    java.nio.file.Files.write(file.toPath(), java.util.Arrays.copyOf(data, data.length - 1));
+                }
+                catch(java.io.IOException ex)
+                {
+                    throw new RuntimeException(ex);
+                }
+                try(com.zeroc.Ice.Communicator ic = helper.initialize(properties))
+                {
+                    try
+                    {
+                        ic.stringToProxy("test@TestAdapter6").ice_ping();
+                        test(false);
+                    }
+                    catch(com.zeroc.Ice.NotRegisteredException ex)
+                    {
+                    }
+                }
+
+                com.zeroc.Ice.OutputStream os = new com.zeroc.Ice.OutputStream(communicator);
+                os.writeBlob(new byte[] { 'I', 'L', 'C', 1 });
+                os.writeSize(1);
+                com.zeroc.Ice.Identity.ice_write(os, locator.ice_getIdentity());
+                com.zeroc.Ice.EncodingVersion.ice_write(os, com.zeroc.Ice.Util.currentEncoding());
+                os.writeSize(1);
+                os.writeString("TestAdapter6");
+                os.writeSize(200000000); // The number of endpoints.
+                try
+                {
+                    java.nio.file.Files.write(file.toPath(), os.finished());
+                }
+                catch(java.io.IOException ex)
+                {
+                    throw new RuntimeException(ex);
+                }
+                try(com.zeroc.Ice.Communicator ic = helper.initialize(properties))
+                {
+                    ic.stringToProxy("test2").ice_ping();
+                }
+            }
+            finally
+            {
+                file.delete();
+            }
+        }
+        out.println("ok");
+
         out.print("testing proxy from server after shutdown... ");
         out.flush();
         hello = obj.getReplicatedHello();
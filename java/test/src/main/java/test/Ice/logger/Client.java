@@ -53,5 +53,69 @@ public class Client extends test.TestHelper
         }
         new File("log.txt").delete();
         System.out.println("ok");
+
+        System.out.print("testing asynchronous and synchronous log file writes... ");
+        for(String async : new String[] { "1", "0" })
+        {
+            properties = createTestProperties(args);
+            properties.setProperty("Ice.LogFile", "log.txt");
+            properties.setProperty("Ice.LogFile.Async", async);
+            properties.setProperty("Ice.LogFile.QueueSize", "4");
+            com.zeroc.Ice.Logger logger;
+            try(Communicator communicator = initialize(properties))
+            {
+                logger = communicator.getLogger().cloneWithPrefix("clone");
+                for(int i = 0; i < 1000; ++i)
+                {
+                    logger.print("message " + i);
+                }
+            }
+
+            //
+            // The clone keeps the log file open once the communicator is destroyed.
+            //
+            logger.print("message 1000");
+            ((com.zeroc.Ice.LoggerI)logger).destroy();
+            logger.print("discarded");
+            try
+            {
+                java.util.List<String> lines = Files.readAllLines(Paths.get("log.txt"));
+                test(lines.size() == 1001);
+                for(int i = 0; i < 1001; ++i)
+                {
+                    test(lines.get(i).equals("message " + i));
+                }
+            }
+            catch(IOException ex)
+            {
+                test(false);
+            }
+            new File("log.txt").delete();
+        }
+        System.out.println("ok");
+
+        System.out.print("testing Ice.LogFile.SizeMax... ");
+        properties = createTestProperties(args);
+        properties.setProperty("Ice.LogFile", "log.txt");
+        properties.setProperty("Ice.LogFile.SizeMax", "1024");
+        try(Communicator communicator = initialize(properties))
+        {
+            for(int i = 0; i < 100; ++i)
+            {
+                communicator.getLogger().print("message " + i);
+            }
+        }
+        File[] archives = new File(".").listFiles((dir, name) -> name.startsWith("log-") && name.endsWith(".txt"));
+        test(archives.length > 0);
+        long size = new File("log.txt").length();
+        for(File f : archives)
+        {
+            test(f.length() <= 1024);
+            size += f.length();
+            f.delete();
+        }
+        test(size == 100 * ("message ".length() + System.getProperty("line.separator").length()) + 10 + 90 * 2);
+        new File("log.txt").delete();
+        System.out.println("ok");
     }
 }
@@ -1177,6 +1177,28 @@ public class AllTests
 
         out.println("ok");
 
+        out.print("testing OpenMetrics admin facet... ");
+        out.flush();
+
+        props.put("IceMX.Metrics.View.Map.Invocation.GroupBy", "operation");
+        props.put("IceMX.Metrics.View.Map.Invocation.Map.Remote.GroupBy", "localPort");
+        updateProps(clientProps, serverProps, props, "Invocation");
+
+        metrics.op();
+        metrics.op();
+
+        com.zeroc.IceMX.OpenMetricsAdminPrx clientOpenMetrics =
+            com.zeroc.IceMX.OpenMetricsAdminPrx.checkedCast(communicator.getAdmin(), "OpenMetrics");
+        String text = clientOpenMetrics.getOpenMetrics();
+        test(text.endsWith("# EOF\n"));
+        test(text.contains("# TYPE ice_invocation counter\n"));
+        test(text.contains("ice_invocation_total{view=\"View\",id=\"op\"} 2\n"));
+        test(text.contains("# TYPE ice_invocation_current gauge\n"));
+        test(text.contains("# UNIT ice_invocation_lifetime_seconds seconds\n"));
+        test(collocated || text.contains("# TYPE ice_invocation_remote counter\n"));
+
+        out.println("ok");
+
         out.print("testing metrics view enable/disable...");
         out.flush();
 
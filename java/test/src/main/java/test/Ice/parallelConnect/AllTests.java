@@ -0,0 +1,120 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.parallelConnect;
+
+import java.io.PrintWriter;
+
+import test.Ice.parallelConnect.Test.TestIntfPrx;
+
+public class AllTests
+{
+    private static void test(boolean b)
+    {
+        if(!b)
+        {
+            throw new RuntimeException();
+        }
+    }
+
+    public static TestIntfPrx allTests(test.TestHelper helper)
+    {
+        com.zeroc.Ice.Communicator communicator = helper.communicator();
+        PrintWriter out = helper.getWriter();
+
+        TestIntfPrx test = TestIntfPrx.checkedCast(communicator.stringToProxy("test:" + helper.getTestEndpoint(0)));
+        test(test != null);
+
+        int mult = 1;
+        if(!communicator.getProperties().getPropertyWithDefault("Ice.Default.Protocol", "tcp").equals("tcp") ||
+           helper.isAndroid())
+        {
+            mult = 4;
+        }
+
+        //
+        // The first endpoint of the proxies accepts connections but never
+        // validates them, its connection establishment only fails with the
+        // timeout. The second endpoint refuses connections.
+        //
+        String blackholeRef = "test:" + helper.getTestEndpoint(1) + ":" + helper.getTestEndpoint(0);
+        String refusedRef = "test:" + helper.getTestEndpoint(2) + ":" + helper.getTestEndpoint(0);
+
+        try(java.net.ServerSocket blackhole = new java.net.ServerSocket(helper.getTestPort(1), 10,
+                java.net.InetAddress.getByName(helper.getTestHost())))
+        {
+            out.print("testing parallel connection establishment... ");
+            out.flush();
+            {
+                com.zeroc.Ice.InitializationData initData = new com.zeroc.Ice.InitializationData();
+                initData.properties = communicator.getProperties()._clone();
+                initData.properties.setProperty("Ice.ConnectAttemptDelay", "50");
+                try(com.zeroc.Ice.Communicator comm = helper.initialize(initData))
+                {
+                    //
+                    // The second endpoint is tried once the delay elapsed, without
+                    // waiting for the first connection establishment to fail.
+                    //
+                    TestIntfPrx proxy = TestIntfPrx.uncheckedCast(comm.stringToProxy(blackholeRef));
+                    proxy = proxy.ice_endpointSelection(com.zeroc.Ice.EndpointSelectionType.Ordered);
+                    proxy = proxy.ice_timeout(3000 * mult);
+
+                    long start = System.nanoTime();
+                    proxy.ice_ping();
+                    test(System.nanoTime() - start < 1000 * mult * 1000000L);
+                }
+
+                initData.properties.setProperty("Ice.ConnectAttemptDelay", String.valueOf(5000 * mult));
+                try(com.zeroc.Ice.Communicator comm = helper.initialize(initData))
+                {
+                    //
+                    // The next endpoint is tried right away once a connection
+                    // establishment fails.
+                    //
+                    TestIntfPrx proxy = TestIntfPrx.uncheckedCast(comm.stringToProxy(refusedRef));
+                    proxy = proxy.ice_endpointSelection(com.zeroc.Ice.EndpointSelectionType.Ordered);
+
+                    long start = System.nanoTime();
+                    proxy.ice_ping();
+                    test(System.nanoTime() - start < 1000 * mult * 1000000L);
+                }
+            }
+            out.println("ok");
+
+            out.print("testing sequential connection establishment... ");
+            out.flush();
+            {
+                //
+                // Without Ice.ConnectAttemptDelay, the second endpoint is only
+                // tried once the connection establishment with the first
+                // endpoint timed out.
+                //
+                com.zeroc.Ice.InitializationData initData = new com.zeroc.Ice.InitializationData();
+                initData.properties = communicator.getProperties()._clone();
+                try(com.zeroc.Ice.Communicator comm = helper.initialize(initData))
+                {
+                    TestIntfPrx proxy = TestIntfPrx.uncheckedCast(comm.stringToProxy(blackholeRef));
+                    proxy = proxy.ice_endpointSelection(com.zeroc.Ice.EndpointSelectionType.Ordered);
+                    proxy = proxy.ice_timeout(500 * mult);
+
+                    long start = System.nanoTime();
+                    proxy.ice_ping();
+                    test(System.nanoTime() - start >= 500 * mult * 1000000L);
+                }
+            }
+            out.println("ok");
+        }
+        catch(java.io.IOException ex)
+        {
+            throw new RuntimeException(ex);
+        }
+
+        return test;
+    }
+}
@@ -100,6 +100,56 @@ public class Client extends test.TestHelper
             }
             System.out.println("ok");
         }
+
+        {
+            System.out.print("testing property validation... ");
+            final java.util.List<String> warnings = new java.util.ArrayList<>();
+            com.zeroc.Ice.Logger processLogger = Util.getProcessLogger();
+            Util.setProcessLogger(new com.zeroc.Ice.LoggerI("", "")
+                {
+                    @Override
+                    public void warning(String message)
+                    {
+                        warnings.add(message);
+                    }
+                });
+            try
+            {
+                Properties properties = Util.createProperties();
+                properties.setProperty("Ice.Trace.Network", "1");
+                properties.setProperty("Ice.Plugin.MyPlugin", "MyPlugin:Factory");
+                properties.setProperty("IceMX.Metrics.MyView.Accept.operation", "op");
+                properties.setProperty("MyApp.Foo", "1");
+                test(warnings.isEmpty());
+
+                properties.setProperty("Ice.Foo", "1");
+                test(warnings.size() == 1 && warnings.get(0).equals("unknown property: Ice.Foo"));
+
+                properties.setProperty("Ice.trace.network", "1");
+                test(warnings.size() == 2 &&
+                     warnings.get(1).equals("unknown property: `Ice.trace.network'; did you mean `Ice.Trace.Network'"));
+
+                properties.setProperty("Freeze.DbEnv.MyEnv.dbhome", "db");
+                test(warnings.size() == 3 &&
+                     warnings.get(2).equals("unknown property: `Freeze.DbEnv.MyEnv.dbhome'; " +
+                                            "did you mean `Freeze.DbEnv.MyEnv.DbHome'"));
+
+                properties.setProperty("Ice.ACM.Client", "1");
+                test(warnings.size() == 4 && warnings.get(3).equals("deprecated property: Ice.ACM.Client"));
+
+                test(properties.getPropertyAsInt("Ice.Trace.Network") == 1);
+                properties.setProperty("Ice.Trace.Network", "2");
+                test(properties.getPropertyAsInt("Ice.Trace.Network") == 2);
+                properties.setProperty("Ice.Trace.Network", "");
+                test(properties.getProperty("Ice.Trace.Network").isEmpty());
+                test(properties.getPropertiesForPrefix("Ice.Plugin.").size() == 1);
+            }
+            finally
+            {
+                Util.setProcessLogger(processLogger);
+            }
+            System.out.println("ok");
+        }
     }
 
     private static String configPath = "./config/\u4E2D\u56FD_client.config";
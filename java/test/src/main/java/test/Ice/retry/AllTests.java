@@ -255,6 +255,70 @@ public class AllTests
         }
         out.println("ok");
 
+        if(retry1.ice_getConnection() != null)
+        {
+            out.print("testing retry backoff... ");
+            out.flush();
+            {
+                com.zeroc.Ice.Properties properties = communicator.getProperties()._clone();
+                properties.setProperty("Ice.RetryBackoff.Initial", "1");
+                properties.setProperty("Ice.RetryBackoff.Max", "4");
+                properties.setProperty("Ice.RetryBackoff.Retries", "4");
+                properties.setProperty("Ice.RetryJitter", "100");
+                try(com.zeroc.Ice.Communicator ic = helper.initialize(properties))
+                {
+                    RetryPrx prx = RetryPrx.uncheckedCast(ic.stringToProxy(retry1.toString()));
+                    test(prx.opIdempotent(4) == 4);
+                    try
+                    {
+                        prx.opIdempotent(5);
+                        test(false);
+                    }
+                    catch(com.zeroc.Ice.LocalException ex)
+                    {
+                    }
+                    prx.opIdempotent(-1); // Reset the counter
+                }
+            }
+            out.println("ok");
+
+            out.print("testing retry budget... ");
+            out.flush();
+            {
+                com.zeroc.Ice.Properties properties = communicator.getProperties()._clone();
+                properties.setProperty("Ice.RetryIntervals", "0 0 0 0");
+                properties.setProperty("Ice.RetryBudget.Percent", "10");
+                properties.setProperty("Ice.RetryBudget.Max", "2");
+                try(com.zeroc.Ice.Communicator ic = helper.initialize(properties))
+                {
+                    //
+                    // The budget is initially full, the 2 retries use it up.
+                    //
+                    RetryPrx prx = RetryPrx.uncheckedCast(ic.stringToProxy(retry1.toString()));
+                    test(prx.opIdempotent(2) == 2);
+                    try
+                    {
+                        prx.opIdempotent(1);
+                        test(false);
+                    }
+                    catch(com.zeroc.Ice.LocalException ex)
+                    {
+                    }
+                    prx.opIdempotent(-1); // Reset the counter
+
+                    //
+                    // Each successful invocation adds 10% of a retry to the budget.
+                    //
+                    for(int i = 0; i < 8; ++i)
+                    {
+                        prx.op(false);
+                    }
+                    test(prx.opIdempotent(1) == 1);
+                }
+            }
+            out.println("ok");
+        }
+
         return retry1;
     }
 }
@@ -0,0 +1,151 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.router;
+
+import java.io.PrintWriter;
+import java.util.concurrent.CompletableFuture;
+
+public class AllTests
+{
+    private static void test(boolean b)
+    {
+        if(!b)
+        {
+            throw new RuntimeException();
+        }
+    }
+
+    private static com.zeroc.Ice.Communicator createClient(test.TestHelper helper, int addProxiesDelay)
+    {
+        com.zeroc.Ice.InitializationData initData = new com.zeroc.Ice.InitializationData();
+        initData.properties = helper.communicator().getProperties()._clone();
+        initData.properties.setProperty("Ice.RouterAddProxiesDelay", Integer.toString(addProxiesDelay));
+        initData.properties.setProperty("Ice.RetryIntervals", "-1");
+        return helper.initialize(initData);
+    }
+
+    //
+    // Pings each of the given number of routed objects twice concurrently
+    // and returns the futures of the pings.
+    //
+    private static java.util.List<CompletableFuture<Void>> ping(com.zeroc.Ice.Communicator communicator,
+                                                               com.zeroc.Ice.RouterPrx router, String prefix,
+                                                               int count)
+    {
+        java.util.List<CompletableFuture<Void>> futures = new java.util.ArrayList<>();
+        router = com.zeroc.Ice.RouterPrx.uncheckedCast(communicator.stringToProxy(router.toString()));
+        for(int i = 0; i < 2 * count; ++i)
+        {
+            futures.add(communicator.stringToProxy(prefix + (i % count)).ice_router(router).ice_pingAsync());
+        }
+        return futures;
+    }
+
+    public static void allTests(test.TestHelper helper)
+    {
+        com.zeroc.Ice.Communicator communicator = helper.communicator();
+        PrintWriter out = helper.getWriter();
+
+        communicator.getProperties().setProperty("RouterAdapter.Endpoints", helper.getTestEndpoint(0));
+        com.zeroc.Ice.ObjectAdapter adapter = communicator.createObjectAdapter("RouterAdapter");
+        RouterI routerI = new RouterI();
+        com.zeroc.Ice.RouterPrx router = com.zeroc.Ice.RouterPrx.uncheckedCast(
+            adapter.add(routerI, com.zeroc.Ice.Util.stringToIdentity("router")));
+        adapter.addDefaultServant(new com.zeroc.Ice.Object() {}, "");
+        adapter.activate();
+
+        out.print("testing addProxies coalescing... ");
+        out.flush();
+        {
+            try(com.zeroc.Ice.Communicator comm = createClient(helper, 0))
+            {
+                //
+                // The first proxy is added right away, the proxies used while
+                // it's being added are added with the next addProxies call.
+                //
+                for(CompletableFuture<Void> f : ping(comm, router, "object", 50))
+                {
+                    f.join();
+                }
+                test(routerI.getCalls() >= 2 && routerI.getCalls() <= 3);
+                test(routerI.getTotal() == 50);
+                test(routerI.getProxies() == 50);
+
+                //
+                // The proxies are no longer added once in the routing table.
+                //
+                for(CompletableFuture<Void> f : ping(comm, router, "object", 50))
+                {
+                    f.join();
+                }
+                test(routerI.getTotal() == 50);
+            }
+            routerI.reset();
+        }
+        out.println("ok");
+
+        out.print("testing addProxies delay... ");
+        out.flush();
+        {
+            try(com.zeroc.Ice.Communicator comm = createClient(helper, 200))
+            {
+                for(CompletableFuture<Void> f : ping(comm, router, "object", 50))
+                {
+                    f.join();
+                }
+                test(routerI.getCalls() == 1);
+                test(routerI.getTotal() == 50);
+            }
+            routerI.reset();
+        }
+        out.println("ok");
+
+        out.print("testing addProxies failure... ");
+        out.flush();
+        {
+            try(com.zeroc.Ice.Communicator comm = createClient(helper, 0))
+            {
+                //
+                // All the invocations waiting for the addProxies calls get
+                // the failure, they aren't retried.
+                //
+                routerI.setFail(true);
+                for(CompletableFuture<Void> f : ping(comm, router, "object", 20))
+                {
+                    try
+                    {
+                        f.join();
+                        test(false);
+                    }
+                    catch(java.util.concurrent.CompletionException ex)
+                    {
+                        test(ex.getCause() instanceof com.zeroc.Ice.UnknownException);
+                    }
+                }
+                test(routerI.getTotal() == 20);
+
+                //
+                // The proxies weren't added to the routing table and are
+                // added again.
+                //
+                routerI.setFail(false);
+                for(CompletableFuture<Void> f : ping(comm, router, "object", 20))
+                {
+                    f.join();
+                }
+                test(routerI.getTotal() == 40);
+            }
+            routerI.reset();
+        }
+        out.println("ok");
+
+        adapter.destroy();
+    }
+}
@@ -0,0 +1,92 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.router;
+
+//
+// Fake router, the routed requests are sent directly to the router
+// adapter. It counts the addProxies calls and the proxies they add.
+//
+class RouterI implements com.zeroc.Ice.Router
+{
+    @Override
+    public com.zeroc.Ice.Router.GetClientProxyResult getClientProxy(com.zeroc.Ice.Current current)
+    {
+        return new com.zeroc.Ice.Router.GetClientProxyResult(null, java.util.Optional.of(true));
+    }
+
+    @Override
+    public com.zeroc.Ice.ObjectPrx getServerProxy(com.zeroc.Ice.Current current)
+    {
+        return null;
+    }
+
+    @Override
+    public com.zeroc.Ice.ObjectPrx[] addProxies(com.zeroc.Ice.ObjectPrx[] proxies, com.zeroc.Ice.Current current)
+    {
+        synchronized(this)
+        {
+            ++_calls;
+            for(com.zeroc.Ice.ObjectPrx proxy : proxies)
+            {
+                _proxies.add(proxy.ice_getIdentity());
+            }
+            _total += proxies.length;
+        }
+
+        try
+        {
+            Thread.sleep(50);
+        }
+        catch(InterruptedException ex)
+        {
+        }
+
+        synchronized(this)
+        {
+            if(_fail)
+            {
+                throw new RuntimeException("addProxies failure");
+            }
+        }
+        return new com.zeroc.Ice.ObjectPrx[0];
+    }
+
+    synchronized int getCalls()
+    {
+        return _calls;
+    }
+
+    synchronized int getTotal()
+    {
+        return _total;
+    }
+
+    synchronized int getProxies()
+    {
+        return _proxies.size();
+    }
+
+    synchronized void setFail(boolean fail)
+    {
+        _fail = fail;
+    }
+
+    synchronized void reset()
+    {
+        _calls = 0;
+        _total = 0;
+        _proxies.clear();
+    }
+
+    private int _calls;
+    private int _total;
+    private final java.util.Set<com.zeroc.Ice.Identity> _proxies = new java.util.HashSet<>();
+    private boolean _fail;
+}
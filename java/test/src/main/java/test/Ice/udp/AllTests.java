@@ -146,6 +146,33 @@ public class AllTests
 
         out.println("ok");
 
+        out.print("testing udp bursts... ");
+        out.flush();
+        {
+            //
+            // The datagrams sent in a burst are pending together on the server and client
+            // connections, all of them must be dispatched.
+            //
+            nRetry = 5;
+            while(nRetry-- > 0)
+            {
+                replyI.reset();
+                for(int i = 0; i < 10; ++i)
+                {
+                    obj.ping(reply);
+                }
+                ret = replyI.waitReply(10, 2000);
+                if(ret)
+                {
+                    break; // Success
+                }
+                replyI = new PingReplyI();
+                reply = PingReplyPrx.uncheckedCast(adapter.addWithUUID(replyI)).ice_datagram();
+            }
+            test(ret);
+        }
+        out.println("ok");
+
         out.print("testing udp multicast... ");
         out.flush();
         {
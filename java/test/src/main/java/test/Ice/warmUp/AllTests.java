@@ -0,0 +1,118 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.warmUp;
+
+import java.io.PrintWriter;
+
+import test.Ice.warmUp.Test.ControllerPrx;
+
+public class AllTests
+{
+    private static void test(boolean b)
+    {
+        if(!b)
+        {
+            throw new RuntimeException();
+        }
+    }
+
+    //
+    // Checks that the connections to the endpoints of the proxy are established:
+    // the adapters are on hold so new connections wouldn't be validated.
+    //
+    private static void checkWarmedUp(com.zeroc.Ice.ObjectPrx proxy, ControllerPrx controller, int mult)
+    {
+        controller.holdAdapters();
+        try
+        {
+            for(com.zeroc.Ice.Endpoint endpoint : proxy.ice_getEndpoints())
+            {
+                com.zeroc.Ice.ObjectPrx prx = proxy.ice_endpoints(new com.zeroc.Ice.Endpoint[] { endpoint });
+                test(prx.ice_getConnectionAsync().get(1000 * mult, java.util.concurrent.TimeUnit.MILLISECONDS) != null);
+            }
+        }
+        catch(Exception ex)
+        {
+            throw new RuntimeException(ex);
+        }
+        finally
+        {
+            controller.activateAdapters();
+        }
+    }
+
+    public static ControllerPrx allTests(test.TestHelper helper)
+    {
+        com.zeroc.Ice.Communicator communicator = helper.communicator();
+        PrintWriter out = helper.getWriter();
+
+        ControllerPrx controller =
+            ControllerPrx.checkedCast(communicator.stringToProxy("controller:" + helper.getTestEndpoint(0)));
+        test(controller != null);
+
+        int mult = 1;
+        if(!communicator.getProperties().getPropertyWithDefault("Ice.Default.Protocol", "tcp").equals("tcp") ||
+           helper.isAndroid())
+        {
+            mult = 4;
+        }
+
+        String proxyString = "test:" + helper.getTestEndpoint(1) + ":" + helper.getTestEndpoint(2);
+
+        out.print("testing connection warm-up... ");
+        out.flush();
+        {
+            com.zeroc.Ice.InitializationData initData = new com.zeroc.Ice.InitializationData();
+            initData.properties = communicator.getProperties()._clone();
+            try(com.zeroc.Ice.Communicator comm = helper.initialize(initData))
+            {
+                com.zeroc.Ice.ObjectPrx proxy = comm.stringToProxy(proxyString);
+                comm.warmUpConnections(new com.zeroc.Ice.ObjectPrx[] { proxy });
+                checkWarmedUp(proxy, controller, mult);
+
+                //
+                // The failure to connect the proxy is reported.
+                //
+                try
+                {
+                    comm.warmUpConnectionsAsync(new com.zeroc.Ice.ObjectPrx[] {
+                        comm.stringToProxy("test:" + helper.getTestEndpoint(3)) }).join();
+                    test(false);
+                }
+                catch(java.util.concurrent.CompletionException ex)
+                {
+                    test(ex.getCause() instanceof com.zeroc.Ice.ConnectionRefusedException);
+                }
+            }
+        }
+        out.println("ok");
+
+        out.print("testing object adapter connection warm-up... ");
+        out.flush();
+        {
+            com.zeroc.Ice.InitializationData initData = new com.zeroc.Ice.InitializationData();
+            initData.properties = communicator.getProperties()._clone();
+            initData.properties.setProperty("WarmUp.Proxy", proxyString);
+            initData.properties.setProperty("ServiceAdapter.WarmUp", "WarmUp.Proxy");
+            try(com.zeroc.Ice.Communicator comm = helper.initialize(initData))
+            {
+                //
+                // The adapter establishes the connections before its activation
+                // completes.
+                //
+                comm.createObjectAdapter("ServiceAdapter").activate();
+                checkWarmedUp(comm.propertyToProxy("WarmUp.Proxy"), controller, mult);
+            }
+        }
+        out.println("ok");
+
+        return controller;
+    }
+}
@@ -0,0 +1,46 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.warmUp;
+
+import test.Ice.warmUp.Test.Controller;
+
+class ControllerI implements Controller
+{
+    ControllerI(com.zeroc.Ice.ObjectAdapter[] adapters)
+    {
+        _adapters = adapters;
+    }
+
+    @Override
+    public void holdAdapters(com.zeroc.Ice.Current current)
+    {
+        for(com.zeroc.Ice.ObjectAdapter adapter : _adapters)
+        {
+            adapter.hold();
+        }
+    }
+
+    @Override
+    public void activateAdapters(com.zeroc.Ice.Current current)
+    {
+        for(com.zeroc.Ice.ObjectAdapter adapter : _adapters)
+        {
+            adapter.activate();
+        }
+    }
+
+    @Override
+    public void shutdown(com.zeroc.Ice.Current current)
+    {
+        current.adapter.getCommunicator().shutdown();
+    }
+
+    final private com.zeroc.Ice.ObjectAdapter[] _adapters;
+}
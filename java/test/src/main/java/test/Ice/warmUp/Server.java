@@ -0,0 +1,40 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.Ice.warmUp;
+
+public class Server extends test.TestHelper
+{
+    public void run(String[] args)
+    {
+        com.zeroc.Ice.Properties properties = createTestProperties(args);
+        properties.setProperty("Ice.Package.Test", "test.Ice.warmUp");
+        try(com.zeroc.Ice.Communicator communicator = initialize(properties))
+        {
+            communicator.getProperties().setProperty("ControllerAdapter.Endpoints", getTestEndpoint(0));
+            communicator.getProperties().setProperty("TestAdapter1.Endpoints", getTestEndpoint(1));
+            communicator.getProperties().setProperty("TestAdapter2.Endpoints", getTestEndpoint(2));
+
+            com.zeroc.Ice.ObjectAdapter adapter1 = communicator.createObjectAdapter("TestAdapter1");
+            com.zeroc.Ice.ObjectAdapter adapter2 = communicator.createObjectAdapter("TestAdapter2");
+            adapter1.add(new com.zeroc.Ice.Object() {}, com.zeroc.Ice.Util.stringToIdentity("test"));
+            adapter2.add(new com.zeroc.Ice.Object() {}, com.zeroc.Ice.Util.stringToIdentity("test"));
+            adapter1.activate();
+            adapter2.activate();
+
+            com.zeroc.Ice.ObjectAdapter adapter = communicator.createObjectAdapter("ControllerAdapter");
+            adapter.add(new ControllerI(new com.zeroc.Ice.ObjectAdapter[] { adapter1, adapter2 }),
+                        com.zeroc.Ice.Util.stringToIdentity("controller"));
+            adapter.activate();
+
+            serverReady();
+            communicator.waitForShutdown();
+        }
+    }
+}
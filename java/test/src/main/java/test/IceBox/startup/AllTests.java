@@ -0,0 +1,273 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.IceBox.startup;
+
+import java.io.PrintWriter;
+import java.util.concurrent.CompletableFuture;
+
+public class AllTests
+{
+    private static void test(boolean b)
+    {
+        if(!b)
+        {
+            throw new RuntimeException();
+        }
+    }
+
+    private static com.zeroc.Ice.Communicator createCommunicator(LoggerI logger, String... properties)
+    {
+        com.zeroc.Ice.InitializationData initData = new com.zeroc.Ice.InitializationData();
+        initData.properties = com.zeroc.Ice.Util.createProperties();
+        initData.properties.setProperty("Ice.ProgramName", "Startup");
+        for(int i = 0; i < properties.length; i += 2)
+        {
+            initData.properties.setProperty(properties[i], properties[i + 1]);
+        }
+        initData.logger = logger;
+        TestServiceI.reset();
+        return com.zeroc.Ice.Util.initialize(initData);
+    }
+
+    //
+    // Runs the service manager until the given number of services are
+    // started, then shuts it down.
+    //
+    private static void runServiceManager(com.zeroc.Ice.Communicator communicator, int services)
+    {
+        runServiceManager(communicator, services, () -> {});
+    }
+
+    private static void runServiceManager(com.zeroc.Ice.Communicator communicator, int services, Runnable started)
+    {
+        com.zeroc.IceBox.ServiceManagerI manager = new com.zeroc.IceBox.ServiceManagerI(communicator, new String[0]);
+        CompletableFuture<Integer> status = new CompletableFuture<>();
+        Thread t = new Thread(() -> status.complete(manager.run()));
+        t.start();
+        TestServiceI.waitForStarted(services);
+        started.run();
+        communicator.shutdown();
+        test(status.join() == 0);
+    }
+
+    private static java.util.List<String> getEvents(String type)
+    {
+        java.util.List<String> events = new java.util.ArrayList<>();
+        for(String event : TestServiceI.getEvents())
+        {
+            if(event.startsWith(type + " "))
+            {
+                events.add(event.substring(type.length() + 1));
+            }
+        }
+        return events;
+    }
+
+    private static int countThreads(String prefix)
+    {
+        int count = 0;
+        for(Thread thread : Thread.getAllStackTraces().keySet())
+        {
+            if(thread.getName().startsWith(prefix))
+            {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    private static boolean containsError(java.util.List<String> errors, String message)
+    {
+        for(String error : errors)
+        {
+            if(error.contains(message))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static void allTests(test.TestHelper helper)
+    {
+        PrintWriter out = helper.getWriter();
+        LoggerI logger = new LoggerI();
+        final String service = "test.IceBox.startup.TestServiceI";
+
+        out.print("testing service start order... ");
+        out.flush();
+        {
+            try(com.zeroc.Ice.Communicator communicator =
+                    createCommunicator(logger,
+                                       "IceBox.Service.A", service,
+                                       "IceBox.Service.B", service,
+                                       "IceBox.Service.C", service,
+                                       "IceBox.Service.D", service,
+                                       "IceBox.LoadOrder", "A B C D",
+                                       "IceBox.DependsOn.A", "C"))
+            {
+                runServiceManager(communicator, 4);
+                test(getEvents("start").equals(java.util.Arrays.asList("B", "C", "A", "D")));
+                test(getEvents("stop").equals(java.util.Arrays.asList("D", "A", "C", "B")));
+                test(TestServiceI.getMaxStarting() == 1);
+            }
+        }
+        out.println("ok");
+
+        out.print("testing parallel service start... ");
+        out.flush();
+        {
+            try(com.zeroc.Ice.Communicator communicator =
+                    createCommunicator(logger,
+                                       "IceBox.Service.A", service + " --A.Delay=200",
+                                       "IceBox.Service.B", service + " --B.Delay=200",
+                                       "IceBox.Service.C", service + " --C.Delay=200",
+                                       "IceBox.Service.D", service,
+                                       "IceBox.LoadOrder", "D A B C",
+                                       "IceBox.DependsOn.D", "A B",
+                                       "IceBox.StartThreads", "4"))
+            {
+                runServiceManager(communicator, 4);
+
+                //
+                // A, B and C are started in parallel, D is started once A
+                // and B are started and it's stopped before them.
+                //
+                test(TestServiceI.getMaxStarting() == 3);
+                java.util.List<String> events = TestServiceI.getEvents();
+                test(events.indexOf("start D") > events.indexOf("started A"));
+                test(events.indexOf("start D") > events.indexOf("started B"));
+                java.util.List<String> stopped = getEvents("stop");
+                test(stopped.indexOf("D") < stopped.indexOf("A"));
+                test(stopped.indexOf("D") < stopped.indexOf("B"));
+                test(stopped.size() == 4);
+            }
+        }
+        out.println("ok");
+
+        out.print("testing service dependency errors... ");
+        out.flush();
+        {
+            try(com.zeroc.Ice.Communicator communicator =
+                    createCommunicator(logger,
+                                       "IceBox.Service.A", service,
+                                       "IceBox.Service.B", service,
+                                       "IceBox.DependsOn.A", "C"))
+            {
+                test(new com.zeroc.IceBox.ServiceManagerI(communicator, new String[0]).run() == 1);
+                test(containsError(logger.getErrors(), "unknown service `C' in dependencies of service `A'"));
+                test(TestServiceI.getEvents().isEmpty());
+            }
+
+            try(com.zeroc.Ice.Communicator communicator =
+                    createCommunicator(logger,
+                                       "IceBox.Service.A", service,
+                                       "IceBox.Service.B", service,
+                                       "IceBox.Service.C", service,
+                                       "IceBox.LoadOrder", "A B C",
+                                       "IceBox.DependsOn.A", "B",
+                                       "IceBox.DependsOn.B", "A",
+                                       "IceBox.StartThreads", "2"))
+            {
+                test(new com.zeroc.IceBox.ServiceManagerI(communicator, new String[0]).run() == 1);
+                test(containsError(logger.getErrors(), "circular dependency between services `A' -> `B' -> `A'"));
+                test(getEvents("start").equals(java.util.Arrays.asList("C")));
+                test(getEvents("stop").equals(java.util.Arrays.asList("C")));
+            }
+
+            //
+            // The error reports the cycle, not the first service which can't
+            // be started.
+            //
+            try(com.zeroc.Ice.Communicator communicator =
+                    createCommunicator(logger,
+                                       "IceBox.Service.A", service,
+                                       "IceBox.Service.B", service,
+                                       "IceBox.Service.C", service,
+                                       "IceBox.Service.D", service,
+                                       "IceBox.LoadOrder", "A B C D",
+                                       "IceBox.DependsOn.A", "B",
+                                       "IceBox.DependsOn.B", "D C",
+                                       "IceBox.DependsOn.C", "B"))
+            {
+                test(new com.zeroc.IceBox.ServiceManagerI(communicator, new String[0]).run() == 1);
+                test(containsError(logger.getErrors(), "circular dependency between services `B' -> `C' -> `B'"));
+                test(getEvents("start").equals(java.util.Arrays.asList("D")));
+                test(getEvents("stop").equals(java.util.Arrays.asList("D")));
+            }
+        }
+        out.println("ok");
+
+        out.print("testing service start failure... ");
+        out.flush();
+        {
+            try(com.zeroc.Ice.Communicator communicator =
+                    createCommunicator(logger,
+                                       "IceBox.Service.A", service + " --A.Delay=200",
+                                       "IceBox.Service.B", service + " --B.Fail=1",
+                                       "IceBox.Service.C", service,
+                                       "IceBox.LoadOrder", "A B C",
+                                       "IceBox.DependsOn.C", "B",
+                                       "IceBox.StartThreads", "2"))
+            {
+                //
+                // The failure is reported once A completed its start, C isn't
+                // started and A is stopped.
+                //
+                test(new com.zeroc.IceBox.ServiceManagerI(communicator, new String[0]).run() == 1);
+                test(containsError(logger.getErrors(), "failed to start service `B'"));
+                test(getEvents("start").equals(java.util.Arrays.asList("A", "B")) ||
+                     getEvents("start").equals(java.util.Arrays.asList("B", "A")));
+                test(getEvents("started").equals(java.util.Arrays.asList("A")));
+                test(getEvents("stop").equals(java.util.Arrays.asList("A")));
+            }
+        }
+        out.println("ok");
+
+        out.print("testing service communicators sharing threads... ");
+        out.flush();
+        {
+            com.zeroc.Ice.ObjectAdapter adapter =
+                helper.communicator().createObjectAdapterWithEndpoints("TestAdapter", helper.getTestEndpoint(0));
+            adapter.add(new com.zeroc.Ice.Object() {}, com.zeroc.Ice.Util.stringToIdentity("test"));
+            adapter.activate();
+
+            for(int shareThreads = 0; shareThreads <= 1; ++shareThreads)
+            {
+                final boolean shared = shareThreads > 0;
+                try(com.zeroc.Ice.Communicator communicator =
+                        createCommunicator(logger,
+                                           "IceBox.Service.A", service,
+                                           "IceBox.Service.B", service,
+                                           "IceBox.UseSharedCommunicator.B", "1",
+                                           "IceBox.InheritProperties", "1",
+                                           "IceBox.ShareThreads", Integer.toString(shareThreads),
+                                           "Test.Proxy", "test:" + helper.getTestEndpoint(0)))
+                {
+                    //
+                    // The services invoke on the test object on start. With
+                    // IceBox.ShareThreads, the service communicators use the
+                    // client thread pool and timer of the IceBox communicator.
+                    //
+                    runServiceManager(communicator, 2, () ->
+                        {
+                            for(String name : new String[] { "Startup-A-", "Startup-SharedCommunicator-" })
+                            {
+                                test((countThreads(name + "Ice.ThreadPool.Client") == 0) == shared);
+                                test((countThreads(name + "Ice.Timer") == 0) == shared);
+                            }
+                        });
+                }
+            }
+            adapter.destroy();
+        }
+        out.println("ok");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.IceBox.startup;
+
+//
+// Logger which records the errors reported by the service manager.
+//
+class LoggerI implements com.zeroc.Ice.Logger
+{
+    @Override
+    public void print(String message)
+    {
+    }
+
+    @Override
+    public void trace(String category, String message)
+    {
+    }
+
+    @Override
+    public void warning(String message)
+    {
+    }
+
+    @Override
+    public synchronized void error(String message)
+    {
+        _errors.add(message);
+    }
+
+    @Override
+    public String getPrefix()
+    {
+        return "";
+    }
+
+    @Override
+    public com.zeroc.Ice.Logger cloneWithPrefix(String prefix)
+    {
+        return this;
+    }
+
+    synchronized java.util.List<String> getErrors()
+    {
+        java.util.List<String> errors = new java.util.ArrayList<>(_errors);
+        _errors.clear();
+        return errors;
+    }
+
+    private final java.util.List<String> _errors = new java.util.ArrayList<>();
+}
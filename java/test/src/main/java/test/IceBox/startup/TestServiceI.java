@@ -0,0 +1,126 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.IceBox.startup;
+
+//
+// Service which records when it's started and stopped. The start of the
+// service is delayed with <service>.Delay and fails with <service>.Fail.
+//
+public class TestServiceI implements com.zeroc.IceBox.Service
+{
+    @Override
+    public void start(String name, com.zeroc.Ice.Communicator communicator, String[] args)
+    {
+        _name = name;
+        com.zeroc.Ice.Properties properties = communicator.getProperties();
+        synchronized(_events)
+        {
+            _events.add("start " + name);
+            _maxStarting = Math.max(++_starting, _maxStarting);
+        }
+
+        try
+        {
+            int delay = properties.getPropertyAsInt(name + ".Delay");
+            if(delay > 0)
+            {
+                try
+                {
+                    Thread.sleep(delay);
+                }
+                catch(InterruptedException ex)
+                {
+                }
+            }
+
+            if(properties.getPropertyAsInt(name + ".Fail") > 0)
+            {
+                throw new com.zeroc.IceBox.FailureException("failed to start service `" + name + "'");
+            }
+
+            String proxy = properties.getProperty("Test.Proxy");
+            if(!proxy.isEmpty())
+            {
+                communicator.stringToProxy(proxy).ice_ping();
+            }
+        }
+        finally
+        {
+            synchronized(_events)
+            {
+                --_starting;
+            }
+        }
+
+        synchronized(_events)
+        {
+            _events.add("started " + name);
+            _events.notifyAll();
+        }
+    }
+
+    @Override
+    public void stop()
+    {
+        synchronized(_events)
+        {
+            _events.add("stop " + _name);
+        }
+    }
+
+    static java.util.List<String> getEvents()
+    {
+        synchronized(_events)
+        {
+            return new java.util.ArrayList<>(_events);
+        }
+    }
+
+    static int getMaxStarting()
+    {
+        synchronized(_events)
+        {
+            return _maxStarting;
+        }
+    }
+
+    static void waitForStarted(int count)
+    {
+        synchronized(_events)
+        {
+            while(_events.stream().filter(e -> e.startsWith("started ")).count() < count)
+            {
+                try
+                {
+                    _events.wait();
+                }
+                catch(InterruptedException ex)
+                {
+                }
+            }
+        }
+    }
+
+    static void reset()
+    {
+        synchronized(_events)
+        {
+            _events.clear();
+            _starting = 0;
+            _maxStarting = 0;
+        }
+    }
+
+    private String _name;
+
+    private static final java.util.List<String> _events = new java.util.ArrayList<>();
+    private static int _starting;
+    private static int _maxStarting;
+}
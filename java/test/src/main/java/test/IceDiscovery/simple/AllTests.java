@@ -27,6 +27,19 @@ public class AllTests
         }
     }
 
+    private static int findAdapterEndpointCount(com.zeroc.Ice.Communicator communicator, String adapterId)
+    {
+        try
+        {
+            return communicator.getDefaultLocator().findAdapterById(adapterId).ice_getEndpoints().length;
+        }
+        catch(com.zeroc.Ice.AdapterNotFoundException ex)
+        {
+            test(false);
+            return 0;
+        }
+    }
+
     public static void allTests(test.TestHelper helper, int num)
     {
         com.zeroc.Ice.Communicator communicator = helper.communicator();
@@ -258,6 +271,143 @@ public class AllTests
         }
         System.out.println("ok");
 
+        System.out.print("testing lookup cache and adaptive timeouts... ");
+        System.out.flush();
+        {
+            com.zeroc.Ice.InitializationData initData = new com.zeroc.Ice.InitializationData();
+            initData.properties = communicator.getProperties()._clone();
+            initData.properties.setProperty("IceDiscovery.CacheTimeout", "60000");
+            initData.properties.setProperty("IceDiscovery.AdaptiveTimeout", "1");
+            initData.properties.setProperty("Ice.RetryIntervals", "-1");
+            com.zeroc.Ice.Communicator comm = com.zeroc.Ice.Util.initialize(initData);
+
+            proxies.get(0).activateObjectAdapter("oa", "oa1", "");
+            proxies.get(0).addObject("oa", "object");
+            for(int i = 0; i < 5; ++i)
+            {
+                comm.stringToProxy("object @ oa1").ice_locatorCacheTimeout(0).ice_ping();
+                comm.stringToProxy("object").ice_locatorCacheTimeout(0).ice_ping();
+            }
+            proxies.get(0).removeObject("oa", "object");
+            proxies.get(0).deactivateObjectAdapter("oa");
+
+            //
+            // Wait for an entry returned from the cache to be returned again
+            // rather than looked up again.
+            //
+            try
+            {
+                Thread.sleep(1500);
+            }
+            catch(InterruptedException ex)
+            {
+            }
+
+            //
+            // The adapter endpoints are still provided by the lookup cache.
+            //
+            try
+            {
+                comm.stringToProxy("object @ oa1").ice_locatorCacheTimeout(0).ice_ping();
+                test(false);
+            }
+            catch(com.zeroc.Ice.ConnectFailedException ex)
+            {
+            }
+
+            //
+            // The adapter is looked up again if it's requested again right
+            // after the cache returned it, and the failed lookup removes it
+            // from the cache.
+            //
+            try
+            {
+                comm.stringToProxy("object @ oa1").ice_locatorCacheTimeout(0).ice_ping();
+                test(false);
+            }
+            catch(com.zeroc.Ice.NoEndpointException ex)
+            {
+            }
+
+            proxies.get(0).activateObjectAdapter("oa", "oa1", "");
+            proxies.get(0).addObject("oa", "object");
+            comm.stringToProxy("object @ oa1").ice_locatorCacheTimeout(0).ice_ping();
+            proxies.get(0).removeObject("oa", "object");
+            proxies.get(0).deactivateObjectAdapter("oa");
+
+            //
+            // Lookups which don't get a reply aren't cached.
+            //
+            try
+            {
+                comm.stringToProxy("object @ oa2").ice_ping();
+                test(false);
+            }
+            catch(com.zeroc.Ice.NoEndpointException ex)
+            {
+            }
+            comm.destroy();
+        }
+        System.out.println("ok");
+
+        System.out.print("testing replica group reply window... ");
+        System.out.flush();
+        {
+            com.zeroc.Ice.ObjectAdapter adapter =
+                communicator.createObjectAdapterWithEndpoints("Lookup", helper.getTestEndpoint(10, "udp"));
+            LookupI lookup = new LookupI(communicator);
+            adapter.add(lookup, com.zeroc.Ice.Util.stringToIdentity("IceDiscovery/Lookup"));
+            adapter.activate();
+            String lookupEndpoints = adapter.createProxy(new com.zeroc.Ice.Identity("dummy", "")).toString();
+            lookupEndpoints = lookupEndpoints.substring(lookupEndpoints.indexOf(':') + 1);
+
+            {
+                com.zeroc.Ice.InitializationData initData = new com.zeroc.Ice.InitializationData();
+                initData.properties = communicator.getProperties()._clone();
+                initData.properties.setProperty("IceDiscovery.Lookup", lookupEndpoints);
+                initData.properties.setProperty("IceDiscovery.Timeout", "1000");
+                initData.properties.setProperty("IceDiscovery.LatencyMultiplier", "3");
+                com.zeroc.Ice.Communicator comm = com.zeroc.Ice.Util.initialize(initData);
+
+                //
+                // The replies are collected for the latency of the first
+                // reply multiplied by the latency multiplier.
+                //
+                lookup.setReplies(true, 100, 150, 1200);
+                test(findAdapterEndpointCount(comm, "rg1") == 2);
+                comm.destroy();
+            }
+
+            {
+                com.zeroc.Ice.InitializationData initData = new com.zeroc.Ice.InitializationData();
+                initData.properties = communicator.getProperties()._clone();
+                initData.properties.setProperty("IceDiscovery.Lookup", lookupEndpoints);
+                initData.properties.setProperty("IceDiscovery.Timeout", "1000");
+                initData.properties.setProperty("IceDiscovery.LatencyMultiplier", "3");
+                initData.properties.setProperty("IceDiscovery.AdaptiveTimeout", "1");
+                com.zeroc.Ice.Communicator comm = com.zeroc.Ice.Util.initialize(initData);
+
+                lookup.setReplies(false, 100);
+                for(int i = 0; i < 10; ++i)
+                {
+                    test(findAdapterEndpointCount(comm, "oa" + i) == 1);
+                }
+
+                //
+                // With adaptive timeouts, the replies are collected for the
+                // estimated reply latency multiplied by the latency
+                // multiplier, even if the first reply is immediate.
+                //
+                lookup.setReplies(true, 0, 100, 1200);
+                test(findAdapterEndpointCount(comm, "rg2") == 2);
+                comm.destroy();
+            }
+
+            lookup.destroy();
+            adapter.destroy();
+        }
+        System.out.println("ok");
+
         System.out.print("shutting down... ");
         System.out.flush();
         for(ControllerPrx prx : proxies)
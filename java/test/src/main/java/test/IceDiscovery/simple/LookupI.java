@@ -0,0 +1,63 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.IceDiscovery.simple;
+
+//
+// A lookup servant which replies to the adapter lookups with dummy proxies
+// after the configured delays, to check the reply window of the IceDiscovery
+// lookups of replica groups.
+//
+public final class LookupI implements com.zeroc.IceDiscovery.Lookup
+{
+    LookupI(com.zeroc.Ice.Communicator communicator)
+    {
+        _communicator = communicator;
+    }
+
+    synchronized void setReplies(boolean isReplicaGroup, int... delays)
+    {
+        _isReplicaGroup = isReplicaGroup;
+        _delays = delays;
+    }
+
+    void destroy()
+    {
+        _timer.shutdownNow();
+    }
+
+    @Override
+    public void findObjectById(String domainId, com.zeroc.Ice.Identity id, com.zeroc.IceDiscovery.LookupReplyPrx reply,
+                               com.zeroc.Ice.Current current)
+    {
+    }
+
+    @Override
+    public synchronized void findAdapterById(String domainId, String id, com.zeroc.IceDiscovery.LookupReplyPrx reply,
+                                             com.zeroc.Ice.Current current)
+    {
+        for(int i = 0; i < _delays.length; ++i)
+        {
+            //
+            // Each reply provides a distinct endpoint.
+            //
+            final com.zeroc.Ice.ObjectPrx proxy =
+                _communicator.stringToProxy("dummy:tcp -h 127.0.0.1 -p " + (20000 + i));
+            final boolean isReplicaGroup = _isReplicaGroup;
+            _timer.schedule(() -> reply.foundAdapterById(id, proxy, isReplicaGroup), _delays[i],
+                            java.util.concurrent.TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private final com.zeroc.Ice.Communicator _communicator;
+    private final java.util.concurrent.ScheduledExecutorService _timer =
+        java.util.concurrent.Executors.newSingleThreadScheduledExecutor();
+    private boolean _isReplicaGroup;
+    private int[] _delays = new int[0];
+}
@@ -0,0 +1,256 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.IceLocatorDiscovery.simple;
+
+import java.io.PrintWriter;
+
+public class AllTests
+{
+    private static void test(boolean b)
+    {
+        if(!b)
+        {
+            throw new RuntimeException();
+        }
+    }
+
+    private static com.zeroc.Ice.Communicator createClient(test.TestHelper helper, String instanceName,
+                                                           int hedgeDelay, int refreshInterval)
+    {
+        com.zeroc.Ice.InitializationData initData = new com.zeroc.Ice.InitializationData();
+        initData.properties = helper.communicator().getProperties()._clone();
+        initData.properties.setProperty("Ice.Plugin.IceLocatorDiscovery",
+                                        "com.zeroc.IceLocatorDiscovery.PluginFactory");
+        initData.properties.setProperty("IceLocatorDiscovery.Lookup", helper.getTestEndpoint(0, "udp"));
+        initData.properties.setProperty("IceLocatorDiscovery.Reply.Endpoints", "udp");
+        initData.properties.setProperty("IceLocatorDiscovery.InstanceName", instanceName);
+        initData.properties.setProperty("IceLocatorDiscovery.HedgeDelay", Integer.toString(hedgeDelay));
+        initData.properties.setProperty("IceLocatorDiscovery.RefreshInterval", Integer.toString(refreshInterval));
+        return helper.initialize(initData);
+    }
+
+    private static com.zeroc.Ice.LocatorPrx addLocator(com.zeroc.Ice.ObjectAdapter adapter, String instanceName,
+                                                       LocatorI locator)
+    {
+        com.zeroc.Ice.Identity id = new com.zeroc.Ice.Identity("Locator", instanceName);
+        com.zeroc.Ice.LocatorPrx proxy = com.zeroc.Ice.LocatorPrx.uncheckedCast(adapter.add(locator, id));
+        adapter.activate();
+        return proxy;
+    }
+
+    private static String findAdapter(com.zeroc.Ice.Communicator communicator)
+    {
+        try
+        {
+            com.zeroc.Ice.ObjectPrx proxy = communicator.getDefaultLocator().findAdapterById("adapter");
+            test(proxy != null);
+            return proxy.ice_getIdentity().name;
+        }
+        catch(com.zeroc.Ice.AdapterNotFoundException ex)
+        {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    private static void sleep(int delay)
+    {
+        try
+        {
+            Thread.sleep(delay);
+        }
+        catch(InterruptedException ex)
+        {
+        }
+    }
+
+    public static void allTests(test.TestHelper helper)
+    {
+        com.zeroc.Ice.Communicator communicator = helper.communicator();
+        PrintWriter out = helper.getWriter();
+
+        out.print("testing locator replica selection... ");
+        out.flush();
+        {
+            LookupI lookup = new LookupI();
+            com.zeroc.Ice.ObjectAdapter lookupAdapter =
+                communicator.createObjectAdapterWithEndpoints("Lookup", helper.getTestEndpoint(0, "udp"));
+            lookupAdapter.add(lookup, com.zeroc.Ice.Util.stringToIdentity("IceLocatorDiscovery/Lookup"));
+            lookupAdapter.activate();
+
+            LocatorI fast1 = new LocatorI("fast1", 0);
+            LocatorI fast2 = new LocatorI("fast2", 0);
+            LocatorI slow = new LocatorI("slow", 100);
+            com.zeroc.Ice.ObjectAdapter adapter1 =
+                communicator.createObjectAdapterWithEndpoints("Replica1", helper.getTestEndpoint(1));
+            com.zeroc.Ice.ObjectAdapter adapter2 =
+                communicator.createObjectAdapterWithEndpoints("Replica2", helper.getTestEndpoint(2));
+            com.zeroc.Ice.ObjectAdapter adapter3 =
+                communicator.createObjectAdapterWithEndpoints("Replica3", helper.getTestEndpoint(3));
+            lookup.addLocator(addLocator(adapter1, "Selection", fast1));
+            lookup.addLocator(addLocator(adapter2, "Selection", fast2));
+            lookup.addLocator(addLocator(adapter3, "Selection", slow));
+
+            try(com.zeroc.Ice.Communicator comm = createClient(helper, "Selection", 0, 0))
+            {
+                //
+                // The replicas are all probed once, the slow replica is then
+                // no longer selected since one of the two replicas picked for
+                // a request is always a fast replica.
+                //
+                findAdapter(comm);
+                sleep(100); // Wait for the replies of the other replicas.
+                for(int i = 0; i < 50; ++i)
+                {
+                    findAdapter(comm);
+                }
+                test(fast1.getRequestCount() > 0);
+                test(fast2.getRequestCount() > 0);
+                test(slow.getRequestCount() > 0 && slow.getRequestCount() <= 2);
+                test(fast1.getRequestCount() + fast2.getRequestCount() + slow.getRequestCount() == 51);
+            }
+
+            adapter1.destroy();
+            adapter2.destroy();
+            adapter3.destroy();
+            lookupAdapter.destroy();
+        }
+        out.println("ok");
+
+        out.print("testing locator request hedging... ");
+        out.flush();
+        {
+            LookupI lookup = new LookupI();
+            com.zeroc.Ice.ObjectAdapter lookupAdapter =
+                communicator.createObjectAdapterWithEndpoints("Lookup", helper.getTestEndpoint(0, "udp"));
+            lookupAdapter.add(lookup, com.zeroc.Ice.Util.stringToIdentity("IceLocatorDiscovery/Lookup"));
+            lookupAdapter.activate();
+
+            LocatorI fast = new LocatorI("fast", 0);
+            LocatorI slow = new LocatorI("slow", 2000);
+            com.zeroc.Ice.ObjectAdapter adapter1 =
+                communicator.createObjectAdapterWithEndpoints("Replica1", helper.getTestEndpoint(1));
+            com.zeroc.Ice.ObjectAdapter adapter2 =
+                communicator.createObjectAdapterWithEndpoints("Replica2", helper.getTestEndpoint(2));
+            lookup.addLocator(addLocator(adapter1, "Hedging", fast));
+            lookup.addLocator(addLocator(adapter2, "Hedging", slow));
+
+            try(com.zeroc.Ice.Communicator comm = createClient(helper, "Hedging", 50, 0))
+            {
+                //
+                // The requests sent to the slow replica are also sent to the
+                // fast replica after the hedge delay.
+                //
+                for(int i = 0; i < 5; ++i)
+                {
+                    long now = System.currentTimeMillis();
+                    test(findAdapter(comm).equals("fast"));
+                    test(System.currentTimeMillis() - now < 1000);
+                }
+                test(slow.getRequestCount() > 0);
+            }
+
+            adapter1.destroy();
+            adapter2.destroy();
+            lookupAdapter.destroy();
+        }
+        out.println("ok");
+
+        out.print("testing locator request hedging with a failing replica... ");
+        out.flush();
+        {
+            LookupI lookup = new LookupI();
+            com.zeroc.Ice.ObjectAdapter lookupAdapter =
+                communicator.createObjectAdapterWithEndpoints("Lookup", helper.getTestEndpoint(0, "udp"));
+            lookupAdapter.add(lookup, com.zeroc.Ice.Util.stringToIdentity("IceLocatorDiscovery/Lookup"));
+            lookupAdapter.activate();
+
+            LocatorI failing = new LocatorI("failing", 50, true);
+            LocatorI slow = new LocatorI("slow", 500);
+            com.zeroc.Ice.ObjectAdapter adapter1 =
+                communicator.createObjectAdapterWithEndpoints("Replica1", helper.getTestEndpoint(1));
+            com.zeroc.Ice.ObjectAdapter adapter2 =
+                communicator.createObjectAdapterWithEndpoints("Replica2", helper.getTestEndpoint(2));
+            lookup.addLocator(addLocator(adapter1, "HedgingFailure", failing));
+            lookup.addLocator(addLocator(adapter2, "HedgingFailure", slow));
+
+            try(com.zeroc.Ice.Communicator comm = createClient(helper, "HedgingFailure", 50, 0))
+            {
+                //
+                // The failing replica fails while the request is still in
+                // progress with the slow replica, it's no longer used for
+                // the next requests.
+                //
+                test(findAdapter(comm).equals("slow"));
+                int failingCount = failing.getRequestCount();
+                test(failingCount > 0);
+                for(int i = 0; i < 3; ++i)
+                {
+                    test(findAdapter(comm).equals("slow"));
+                }
+                test(failing.getRequestCount() == failingCount);
+            }
+
+            adapter1.destroy();
+            adapter2.destroy();
+            lookupAdapter.destroy();
+        }
+        out.println("ok");
+
+        out.print("testing locator replicas refresh and failover... ");
+        out.flush();
+        {
+            LookupI lookup = new LookupI();
+            com.zeroc.Ice.ObjectAdapter lookupAdapter =
+                communicator.createObjectAdapterWithEndpoints("Lookup", helper.getTestEndpoint(0, "udp"));
+            lookupAdapter.add(lookup, com.zeroc.Ice.Util.stringToIdentity("IceLocatorDiscovery/Lookup"));
+            lookupAdapter.activate();
+
+            LocatorI replica1 = new LocatorI("replica1", 0);
+            com.zeroc.Ice.ObjectAdapter adapter1 =
+                communicator.createObjectAdapterWithEndpoints("Replica1", helper.getTestEndpoint(1));
+            lookup.addLocator(addLocator(adapter1, "Refresh", replica1));
+
+            try(com.zeroc.Ice.Communicator comm = createClient(helper, "Refresh", 0, 100))
+            {
+                test(findAdapter(comm).equals("replica1"));
+
+                //
+                // The replica started after the locator lookup is found by
+                // the background refresh of the locator replicas.
+                //
+                LocatorI replica2 = new LocatorI("replica2", 0);
+                com.zeroc.Ice.ObjectAdapter adapter2 =
+                    communicator.createObjectAdapterWithEndpoints("Replica2", helper.getTestEndpoint(2));
+                lookup.addLocator(addLocator(adapter2, "Refresh", replica2));
+                sleep(500);
+                test(lookup.getLookupCount() > 1);
+                for(int i = 0; i < 5; ++i)
+                {
+                    findAdapter(comm);
+                }
+                test(replica2.getRequestCount() > 0);
+
+                //
+                // The requests are retried on the remaining replica if a
+                // replica fails.
+                //
+                adapter1.destroy();
+                for(int i = 0; i < 5; ++i)
+                {
+                    test(findAdapter(comm).equals("replica2"));
+                }
+                adapter2.destroy();
+            }
+
+            lookupAdapter.destroy();
+        }
+        out.println("ok");
+    }
+}
@@ -0,0 +1,82 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.IceLocatorDiscovery.simple;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+//
+// Fake locator replica, counts the requests and returns a proxy whose
+// identity is the name of the replica after the given delay. A failing
+// replica closes the connection of the request instead of replying.
+//
+class LocatorI implements com.zeroc.Ice.Locator
+{
+    LocatorI(String name, int delay)
+    {
+        this(name, delay, false);
+    }
+
+    LocatorI(String name, int delay, boolean fail)
+    {
+        _name = name;
+        _delay = delay;
+        _fail = fail;
+    }
+
+    @Override
+    public CompletionStage<com.zeroc.Ice.ObjectPrx> findObjectByIdAsync(com.zeroc.Ice.Identity id,
+                                                                        com.zeroc.Ice.Current current)
+    {
+        return findAdapterByIdAsync(id.name, current);
+    }
+
+    @Override
+    public CompletionStage<com.zeroc.Ice.ObjectPrx> findAdapterByIdAsync(String id, com.zeroc.Ice.Current current)
+    {
+        synchronized(this)
+        {
+            ++_requestCount;
+        }
+
+        if(_delay > 0)
+        {
+            try
+            {
+                Thread.sleep(_delay);
+            }
+            catch(InterruptedException ex)
+            {
+            }
+        }
+
+        if(_fail)
+        {
+            current.con.close(com.zeroc.Ice.ConnectionClose.Forcefully);
+        }
+        return CompletableFuture.completedFuture(current.adapter.getCommunicator().stringToProxy(_name));
+    }
+
+    @Override
+    public com.zeroc.Ice.LocatorRegistryPrx getRegistry(com.zeroc.Ice.Current current)
+    {
+        return null;
+    }
+
+    synchronized int getRequestCount()
+    {
+        return _requestCount;
+    }
+
+    private final String _name;
+    private final int _delay;
+    private final boolean _fail;
+    private int _requestCount;
+}
@@ -0,0 +1,47 @@
+// **********************************************************************
+//
+// Copyright (c) 2003-2018 ZeroC, Inc. All rights reserved.
+//
+// This copy of Ice is licensed to you under the terms described in the
+// ICE_LICENSE file included in this distribution.
+//
+// **********************************************************************
+
+package test.IceLocatorDiscovery.simple;
+
+//
+// Fake locator lookup, replies to the locator lookup requests with the
+// proxies of the locator replicas added to the lookup.
+//
+class LookupI implements com.zeroc.IceLocatorDiscovery.Lookup
+{
+    @Override
+    public void findLocator(String instanceName, com.zeroc.IceLocatorDiscovery.LookupReplyPrx reply,
+                            com.zeroc.Ice.Current current)
+    {
+        java.util.List<com.zeroc.Ice.LocatorPrx> locators;
+        synchronized(this)
+        {
+            ++_lookupCount;
+            locators = new java.util.ArrayList<>(_locators);
+        }
+
+        for(com.zeroc.Ice.LocatorPrx locator : locators)
+        {
+            reply.foundLocator(locator);
+        }
+    }
+
+    synchronized void addLocator(com.zeroc.Ice.LocatorPrx locator)
+    {
+        _locators.add(locator);
+    }
+
+    synchronized int getLookupCount()
+    {
+        return _lookupCount;
+    }
+
+    private final java.util.List<com.zeroc.Ice.LocatorPrx> _locators = new java.util.ArrayList<>();
+    private int _lookupCount;
+}
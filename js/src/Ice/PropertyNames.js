@@ -6,7 +6,7 @@
 // ICE_LICENSE file included in this distribution.
 //
 // **********************************************************************
-// Generated by makeprops.py from file ./config/PropertyNames.xml, Wed Sep 12 19:11:29 2018
+// Generated by makeprops.py from file ./config/PropertyNames.xml, Mon Oct 19 16:48:23 2026
 
 // IMPORTANT: Do not edit this file -- any edits made here will be lost!
 
@@ -37,6 +37,7 @@ PropertyNames.IceProps =
     new Property("/^Ice\.Admin\.ACM\.Heartbeat/", false, null),
     new Property("/^Ice\.Admin\.ACM\.Close/", false, null),
     new Property("/^Ice\.Admin\.ACM/", false, null),
+    new Property("/^Ice\.Admin\.Acceptors/", false, null),
     new Property("/^Ice\.Admin\.AdapterId/", false, null),
     new Property("/^Ice\.Admin\.Endpoints/", false, null),
     new Property("/^Ice\.Admin\.Locator\.EndpointSelection/", false, null),
@@ -70,10 +71,25 @@ PropertyNames.IceProps =
     new Property("/^Ice\.Admin\.ThreadPool\.ThreadIdleTime/", false, null),
     new Property("/^Ice\.Admin\.ThreadPool\.ThreadPriority/", false, null),
     new Property("/^Ice\.Admin\.MessageSizeMax/", false, null),
+    new Property("/^Ice\.Admin\.AdmissionControl\.MaxQueued/", false, null),
+    new Property("/^Ice\.Admin\.AdmissionControl\.MaxQueueWait/", false, null),
+    new Property("/^Ice\.Admin\.AdmissionControl\.CoDelTarget/", false, null),
+    new Property("/^Ice\.Admin\.AdmissionControl\.CoDelInterval/", false, null),
+    new Property("/^Ice\.Admin\.Lanes\.High\.Operations/", false, null),
+    new Property("/^Ice\.Admin\.Lanes\.High\.Categories/", false, null),
+    new Property("/^Ice\.Admin\.Lanes\.High\.Weight/", false, null),
+    new Property("/^Ice\.Admin\.Lanes\.Normal\.Weight/", false, null),
+    new Property("/^Ice\.Admin\.Lanes\.Low\.Operations/", false, null),
+    new Property("/^Ice\.Admin\.Lanes\.Low\.Categories/", false, null),
+    new Property("/^Ice\.Admin\.Lanes\.Low\.Weight/", false, null),
+    new Property("/^Ice\.Admin\.Lanes\.Context/", false, null),
+    new Property("/^Ice\.Admin\.Lanes\.QueueSize/", false, null),
+    new Property("/^Ice\.Admin\.WarmUp/", false, null),
     new Property("/^Ice\.Admin\.DelayCreation/", false, null),
     new Property("/^Ice\.Admin\.Enabled/", false, null),
     new Property("/^Ice\.Admin\.Facets/", false, null),
     new Property("/^Ice\.Admin\.InstanceName/", false, null),
+    new Property("/^Ice\.Admin\.Logger\.FlushInterval/", false, null),
     new Property("/^Ice\.Admin\.Logger\.KeepLogs/", false, null),
     new Property("/^Ice\.Admin\.Logger\.KeepTraces/", false, null),
     new Property("/^Ice\.Admin\.Logger\.Properties/", false, null),
@@ -82,12 +98,21 @@ PropertyNames.IceProps =
     new Property("/^Ice\.BatchAutoFlush/", true, null),
     new Property("/^Ice\.BatchAutoFlushSize/", false, null),
     new Property("/^Ice\.ChangeUser/", false, null),
+    new Property("/^Ice\.CircuitBreaker\.Failures/", false, null),
+    new Property("/^Ice\.CircuitBreaker\.OpenTime/", false, null),
     new Property("/^Ice\.ClassGraphDepthMax/", false, null),
     new Property("/^Ice\.ClientAccessPolicyProtocol/", false, null),
     new Property("/^Ice\.Compression\.Level/", false, null),
     new Property("/^Ice\.CollectObjects/", false, null),
+    new Property("/^Ice\.ConcurrencyLimit\.Initial/", false, null),
+    new Property("/^Ice\.ConcurrencyLimit\.Max/", false, null),
+    new Property("/^Ice\.ConcurrencyLimit\.Min/", false, null),
+    new Property("/^Ice\.ConcurrencyLimit\.QueueTimeout/", false, null),
+    new Property("/^Ice\.ConcurrencyLimit\.Tolerance/", false, null),
     new Property("/^Ice\.Config/", false, null),
+    new Property("/^Ice\.ConnectAttemptDelay/", false, null),
     new Property("/^Ice\.ConsoleListener/", false, null),
+    new Property("/^Ice\.Deadline\.Propagate/", false, null),
     new Property("/^Ice\.Default\.CollocationOptimized/", false, null),
     new Property("/^Ice\.Default\.EncodingVersion/", false, null),
     new Property("/^Ice\.Default\.EndpointSelection/", false, null),
@@ -124,11 +149,21 @@ PropertyNames.IceProps =
     new Property("/^Ice\.FactoryAssemblies/", false, null),
     new Property("/^Ice\.HTTPProxyHost/", false, null),
     new Property("/^Ice\.HTTPProxyPort/", false, null),
+    new Property("/^Ice\.Hedge\.Delay/", false, null),
+    new Property("/^Ice\.Hedge\.MaxPercent/", false, null),
+    new Property("/^Ice\.Hedge\.Percentile/", false, null),
     new Property("/^Ice\.ImplicitContext/", false, null),
     new Property("/^Ice\.InitPlugins/", false, null),
     new Property("/^Ice\.IPv4/", false, null),
     new Property("/^Ice\.IPv6/", false, null),
+    new Property("/^Ice\.LocatorCache\.File/", false, null),
+    new Property("/^Ice\.LocatorCache\.NegativeTTL/", false, null),
+    new Property("/^Ice\.LocatorCache\.Size/", false, null),
+    new Property("/^Ice\.LocatorCache\.SnapshotInterval/", false, null),
     new Property("/^Ice\.LogFile/", false, null),
+    new Property("/^Ice\.LogFile\.Async/", false, null),
+    new Property("/^Ice\.LogFile\.Overflow/", false, null),
+    new Property("/^Ice\.LogFile\.QueueSize/", false, null),
     new Property("/^Ice\.LogFile\.SizeMax/", false, null),
     new Property("/^Ice\.LogStdErr\.Convert/", false, null),
     new Property("/^Ice\.MessageSizeMax/", false, null),
@@ -148,7 +183,14 @@ PropertyNames.IceProps =
     new Property("/^Ice\.PrintProcessId/", false, null),
     new Property("/^Ice\.PrintStackTraces/", false, null),
     new Property("/^Ice\.ProgramName/", false, null),
+    new Property("/^Ice\.RetryBackoff\.Initial/", false, null),
+    new Property("/^Ice\.RetryBackoff\.Max/", false, null),
+    new Property("/^Ice\.RetryBackoff\.Retries/", false, null),
+    new Property("/^Ice\.RetryBudget\.Max/", false, null),
+    new Property("/^Ice\.RetryBudget\.Percent/", false, null),
     new Property("/^Ice\.RetryIntervals/", false, null),
+    new Property("/^Ice\.RetryJitter/", false, null),
+    new Property("/^Ice\.RouterAddProxiesDelay/", false, null),
     new Property("/^Ice\.ServerIdleTime/", false, null),
     new Property("/^Ice\.SOCKSProxyHost/", false, null),
     new Property("/^Ice\.SOCKSProxyPort/", false, null),